@@ -22,10 +22,13 @@ import com.google.cloud.bigquery.BigQueryOptions;
 import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
 import com.google.cloud.bigquery.storage.v1.BigQueryWriteSettings;
 import com.google.cloud.spring.autoconfigure.core.GcpContextAutoConfiguration;
+import com.google.cloud.spring.bigquery.core.BigQueryReactiveWriter;
+import com.google.cloud.spring.bigquery.core.BigQueryStreamingWriter;
 import com.google.cloud.spring.bigquery.core.BigQueryTemplate;
 import com.google.cloud.spring.core.DefaultCredentialsProvider;
 import com.google.cloud.spring.core.GcpProjectIdProvider;
 import com.google.cloud.spring.core.UserAgentHeaderProvider;
+import com.google.protobuf.Descriptors.DescriptorValidationException;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.HashMap;
@@ -39,6 +42,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import reactor.core.publisher.Flux;
 
 /** Provides client objects for interfacing with BigQuery. */
 @AutoConfiguration
@@ -56,6 +60,12 @@ public class GcpBigQueryAutoConfiguration {
 
   private int jsonWriterBatchSize;
 
+  private int jsonWriterParserThreads;
+
+  private int jsonWriterStreamCount;
+
+  private int jsonWriterMaxInflightAppends;
+
   private int threadPoolSize;
 
   private String universeDomain;
@@ -81,6 +91,12 @@ public class GcpBigQueryAutoConfiguration {
 
     this.jsonWriterBatchSize = gcpBigQueryProperties.getJsonWriterBatchSize();
 
+    this.jsonWriterParserThreads = gcpBigQueryProperties.getJsonWriterParserThreads();
+
+    this.jsonWriterStreamCount = gcpBigQueryProperties.getJsonWriterStreamCount();
+
+    this.jsonWriterMaxInflightAppends = gcpBigQueryProperties.getJsonWriterMaxInflightAppends();
+
     this.threadPoolSize = getThreadPoolSize(gcpBigQueryProperties.getThreadPoolSize());
 
     this.universeDomain = gcpBigQueryProperties.getUniverseDomain();
@@ -156,10 +172,28 @@ public class GcpBigQueryAutoConfiguration {
     Map<String, Object> bqInitSettings = new HashMap<>();
     bqInitSettings.put("DATASET_NAME", this.datasetName);
     bqInitSettings.put("JSON_WRITER_BATCH_SIZE", this.jsonWriterBatchSize);
+    bqInitSettings.put("JSON_WRITER_PARSER_THREADS", this.jsonWriterParserThreads);
+    bqInitSettings.put("JSON_WRITER_STREAM_COUNT", this.jsonWriterStreamCount);
+    bqInitSettings.put("JSON_WRITER_MAX_INFLIGHT_APPENDS", this.jsonWriterMaxInflightAppends);
     return new BigQueryTemplate(
         bigQuery, bigQueryWriteClient, bqInitSettings, bigQueryThreadPoolTaskScheduler);
   }
 
+  @Bean(destroyMethod = "close")
+  @ConditionalOnMissingBean
+  @ConditionalOnProperty("spring.cloud.gcp.bigquery.streaming.table-name")
+  public BigQueryStreamingWriter bigQueryStreamingWriter(
+      BigQueryTemplate bigQueryTemplate, GcpBigQueryProperties gcpBigQueryProperties)
+      throws DescriptorValidationException, IOException {
+    GcpBigQueryProperties.Streaming streaming = gcpBigQueryProperties.getStreaming();
+    BigQueryStreamingWriter streamingWriter =
+        bigQueryTemplate.createStreamingWriter(
+            streaming.getTableName(), streaming.getConnections(), streaming.getFlushInterval());
+    streamingWriter.setMaxBatchRows(streaming.getMaxBatchRows());
+    streamingWriter.setMaxBatchBytes(streaming.getMaxBatchBytes());
+    return streamingWriter;
+  }
+
   private String resolveToHost(String endpoint) {
     int portIndex = endpoint.indexOf(":");
     if (portIndex != -1) {
@@ -167,4 +201,14 @@ public class GcpBigQueryAutoConfiguration {
     }
     return "https://" + endpoint + "/";
   }
+
+  /** Reactive settings. */
+  @ConditionalOnClass(Flux.class)
+  static class BigQueryReactiveConfiguration {
+    @Bean
+    @ConditionalOnMissingBean
+    public BigQueryReactiveWriter bigQueryReactiveWriter(BigQueryTemplate bigQueryTemplate) {
+      return new BigQueryReactiveWriter(bigQueryTemplate);
+    }
+  }
 }
@@ -19,6 +19,7 @@ package com.google.cloud.spring.autoconfigure.bigquery;
 import com.google.cloud.spring.core.Credentials;
 import com.google.cloud.spring.core.CredentialsSupplier;
 import com.google.cloud.spring.core.GcpScope;
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
@@ -42,6 +43,21 @@ public class GcpBigQueryProperties implements CredentialsSupplier {
    */
   private int jsonWriterBatchSize;
 
+  /** Number of threads parsing JSON lines when writing through the Storage Write API. */
+  private int jsonWriterParserThreads = 1;
+
+  /** Number of pending write streams a single JSON write is spread across. */
+  private int jsonWriterStreamCount = 1;
+
+  /**
+   * Maximum number of appends per write stream awaiting a response before reading is paused. Zero
+   * or less disables the limit.
+   */
+  private int jsonWriterMaxInflightAppends = 16;
+
+  /** Settings of the {@code BigQueryStreamingWriter} bean. */
+  private final Streaming streaming = new Streaming();
+
   /** The size of thread pool of ThreadPoolTaskScheduler used by GcpBigQueryAutoConfiguration */
   private int threadPoolSize;
 
@@ -75,6 +91,34 @@ public class GcpBigQueryProperties implements CredentialsSupplier {
     this.jsonWriterBatchSize = jsonWriterBatchSize;
   }
 
+  public int getJsonWriterParserThreads() {
+    return jsonWriterParserThreads;
+  }
+
+  public void setJsonWriterParserThreads(int jsonWriterParserThreads) {
+    this.jsonWriterParserThreads = jsonWriterParserThreads;
+  }
+
+  public int getJsonWriterStreamCount() {
+    return jsonWriterStreamCount;
+  }
+
+  public void setJsonWriterStreamCount(int jsonWriterStreamCount) {
+    this.jsonWriterStreamCount = jsonWriterStreamCount;
+  }
+
+  public int getJsonWriterMaxInflightAppends() {
+    return jsonWriterMaxInflightAppends;
+  }
+
+  public void setJsonWriterMaxInflightAppends(int jsonWriterMaxInflightAppends) {
+    this.jsonWriterMaxInflightAppends = jsonWriterMaxInflightAppends;
+  }
+
+  public Streaming getStreaming() {
+    return streaming;
+  }
+
   public Credentials getCredentials() {
     return this.credentials;
   }
@@ -110,4 +154,66 @@ public class GcpBigQueryProperties implements CredentialsSupplier {
   public void setEndpoint(String endpoint) {
     this.endpoint = endpoint;
   }
+
+  /** Properties of the streaming writer appending to the default stream of a table. */
+  public static class Streaming {
+
+    /**
+     * Name of the table the {@code BigQueryStreamingWriter} bean writes to. The bean is only
+     * created when this is set.
+     */
+    private String tableName;
+
+    /** Number of connections appends are spread across. */
+    private int connections = 1;
+
+    /** Maximum number of rows sent in one append request. */
+    private int maxBatchRows = 500;
+
+    /** Maximum size in bytes of one append request. */
+    private long maxBatchBytes = 5L * 1024 * 1024;
+
+    /** Maximum time a row is buffered before being sent. */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    public String getTableName() {
+      return tableName;
+    }
+
+    public void setTableName(String tableName) {
+      this.tableName = tableName;
+    }
+
+    public int getConnections() {
+      return connections;
+    }
+
+    public void setConnections(int connections) {
+      this.connections = connections;
+    }
+
+    public int getMaxBatchRows() {
+      return maxBatchRows;
+    }
+
+    public void setMaxBatchRows(int maxBatchRows) {
+      this.maxBatchRows = maxBatchRows;
+    }
+
+    public long getMaxBatchBytes() {
+      return maxBatchBytes;
+    }
+
+    public void setMaxBatchBytes(long maxBatchBytes) {
+      this.maxBatchBytes = maxBatchBytes;
+    }
+
+    public Duration getFlushInterval() {
+      return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+      this.flushInterval = flushInterval;
+    }
+  }
 }
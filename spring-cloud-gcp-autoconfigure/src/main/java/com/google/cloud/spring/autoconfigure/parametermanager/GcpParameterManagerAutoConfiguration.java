@@ -23,7 +23,9 @@ import com.google.cloud.spring.autoconfigure.core.GcpContextAutoConfiguration;
 import com.google.cloud.spring.core.GcpProjectIdProvider;
 import com.google.cloud.spring.core.UserAgentHeaderProvider;
 import com.google.cloud.spring.parametermanager.ParameterManagerClientFactory;
+import com.google.cloud.spring.parametermanager.ParameterManagerResolutionMetrics;
 import com.google.cloud.spring.parametermanager.ParameterManagerTemplate;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import java.io.IOException;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -33,6 +35,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.ConfigurableEnvironment;
 
 /** Autoconfiguration for GCP Parameter Manager. */
 @AutoConfiguration
@@ -92,4 +95,31 @@ public class GcpParameterManagerAutoConfiguration {
           .setAllowDefaultParameterValue(this.properties.isAllowDefaultParameter());
     }
   }
+
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnProperty("spring.cloud.gcp.parametermanager.cache.enabled")
+  public ParameterManagerResolutionMetrics parameterManagerResolutionMetrics() {
+    return new ParameterManagerResolutionMetrics();
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnProperty("spring.cloud.gcp.parametermanager.cache.enabled")
+  public ParameterManagerCacheTracker parameterManagerCacheTracker(
+      ConfigurableEnvironment environment, ParameterManagerResolutionMetrics metrics) {
+    return new ParameterManagerCacheTracker(environment, metrics);
+  }
+
+  /** Metrics of the Parameter Manager config data loading. */
+  @ConditionalOnClass(MeterBinder.class)
+  @ConditionalOnProperty("spring.cloud.gcp.parametermanager.cache.enabled")
+  static class ParameterManagerMetricsConfiguration {
+    @Bean
+    @ConditionalOnMissingBean
+    public ParameterManagerResolutionMeterBinder parameterManagerResolutionMeterBinder(
+        ParameterManagerResolutionMetrics metrics) {
+      return new ParameterManagerResolutionMeterBinder(metrics);
+    }
+  }
 }
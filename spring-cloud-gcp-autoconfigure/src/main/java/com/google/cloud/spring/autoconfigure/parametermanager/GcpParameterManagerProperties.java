@@ -21,6 +21,9 @@ import static com.google.cloud.spring.autoconfigure.parametermanager.GcpParamete
 import com.google.cloud.spring.core.Credentials;
 import com.google.cloud.spring.core.CredentialsSupplier;
 import com.google.cloud.spring.core.GcpScope;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
@@ -45,6 +48,9 @@ public class GcpParameterManagerProperties implements CredentialsSupplier {
    */
   private boolean allowDefaultParameter;
 
+  /** Caching of the parameters rendered by the Parameter Manager config data property source. */
+  private final Cache cache = new Cache();
+
   public Credentials getCredentials() {
     return credentials;
   }
@@ -64,4 +70,73 @@ public class GcpParameterManagerProperties implements CredentialsSupplier {
   public void setAllowDefaultParameter(boolean allowDefaultParameter) {
     this.allowDefaultParameter = allowDefaultParameter;
   }
+
+  public Cache getCache() {
+    return cache;
+  }
+
+  /** Settings of the cache of the Parameter Manager config data property source. */
+  public static class Cache {
+
+    /** Whether rendered parameters are cached instead of rendered on every property lookup. */
+    private boolean enabled;
+
+    /**
+     * How long a rendered parameter is used before its version is checked for changes. Zero checks
+     * versions only when the config data is loaded again.
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+
+    /** Maximum number of cached parameters. */
+    private int maxSize = 1000;
+
+    /**
+     * Parameter references, such as {@code pm@global/my-parameter/v1}, resolved concurrently when
+     * the config data is loaded.
+     */
+    private List<String> prefetch = new ArrayList<>();
+
+    /** Maximum number of parameters resolved concurrently by the prefetch. */
+    private int prefetchThreads = 8;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public Duration getTtl() {
+      return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+      this.ttl = ttl;
+    }
+
+    public int getMaxSize() {
+      return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+      this.maxSize = maxSize;
+    }
+
+    public List<String> getPrefetch() {
+      return prefetch;
+    }
+
+    public void setPrefetch(List<String> prefetch) {
+      this.prefetch = prefetch;
+    }
+
+    public int getPrefetchThreads() {
+      return prefetchThreads;
+    }
+
+    public void setPrefetchThreads(int prefetchThreads) {
+      this.prefetchThreads = prefetchThreads;
+    }
+  }
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.autoconfigure.parametermanager;
+
+import com.google.cloud.spring.parametermanager.CachingParameterManagerPropertySource;
+import com.google.cloud.spring.parametermanager.ParameterManagerResolutionMetrics;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.PropertySource;
+
+/**
+ * Tracks the {@link CachingParameterManagerPropertySource} instances in the environment of the
+ * application context, and records their calls to Parameter Manager in the metrics of that
+ * context.
+ *
+ * <p>Refreshing the environment, for example with {@code /actuator/refresh}, loads the config data
+ * again and replaces the property source. The replacement is picked up on the {@link
+ * EnvironmentChangeEvent} of the refresh, before the properties are bound again, and the snapshot
+ * of the replaced property source with the same name is restored into it, so that only the
+ * versions of the cached parameters are checked instead of rendering them again.
+ */
+public class ParameterManagerCacheTracker
+    implements SmartLifecycle, ApplicationListener<EnvironmentChangeEvent>, Ordered {
+
+  private final ConfigurableEnvironment environment;
+
+  private final ParameterManagerResolutionMetrics metrics;
+
+  private final Set<CachingParameterManagerPropertySource> propertySources =
+      Collections.newSetFromMap(new IdentityHashMap<>());
+
+  private boolean running;
+
+  /**
+   * Creates the tracker.
+   *
+   * @param environment the environment that holds the property sources
+   * @param metrics the metrics the calls of the property sources are recorded in
+   */
+  public ParameterManagerCacheTracker(
+      ConfigurableEnvironment environment, ParameterManagerResolutionMetrics metrics) {
+    this.environment = environment;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public synchronized void start() {
+    this.running = true;
+    updatePropertySources();
+  }
+
+  @Override
+  public synchronized void stop() {
+    this.running = false;
+    this.propertySources.clear();
+  }
+
+  @Override
+  public synchronized boolean isRunning() {
+    return this.running;
+  }
+
+  @Override
+  public synchronized void onApplicationEvent(EnvironmentChangeEvent event) {
+    if (this.running) {
+      updatePropertySources();
+    }
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.HIGHEST_PRECEDENCE;
+  }
+
+  /** Hands the metrics to new property sources and restores the snapshots they replace. */
+  private void updatePropertySources() {
+    Set<CachingParameterManagerPropertySource> current =
+        Collections.newSetFromMap(new IdentityHashMap<>());
+    for (PropertySource<?> propertySource : this.environment.getPropertySources()) {
+      if (propertySource instanceof CachingParameterManagerPropertySource) {
+        current.add((CachingParameterManagerPropertySource) propertySource);
+      }
+    }
+
+    for (CachingParameterManagerPropertySource propertySource : current) {
+      if (this.propertySources.contains(propertySource)) {
+        continue;
+      }
+      propertySource.setMetrics(this.metrics);
+      for (CachingParameterManagerPropertySource previous : this.propertySources) {
+        if (previous.getName().equals(propertySource.getName())) {
+          propertySource.restoreSnapshot(previous);
+        }
+      }
+    }
+    this.propertySources.clear();
+    this.propertySources.addAll(current);
+  }
+}
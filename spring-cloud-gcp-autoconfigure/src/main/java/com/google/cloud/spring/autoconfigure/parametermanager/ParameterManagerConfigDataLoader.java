@@ -17,7 +17,9 @@
 package com.google.cloud.spring.autoconfigure.parametermanager;
 
 import com.google.cloud.spring.core.GcpProjectIdProvider;
+import com.google.cloud.spring.parametermanager.CachingParameterManagerPropertySource;
 import com.google.cloud.spring.parametermanager.ParameterManagerPropertySource;
+import com.google.cloud.spring.parametermanager.ParameterManagerResolutionMetrics;
 import com.google.cloud.spring.parametermanager.ParameterManagerTemplate;
 import java.io.IOException;
 import java.util.Collections;
@@ -28,6 +30,9 @@ import org.springframework.boot.context.config.ConfigDataResourceNotFoundExcepti
 
 public class ParameterManagerConfigDataLoader
     implements ConfigDataLoader<ParameterManagerConfigDataResource> {
+
+  private static final String PROPERTY_SOURCE_NAME = "spring-cloud-gcp-parameter-manager";
+
   @Override
   public ConfigData load(
       ConfigDataLoaderContext context, ParameterManagerConfigDataResource resource)
@@ -38,11 +43,36 @@ public class ParameterManagerConfigDataLoader
     GcpProjectIdProvider projectIdProvider =
         context.getBootstrapContext().get(GcpProjectIdProvider.class);
 
-    return new ConfigData(
-        Collections.singleton(
-            new ParameterManagerPropertySource(
-                "spring-cloud-gcp-parameter-manager",
-                parameterManagerTemplate,
-                projectIdProvider)));
+    GcpParameterManagerProperties properties =
+        context.getBootstrapContext().get(GcpParameterManagerProperties.class);
+
+    ParameterManagerPropertySource parameterManagerPropertySource =
+        properties.getCache().isEnabled()
+            ? createCachingPropertySource(
+                parameterManagerTemplate, projectIdProvider, properties.getCache())
+            : new ParameterManagerPropertySource(
+                PROPERTY_SOURCE_NAME, parameterManagerTemplate, projectIdProvider);
+    return new ConfigData(Collections.singleton(parameterManagerPropertySource));
+  }
+
+  /**
+   * Creates the caching property source. Its snapshot is carried over from the property source it
+   * replaces, and its metrics are handed to the application context, by the {@link
+   * ParameterManagerCacheTracker} of the application context.
+   */
+  private static CachingParameterManagerPropertySource createCachingPropertySource(
+      ParameterManagerTemplate parameterManagerTemplate,
+      GcpProjectIdProvider projectIdProvider,
+      GcpParameterManagerProperties.Cache cacheProperties) {
+    CachingParameterManagerPropertySource propertySource =
+        new CachingParameterManagerPropertySource(
+            PROPERTY_SOURCE_NAME,
+            parameterManagerTemplate,
+            projectIdProvider,
+            cacheProperties.getTtl(),
+            cacheProperties.getMaxSize(),
+            new ParameterManagerResolutionMetrics());
+    propertySource.prefetch(cacheProperties.getPrefetch(), cacheProperties.getPrefetchThreads());
+    return propertySource;
   }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.autoconfigure.parametermanager;
+
+import com.google.cloud.spring.parametermanager.ParameterManagerResolutionMetrics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.TimeUnit;
+
+/** Publishes the {@link ParameterManagerResolutionMetrics} of the config data loading. */
+public class ParameterManagerResolutionMeterBinder implements MeterBinder {
+
+  private final ParameterManagerResolutionMetrics metrics;
+
+  public ParameterManagerResolutionMeterBinder(ParameterManagerResolutionMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionTimer.builder(
+            "gcp.parametermanager.config.render",
+            this.metrics,
+            ParameterManagerResolutionMetrics::getRenderCount,
+            m -> m.getRenderTime(TimeUnit.NANOSECONDS),
+            TimeUnit.NANOSECONDS)
+        .description("Parameter versions rendered to resolve properties")
+        .register(registry);
+    FunctionTimer.builder(
+            "gcp.parametermanager.config.version.check",
+            this.metrics,
+            ParameterManagerResolutionMetrics::getVersionCheckCount,
+            m -> m.getVersionCheckTime(TimeUnit.NANOSECONDS),
+            TimeUnit.NANOSECONDS)
+        .description("Checks of whether cached parameter versions changed")
+        .register(registry);
+    FunctionTimer.builder(
+            "gcp.parametermanager.config.prefetch",
+            this.metrics,
+            ParameterManagerResolutionMetrics::getPrefetchCount,
+            m -> m.getPrefetchTime(TimeUnit.NANOSECONDS),
+            TimeUnit.NANOSECONDS)
+        .description("Concurrent resolution of the prefetched properties")
+        .register(registry);
+    FunctionCounter.builder(
+            "gcp.parametermanager.config.cache.hits",
+            this.metrics,
+            ParameterManagerResolutionMetrics::getCacheHitCount)
+        .description("Properties resolved from the cache without rendering")
+        .register(registry);
+  }
+}
@@ -54,6 +54,7 @@ import com.google.cloud.spring.pubsub.support.converter.PubSubMessageConverter;
 import com.google.pubsub.v1.ProjectSubscriptionName;
 import jakarta.annotation.PostConstruct;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -208,6 +209,12 @@ public class GcpPubSubAutoConfiguration {
     pubSubMessageConverter.ifUnique(pubSubSubscriberTemplate::setMessageConverter);
     pubSubSubscriberTemplate.setAckExecutor(ackExecutor);
     asyncPullExecutor.ifAvailable(pubSubSubscriberTemplate::setAsyncPullExecutor);
+    Long ackCoalescingDelay = this.gcpPubSubProperties.getSubscriber().getAckCoalescingDelay();
+    if (ackCoalescingDelay != null) {
+      pubSubSubscriberTemplate.enableAckCoalescing(
+          Duration.ofMillis(ackCoalescingDelay),
+          this.gcpPubSubProperties.getSubscriber().getAckCoalescingShards());
+    }
     return pubSubSubscriberTemplate;
   }
 
@@ -32,7 +32,9 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.ConfigurableEnvironment;
 
 /**
  * Autoconfiguration for GCP Secret Manager.
@@ -94,4 +96,13 @@ public class GcpSecretManagerAutoConfiguration {
           .setAllowDefaultSecretValue(this.properties.isAllowDefaultSecret());
     }
   }
+
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnProperty("spring.cloud.gcp.secretmanager.cache.enabled")
+  public SecretManagerCacheRefresher secretManagerCacheRefresher(
+      ConfigurableEnvironment environment, ApplicationEventPublisher applicationEventPublisher) {
+    return new SecretManagerCacheRefresher(
+        environment, applicationEventPublisher, this.properties.getCache().getRefreshInterval());
+  }
 }
@@ -21,6 +21,9 @@ import static com.google.cloud.spring.autoconfigure.secretmanager.GcpSecretManag
 import com.google.cloud.spring.core.Credentials;
 import com.google.cloud.spring.core.CredentialsSupplier;
 import com.google.cloud.spring.core.GcpScope;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
@@ -46,6 +49,9 @@ public class GcpSecretManagerProperties implements CredentialsSupplier {
    */
   private boolean allowDefaultSecret;
 
+  /** Caching of the secrets resolved by the Secret Manager config data property source. */
+  private final Cache cache = new Cache();
+
   public Credentials getCredentials() {
     return credentials;
   }
@@ -65,4 +71,81 @@ public class GcpSecretManagerProperties implements CredentialsSupplier {
   public void setAllowDefaultSecret(boolean allowDefaultSecret) {
     this.allowDefaultSecret = allowDefaultSecret;
   }
+
+  public Cache getCache() {
+    return cache;
+  }
+
+  /** Settings of the cache of the Secret Manager config data property source. */
+  public static class Cache {
+
+    /** Whether resolved secrets are cached instead of read on every property lookup. */
+    private boolean enabled;
+
+    /** How long a cached secret is used before it is read again. Zero keeps it until evicted. */
+    private Duration ttl = Duration.ofMinutes(5);
+
+    /** Maximum number of cached secrets. */
+    private int maxSize = 1000;
+
+    /**
+     * Interval of the background refresh of the cached secrets, which publishes an environment
+     * change event when secrets change. Not set by default, which disables the refresh.
+     */
+    private Duration refreshInterval;
+
+    /** Secret references, such as {@code sm@my-secret}, read concurrently when config is loaded. */
+    private List<String> prefetch = new ArrayList<>();
+
+    /** Maximum number of secrets read concurrently by the prefetch. */
+    private int prefetchThreads = 8;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public Duration getTtl() {
+      return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+      this.ttl = ttl;
+    }
+
+    public int getMaxSize() {
+      return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+      this.maxSize = maxSize;
+    }
+
+    public Duration getRefreshInterval() {
+      return refreshInterval;
+    }
+
+    public void setRefreshInterval(Duration refreshInterval) {
+      this.refreshInterval = refreshInterval;
+    }
+
+    public List<String> getPrefetch() {
+      return prefetch;
+    }
+
+    public void setPrefetch(List<String> prefetch) {
+      this.prefetch = prefetch;
+    }
+
+    public int getPrefetchThreads() {
+      return prefetchThreads;
+    }
+
+    public void setPrefetchThreads(int prefetchThreads) {
+      this.prefetchThreads = prefetchThreads;
+    }
+  }
 }
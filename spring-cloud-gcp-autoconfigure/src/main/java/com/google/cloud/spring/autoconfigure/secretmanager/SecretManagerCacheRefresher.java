@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.autoconfigure.secretmanager;
+
+import com.google.cloud.spring.secretmanager.CachingSecretManagerPropertySource;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.PropertySource;
+
+/**
+ * Runs the background refresh of the {@link CachingSecretManagerPropertySource} instances in the
+ * environment of the application context, and publishes their change events to that context.
+ *
+ * <p>Refreshing the environment, for example with {@code /actuator/refresh}, loads the config data
+ * again and replaces the property source. The replacement is picked up on the {@link
+ * EnvironmentChangeEvent} of the refresh, and the refresh of the replaced property source is
+ * stopped.
+ */
+public class SecretManagerCacheRefresher
+    implements SmartLifecycle, ApplicationListener<EnvironmentChangeEvent> {
+
+  private final ConfigurableEnvironment environment;
+
+  private final ApplicationEventPublisher applicationEventPublisher;
+
+  private final Duration refreshInterval;
+
+  private final Set<CachingSecretManagerPropertySource> propertySources =
+      Collections.newSetFromMap(new IdentityHashMap<>());
+
+  private boolean running;
+
+  /**
+   * Creates the refresher.
+   *
+   * @param environment the environment that holds the property sources
+   * @param applicationEventPublisher the publisher of the change events of the property sources
+   * @param refreshInterval the interval of the background refresh, or null to only set the
+   *     publisher
+   */
+  public SecretManagerCacheRefresher(
+      ConfigurableEnvironment environment,
+      ApplicationEventPublisher applicationEventPublisher,
+      Duration refreshInterval) {
+    this.environment = environment;
+    this.applicationEventPublisher = applicationEventPublisher;
+    this.refreshInterval = refreshInterval;
+  }
+
+  @Override
+  public synchronized void start() {
+    this.running = true;
+    updatePropertySources();
+  }
+
+  @Override
+  public synchronized void stop() {
+    this.running = false;
+    this.propertySources.forEach(CachingSecretManagerPropertySource::close);
+    this.propertySources.clear();
+  }
+
+  @Override
+  public synchronized boolean isRunning() {
+    return this.running;
+  }
+
+  @Override
+  public synchronized void onApplicationEvent(EnvironmentChangeEvent event) {
+    if (this.running) {
+      updatePropertySources();
+    }
+  }
+
+  /** Starts the refresh of new property sources and stops it for the replaced ones. */
+  private void updatePropertySources() {
+    Set<CachingSecretManagerPropertySource> current =
+        Collections.newSetFromMap(new IdentityHashMap<>());
+    for (PropertySource<?> propertySource : this.environment.getPropertySources()) {
+      if (propertySource instanceof CachingSecretManagerPropertySource) {
+        current.add((CachingSecretManagerPropertySource) propertySource);
+      }
+    }
+
+    for (CachingSecretManagerPropertySource propertySource : this.propertySources) {
+      if (!current.contains(propertySource)) {
+        propertySource.close();
+      }
+    }
+    for (CachingSecretManagerPropertySource propertySource : current) {
+      if (!this.propertySources.contains(propertySource)) {
+        propertySource.setApplicationEventPublisher(this.applicationEventPublisher);
+        if (this.refreshInterval != null) {
+          propertySource.startRefresh(this.refreshInterval);
+        }
+      }
+    }
+    this.propertySources.clear();
+    this.propertySources.addAll(current);
+  }
+}
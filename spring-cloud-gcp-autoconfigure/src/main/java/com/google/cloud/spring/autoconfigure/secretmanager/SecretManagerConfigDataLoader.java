@@ -17,6 +17,7 @@
 package com.google.cloud.spring.autoconfigure.secretmanager;
 
 import com.google.cloud.spring.core.GcpProjectIdProvider;
+import com.google.cloud.spring.secretmanager.CachingSecretManagerPropertySource;
 import com.google.cloud.spring.secretmanager.SecretManagerPropertySource;
 import com.google.cloud.spring.secretmanager.SecretManagerTemplate;
 import java.io.IOException;
@@ -29,6 +30,8 @@ import org.springframework.boot.context.config.ConfigDataResourceNotFoundExcepti
 public class SecretManagerConfigDataLoader
     implements ConfigDataLoader<SecretManagerConfigDataResource> {
 
+  private static final String PROPERTY_SOURCE_NAME = "spring-cloud-gcp-secret-manager";
+
   @Override
   public ConfigData load(ConfigDataLoaderContext context, SecretManagerConfigDataResource resource)
       throws IOException, ConfigDataResourceNotFoundException {
@@ -38,9 +41,34 @@ public class SecretManagerConfigDataLoader
     GcpProjectIdProvider projectIdProvider =
         context.getBootstrapContext().get(GcpProjectIdProvider.class);
 
+    GcpSecretManagerProperties properties =
+        context.getBootstrapContext().get(GcpSecretManagerProperties.class);
+
     SecretManagerPropertySource secretManagerPropertySource =
-        new SecretManagerPropertySource(
-            "spring-cloud-gcp-secret-manager", secretManagerTemplate, projectIdProvider);
+        properties.getCache().isEnabled()
+            ? createCachingPropertySource(
+                secretManagerTemplate, projectIdProvider, properties.getCache())
+            : new SecretManagerPropertySource(
+                PROPERTY_SOURCE_NAME, secretManagerTemplate, projectIdProvider);
     return new ConfigData(Collections.singleton(secretManagerPropertySource));
   }
+
+  /**
+   * Creates the caching property source and fills it with the prefetched secrets. Its background
+   * refresh is run by the {@link SecretManagerCacheRefresher} of the application context.
+   */
+  private static CachingSecretManagerPropertySource createCachingPropertySource(
+      SecretManagerTemplate secretManagerTemplate,
+      GcpProjectIdProvider projectIdProvider,
+      GcpSecretManagerProperties.Cache cacheProperties) {
+    CachingSecretManagerPropertySource propertySource =
+        new CachingSecretManagerPropertySource(
+            PROPERTY_SOURCE_NAME,
+            secretManagerTemplate,
+            projectIdProvider,
+            cacheProperties.getTtl(),
+            cacheProperties.getMaxSize());
+    propertySource.prefetch(cacheProperties.getPrefetch(), cacheProperties.getPrefetchThreads());
+    return propertySource;
+  }
 }
@@ -29,6 +29,8 @@ import com.google.cloud.spring.autoconfigure.core.GcpContextAutoConfiguration;
 import com.google.cloud.spring.core.DefaultCredentialsProvider;
 import com.google.cloud.spring.core.GcpProjectIdProvider;
 import com.google.cloud.spring.core.UserAgentHeaderProvider;
+import com.google.cloud.spring.data.spanner.core.ReactiveSpannerTemplate;
+import com.google.cloud.spring.data.spanner.core.SpannerAsyncTemplate;
 import com.google.cloud.spring.data.spanner.core.SpannerMutationFactory;
 import com.google.cloud.spring.data.spanner.core.SpannerMutationFactoryImpl;
 import com.google.cloud.spring.data.spanner.core.SpannerOperations;
@@ -53,6 +55,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Scope;
 import org.springframework.data.rest.webmvc.spi.BackendIdConverter;
+import reactor.core.publisher.Flux;
 
 /** Provides Spring Data classes to use with Cloud Spanner. */
 @AutoConfiguration
@@ -222,13 +225,25 @@ public class GcpSpannerAutoConfiguration {
         SpannerMappingContext mappingContext,
         SpannerEntityProcessor spannerEntityProcessor,
         SpannerMutationFactory spannerMutationFactory,
-        SpannerSchemaUtils spannerSchemaUtils) {
-      return new SpannerTemplate(
-          databaseClientProvider,
-          mappingContext,
-          spannerEntityProcessor,
-          spannerMutationFactory,
-          spannerSchemaUtils);
+        SpannerSchemaUtils spannerSchemaUtils,
+        Spanner spanner,
+        Supplier<DatabaseId> databaseIdProvider) {
+      SpannerTemplate spannerTemplate =
+          new SpannerTemplate(
+              databaseClientProvider,
+              mappingContext,
+              spannerEntityProcessor,
+              spannerMutationFactory,
+              spannerSchemaUtils);
+      spannerTemplate.setBatchClientProvider(
+          new CachingComposingSupplier<>(databaseIdProvider, spanner::getBatchClient));
+      return spannerTemplate;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public SpannerAsyncTemplate spannerAsyncTemplate(SpannerTemplate spannerTemplate) {
+      return new SpannerAsyncTemplate(spannerTemplate);
     }
 
     @Bean
@@ -278,4 +293,14 @@ public class GcpSpannerAutoConfiguration {
       return new SpannerKeyIdConverter(mappingContext);
     }
   }
+
+  /** Reactive settings. */
+  @ConditionalOnClass({Flux.class, ReactiveSpannerTemplate.class})
+  static class ReactiveSpannerAutoConfiguration {
+    @Bean
+    @ConditionalOnMissingBean
+    public ReactiveSpannerTemplate reactiveSpannerTemplate(SpannerTemplate spannerTemplate) {
+      return new ReactiveSpannerTemplate(spannerTemplate);
+    }
+  }
 }
@@ -24,6 +24,8 @@ import com.google.cloud.bigquery.BigQueryOptions;
 import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
 import com.google.cloud.spring.autoconfigure.TestUtils;
 import com.google.cloud.spring.autoconfigure.core.GcpContextAutoConfiguration;
+import com.google.cloud.spring.bigquery.core.BigQueryReactiveWriter;
+import com.google.cloud.spring.bigquery.core.BigQueryStreamingWriter;
 import com.google.cloud.spring.bigquery.core.BigQueryTemplate;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
@@ -55,9 +57,37 @@ class GcpBigQueryAutoConfigurationTests {
           assertThat(bigQueryTemplate.getDatasetName()).isEqualTo("test-dataset");
 
           assertThat(bigQueryTemplate.getJsonWriterBatchSize()).isEqualTo(2000);
+          assertThat(bigQueryTemplate.getJsonWriterParserThreads()).isEqualTo(1);
+          assertThat(bigQueryTemplate.getJsonWriterStreamCount()).isEqualTo(1);
         });
   }
 
+  @Test
+  void testStreamingWriterRequiresTableName() {
+    this.contextRunner.run(
+        context -> assertThat(context).doesNotHaveBean(BigQueryStreamingWriter.class));
+  }
+
+  @Test
+  void testReactiveWriter() {
+    this.contextRunner.run(
+        context -> assertThat(context).hasSingleBean(BigQueryReactiveWriter.class));
+  }
+
+  @Test
+  void testJsonWriterPipelineSettings() {
+    this.contextRunner
+        .withPropertyValues(
+            "spring.cloud.gcp.bigquery.jsonWriterParserThreads=4",
+            "spring.cloud.gcp.bigquery.jsonWriterStreamCount=3")
+        .run(
+            context -> {
+              BigQueryTemplate bigQueryTemplate = context.getBean(BigQueryTemplate.class);
+              assertThat(bigQueryTemplate.getJsonWriterParserThreads()).isEqualTo(4);
+              assertThat(bigQueryTemplate.getJsonWriterStreamCount()).isEqualTo(3);
+            });
+  }
+
   @Test
   void testBigQuery_universeDomain() {
     this.contextRunner
@@ -24,6 +24,7 @@ import com.google.cloud.spring.autoconfigure.TestUtils;
 import com.google.cloud.spring.autoconfigure.core.GcpContextAutoConfiguration;
 import com.google.cloud.spring.autoconfigure.secretmanager.GcpSecretManagerAutoConfiguration;
 import com.google.cloud.spring.parametermanager.ParameterManagerClientFactory;
+import com.google.cloud.spring.parametermanager.ParameterManagerResolutionMetrics;
 import com.google.cloud.spring.parametermanager.ParameterManagerTemplate;
 import com.google.cloud.spring.secretmanager.SecretManagerServiceClientFactory;
 import org.junit.jupiter.api.BeforeEach;
@@ -98,6 +99,28 @@ class GcpParameterManagerAutoConfigurationUnitTests {
     contextRunner.run(ctx -> assertThat(ctx.getBean(ParameterManagerTemplate.class)).isNotNull());
   }
 
+  @Test
+  void testCacheBeansExistWhenCacheIsEnabled() {
+    contextRunner
+        .withPropertyValues("spring.cloud.gcp.parametermanager.cache.enabled=true")
+        .run(
+            ctx -> {
+              assertThat(ctx).hasSingleBean(ParameterManagerResolutionMetrics.class);
+              assertThat(ctx).hasSingleBean(ParameterManagerCacheTracker.class);
+              assertThat(ctx).hasSingleBean(ParameterManagerResolutionMeterBinder.class);
+            });
+  }
+
+  @Test
+  void testCacheBeansAreMissingWhenCacheIsDisabled() {
+    contextRunner.run(
+        ctx -> {
+          assertThat(ctx).doesNotHaveBean(ParameterManagerResolutionMetrics.class);
+          assertThat(ctx).doesNotHaveBean(ParameterManagerCacheTracker.class);
+          assertThat(ctx).doesNotHaveBean(ParameterManagerResolutionMeterBinder.class);
+        });
+  }
+
   static class TestConfig {
 
     @Bean
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.autoconfigure.parametermanager;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import com.google.cloud.spring.core.GcpProjectIdProvider;
+import com.google.cloud.spring.parametermanager.CachingParameterManagerPropertySource;
+import com.google.cloud.spring.parametermanager.ParameterManagerResolutionMetrics;
+import com.google.cloud.spring.parametermanager.ParameterManagerTemplate;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.core.env.StandardEnvironment;
+
+/** Unit tests for {@link ParameterManagerCacheTracker}. */
+class ParameterManagerCacheTrackerTests {
+
+  private final StandardEnvironment environment = new StandardEnvironment();
+
+  private final ParameterManagerResolutionMetrics metrics = new ParameterManagerResolutionMetrics();
+
+  private final ParameterManagerCacheTracker tracker =
+      new ParameterManagerCacheTracker(this.environment, this.metrics);
+
+  @Test
+  void startHandsMetricsToPropertySourcesOfEnvironmentTest() {
+    CachingParameterManagerPropertySource propertySource = addPropertySource();
+
+    this.tracker.start();
+
+    verify(propertySource).setMetrics(this.metrics);
+  }
+
+  @Test
+  void environmentChangeRestoresSnapshotOfReplacedPropertySourceTest() {
+    CachingParameterManagerPropertySource previous = addPropertySource();
+    this.tracker.start();
+
+    CachingParameterManagerPropertySource replacement = createPropertySource();
+    this.environment.getPropertySources().replace(replacement.getName(), replacement);
+    this.tracker.onApplicationEvent(new EnvironmentChangeEvent(Collections.emptySet()));
+
+    verify(replacement).setMetrics(this.metrics);
+    verify(replacement).restoreSnapshot(previous);
+  }
+
+  @Test
+  void environmentChangeBeforeStartIsIgnoredTest() {
+    CachingParameterManagerPropertySource propertySource = addPropertySource();
+
+    this.tracker.onApplicationEvent(new EnvironmentChangeEvent(Collections.emptySet()));
+
+    verify(propertySource, never()).setMetrics(this.metrics);
+  }
+
+  private CachingParameterManagerPropertySource addPropertySource() {
+    CachingParameterManagerPropertySource propertySource = createPropertySource();
+    this.environment.getPropertySources().addLast(propertySource);
+    return propertySource;
+  }
+
+  private static CachingParameterManagerPropertySource createPropertySource() {
+    return spy(
+        new CachingParameterManagerPropertySource(
+            "spring-cloud-gcp-parameter-manager",
+            mock(ParameterManagerTemplate.class),
+            mock(GcpProjectIdProvider.class),
+            null,
+            10,
+            new ParameterManagerResolutionMetrics()));
+  }
+}
@@ -16,17 +16,24 @@
 
 package com.google.cloud.spring.autoconfigure.parametermanager;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.api.gax.core.CredentialsProvider;
 import com.google.cloud.spring.core.GcpProjectIdProvider;
+import com.google.cloud.spring.parametermanager.CachingParameterManagerPropertySource;
 import com.google.cloud.spring.parametermanager.ParameterManagerTemplate;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.boot.bootstrap.ConfigurableBootstrapContext;
+import org.springframework.boot.context.config.ConfigData;
 import org.springframework.boot.context.config.ConfigDataLoaderContext;
 import org.springframework.boot.context.config.ConfigDataLocation;
 
@@ -49,10 +56,32 @@ class ParameterManagerConfigDataLoaderUnitTests {
     when(bootstrapContext.get(GcpProjectIdProvider.class)).thenReturn(idProvider);
     when(bootstrapContext.get(ParameterManagerTemplate.class)).thenReturn(template);
     when(bootstrapContext.get(GcpParameterManagerProperties.class)).thenReturn(properties);
+    when(properties.getCache()).thenReturn(new GcpParameterManagerProperties.Cache());
     when(bootstrapContext.get(CredentialsProvider.class)).thenReturn(credentialsProvider);
     when(template.parameterExists(anyString(), anyString())).thenReturn(false);
     ParameterManagerConfigDataResource resource =
         new ParameterManagerConfigDataResource(ConfigDataLocation.of("fake"));
     assertThatCode(() -> loader.load(loaderContext, resource)).doesNotThrowAnyException();
   }
+
+  @Test
+  void loadWithCacheCreatesCachingPropertySource() throws Exception {
+    when(loaderContext.getBootstrapContext()).thenReturn(bootstrapContext);
+    when(bootstrapContext.get(GcpProjectIdProvider.class)).thenReturn(idProvider);
+    when(bootstrapContext.get(ParameterManagerTemplate.class)).thenReturn(template);
+    when(bootstrapContext.get(GcpParameterManagerProperties.class)).thenReturn(properties);
+    GcpParameterManagerProperties.Cache cache = new GcpParameterManagerProperties.Cache();
+    cache.setEnabled(true);
+    when(properties.getCache()).thenReturn(cache);
+    ParameterManagerConfigDataResource resource =
+        new ParameterManagerConfigDataResource(ConfigDataLocation.of("fake"));
+
+    ConfigData configData = loader.load(loaderContext, resource);
+
+    assertThat(configData.getPropertySources())
+        .singleElement()
+        .isInstanceOf(CachingParameterManagerPropertySource.class);
+    // the snapshot and the metrics are handed over by the application context
+    verify(bootstrapContext, never()).addCloseListener(any());
+  }
 }
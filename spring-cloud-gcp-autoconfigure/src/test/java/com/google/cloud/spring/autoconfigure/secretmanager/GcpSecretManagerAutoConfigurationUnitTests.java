@@ -98,6 +98,18 @@ class GcpSecretManagerAutoConfigurationUnitTests {
     contextRunner.run(ctx -> assertThat(ctx.getBean(SecretManagerTemplate.class)).isNotNull());
   }
 
+  @Test
+  void testCacheRefresherExistsWhenCacheIsEnabled() {
+    contextRunner
+        .withPropertyValues("spring.cloud.gcp.secretmanager.cache.enabled=true")
+        .run(ctx -> assertThat(ctx).hasSingleBean(SecretManagerCacheRefresher.class));
+  }
+
+  @Test
+  void testCacheRefresherIsMissingWhenCacheIsDisabled() {
+    contextRunner.run(ctx -> assertThat(ctx).doesNotHaveBean(SecretManagerCacheRefresher.class));
+  }
+
   static class TestConfig {
 
     @Bean
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.autoconfigure.secretmanager;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import com.google.cloud.spring.core.GcpProjectIdProvider;
+import com.google.cloud.spring.secretmanager.CachingSecretManagerPropertySource;
+import com.google.cloud.spring.secretmanager.SecretManagerTemplate;
+import java.time.Duration;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.StandardEnvironment;
+
+/** Unit tests for {@link SecretManagerCacheRefresher}. */
+class SecretManagerCacheRefresherTests {
+
+  private static final Duration REFRESH_INTERVAL = Duration.ofMinutes(1);
+
+  private final StandardEnvironment environment = new StandardEnvironment();
+
+  private final ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+
+  private final SecretManagerCacheRefresher refresher =
+      new SecretManagerCacheRefresher(this.environment, this.publisher, REFRESH_INTERVAL);
+
+  @Test
+  void startRefreshesPropertySourcesOfEnvironmentTest() {
+    CachingSecretManagerPropertySource propertySource = addPropertySource();
+
+    this.refresher.start();
+
+    verify(propertySource).setApplicationEventPublisher(this.publisher);
+    verify(propertySource).startRefresh(REFRESH_INTERVAL);
+
+    this.refresher.stop();
+
+    verify(propertySource).close();
+  }
+
+  @Test
+  void environmentChangeSwitchesToReplacedPropertySourceTest() {
+    CachingSecretManagerPropertySource previous = addPropertySource();
+    this.refresher.start();
+
+    CachingSecretManagerPropertySource replacement = createPropertySource();
+    this.environment.getPropertySources().replace(replacement.getName(), replacement);
+    this.refresher.onApplicationEvent(new EnvironmentChangeEvent(Collections.emptySet()));
+
+    verify(previous).close();
+    verify(replacement).setApplicationEventPublisher(this.publisher);
+    verify(replacement).startRefresh(REFRESH_INTERVAL);
+  }
+
+  @Test
+  void environmentChangeBeforeStartIsIgnoredTest() {
+    CachingSecretManagerPropertySource propertySource = addPropertySource();
+
+    this.refresher.onApplicationEvent(new EnvironmentChangeEvent(Collections.emptySet()));
+
+    verify(propertySource, never()).startRefresh(REFRESH_INTERVAL);
+  }
+
+  private CachingSecretManagerPropertySource addPropertySource() {
+    CachingSecretManagerPropertySource propertySource = createPropertySource();
+    this.environment.getPropertySources().addLast(propertySource);
+    return propertySource;
+  }
+
+  private static CachingSecretManagerPropertySource createPropertySource() {
+    return spy(
+        new CachingSecretManagerPropertySource(
+            "spring-cloud-gcp-secret-manager",
+            mock(SecretManagerTemplate.class),
+            mock(GcpProjectIdProvider.class),
+            null,
+            10));
+  }
+}
@@ -1,16 +1,24 @@
 package com.google.cloud.spring.autoconfigure.secretmanager;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.api.gax.core.CredentialsProvider;
 import com.google.cloud.spring.core.GcpProjectIdProvider;
+import com.google.cloud.spring.secretmanager.CachingSecretManagerPropertySource;
 import com.google.cloud.spring.secretmanager.SecretManagerTemplate;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.boot.bootstrap.ConfigurableBootstrapContext;
+import org.springframework.boot.context.config.ConfigData;
 import org.springframework.boot.context.config.ConfigDataLoaderContext;
 import org.springframework.boot.context.config.ConfigDataLocation;
 
@@ -33,10 +41,33 @@ class SecretManagerConfigDataLoaderUnitTests {
     when(bootstrapContext.get(GcpProjectIdProvider.class)).thenReturn(idProvider);
     when(bootstrapContext.get(SecretManagerTemplate.class)).thenReturn(template);
     when(bootstrapContext.get(GcpSecretManagerProperties.class)).thenReturn(properties);
+    when(properties.getCache()).thenReturn(new GcpSecretManagerProperties.Cache());
     when(bootstrapContext.get(CredentialsProvider.class)).thenReturn(credentialsProvider);
     when(template.secretExists(anyString(), anyString())).thenReturn(false);
     SecretManagerConfigDataResource resource =
         new SecretManagerConfigDataResource(ConfigDataLocation.of("fake"));
     assertThatCode(() -> loader.load(loaderContext, resource)).doesNotThrowAnyException();
   }
+
+  @Test
+  void loadWithCacheCreatesCachingPropertySource() throws Exception {
+    when(loaderContext.getBootstrapContext()).thenReturn(bootstrapContext);
+    when(bootstrapContext.get(GcpProjectIdProvider.class)).thenReturn(idProvider);
+    when(bootstrapContext.get(SecretManagerTemplate.class)).thenReturn(template);
+    when(bootstrapContext.get(GcpSecretManagerProperties.class)).thenReturn(properties);
+    GcpSecretManagerProperties.Cache cache = new GcpSecretManagerProperties.Cache();
+    cache.setEnabled(true);
+    cache.setRefreshInterval(Duration.ofMinutes(1));
+    when(properties.getCache()).thenReturn(cache);
+    SecretManagerConfigDataResource resource =
+        new SecretManagerConfigDataResource(ConfigDataLocation.of("fake"));
+
+    ConfigData configData = loader.load(loaderContext, resource);
+
+    assertThat(configData.getPropertySources())
+        .singleElement()
+        .isInstanceOf(CachingSecretManagerPropertySource.class);
+    // the refresh is owned by the application context, not by the bootstrap context
+    verify(bootstrapContext, never()).addCloseListener(any());
+  }
 }
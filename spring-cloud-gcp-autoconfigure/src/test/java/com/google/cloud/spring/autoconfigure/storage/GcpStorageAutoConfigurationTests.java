@@ -81,6 +81,22 @@ class GcpStorageAutoConfigurationTests {
             });
   }
 
+  @Test
+  void testParallelTransferProperties() {
+    this.contextRunner
+        .withPropertyValues(
+            "spring.cloud.gcp.storage.parallel-transfers-enabled=true",
+            "spring.cloud.gcp.storage.parallel-transfer-part-size=1048576",
+            "spring.cloud.gcp.storage.parallel-transfer-threads=4")
+        .run(
+            context -> {
+              GcpStorageProperties properties = context.getBean(GcpStorageProperties.class);
+              assertThat(properties.isParallelTransfersEnabled()).isTrue();
+              assertThat(properties.getParallelTransferPartSize()).isEqualTo(1048576);
+              assertThat(properties.getParallelTransferThreads()).isEqualTo(4);
+            });
+  }
+
   @Test
   void testUniverseDomain() {
     this.contextRunner
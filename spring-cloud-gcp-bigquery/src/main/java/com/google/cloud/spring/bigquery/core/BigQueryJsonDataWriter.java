@@ -16,42 +16,21 @@
 
 package com.google.cloud.spring.bigquery.core;
 
-import com.google.api.core.ApiFuture;
-import com.google.api.core.ApiFutureCallback;
-import com.google.api.core.ApiFutures;
-import com.google.cloud.bigquery.storage.v1.AppendRowsResponse;
 import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
 import com.google.cloud.bigquery.storage.v1.CreateWriteStreamRequest;
-import com.google.cloud.bigquery.storage.v1.Exceptions;
-import com.google.cloud.bigquery.storage.v1.Exceptions.StorageException;
-import com.google.cloud.bigquery.storage.v1.FinalizeWriteStreamResponse;
 import com.google.cloud.bigquery.storage.v1.JsonStreamWriter;
 import com.google.cloud.bigquery.storage.v1.TableName;
 import com.google.cloud.bigquery.storage.v1.WriteStream;
-import com.google.common.util.concurrent.MoreExecutors;
 import com.google.protobuf.Descriptors.DescriptorValidationException;
 import java.io.IOException;
-import java.util.concurrent.Phaser;
-import javax.annotation.concurrent.GuardedBy;
 import org.json.JSONArray;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /** Helper class for using BigQuery storage write API in exactly once delivery mode. */
 public class BigQueryJsonDataWriter implements AutoCloseable {
 
   private final JsonStreamWriter streamWriter;
-  // Track the number of in-flight requests to wait for all responses before shutting down.
-  private final Phaser inflightRequestCount = new Phaser(1);
 
-  private final Object lock = new Object();
-
-  private final Logger logger = LoggerFactory.getLogger(BigQueryJsonDataWriter.class);
-
-  private final BigQueryWriteClient bigQueryWriteClient;
-
-  @GuardedBy("lock")
-  private RuntimeException error = null;
+  private final PendingStreamAppender<JSONArray, DescriptorValidationException> appender;
 
   /**
    * Package-Private constructor for initializing BigQueryJsonDataWriter
@@ -62,6 +41,22 @@ public class BigQueryJsonDataWriter implements AutoCloseable {
    */
   BigQueryJsonDataWriter(TableName parentTable, BigQueryWriteClient bigQueryWriteClient)
       throws DescriptorValidationException, IOException, InterruptedException {
+    this(parentTable, bigQueryWriteClient, 0);
+  }
+
+  /**
+   * Package-Private constructor for initializing BigQueryJsonDataWriter with a bound on in-flight
+   * appends.
+   *
+   * @param parentTable against which the writer has to be initialized
+   * @param bigQueryWriteClient BigQueryWriteClient reference which has to be used for writing to
+   *     the database
+   * @param maxInflightAppends maximum number of appends awaiting a response before {@link
+   *     #append(JSONArray, long)} blocks; zero or less for no limit
+   */
+  BigQueryJsonDataWriter(
+      TableName parentTable, BigQueryWriteClient bigQueryWriteClient, int maxInflightAppends)
+      throws DescriptorValidationException, IOException, InterruptedException {
     // Initialize a write stream for the specified table.
     // For more information on WriteStream.Type, see:
     // https://googleapis.dev/java/google-cloud-bigquerystorage/latest/com/google/cloud/bigquery/storage/v1/WriteStream.Type.html
@@ -81,44 +76,25 @@ public class BigQueryJsonDataWriter implements AutoCloseable {
         JsonStreamWriter.newBuilder(
                 writeStream.getName(), writeStream.getTableSchema(), bigQueryWriteClient)
             .build();
-    this.bigQueryWriteClient = bigQueryWriteClient;
+    this.appender =
+        new PendingStreamAppender<>(streamWriter::append, bigQueryWriteClient, maxInflightAppends);
   }
 
   /**
+   * Appends a batch of rows. Blocks while the configured maximum number of appends are awaiting a
+   * response.
+   *
    * @param data JSONArray to be appended
    * @param offset offset at which data has to be added
    */
   public void append(JSONArray data, long offset)
       throws DescriptorValidationException, IOException {
-    synchronized (this.lock) {
-      // If earlier appends have failed, we need to reset before continuing.
-      if (this.error != null) {
-        throw this.error;
-      }
-    }
-    // Append asynchronously for increased throughput.
-    ApiFuture<AppendRowsResponse> future = streamWriter.append(data, offset);
-    ApiFutures.addCallback(future, new AppendCompleteCallback(), MoreExecutors.directExecutor());
-    // Increase the count of in-flight requests.
-    inflightRequestCount.register();
+    this.appender.append(data, offset);
   }
 
   /** Call this method before committing the stream */
   public void finalizeWriteStream() {
-    // Wait for all in-flight requests to complete.
-    inflightRequestCount.arriveAndAwaitAdvance();
-
-    // Verify that no error occurred in the stream.
-    synchronized (this.lock) {
-      if (this.error != null) {
-        throw this.error;
-      }
-    }
-
-    // Finalize the stream.
-    FinalizeWriteStreamResponse finalizeResponse =
-        bigQueryWriteClient.finalizeWriteStream(streamWriter.getStreamName());
-    logger.info("Rows written: {}", finalizeResponse.getRowCount());
+    this.appender.finalizeWriteStream(streamWriter.getStreamName());
   }
 
   public String getStreamName() {
@@ -130,31 +106,4 @@ public class BigQueryJsonDataWriter implements AutoCloseable {
     // Close the connection to the server.
     streamWriter.close();
   }
-
-  class AppendCompleteCallback implements ApiFutureCallback<AppendRowsResponse> {
-    private final Logger logger = LoggerFactory.getLogger(AppendCompleteCallback.class);
-
-    public void onSuccess(AppendRowsResponse response) {
-      logger.info("Append {} success", response.getAppendResult().getOffset().getValue());
-      done();
-    }
-
-    public void onFailure(Throwable throwable) {
-      String errMsg = null;
-      synchronized (lock) {
-        if (error == null) {
-          StorageException storageException = Exceptions.toStorageException(throwable);
-          error = (storageException != null) ? storageException : new RuntimeException(throwable);
-          errMsg = error.getMessage();
-        }
-      }
-      logger.warn("Error: {}", errMsg);
-      done();
-    }
-
-    private void done() {
-      // Reduce the count of in-flight requests.
-      inflightRequestCount.arriveAndDeregister();
-    }
-  }
 }
@@ -94,4 +94,17 @@ public interface BigQueryOperations {
    */
   CompletableFuture<WriteApiResponse> writeJsonStream(
       String tableName, InputStream jsonInputStream, Schema schema);
+
+  /**
+   * Uses the BigQuery Storage Write API to write typed rows to the specified table. Rows are
+   * serialized directly into protocol buffers using a descriptor compiled once from the table
+   * schema. The table should already exist.
+   *
+   * @param tableName name of the table to write to
+   * @param rows rows to be written, as {@link java.util.Map}s of column names to values, records
+   *     or JavaBeans
+   * @return {@link CompletableFuture} containing the WriteApiResponse indicating completion of
+   *     operation
+   */
+  CompletableFuture<WriteApiResponse> writeRows(String tableName, Iterable<?> rows);
 }
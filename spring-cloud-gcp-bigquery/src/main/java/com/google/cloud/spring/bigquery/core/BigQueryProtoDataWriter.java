@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.bigquery.core;
+
+import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
+import com.google.cloud.bigquery.storage.v1.ProtoRows;
+import com.google.cloud.bigquery.storage.v1.StreamWriter;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Helper class for appending typed rows to a pending write stream of the BigQuery Storage Write API
+ * in exactly once delivery mode. Rows are serialized by a {@link BigQueryRowEncoder} and appended
+ * as {@link ProtoRows}.
+ */
+public class BigQueryProtoDataWriter implements AutoCloseable {
+
+  private final StreamWriter streamWriter;
+
+  private final BigQueryRowEncoder rowEncoder;
+
+  private final PendingStreamAppender<ProtoRows, RuntimeException> appender;
+
+  /**
+   * Package-Private constructor for initializing BigQueryProtoDataWriter.
+   *
+   * @param streamName name of the pending write stream to append to
+   * @param rowEncoder the encoder compiled from the schema of the write stream
+   * @param bigQueryWriteClient BigQueryWriteClient reference which has to be used for writing to
+   *     the database
+   * @param maxInflightAppends maximum number of appends awaiting a response before {@link
+   *     #append(List, long)} blocks; zero or less for no limit
+   */
+  BigQueryProtoDataWriter(
+      String streamName,
+      BigQueryRowEncoder rowEncoder,
+      BigQueryWriteClient bigQueryWriteClient,
+      int maxInflightAppends)
+      throws IOException {
+    this.streamWriter =
+        StreamWriter.newBuilder(streamName, bigQueryWriteClient)
+            .setWriterSchema(rowEncoder.getProtoSchema())
+            .build();
+    this.rowEncoder = rowEncoder;
+    this.appender =
+        new PendingStreamAppender<>(streamWriter::append, bigQueryWriteClient, maxInflightAppends);
+  }
+
+  /**
+   * Serializes and appends a batch of rows. Blocks while the configured maximum number of appends
+   * are awaiting a response.
+   *
+   * @param rows rows to be appended, as {@link java.util.Map}s, records or JavaBeans
+   * @param offset offset at which data has to be added
+   */
+  public void append(List<?> rows, long offset) throws IOException {
+    // Fail before serializing the batch if earlier appends have failed.
+    this.appender.checkError();
+    ProtoRows.Builder protoRows = ProtoRows.newBuilder();
+    for (Object row : rows) {
+      protoRows.addSerializedRows(this.rowEncoder.encode(row));
+    }
+    this.appender.append(protoRows.build(), offset);
+  }
+
+  /** Call this method before committing the stream */
+  public void finalizeWriteStream() {
+    this.appender.finalizeWriteStream(streamWriter.getStreamName());
+  }
+
+  public String getStreamName() {
+    return streamWriter.getStreamName();
+  }
+
+  @Override
+  public void close() {
+    // Close the connection to the server.
+    streamWriter.close();
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.bigquery.core;
+
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.bigquery.storage.v1.AppendRowsResponse;
+import com.google.cloud.bigquery.storage.v1.ProtoRows;
+import com.google.cloud.bigquery.storage.v1.StreamWriter;
+import com.google.cloud.bigquery.storage.v1.TableName;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.protobuf.ByteString;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuples;
+
+/**
+ * Streams rows reactively into BigQuery tables through the BigQuery Storage Write API, using the
+ * settings and row encoders of a {@link BigQueryTemplate}.
+ *
+ * <p>This class is kept apart from the template so that reactor-core stays an optional
+ * dependency.
+ */
+public class BigQueryReactiveWriter {
+
+  // stays well below the 10 MB limit of a single append request
+  private static final long MAX_STREAM_BATCH_BYTES = 5L * 1024 * 1024;
+
+  private final BigQueryTemplate bigQueryTemplate;
+
+  public BigQueryReactiveWriter(BigQueryTemplate bigQueryTemplate) {
+    this.bigQueryTemplate = bigQueryTemplate;
+  }
+
+  /**
+   * Streams rows into the default stream of the specified table through the BigQuery Storage
+   * Write API, where they are committed as soon as their batch is appended. The table should
+   * already exist.
+   *
+   * <p>Rows are serialized as they arrive and grouped into batches of up to {@code
+   * JSON_WRITER_BATCH_SIZE} rows or 5 MiB. At most {@code JSON_WRITER_MAX_INFLIGHT_APPENDS}
+   * batches are awaiting a response at any time; rows are only requested from {@code rows} while
+   * fewer are in flight. Opening the connection blocks and is done on the bounded elastic
+   * scheduler.
+   *
+   * @param tableName name of the table to write to
+   * @param rows rows to be written, as {@link Map}s of column names to values, records or
+   *     JavaBeans
+   * @return a {@link Flux} emitting the result of each appended batch, in order, and terminating
+   *     with an error if an append fails
+   */
+  public Flux<WriteBatchResult> writeRowStream(String tableName, Publisher<?> rows) {
+    return Mono.fromCallable(
+            () -> {
+              TableName parentTable = this.bigQueryTemplate.getTableName(tableName);
+              BigQueryRowEncoder rowEncoder =
+                  this.bigQueryTemplate.getDefaultStreamRowEncoder(parentTable);
+              return Tuples.of(
+                  rowEncoder,
+                  this.bigQueryTemplate.createDefaultStreamWriter(parentTable, rowEncoder));
+            })
+        .subscribeOn(Schedulers.boundedElastic())
+        .flatMapMany(
+            encoderAndWriter ->
+                Flux.from(rows)
+                    .map(encoderAndWriter.getT1()::encode)
+                    .bufferUntil(
+                        newBatchTrigger(
+                            this.bigQueryTemplate.getBatchSize(), MAX_STREAM_BATCH_BYTES))
+                    .flatMapSequential(
+                        batch -> appendBatch(encoderAndWriter.getT2(), batch),
+                        this.bigQueryTemplate.getMaxInflightAppends())
+                    .doFinally(signal -> encoderAndWriter.getT2().close()));
+  }
+
+  private static Predicate<ByteString> newBatchTrigger(int maxBatchRows, long maxBatchBytes) {
+    int[] rows = new int[1];
+    long[] bytes = new long[1];
+    return serializedRow -> {
+      rows[0]++;
+      bytes[0] += serializedRow.size();
+      if (rows[0] >= maxBatchRows || bytes[0] >= maxBatchBytes) {
+        rows[0] = 0;
+        bytes[0] = 0;
+        return true;
+      }
+      return false;
+    };
+  }
+
+  private static Mono<WriteBatchResult> appendBatch(
+      StreamWriter streamWriter, List<ByteString> batch) {
+    return Mono.defer(
+        () -> {
+          long serializedBytes = 0;
+          ProtoRows.Builder protoRows = ProtoRows.newBuilder();
+          for (ByteString serializedRow : batch) {
+            protoRows.addSerializedRows(serializedRow);
+            serializedBytes += serializedRow.size();
+          }
+          long batchBytes = serializedBytes;
+          CompletableFuture<WriteBatchResult> result = new CompletableFuture<>();
+          ApiFutures.addCallback(
+              streamWriter.append(protoRows.build()),
+              new ApiFutureCallback<AppendRowsResponse>() {
+                @Override
+                public void onSuccess(AppendRowsResponse response) {
+                  if (response.hasError()) {
+                    result.completeExceptionally(
+                        new BigQueryException(
+                            "Failed to append records: " + response.getError().getMessage()));
+                  } else {
+                    result.complete(new WriteBatchResult(batch.size(), batchBytes, response));
+                  }
+                }
+
+                @Override
+                public void onFailure(Throwable throwable) {
+                  result.completeExceptionally(
+                      new BigQueryException("Failed to append records.", throwable));
+                }
+              },
+              MoreExecutors.directExecutor());
+          return Mono.fromFuture(result);
+        });
+  }
+}
@@ -0,0 +1,350 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.bigquery.core;
+
+import com.google.cloud.bigquery.storage.v1.BQTableSchemaToProtoDescriptor;
+import com.google.cloud.bigquery.storage.v1.BigDecimalByteStringEncoder;
+import com.google.cloud.bigquery.storage.v1.CivilTimeEncoder;
+import com.google.cloud.bigquery.storage.v1.ProtoSchema;
+import com.google.cloud.bigquery.storage.v1.ProtoSchemaConverter;
+import com.google.cloud.bigquery.storage.v1.TableFieldSchema;
+import com.google.cloud.bigquery.storage.v1.TableSchema;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import java.beans.PropertyDescriptor;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Serializes rows straight into the protocol buffer wire format expected by the BigQuery Storage
+ * Write API.
+ *
+ * <p>The table schema is compiled once into a protobuf descriptor and a per-column encoding plan;
+ * rows given as {@link Map}s, records or JavaBeans are then written field by field without building
+ * an intermediate JSON or dynamic protobuf message. Map keys and bean properties are matched to
+ * column names case-insensitively; {@code null} values and unmatched columns are left unset.
+ *
+ * <p>Values are converted according to the column type: {@link LocalDate} for {@code DATE}, {@link
+ * Instant} for {@code TIMESTAMP}, {@link LocalDateTime} for {@code DATETIME}, {@link LocalTime} for
+ * {@code TIME}, {@link BigDecimal} for {@code NUMERIC} and {@code BIGNUMERIC}, {@code byte[]} or
+ * {@link ByteString} for {@code BYTES}, and a {@link Map} or bean for {@code STRUCT}. Repeated
+ * columns accept any {@link Iterable} or array.
+ *
+ * <p>Instances are thread-safe.
+ */
+public final class BigQueryRowEncoder {
+
+  private final TableSchema tableSchema;
+
+  private final Descriptor descriptor;
+
+  private final ProtoSchema protoSchema;
+
+  private final MessageEncoder messageEncoder;
+
+  private BigQueryRowEncoder(TableSchema tableSchema, Descriptor descriptor) {
+    this.tableSchema = tableSchema;
+    this.descriptor = descriptor;
+    this.protoSchema = ProtoSchemaConverter.convert(descriptor);
+    this.messageEncoder = new MessageEncoder(tableSchema.getFieldsList(), descriptor);
+  }
+
+  /**
+   * Compiles the given table schema into a row encoder.
+   *
+   * @param tableSchema the Storage Write API schema of the destination table
+   * @return the row encoder
+   * @throws DescriptorValidationException if no protobuf descriptor can be derived from the schema
+   */
+  public static BigQueryRowEncoder compile(TableSchema tableSchema)
+      throws DescriptorValidationException {
+    return new BigQueryRowEncoder(
+        tableSchema,
+        BQTableSchemaToProtoDescriptor.convertBQTableSchemaToProtoDescriptor(tableSchema));
+  }
+
+  public TableSchema getTableSchema() {
+    return this.tableSchema;
+  }
+
+  public Descriptor getDescriptor() {
+    return this.descriptor;
+  }
+
+  /**
+   * Returns the writer schema to declare when appending rows produced by this encoder.
+   *
+   * @return the proto schema of the encoded rows
+   */
+  public ProtoSchema getProtoSchema() {
+    return this.protoSchema;
+  }
+
+  /**
+   * Serializes a single row.
+   *
+   * @param row a {@link Map} of column names to values, a record or a JavaBean
+   * @return the serialized row
+   * @throws BigQueryException if a value cannot be converted to its column type
+   */
+  public ByteString encode(Object row) {
+    return this.messageEncoder.encode(row);
+  }
+
+  /** Writes a single value of a column. */
+  @FunctionalInterface
+  private interface ValueWriter {
+    void write(CodedOutputStream output, int fieldNumber, Object value) throws IOException;
+  }
+
+  /** The compiled plan for one message type, i.e. the table itself or a {@code STRUCT} column. */
+  private static final class MessageEncoder {
+
+    private final List<FieldEncoder> fields = new ArrayList<>();
+
+    private final Map<Class<?>, Function<Object, Object>[]> accessors = new ConcurrentHashMap<>();
+
+    MessageEncoder(List<TableFieldSchema> tableFields, Descriptor descriptor) {
+      for (int i = 0; i < tableFields.size(); i++) {
+        TableFieldSchema tableField = tableFields.get(i);
+        FieldDescriptor field =
+            descriptor.findFieldByName(tableField.getName().toLowerCase(Locale.ROOT));
+        if (field == null) {
+          // column names that are not valid proto field names get placeholder names
+          field = descriptor.findFieldByNumber(i + 1);
+        }
+        if (field != null) {
+          this.fields.add(new FieldEncoder(tableField, field));
+        }
+      }
+    }
+
+    ByteString encode(Object row) {
+      Function<Object, Object>[] rowAccessors =
+          this.accessors.computeIfAbsent(row.getClass(), this::createAccessors);
+      try {
+        ByteString.Output output = ByteString.newOutput();
+        CodedOutputStream codedOutput = CodedOutputStream.newInstance(output);
+        for (int i = 0; i < rowAccessors.length; i++) {
+          Object value = rowAccessors[i].apply(row);
+          if (value != null) {
+            this.fields.get(i).write(codedOutput, value);
+          }
+        }
+        codedOutput.flush();
+        return output.toByteString();
+      } catch (IOException ex) {
+        throw new BigQueryException("Failed to serialize row of type " + row.getClass(), ex);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Function<Object, Object>[] createAccessors(Class<?> rowType) {
+      Function<Object, Object>[] rowAccessors = new Function[this.fields.size()];
+      for (int i = 0; i < rowAccessors.length; i++) {
+        String column = this.fields.get(i).columnName;
+        rowAccessors[i] =
+            Map.class.isAssignableFrom(rowType)
+                ? row -> getMapValue((Map<?, ?>) row, column)
+                : getPropertyAccessor(rowType, column);
+      }
+      return rowAccessors;
+    }
+
+    private static Object getMapValue(Map<?, ?> row, String column) {
+      Object value = row.get(column);
+      if (value == null) {
+        for (Map.Entry<?, ?> entry : row.entrySet()) {
+          if (entry.getKey() instanceof String key && key.equalsIgnoreCase(column)) {
+            return entry.getValue();
+          }
+        }
+      }
+      return value;
+    }
+
+    private static Function<Object, Object> getPropertyAccessor(Class<?> rowType, String column) {
+      Method readMethod = null;
+      if (rowType.isRecord()) {
+        for (RecordComponent component : rowType.getRecordComponents()) {
+          if (component.getName().equalsIgnoreCase(column)) {
+            readMethod = component.getAccessor();
+          }
+        }
+      } else {
+        for (PropertyDescriptor property : BeanUtils.getPropertyDescriptors(rowType)) {
+          if (property.getName().equalsIgnoreCase(column) && property.getReadMethod() != null) {
+            readMethod = property.getReadMethod();
+          }
+        }
+      }
+      if (readMethod == null) {
+        return row -> null;
+      }
+      Method method = readMethod;
+      ReflectionUtils.makeAccessible(method);
+      return row -> ReflectionUtils.invokeMethod(method, row);
+    }
+  }
+
+  /** The compiled plan for a single column. */
+  private static final class FieldEncoder {
+
+    private final String columnName;
+
+    private final int fieldNumber;
+
+    private final boolean repeated;
+
+    private final ValueWriter valueWriter;
+
+    FieldEncoder(TableFieldSchema tableField, FieldDescriptor field) {
+      this.columnName = tableField.getName();
+      this.fieldNumber = field.getNumber();
+      this.repeated = field.isRepeated();
+      this.valueWriter = createValueWriter(tableField, field);
+    }
+
+    void write(CodedOutputStream output, Object value) throws IOException {
+      if (!this.repeated) {
+        this.valueWriter.write(output, this.fieldNumber, value);
+      } else if (value instanceof Object[] array) {
+        for (Object element : array) {
+          this.valueWriter.write(output, this.fieldNumber, element);
+        }
+      } else if (value instanceof Iterable<?> iterable) {
+        for (Object element : iterable) {
+          this.valueWriter.write(output, this.fieldNumber, element);
+        }
+      } else {
+        throw unsupportedValue(value);
+      }
+    }
+
+    private ValueWriter createValueWriter(TableFieldSchema tableField, FieldDescriptor field) {
+      TableFieldSchema.Type columnType = tableField.getType();
+      switch (field.getType()) {
+        case BOOL:
+          return (output, number, value) -> output.writeBool(number, (Boolean) value);
+        case DOUBLE:
+          return (output, number, value) ->
+              output.writeDouble(number, ((Number) value).doubleValue());
+        case INT32:
+          return (output, number, value) -> output.writeInt32(number, toInt32(value));
+        case INT64:
+          return (output, number, value) ->
+              output.writeInt64(number, toInt64(columnType, value));
+        case STRING:
+          return (output, number, value) -> output.writeString(number, toText(value));
+        case BYTES:
+          return (output, number, value) ->
+              output.writeBytes(number, toBytes(columnType, value));
+        case MESSAGE:
+          MessageEncoder nested =
+              new MessageEncoder(tableField.getFieldsList(), field.getMessageType());
+          return (output, number, value) -> output.writeBytes(number, nested.encode(value));
+        default:
+          throw new BigQueryException(
+              "Unsupported type " + columnType + " of column " + tableField.getName());
+      }
+    }
+
+    private String toText(Object value) {
+      if (value instanceof CharSequence text) {
+        return text.toString();
+      }
+      if (value instanceof Enum<?> constant) {
+        return constant.name();
+      }
+      throw unsupportedValue(value);
+    }
+
+    private int toInt32(Object value) {
+      if (value instanceof LocalDate date) {
+        return (int) date.toEpochDay();
+      }
+      if (value instanceof Number number) {
+        return number.intValue();
+      }
+      throw unsupportedValue(value);
+    }
+
+    private long toInt64(TableFieldSchema.Type columnType, Object value) {
+      if (value instanceof Number number) {
+        return number.longValue();
+      }
+      if (columnType == TableFieldSchema.Type.TIMESTAMP && value instanceof Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+      }
+      if (columnType == TableFieldSchema.Type.DATETIME && value instanceof LocalDateTime dateTime) {
+        return CivilTimeEncoder.encodePacked64DatetimeMicros(dateTime);
+      }
+      if (columnType == TableFieldSchema.Type.TIME && value instanceof LocalTime time) {
+        return CivilTimeEncoder.encodePacked64TimeMicros(time);
+      }
+      throw unsupportedValue(value);
+    }
+
+    private ByteString toBytes(TableFieldSchema.Type columnType, Object value) {
+      if (value instanceof ByteString byteString) {
+        return byteString;
+      }
+      if (value instanceof byte[] bytes) {
+        return ByteString.copyFrom(bytes);
+      }
+      if (columnType == TableFieldSchema.Type.NUMERIC && value instanceof Number number) {
+        return BigDecimalByteStringEncoder.encodeToNumericByteString(toBigDecimal(number));
+      }
+      if (columnType == TableFieldSchema.Type.BIGNUMERIC && value instanceof Number number) {
+        return BigDecimalByteStringEncoder.encodeToBigNumericByteString(toBigDecimal(number));
+      }
+      throw unsupportedValue(value);
+    }
+
+    private static BigDecimal toBigDecimal(Number number) {
+      return number instanceof BigDecimal bigDecimal
+          ? bigDecimal
+          : new BigDecimal(number.toString());
+    }
+
+    private BigQueryException unsupportedValue(Object value) {
+      return new BigQueryException(
+          "Cannot write value of type "
+              + value.getClass().getName()
+              + " to column "
+              + this.columnName);
+    }
+  }
+}
@@ -0,0 +1,389 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.bigquery.core;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.bigquery.storage.v1.AppendRowsResponse;
+import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
+import com.google.cloud.bigquery.storage.v1.Exceptions;
+import com.google.cloud.bigquery.storage.v1.Exceptions.StorageException;
+import com.google.cloud.bigquery.storage.v1.GetWriteStreamRequest;
+import com.google.cloud.bigquery.storage.v1.ProtoRows;
+import com.google.cloud.bigquery.storage.v1.StreamWriter;
+import com.google.cloud.bigquery.storage.v1.TableName;
+import com.google.cloud.bigquery.storage.v1.TableSchema;
+import com.google.cloud.bigquery.storage.v1.WriteStreamView;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.concurrent.GuardedBy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.util.Assert;
+
+/**
+ * A long-lived writer that streams rows into the {@code _default} stream of a table through the
+ * BigQuery Storage Write API.
+ *
+ * <p>Rows may be written from any number of threads. Each row is serialized on the calling thread
+ * by a {@link BigQueryRowEncoder} and buffered; the buffer is sent as one append request once it
+ * reaches {@link #setMaxBatchRows(int) maxBatchRows} rows or {@link #setMaxBatchBytes(long)
+ * maxBatchBytes} bytes, when {@link #flush()} is called, and otherwise every {@code flushInterval}.
+ * Appends are spread round-robin over the configured number of connections. Rows written to the
+ * default stream are committed as soon as their append succeeds.
+ *
+ * @see BigQueryTemplate#createStreamingWriter(String)
+ */
+public class BigQueryStreamingWriter implements AutoCloseable {
+
+  private static final int DEFAULT_MAX_BATCH_ROWS = 500;
+
+  // stays well below the 10 MB limit of a single append request
+  private static final long DEFAULT_MAX_BATCH_BYTES = 5L * 1024 * 1024;
+
+  private final Logger logger = LoggerFactory.getLogger(BigQueryStreamingWriter.class);
+
+  private final BigQueryRowEncoder rowEncoder;
+
+  private final List<StreamWriter> streamWriters;
+
+  private final ScheduledFuture<?> flushTask;
+
+  private final AtomicInteger nextStreamWriter = new AtomicInteger();
+
+  private final Set<CompletableFuture<Void>> inflightAppends = ConcurrentHashMap.newKeySet();
+
+  private final AtomicLong inflightRows = new AtomicLong();
+
+  private final AtomicLong appendedRows = new AtomicLong();
+
+  private final AtomicLong failedRows = new AtomicLong();
+
+  private final Object lock = new Object();
+
+  @GuardedBy("lock")
+  private Batch batch = new Batch();
+
+  @GuardedBy("lock")
+  private boolean closed;
+
+  private volatile int maxBatchRows = DEFAULT_MAX_BATCH_ROWS;
+
+  private volatile long maxBatchBytes = DEFAULT_MAX_BATCH_BYTES;
+
+  /**
+   * Opens {@code connections} connections to the default stream of the given table.
+   *
+   * @param bigQueryWriteClient the client used to connect to the Storage Write API
+   * @param parentTable the table to write to
+   * @param taskScheduler the scheduler used to flush buffered rows periodically
+   * @param connections the number of connections appends are spread across
+   * @param flushInterval the maximum time a row is buffered before being sent
+   */
+  public BigQueryStreamingWriter(
+      BigQueryWriteClient bigQueryWriteClient,
+      TableName parentTable,
+      TaskScheduler taskScheduler,
+      int connections,
+      Duration flushInterval)
+      throws DescriptorValidationException, IOException {
+    this(
+        bigQueryWriteClient,
+        parentTable.toString() + "/streams/_default",
+        taskScheduler,
+        connections,
+        flushInterval,
+        BigQueryRowEncoder.compile(
+            getTableSchema(bigQueryWriteClient, parentTable.toString() + "/streams/_default")));
+  }
+
+  private BigQueryStreamingWriter(
+      BigQueryWriteClient bigQueryWriteClient,
+      String streamName,
+      TaskScheduler taskScheduler,
+      int connections,
+      Duration flushInterval,
+      BigQueryRowEncoder rowEncoder)
+      throws IOException {
+    this(
+        rowEncoder,
+        createStreamWriters(bigQueryWriteClient, streamName, rowEncoder, connections),
+        taskScheduler,
+        flushInterval);
+  }
+
+  BigQueryStreamingWriter(
+      BigQueryRowEncoder rowEncoder,
+      List<StreamWriter> streamWriters,
+      TaskScheduler taskScheduler,
+      Duration flushInterval) {
+    Assert.notEmpty(streamWriters, "At least one connection is required.");
+    Assert.notNull(flushInterval, "The flush interval must not be null.");
+    this.rowEncoder = rowEncoder;
+    this.streamWriters = streamWriters;
+    this.flushTask = taskScheduler.scheduleAtFixedRate(this::flush, flushInterval);
+  }
+
+  private static TableSchema getTableSchema(
+      BigQueryWriteClient bigQueryWriteClient, String streamName) {
+    return bigQueryWriteClient
+        .getWriteStream(
+            GetWriteStreamRequest.newBuilder()
+                .setName(streamName)
+                .setView(WriteStreamView.FULL)
+                .build())
+        .getTableSchema();
+  }
+
+  private static List<StreamWriter> createStreamWriters(
+      BigQueryWriteClient bigQueryWriteClient,
+      String streamName,
+      BigQueryRowEncoder rowEncoder,
+      int connections)
+      throws IOException {
+    List<StreamWriter> streamWriters = new ArrayList<>(connections);
+    for (int i = 0; i < Math.max(1, connections); i++) {
+      streamWriters.add(
+          StreamWriter.newBuilder(streamName, bigQueryWriteClient)
+              .setWriterSchema(rowEncoder.getProtoSchema())
+              .build());
+    }
+    return streamWriters;
+  }
+
+  /**
+   * Sets the number of rows after which buffered rows are sent.
+   *
+   * @param maxBatchRows the maximum number of rows in an append request. Default is 500.
+   */
+  public void setMaxBatchRows(int maxBatchRows) {
+    Assert.isTrue(maxBatchRows > 0, "The maximum batch size must be positive.");
+    this.maxBatchRows = maxBatchRows;
+  }
+
+  /**
+   * Sets the serialized size after which buffered rows are sent.
+   *
+   * @param maxBatchBytes the maximum size of an append request in bytes. Default is 5 MiB.
+   */
+  public void setMaxBatchBytes(long maxBatchBytes) {
+    Assert.isTrue(maxBatchBytes > 0, "The maximum batch size must be positive.");
+    this.maxBatchBytes = maxBatchBytes;
+  }
+
+  /**
+   * Buffers a row to be appended.
+   *
+   * @param row a {@link java.util.Map} of column names to values, a record or a JavaBean
+   * @return {@link CompletableFuture} completed once the row has been written, or completed
+   *     exceptionally if its append failed
+   * @throws BigQueryException if the row cannot be serialized
+   * @throws IllegalStateException if the writer has been closed
+   */
+  public CompletableFuture<Void> write(Object row) {
+    ByteString serializedRow = this.rowEncoder.encode(row);
+    CompletableFuture<Void> rowFuture = new CompletableFuture<>();
+    List<Batch> fullBatches = new ArrayList<>(2);
+    synchronized (this.lock) {
+      Assert.state(!this.closed, "The BigQuery streaming writer is closed.");
+      if (!this.batch.isEmpty()
+          && this.batch.bytes + serializedRow.size() > this.maxBatchBytes) {
+        fullBatches.add(takeBatch());
+      }
+      this.batch.add(serializedRow, rowFuture);
+      if (this.batch.futures.size() >= this.maxBatchRows
+          || this.batch.bytes >= this.maxBatchBytes) {
+        fullBatches.add(takeBatch());
+      }
+    }
+    fullBatches.forEach(this::send);
+    return rowFuture;
+  }
+
+  /**
+   * Sends all buffered rows.
+   *
+   * @return {@link CompletableFuture} completed once every append sent so far has completed
+   */
+  public CompletableFuture<Void> flush() {
+    Batch pending;
+    synchronized (this.lock) {
+      pending = this.batch.isEmpty() ? null : takeBatch();
+    }
+    if (pending != null) {
+      send(pending);
+    }
+    return CompletableFuture.allOf(this.inflightAppends.toArray(new CompletableFuture<?>[0]));
+  }
+
+  /**
+   * Returns the number of rows buffered and not yet sent.
+   *
+   * @return the number of buffered rows
+   */
+  public int getPendingRowCount() {
+    synchronized (this.lock) {
+      return this.batch.futures.size();
+    }
+  }
+
+  /**
+   * Returns the number of append requests awaiting a response.
+   *
+   * @return the number of in-flight appends
+   */
+  public int getInflightAppendCount() {
+    return this.inflightAppends.size();
+  }
+
+  /**
+   * Returns the number of rows in append requests awaiting a response.
+   *
+   * @return the number of in-flight rows
+   */
+  public long getInflightRowCount() {
+    return this.inflightRows.get();
+  }
+
+  /**
+   * Returns the number of rows successfully written since this writer was created.
+   *
+   * @return the number of written rows
+   */
+  public long getAppendedRowCount() {
+    return this.appendedRows.get();
+  }
+
+  /**
+   * Returns the number of rows whose append failed since this writer was created.
+   *
+   * @return the number of failed rows
+   */
+  public long getFailedRowCount() {
+    return this.failedRows.get();
+  }
+
+  /** Sends the buffered rows, waits for all in-flight appends and closes the connections. */
+  @Override
+  public void close() {
+    synchronized (this.lock) {
+      if (this.closed) {
+        return;
+      }
+      this.closed = true;
+    }
+    if (this.flushTask != null) {
+      this.flushTask.cancel(false);
+    }
+    try {
+      flush().join();
+    } catch (RuntimeException ex) {
+      logger.warn("Some rows could not be written before closing.", ex);
+    }
+    this.streamWriters.forEach(StreamWriter::close);
+  }
+
+  @GuardedBy("lock")
+  private Batch takeBatch() {
+    Batch full = this.batch;
+    this.batch = new Batch();
+    return full;
+  }
+
+  private void send(Batch pending) {
+    int rowCount = pending.futures.size();
+    CompletableFuture<Void> appendFuture = new CompletableFuture<>();
+    this.inflightAppends.add(appendFuture);
+    this.inflightRows.addAndGet(rowCount);
+    appendFuture.whenComplete(
+        (result, exception) -> {
+          this.inflightAppends.remove(appendFuture);
+          this.inflightRows.addAndGet(-rowCount);
+          if (exception == null) {
+            this.appendedRows.addAndGet(rowCount);
+            pending.futures.forEach(rowFuture -> rowFuture.complete(null));
+          } else {
+            this.failedRows.addAndGet(rowCount);
+            pending.futures.forEach(rowFuture -> rowFuture.completeExceptionally(exception));
+          }
+        });
+
+    StreamWriter streamWriter =
+        this.streamWriters.get(
+            Math.floorMod(this.nextStreamWriter.getAndIncrement(), this.streamWriters.size()));
+    try {
+      ApiFuture<AppendRowsResponse> response = streamWriter.append(pending.rows.build());
+      ApiFutures.addCallback(
+          response,
+          new ApiFutureCallback<AppendRowsResponse>() {
+            @Override
+            public void onSuccess(AppendRowsResponse appendRowsResponse) {
+              if (appendRowsResponse.hasError()) {
+                appendFuture.completeExceptionally(
+                    new BigQueryException(
+                        "Append failed: " + appendRowsResponse.getError().getMessage()));
+              } else {
+                appendFuture.complete(null);
+              }
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+              StorageException storageException = Exceptions.toStorageException(throwable);
+              appendFuture.completeExceptionally(
+                  storageException != null ? storageException : throwable);
+            }
+          },
+          MoreExecutors.directExecutor());
+    } catch (RuntimeException ex) {
+      appendFuture.completeExceptionally(ex);
+    }
+  }
+
+  /** Rows buffered for a single append request. */
+  private static final class Batch {
+
+    private final ProtoRows.Builder rows = ProtoRows.newBuilder();
+
+    private final List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+    private long bytes;
+
+    void add(ByteString serializedRow, CompletableFuture<Void> rowFuture) {
+      this.rows.addSerializedRows(serializedRow);
+      this.futures.add(rowFuture);
+      this.bytes += serializedRow.size();
+    }
+
+    boolean isEmpty() {
+      return this.futures.isEmpty();
+    }
+  }
+}
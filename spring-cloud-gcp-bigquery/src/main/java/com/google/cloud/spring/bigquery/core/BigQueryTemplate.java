@@ -33,8 +33,15 @@ import com.google.cloud.bigquery.WriteChannelConfiguration;
 import com.google.cloud.bigquery.storage.v1.BatchCommitWriteStreamsRequest;
 import com.google.cloud.bigquery.storage.v1.BatchCommitWriteStreamsResponse;
 import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
+import com.google.cloud.bigquery.storage.v1.CreateWriteStreamRequest;
+import com.google.cloud.bigquery.storage.v1.GetWriteStreamRequest;
+import com.google.cloud.bigquery.storage.v1.ProtoRows;
 import com.google.cloud.bigquery.storage.v1.StorageError;
+import com.google.cloud.bigquery.storage.v1.StreamWriter;
 import com.google.cloud.bigquery.storage.v1.TableName;
+import com.google.cloud.bigquery.storage.v1.TableSchema;
+import com.google.cloud.bigquery.storage.v1.WriteStream;
+import com.google.cloud.bigquery.storage.v1.WriteStreamView;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.protobuf.Descriptors.DescriptorValidationException;
 import java.io.BufferedReader;
@@ -45,15 +52,28 @@ import java.io.OutputStream;
 import java.nio.channels.Channels;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 import org.springframework.util.StreamUtils;
 
@@ -85,10 +105,23 @@ public class BigQueryTemplate implements BigQueryOperations {
 
   private static final int MIN_JSON_STREAM_WRITER_BATCH_SIZE = 10; // minimum batch size
 
+  private static final int DEFAULT_JSON_WRITER_MAX_INFLIGHT_APPENDS = 16;
+
   private final Logger logger = LoggerFactory.getLogger(BigQueryTemplate.class);
 
   private final int jsonWriterBatchSize;
 
+  private final int jsonWriterParserThreads;
+
+  private final int jsonWriterStreamCount;
+
+  private final int jsonWriterMaxInflightAppends;
+
+  // shared by all writeJsonStream calls; idle threads time out, so the template needs no shutdown
+  private final ExecutorService jsonParserExecutor;
+
+  private final Map<String, BigQueryRowEncoder> rowEncoders = new ConcurrentHashMap<>();
+
   /**
    * A Full constructor which creates the {@link BigQuery} template.
    *
@@ -113,10 +146,31 @@ public class BigQueryTemplate implements BigQueryOperations {
         (Integer)
             bqInitSettings.getOrDefault(
                 "JSON_WRITER_BATCH_SIZE", DEFAULT_JSON_STREAM_WRITER_BATCH_SIZE);
+    jsonWriterParserThreads =
+        Math.max(1, (Integer) bqInitSettings.getOrDefault("JSON_WRITER_PARSER_THREADS", 1));
+    jsonWriterStreamCount =
+        Math.max(1, (Integer) bqInitSettings.getOrDefault("JSON_WRITER_STREAM_COUNT", 1));
+    jsonWriterMaxInflightAppends =
+        (Integer)
+            bqInitSettings.getOrDefault(
+                "JSON_WRITER_MAX_INFLIGHT_APPENDS", DEFAULT_JSON_WRITER_MAX_INFLIGHT_APPENDS);
     this.bigQuery = bigQuery;
     this.datasetName = bqDatasetName;
     this.taskScheduler = taskScheduler;
     this.bigQueryWriteClient = bigQueryWriteClient;
+    this.jsonParserExecutor =
+        jsonWriterParserThreads > 1 ? createJsonParserExecutor(jsonWriterParserThreads) : null;
+  }
+
+  private static ExecutorService createJsonParserExecutor(int threads) {
+    CustomizableThreadFactory threadFactory =
+        new CustomizableThreadFactory("gcp-bigquery-json-parser-");
+    threadFactory.setDaemon(true);
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
   }
 
   /**
@@ -249,11 +303,33 @@ public class BigQueryTemplate implements BigQueryOperations {
   public CompletableFuture<WriteApiResponse> writeJsonStream(
       String tableName, InputStream jsonInputStream) {
 
+    return runWriteAsync(() -> getWriteApiResponse(tableName, jsonInputStream));
+  }
+
+  /**
+   * Uses the BigQuery Storage Write API to write typed rows to the specified table. The table
+   * schema is compiled once into a protobuf descriptor and rows are serialized straight into {@code
+   * ProtoRows}, without going through JSON. The table should already exist.
+   *
+   * @param tableName name of the table to write to
+   * @param rows rows to be written, as {@link Map}s of column names to values, records or
+   *     JavaBeans
+   * @return {@link CompletableFuture} containing the WriteApiResponse indicating completion of
+   *     operation
+   * @see BigQueryRowEncoder
+   */
+  @Override
+  public CompletableFuture<WriteApiResponse> writeRows(String tableName, Iterable<?> rows) {
+    return runWriteAsync(() -> getRowsWriteApiResponse(tableName, rows));
+  }
+
+  private CompletableFuture<WriteApiResponse> runWriteAsync(
+      Callable<WriteApiResponse> writeOperation) {
     CompletableFuture<WriteApiResponse> writeApiFutureResponse = new CompletableFuture<>();
     Runnable asyncTask =
         () -> {
           try {
-            WriteApiResponse apiResponse = getWriteApiResponse(tableName, jsonInputStream);
+            WriteApiResponse apiResponse = writeOperation.call();
             writeApiFutureResponse.complete(apiResponse);
           } catch (Exception e) {
             writeApiFutureResponse.completeExceptionally(e);
@@ -282,93 +358,321 @@ public class BigQueryTemplate implements BigQueryOperations {
     return writeApiFutureResponse;
   }
 
+  /**
+   * Creates a long-lived writer appending rows to the default stream of the specified table over
+   * a single connection, flushing buffered rows at least once a second. The caller is responsible
+   * for closing the writer.
+   *
+   * @param tableName name of the table to write to
+   * @return the streaming writer
+   */
+  public BigQueryStreamingWriter createStreamingWriter(String tableName)
+      throws DescriptorValidationException, IOException {
+    return createStreamingWriter(tableName, 1, Duration.ofSeconds(1));
+  }
+
+  /**
+   * Creates a long-lived writer appending rows to the default stream of the specified table. The
+   * caller is responsible for closing the writer.
+   *
+   * @param tableName name of the table to write to
+   * @param connections number of connections appends are spread across
+   * @param flushInterval maximum time a row is buffered before being sent
+   * @return the streaming writer
+   */
+  public BigQueryStreamingWriter createStreamingWriter(
+      String tableName, int connections, Duration flushInterval)
+      throws DescriptorValidationException, IOException {
+    TableName parentTable =
+        TableName.of(bigQuery.getOptions().getProjectId(), datasetName, tableName);
+    BigQueryRowEncoder rowEncoder = getDefaultStreamRowEncoder(parentTable);
+    List<StreamWriter> streamWriters = new ArrayList<>(connections);
+    for (int i = 0; i < Math.max(1, connections); i++) {
+      streamWriters.add(createDefaultStreamWriter(parentTable, rowEncoder));
+    }
+    return new BigQueryStreamingWriter(rowEncoder, streamWriters, taskScheduler, flushInterval);
+  }
+
+  @VisibleForTesting
+  public BigQueryRowEncoder getDefaultStreamRowEncoder(TableName parentTable)
+      throws DescriptorValidationException {
+    WriteStream defaultStream =
+        bigQueryWriteClient.getWriteStream(
+            GetWriteStreamRequest.newBuilder()
+                .setName(getDefaultStreamName(parentTable))
+                .setView(WriteStreamView.FULL)
+                .build());
+    return getRowEncoder(parentTable, defaultStream.getTableSchema());
+  }
+
+  @VisibleForTesting
+  public StreamWriter createDefaultStreamWriter(
+      TableName parentTable, BigQueryRowEncoder rowEncoder) throws IOException {
+    return StreamWriter.newBuilder(getDefaultStreamName(parentTable), bigQueryWriteClient)
+        .setWriterSchema(rowEncoder.getProtoSchema())
+        .build();
+  }
+
+  private static String getDefaultStreamName(TableName parentTable) {
+    return parentTable.toString() + "/streams/_default";
+  }
+
   @VisibleForTesting
   public BigQueryJsonDataWriter getBigQueryJsonDataWriter(TableName parentTable)
       throws DescriptorValidationException, IOException, InterruptedException {
-    return new BigQueryJsonDataWriter(parentTable, bigQueryWriteClient);
+    return new BigQueryJsonDataWriter(
+        parentTable, bigQueryWriteClient, jsonWriterMaxInflightAppends);
   }
 
+  /**
+   * Writes the new line delimited JSON stream through the BigQuery Storage Write API and commits
+   * it atomically.
+   *
+   * <p>Lines are read on the calling thread and grouped into batches, which are parsed on {@code
+   * JSON_WRITER_PARSER_THREADS} threads. Parsed batches are appended in input order, round-robin
+   * across {@code JSON_WRITER_STREAM_COUNT} pending write streams; both reading and parsing block
+   * once enough batches are waiting to be appended. All streams are finalized and committed
+   * together in a single {@code BatchCommitWriteStreams} call.
+   *
+   * @param tableName name of the table to write to
+   * @param jsonInputStream input stream of the json file to be written
+   * @return the WriteApiResponse describing the outcome of the commit
+   */
   public WriteApiResponse getWriteApiResponse(String tableName, InputStream jsonInputStream)
       throws DescriptorValidationException, IOException, InterruptedException {
-    WriteApiResponse apiResponse = new WriteApiResponse();
     TableName parentTable =
         TableName.of(bigQuery.getOptions().getProjectId(), datasetName, tableName);
 
-    try (BigQueryJsonDataWriter writer = getBigQueryJsonDataWriter(parentTable)) {
-      try {
-        // Write data in batches. Ref: https://cloud.google.com/bigquery/quotas#write-api-limits
-        long offset = 0;
-        int currentBatchSize = 0;
-
-        BufferedReader jsonReader = new BufferedReader(new InputStreamReader(jsonInputStream));
-        String jsonLine = null;
-        JSONArray jsonBatch = new JSONArray();
-        while ((jsonLine = jsonReader.readLine()) != null) { // read the inputstream line by line
-          JSONObject jsonObj = new JSONObject(jsonLine); // cast the JSON string into JSON Object
-          jsonBatch.put(jsonObj);
-          currentBatchSize++;
-          if (currentBatchSize == getBatchSize()) {
-            // append the batch, increment the offset and reset the batch
-            writer.append(jsonBatch, offset);
-            offset += jsonBatch.length();
-            jsonBatch = new JSONArray();
-            currentBatchSize = 0;
-          }
-        }
-
-        if (jsonBatch.length() != 0) {
-          // there might be records less than JSON_STREAM_WRITER_BATCH_SIZE, append those as well
-          writer.append(jsonBatch, offset);
-        }
+    List<BigQueryJsonDataWriter> writers = new ArrayList<>(jsonWriterStreamCount);
+    try {
+      for (int i = 0; i < jsonWriterStreamCount; i++) {
+        writers.add(getBigQueryJsonDataWriter(parentTable));
+      }
 
+      try {
+        appendJsonBatches(jsonInputStream, writers);
       } catch (Exception e) {
         throw new BigQueryException("Failed to append records.", e);
       }
 
-      // Finalize the stream before committing it
-      writer.finalizeWriteStream();
+      // Finalize the streams before committing them
+      for (BigQueryJsonDataWriter writer : writers) {
+        writer.finalizeWriteStream();
+      }
+
+      return toWriteApiResponse(
+          writers.size() == 1
+              ? getCommitResponse(parentTable, writers.get(0))
+              : getCommitResponse(parentTable, writers));
+    } finally {
+      for (BigQueryJsonDataWriter writer : writers) {
+        writer.close();
+      }
+    }
+  }
 
-      BatchCommitWriteStreamsResponse commitResponse = getCommitResponse(parentTable, writer);
-      // If the response does not have a commit time, it means the commit operation failed.
-      if (!commitResponse.hasCommitTime()) {
-        for (StorageError err : commitResponse.getStreamErrorsList()) {
-          apiResponse.addError(err); // this object is returned to the user
+  private void appendJsonBatches(InputStream jsonInputStream, List<BigQueryJsonDataWriter> writers)
+      throws DescriptorValidationException,
+          IOException,
+          InterruptedException,
+          ExecutionException {
+    // Write data in batches. Ref: https://cloud.google.com/bigquery/quotas#write-api-limits
+    long[] offsets = new long[writers.size()];
+    int maxPendingBatches = 2 * jsonWriterParserThreads;
+    Deque<Future<JSONArray>> pendingBatches = new ArrayDeque<>(maxPendingBatches);
+    long batchIndex = 0;
+
+    BufferedReader jsonReader = new BufferedReader(new InputStreamReader(jsonInputStream));
+    List<String> lines = new ArrayList<>(getBatchSize());
+    String jsonLine;
+    try {
+      while (true) {
+        jsonLine = jsonReader.readLine(); // read the inputstream line by line
+        if (jsonLine != null) {
+          lines.add(jsonLine);
+        }
+        if (lines.size() == getBatchSize() || (jsonLine == null && !lines.isEmpty())) {
+          // hand the batch over for parsing, waiting for the oldest batch if too many are pending
+          if (pendingBatches.size() == maxPendingBatches) {
+            appendBatch(pendingBatches.poll().get(), writers, offsets, batchIndex++);
+          }
+          pendingBatches.add(parseJsonBatch(lines));
+          lines = new ArrayList<>(getBatchSize());
+        }
+        if (jsonLine == null) {
+          break;
         }
       }
 
-      // set isSuccessful flag to true of there were no errors
-      if (apiResponse.getErrors().isEmpty()) {
-        apiResponse.setSuccessful(true);
+      while (!pendingBatches.isEmpty()) {
+        appendBatch(pendingBatches.poll().get(), writers, offsets, batchIndex++);
       }
+    } finally {
+      // the parser threads are shared, so drop the batches of a failed write
+      pendingBatches.forEach(pending -> pending.cancel(true));
+    }
+  }
+
+  private Future<JSONArray> parseJsonBatch(List<String> lines) {
+    if (this.jsonParserExecutor == null) {
+      return CompletableFuture.completedFuture(toJsonArray(lines));
+    }
+    return this.jsonParserExecutor.submit(() -> toJsonArray(lines));
+  }
 
-      return apiResponse;
+  private static JSONArray toJsonArray(List<String> lines) {
+    JSONArray jsonBatch = new JSONArray();
+    for (String line : lines) {
+      jsonBatch.put(new JSONObject(line)); // cast the JSON string into JSON Object
     }
+    return jsonBatch;
+  }
+
+  private static void appendBatch(
+      JSONArray jsonBatch, List<BigQueryJsonDataWriter> writers, long[] offsets, long batchIndex)
+      throws DescriptorValidationException, IOException {
+    // spread batches round-robin; each stream keeps its own contiguous offsets
+    int stream = (int) (batchIndex % writers.size());
+    writers.get(stream).append(jsonBatch, offsets[stream]);
+    offsets[stream] += jsonBatch.length();
   }
 
   @VisibleForTesting
   public BatchCommitWriteStreamsResponse getCommitResponse(
       TableName parentTable, BigQueryJsonDataWriter writer) {
-    // commit the stream
+    return commitWriteStreams(parentTable, List.of(writer.getStreamName()));
+  }
+
+  @VisibleForTesting
+  public BatchCommitWriteStreamsResponse getCommitResponse(
+      TableName parentTable, List<BigQueryJsonDataWriter> writers) {
+    List<String> streamNames = new ArrayList<>(writers.size());
+    for (BigQueryJsonDataWriter writer : writers) {
+      streamNames.add(writer.getStreamName());
+    }
+    return commitWriteStreams(parentTable, streamNames);
+  }
+
+  @VisibleForTesting
+  public BigQueryProtoDataWriter getBigQueryProtoDataWriter(TableName parentTable)
+      throws DescriptorValidationException, IOException {
+    WriteStream writeStream =
+        bigQueryWriteClient.createWriteStream(
+            CreateWriteStreamRequest.newBuilder()
+                .setParent(parentTable.toString())
+                .setWriteStream(WriteStream.newBuilder().setType(WriteStream.Type.PENDING))
+                .build());
+    return new BigQueryProtoDataWriter(
+        writeStream.getName(),
+        getRowEncoder(parentTable, writeStream.getTableSchema()),
+        bigQueryWriteClient,
+        jsonWriterMaxInflightAppends);
+  }
+
+  /**
+   * Writes typed rows through the BigQuery Storage Write API in batches of {@code
+   * JSON_WRITER_BATCH_SIZE} and commits them atomically.
+   *
+   * @param tableName name of the table to write to
+   * @param rows rows to be written
+   * @return the WriteApiResponse describing the outcome of the commit
+   */
+  public WriteApiResponse getRowsWriteApiResponse(String tableName, Iterable<?> rows)
+      throws DescriptorValidationException, IOException {
+    TableName parentTable =
+        TableName.of(bigQuery.getOptions().getProjectId(), datasetName, tableName);
+
+    try (BigQueryProtoDataWriter writer = getBigQueryProtoDataWriter(parentTable)) {
+      try {
+        long offset = 0;
+        List<Object> batch = new ArrayList<>(getBatchSize());
+        for (Object row : rows) {
+          batch.add(row);
+          if (batch.size() == getBatchSize()) {
+            writer.append(batch, offset);
+            offset += batch.size();
+            batch = new ArrayList<>(getBatchSize());
+          }
+        }
+        if (!batch.isEmpty()) {
+          writer.append(batch, offset);
+        }
+      } catch (Exception e) {
+        throw new BigQueryException("Failed to append records.", e);
+      }
+
+      // Finalize the stream before committing it
+      writer.finalizeWriteStream();
+
+      return toWriteApiResponse(
+          commitWriteStreams(parentTable, List.of(writer.getStreamName())));
+    }
+  }
+
+  private BatchCommitWriteStreamsResponse commitWriteStreams(
+      TableName parentTable, List<String> streamNames) {
+    // commit the streams
     BatchCommitWriteStreamsRequest commitRequest =
         BatchCommitWriteStreamsRequest.newBuilder()
             .setParent(parentTable.toString())
-            .addWriteStreams(writer.getStreamName())
+            .addAllWriteStreams(streamNames)
             .build();
     return bigQueryWriteClient.batchCommitWriteStreams(commitRequest);
   }
 
+  private static WriteApiResponse toWriteApiResponse(
+      BatchCommitWriteStreamsResponse commitResponse) {
+    WriteApiResponse apiResponse = new WriteApiResponse();
+    // If the response does not have a commit time, it means the commit operation failed.
+    if (!commitResponse.hasCommitTime()) {
+      for (StorageError err : commitResponse.getStreamErrorsList()) {
+        apiResponse.addError(err); // this object is returned to the user
+      }
+    }
+
+    // set isSuccessful flag to true of there were no errors
+    if (apiResponse.getErrors().isEmpty()) {
+      apiResponse.setSuccessful(true);
+    }
+    return apiResponse;
+  }
+
+  /**
+   * Returns the encoder compiled for the table, compiling it again only when the schema of the
+   * table has changed.
+   */
+  private BigQueryRowEncoder getRowEncoder(TableName parentTable, TableSchema tableSchema)
+      throws DescriptorValidationException {
+    BigQueryRowEncoder rowEncoder = rowEncoders.get(parentTable.toString());
+    if (rowEncoder == null || !rowEncoder.getTableSchema().equals(tableSchema)) {
+      rowEncoder = BigQueryRowEncoder.compile(tableSchema);
+      rowEncoders.put(parentTable.toString(), rowEncoder);
+    }
+    return rowEncoder;
+  }
+
   /**
    * This method ensures that we use the DEFAULT_JSON_STREAM_WRITER_BATCH_SIZE if the user doesn't
    * set this property or if they set it too low.
    *
    * @return jsonWriterBatchSize
    */
-  private int getBatchSize() {
+  int getBatchSize() {
     return jsonWriterBatchSize > MIN_JSON_STREAM_WRITER_BATCH_SIZE
         ? jsonWriterBatchSize
         : DEFAULT_JSON_STREAM_WRITER_BATCH_SIZE;
   }
 
+  int getMaxInflightAppends() {
+    return jsonWriterMaxInflightAppends > 0
+        ? jsonWriterMaxInflightAppends
+        : DEFAULT_JSON_WRITER_MAX_INFLIGHT_APPENDS;
+  }
+
+  TableName getTableName(String tableName) {
+    return TableName.of(bigQuery.getOptions().getProjectId(), datasetName, tableName);
+  }
+
   // @return the name of the BigQuery dataset that the template is operating in.
   public String getDatasetName() {
     return this.datasetName;
@@ -379,6 +683,16 @@ public class BigQueryTemplate implements BigQueryOperations {
     return this.jsonWriterBatchSize;
   }
 
+  // @return the number of threads parsing JSON lines in writeJsonStream.
+  public int getJsonWriterParserThreads() {
+    return this.jsonWriterParserThreads;
+  }
+
+  // @return the number of pending write streams writeJsonStream spreads batches across.
+  public int getJsonWriterStreamCount() {
+    return this.jsonWriterStreamCount;
+  }
+
   private CompletableFuture<Job> createJobFuture(Job pendingJob) {
     // Prepare the polling task for the CompletableFuture result returned to end-user
     CompletableFuture<Job> result = new CompletableFuture<>();
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.bigquery.core;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.bigquery.storage.v1.AppendRowsResponse;
+import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
+import com.google.cloud.bigquery.storage.v1.Exceptions;
+import com.google.cloud.bigquery.storage.v1.Exceptions.StorageException;
+import com.google.cloud.bigquery.storage.v1.FinalizeWriteStreamResponse;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.Semaphore;
+import javax.annotation.concurrent.GuardedBy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Appends batches to a pending write stream and keeps the bookkeeping shared by the data writers:
+ * the bound on in-flight appends, the first append failure and the wait for outstanding responses
+ * before the stream is finalized.
+ *
+ * @param <T> the type of the batches appended to the stream
+ * @param <E> the checked exception thrown by the stream writer when appending
+ */
+final class PendingStreamAppender<T, E extends Exception> {
+
+  private static final Logger logger = LoggerFactory.getLogger(PendingStreamAppender.class);
+
+  private final RowsAppender<T, E> rowsAppender;
+
+  private final BigQueryWriteClient bigQueryWriteClient;
+
+  // Track the number of in-flight requests to wait for all responses before shutting down.
+  private final Phaser inflightRequestCount = new Phaser(1);
+
+  // Bounds the number of appends awaiting a response; null if unbounded.
+  private final Semaphore inflightAppends;
+
+  private final Object lock = new Object();
+
+  @GuardedBy("lock")
+  private RuntimeException error = null;
+
+  /**
+   * Creates an appender.
+   *
+   * @param rowsAppender sends a batch to the stream writer
+   * @param bigQueryWriteClient the client used to finalize the stream
+   * @param maxInflightAppends maximum number of appends awaiting a response before {@link
+   *     #append(Object, long)} blocks; zero or less for no limit
+   */
+  PendingStreamAppender(
+      RowsAppender<T, E> rowsAppender,
+      BigQueryWriteClient bigQueryWriteClient,
+      int maxInflightAppends) {
+    this.rowsAppender = rowsAppender;
+    this.bigQueryWriteClient = bigQueryWriteClient;
+    this.inflightAppends = maxInflightAppends > 0 ? new Semaphore(maxInflightAppends) : null;
+  }
+
+  /**
+   * Throws the first failure of an earlier append, if any.
+   *
+   * @throws RuntimeException the failure of an earlier append
+   */
+  void checkError() {
+    synchronized (this.lock) {
+      // If earlier appends have failed, we need to reset before continuing.
+      if (this.error != null) {
+        throw this.error;
+      }
+    }
+  }
+
+  /**
+   * Appends a batch asynchronously. Blocks while the configured maximum number of appends are
+   * awaiting a response.
+   *
+   * @param rows the batch to be appended
+   * @param offset offset at which data has to be added
+   */
+  void append(T rows, long offset) throws E, IOException {
+    checkError();
+    if (this.inflightAppends != null) {
+      try {
+        this.inflightAppends.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for in-flight appends.");
+      }
+    }
+    // Increase the count of in-flight requests before the callback can possibly run.
+    this.inflightRequestCount.register();
+    ApiFuture<AppendRowsResponse> future;
+    try {
+      // Append asynchronously for increased throughput.
+      future = this.rowsAppender.append(rows, offset);
+    } catch (Exception e) {
+      done();
+      throw e;
+    }
+    ApiFutures.addCallback(future, new AppendCompleteCallback(), MoreExecutors.directExecutor());
+  }
+
+  /**
+   * Waits for all in-flight appends, then finalizes the stream.
+   *
+   * @param streamName the name of the stream to finalize
+   * @throws RuntimeException the failure of an earlier append
+   */
+  void finalizeWriteStream(String streamName) {
+    // Wait for all in-flight requests to complete.
+    this.inflightRequestCount.arriveAndAwaitAdvance();
+
+    // Verify that no error occurred in the stream.
+    checkError();
+
+    // Finalize the stream.
+    FinalizeWriteStreamResponse finalizeResponse =
+        this.bigQueryWriteClient.finalizeWriteStream(streamName);
+    logger.info("Rows written: {}", finalizeResponse.getRowCount());
+  }
+
+  private void done() {
+    // Reduce the count of in-flight requests.
+    if (this.inflightAppends != null) {
+      this.inflightAppends.release();
+    }
+    this.inflightRequestCount.arriveAndDeregister();
+  }
+
+  /**
+   * Sends a batch to a stream writer.
+   *
+   * @param <T> the type of the batch
+   * @param <E> the checked exception thrown by the stream writer
+   */
+  @FunctionalInterface
+  interface RowsAppender<T, E extends Exception> {
+
+    ApiFuture<AppendRowsResponse> append(T rows, long offset) throws E, IOException;
+  }
+
+  private class AppendCompleteCallback implements ApiFutureCallback<AppendRowsResponse> {
+
+    @Override
+    public void onSuccess(AppendRowsResponse response) {
+      logger.debug("Append {} success", response.getAppendResult().getOffset().getValue());
+      done();
+    }
+
+    @Override
+    public void onFailure(Throwable throwable) {
+      String errMsg = null;
+      synchronized (lock) {
+        if (error == null) {
+          StorageException storageException = Exceptions.toStorageException(throwable);
+          error = (storageException != null) ? storageException : new RuntimeException(throwable);
+          errMsg = error.getMessage();
+        }
+      }
+      logger.warn("Error: {}", errMsg);
+      done();
+    }
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.bigquery.core;
+
+import com.google.cloud.bigquery.storage.v1.AppendRowsResponse;
+
+/** The outcome of appending one batch of rows through the BigQuery Storage Write API. */
+public class WriteBatchResult {
+
+  private final int rowCount;
+
+  private final long serializedBytes;
+
+  private final AppendRowsResponse response;
+
+  public WriteBatchResult(int rowCount, long serializedBytes, AppendRowsResponse response) {
+    this.rowCount = rowCount;
+    this.serializedBytes = serializedBytes;
+    this.response = response;
+  }
+
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  public long getSerializedBytes() {
+    return serializedBytes;
+  }
+
+  public AppendRowsResponse getResponse() {
+    return response;
+  }
+}
@@ -27,12 +27,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.api.core.ApiFutures;
 import com.google.cloud.ServiceOptions;
 import com.google.cloud.bigquery.BigQuery;
 import com.google.cloud.bigquery.BigQueryOptions;
@@ -42,28 +45,44 @@ import com.google.cloud.bigquery.StandardSQLTypeName;
 import com.google.cloud.bigquery.Table;
 import com.google.cloud.bigquery.spi.BigQueryRpcFactory;
 import com.google.cloud.bigquery.spi.v2.HttpBigQueryRpc;
+import com.google.cloud.bigquery.storage.v1.AppendRowsResponse;
+import com.google.cloud.bigquery.storage.v1.BatchCommitWriteStreamsRequest;
 import com.google.cloud.bigquery.storage.v1.BatchCommitWriteStreamsResponse;
 import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
+import com.google.cloud.bigquery.storage.v1.ProtoRows;
 import com.google.cloud.bigquery.storage.v1.StorageError;
+import com.google.cloud.bigquery.storage.v1.StreamWriter;
+import com.google.cloud.bigquery.storage.v1.TableFieldSchema;
 import com.google.cloud.bigquery.storage.v1.TableName;
+import com.google.cloud.bigquery.storage.v1.TableSchema;
 import com.google.cloud.spring.bigquery.core.BigQueryJsonDataWriter;
+import com.google.cloud.spring.bigquery.core.BigQueryProtoDataWriter;
+import com.google.cloud.spring.bigquery.core.BigQueryReactiveWriter;
+import com.google.cloud.spring.bigquery.core.BigQueryRowEncoder;
 import com.google.cloud.spring.bigquery.core.BigQueryTemplate;
 import com.google.cloud.spring.bigquery.core.WriteApiResponse;
+import com.google.cloud.spring.bigquery.core.WriteBatchResult;
 import com.google.protobuf.Descriptors.DescriptorValidationException;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import org.json.JSONArray;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
 
 @ExtendWith(MockitoExtension.class)
 class BigQueryTemplateTest {
@@ -375,4 +394,113 @@ class BigQueryTemplateTest {
 
     verify(writer).close();
   }
+
+  @Test
+  void testParallelParsingAcrossStreams() throws Exception {
+    Map<String, Object> settings = new HashMap<>(bqInitSettings);
+    settings.put("JSON_WRITER_BATCH_SIZE", 11);
+    settings.put("JSON_WRITER_PARSER_THREADS", 3);
+    settings.put("JSON_WRITER_STREAM_COUNT", 2);
+    BigQueryTemplate template =
+        Mockito.spy(
+            new BigQueryTemplate(
+                bigquery, bigQueryWriteClientMock, settings, getThreadPoolTaskScheduler()));
+    BigQueryJsonDataWriter firstWriter = mock(BigQueryJsonDataWriter.class);
+    BigQueryJsonDataWriter secondWriter = mock(BigQueryJsonDataWriter.class);
+    doReturn(firstWriter, secondWriter)
+        .when(template)
+        .getBigQueryJsonDataWriter(any(TableName.class));
+    doReturn(BatchCommitWriteStreamsResponse.getDefaultInstance())
+        .when(template)
+        .getCommitResponse(any(TableName.class), anyList());
+
+    StringBuilder json = new StringBuilder();
+    for (int i = 0; i < 30; i++) {
+      json.append("{\"SerialNumber\":").append(i).append("}\n");
+    }
+    WriteApiResponse apiRes =
+        template.getWriteApiResponse(TABLE, new ByteArrayInputStream(json.toString().getBytes()));
+
+    assertThat(apiRes.isSuccessful()).isTrue();
+    ArgumentCaptor<JSONArray> firstBatches = ArgumentCaptor.forClass(JSONArray.class);
+    verify(firstWriter).append(firstBatches.capture(), eq(0L));
+    verify(firstWriter).append(firstBatches.capture(), eq(11L));
+    assertThat(firstBatches.getAllValues().get(0).getJSONObject(0).getInt("SerialNumber"))
+        .isZero();
+    assertThat(firstBatches.getAllValues().get(1).getJSONObject(0).getInt("SerialNumber"))
+        .isEqualTo(22);
+    assertThat(firstBatches.getAllValues().get(1).length()).isEqualTo(8);
+    ArgumentCaptor<JSONArray> secondBatches = ArgumentCaptor.forClass(JSONArray.class);
+    verify(secondWriter).append(secondBatches.capture(), eq(0L));
+    assertThat(secondBatches.getValue().getJSONObject(0).getInt("SerialNumber")).isEqualTo(11);
+    verify(template)
+        .getCommitResponse(any(TableName.class), eq(List.of(firstWriter, secondWriter)));
+    verify(firstWriter).finalizeWriteStream();
+    verify(secondWriter).finalizeWriteStream();
+  }
+
+  @Test
+  void writeRowsTest() throws Exception {
+    Map<String, Object> settings = new HashMap<>(bqInitSettings);
+    settings.put("JSON_WRITER_BATCH_SIZE", 11);
+    BigQueryTemplate template =
+        Mockito.spy(
+            new BigQueryTemplate(
+                bigquery, bigQueryWriteClientMock, settings, getThreadPoolTaskScheduler()));
+    BigQueryProtoDataWriter writer = mock(BigQueryProtoDataWriter.class);
+    when(writer.getStreamName()).thenReturn("stream");
+    doReturn(writer).when(template).getBigQueryProtoDataWriter(any(TableName.class));
+    when(bigQueryWriteClientMock.batchCommitWriteStreams(any(BatchCommitWriteStreamsRequest.class)))
+        .thenReturn(BatchCommitWriteStreamsResponse.getDefaultInstance());
+
+    List<Map<String, Object>> rows = new ArrayList<>();
+    for (int i = 0; i < 15; i++) {
+      rows.add(Map.of("SerialNumber", i));
+    }
+    WriteApiResponse apiRes = template.writeRows(TABLE, rows).get();
+
+    assertThat(apiRes.isSuccessful()).isTrue();
+    verify(writer).append(rows.subList(0, 11), 0L);
+    verify(writer).append(rows.subList(11, 15), 11L);
+    verify(writer).finalizeWriteStream();
+    verify(writer).close();
+  }
+
+  @Test
+  void writeRowStreamTest() throws Exception {
+    Map<String, Object> settings = new HashMap<>(bqInitSettings);
+    settings.put("JSON_WRITER_BATCH_SIZE", 11);
+    BigQueryTemplate template =
+        Mockito.spy(
+            new BigQueryTemplate(
+                bigquery, bigQueryWriteClientMock, settings, getThreadPoolTaskScheduler()));
+    BigQueryRowEncoder rowEncoder =
+        BigQueryRowEncoder.compile(
+            TableSchema.newBuilder()
+                .addFields(
+                    TableFieldSchema.newBuilder()
+                        .setName("SerialNumber")
+                        .setType(TableFieldSchema.Type.INT64)
+                        .setMode(TableFieldSchema.Mode.NULLABLE))
+                .build());
+    StreamWriter streamWriter = mock(StreamWriter.class);
+    when(streamWriter.append(any(ProtoRows.class)))
+        .thenReturn(ApiFutures.immediateFuture(AppendRowsResponse.getDefaultInstance()));
+    doReturn(rowEncoder).when(template).getDefaultStreamRowEncoder(any(TableName.class));
+    doReturn(streamWriter)
+        .when(template)
+        .createDefaultStreamWriter(any(TableName.class), any(BigQueryRowEncoder.class));
+
+    Flux<Map<String, Object>> rows =
+        Flux.range(0, 15).map(i -> Map.<String, Object>of("SerialNumber", i));
+
+    StepVerifier.create(
+            new BigQueryReactiveWriter(template)
+                .writeRowStream(TABLE, rows)
+                .map(WriteBatchResult::getRowCount))
+        .expectNext(11, 4)
+        .verifyComplete();
+    verify(streamWriter, Mockito.times(2)).append(any(ProtoRows.class));
+    verify(streamWriter, Mockito.timeout(1000)).close();
+  }
 }
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.bigquery.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.cloud.bigquery.storage.v1.BigDecimalByteStringEncoder;
+import com.google.cloud.bigquery.storage.v1.TableFieldSchema;
+import com.google.cloud.bigquery.storage.v1.TableSchema;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.DynamicMessage;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link BigQueryRowEncoder}. */
+class BigQueryRowEncoderTests {
+
+  private static final TableSchema TABLE_SCHEMA =
+      TableSchema.newBuilder()
+          .addFields(field("Name", TableFieldSchema.Type.STRING))
+          .addFields(field("Age", TableFieldSchema.Type.INT64))
+          .addFields(field("Active", TableFieldSchema.Type.BOOL))
+          .addFields(field("Score", TableFieldSchema.Type.DOUBLE))
+          .addFields(field("Balance", TableFieldSchema.Type.NUMERIC))
+          .addFields(field("Birthday", TableFieldSchema.Type.DATE))
+          .addFields(field("Created", TableFieldSchema.Type.TIMESTAMP))
+          .addFields(
+              field("Tags", TableFieldSchema.Type.STRING).toBuilder()
+                  .setMode(TableFieldSchema.Mode.REPEATED))
+          .addFields(
+              field("Address", TableFieldSchema.Type.STRUCT).toBuilder()
+                  .addFields(field("City", TableFieldSchema.Type.STRING)))
+          .build();
+
+  private final BigQueryRowEncoder encoder = BigQueryRowEncoder.compile(TABLE_SCHEMA);
+
+  BigQueryRowEncoderTests() throws Exception {}
+
+  @Test
+  void testEncodeMap() throws Exception {
+    Map<String, Object> row = new HashMap<>();
+    row.put("Name", "Ada");
+    row.put("age", 36);
+    row.put("Active", true);
+    row.put("Score", 9.5);
+    row.put("Balance", new BigDecimal("12.34"));
+    row.put("Birthday", LocalDate.of(1815, 12, 10));
+    row.put("Created", Instant.ofEpochSecond(1, 500_000));
+    row.put("Tags", List.of("math", "engines"));
+    row.put("Address", Map.of("City", "London"));
+
+    DynamicMessage message = decode(this.encoder.encode(row));
+
+    assertThat(get(message, "name")).isEqualTo("Ada");
+    assertThat(get(message, "age")).isEqualTo(36L);
+    assertThat(get(message, "active")).isEqualTo(true);
+    assertThat(get(message, "score")).isEqualTo(9.5);
+    assertThat(get(message, "balance"))
+        .isEqualTo(BigDecimalByteStringEncoder.encodeToNumericByteString(new BigDecimal("12.34")));
+    assertThat(get(message, "birthday"))
+        .isEqualTo((int) LocalDate.of(1815, 12, 10).toEpochDay());
+    assertThat(get(message, "created")).isEqualTo(1_000_500L);
+    assertThat(get(message, "tags")).isEqualTo(List.of("math", "engines"));
+    DynamicMessage address = (DynamicMessage) get(message, "address");
+    assertThat(get(address, "city")).isEqualTo("London");
+  }
+
+  @Test
+  void testEncodeRecordAndBean() throws Exception {
+    DynamicMessage fromRecord =
+        decode(this.encoder.encode(new Person("Ada", 36L, new Address("London"))));
+    Bean bean = new Bean();
+    bean.setName("Ada");
+    bean.setAge(36L);
+    DynamicMessage fromBean = decode(this.encoder.encode(bean));
+
+    assertThat(get(fromRecord, "name")).isEqualTo("Ada");
+    assertThat(get(fromRecord, "age")).isEqualTo(36L);
+    assertThat(get((DynamicMessage) get(fromRecord, "address"), "city")).isEqualTo("London");
+    assertThat(get(fromBean, "name")).isEqualTo("Ada");
+    assertThat(get(fromBean, "age")).isEqualTo(36L);
+    assertThat(fromBean.hasField(field(fromBean, "address"))).isFalse();
+  }
+
+  @Test
+  void testUnsupportedValue() {
+    assertThatThrownBy(() -> this.encoder.encode(Map.of("Birthday", "yesterday")))
+        .isInstanceOf(BigQueryException.class)
+        .hasMessageContaining("Birthday");
+  }
+
+  @Test
+  void testStringColumnAcceptsOnlyTextAndEnums() throws Exception {
+    DynamicMessage message =
+        decode(
+            this.encoder.encode(
+                Map.of("Name", new StringBuilder("Ada"), "Tags", List.of(Tag.MATH))));
+
+    assertThat(get(message, "name")).isEqualTo("Ada");
+    assertThat(get(message, "tags")).isEqualTo(List.of("MATH"));
+    assertThatThrownBy(() -> this.encoder.encode(Map.of("Name", 42)))
+        .isInstanceOf(BigQueryException.class)
+        .hasMessageContaining("Name");
+  }
+
+  private DynamicMessage decode(ByteString bytes) throws Exception {
+    return DynamicMessage.parseFrom(this.encoder.getDescriptor(), bytes);
+  }
+
+  private static Object get(DynamicMessage message, String name) {
+    return message.getField(field(message, name));
+  }
+
+  private static FieldDescriptor field(DynamicMessage message, String name) {
+    return message.getDescriptorForType().findFieldByName(name);
+  }
+
+  private static TableFieldSchema field(String name, TableFieldSchema.Type type) {
+    return TableFieldSchema.newBuilder()
+        .setName(name)
+        .setType(type)
+        .setMode(TableFieldSchema.Mode.NULLABLE)
+        .build();
+  }
+
+  record Person(String name, Long age, Address address) {}
+
+  record Address(String city) {}
+
+  enum Tag {
+    MATH
+  }
+
+  /** A JavaBean row. */
+  static class Bean {
+
+    private String name;
+
+    private Long age;
+
+    public String getName() {
+      return this.name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public Long getAge() {
+      return this.age;
+    }
+
+    public void setAge(Long age) {
+      this.age = age;
+    }
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.bigquery.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.cloud.bigquery.storage.v1.AppendRowsResponse;
+import com.google.cloud.bigquery.storage.v1.ProtoRows;
+import com.google.cloud.bigquery.storage.v1.StreamWriter;
+import com.google.cloud.bigquery.storage.v1.TableFieldSchema;
+import com.google.cloud.bigquery.storage.v1.TableSchema;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.scheduling.TaskScheduler;
+
+/** Tests for {@link BigQueryStreamingWriter}. */
+class BigQueryStreamingWriterTests {
+
+  private final StreamWriter firstConnection = mock(StreamWriter.class);
+
+  private final StreamWriter secondConnection = mock(StreamWriter.class);
+
+  private BigQueryStreamingWriter writer;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    TableSchema tableSchema =
+        TableSchema.newBuilder()
+            .addFields(
+                TableFieldSchema.newBuilder()
+                    .setName("name")
+                    .setType(TableFieldSchema.Type.STRING)
+                    .setMode(TableFieldSchema.Mode.NULLABLE))
+            .build();
+    this.writer =
+        new BigQueryStreamingWriter(
+            BigQueryRowEncoder.compile(tableSchema),
+            List.of(this.firstConnection, this.secondConnection),
+            mock(TaskScheduler.class),
+            Duration.ofSeconds(1));
+    this.writer.setMaxBatchRows(2);
+  }
+
+  @Test
+  void testCoalescesRowsAcrossConnections() {
+    when(this.firstConnection.append(any(ProtoRows.class)))
+        .thenReturn(ApiFutures.immediateFuture(AppendRowsResponse.getDefaultInstance()));
+    when(this.secondConnection.append(any(ProtoRows.class)))
+        .thenReturn(ApiFutures.immediateFuture(AppendRowsResponse.getDefaultInstance()));
+
+    CompletableFuture<Void> first = this.writer.write(Map.of("name", "a"));
+    assertThat(first).isNotDone();
+    assertThat(this.writer.getPendingRowCount()).isOne();
+
+    CompletableFuture<Void> second = this.writer.write(Map.of("name", "b"));
+    CompletableFuture<Void> third = this.writer.write(Map.of("name", "c"));
+
+    assertThat(first).isCompleted();
+    assertThat(second).isCompleted();
+    assertThat(third).isNotDone();
+    ArgumentCaptor<ProtoRows> rows = ArgumentCaptor.forClass(ProtoRows.class);
+    verify(this.firstConnection).append(rows.capture());
+    assertThat(rows.getValue().getSerializedRowsCount()).isEqualTo(2);
+    verify(this.secondConnection, never()).append(any(ProtoRows.class));
+
+    this.writer.flush().join();
+
+    assertThat(third).isCompleted();
+    verify(this.secondConnection).append(any(ProtoRows.class));
+    assertThat(this.writer.getAppendedRowCount()).isEqualTo(3);
+    assertThat(this.writer.getPendingRowCount()).isZero();
+  }
+
+  @Test
+  void testInflightAndFailedMetrics() {
+    SettableApiFuture<AppendRowsResponse> response = SettableApiFuture.create();
+    when(this.firstConnection.append(any(ProtoRows.class))).thenReturn(response);
+
+    this.writer.write(Map.of("name", "a"));
+    CompletableFuture<Void> row = this.writer.write(Map.of("name", "b"));
+
+    assertThat(this.writer.getInflightAppendCount()).isOne();
+    assertThat(this.writer.getInflightRowCount()).isEqualTo(2);
+
+    response.setException(new IllegalStateException("boom"));
+
+    assertThat(row).isCompletedExceptionally();
+    assertThat(this.writer.getInflightAppendCount()).isZero();
+    assertThat(this.writer.getFailedRowCount()).isEqualTo(2);
+  }
+
+  @Test
+  void testCloseFlushesAndClosesConnections() {
+    when(this.firstConnection.append(any(ProtoRows.class)))
+        .thenReturn(ApiFutures.immediateFuture(AppendRowsResponse.getDefaultInstance()));
+
+    CompletableFuture<Void> row = this.writer.write(Map.of("name", "a"));
+    this.writer.close();
+
+    assertThat(row).isCompleted();
+    verify(this.firstConnection, times(1)).close();
+    verify(this.secondConnection, times(1)).close();
+  }
+}
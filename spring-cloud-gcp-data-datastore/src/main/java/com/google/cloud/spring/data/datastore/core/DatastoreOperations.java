@@ -26,6 +26,7 @@ import com.google.cloud.spring.data.datastore.core.convert.DatastoreEntityConver
 import java.util.Collection;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -148,6 +149,27 @@ public interface DatastoreOperations {
    */
   long deleteAll(Class<?> entityClass);
 
+  /**
+   * Delete all entities of a given domain type. Keys are read page by page with a cursor and
+   * deleted in slices, so the keys of the whole kind are never held in memory at once. Delete
+   * events are published once per slice.
+   *
+   * <p>The default implementation delegates to {@link #deleteAll(Class)} and reports the progress
+   * once, after all entities are deleted.
+   *
+   * @param entityClass the domain type to delete from Cloud Datastore.
+   * @param progressListener called after every deleted slice with the number of entities deleted
+   *     so far. Can be {@code null}.
+   * @return the number of entities that were deleted.
+   */
+  default long deleteAll(Class<?> entityClass, LongConsumer progressListener) {
+    long deleted = deleteAll(entityClass);
+    if (progressListener != null) {
+      progressListener.accept(deleted);
+    }
+    return deleted;
+  }
+
   /**
    * Count all occurrences of entities of the given domain type.
    *
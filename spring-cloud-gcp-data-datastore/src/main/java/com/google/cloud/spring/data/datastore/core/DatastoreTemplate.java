@@ -61,20 +61,28 @@ import com.google.cloud.spring.data.datastore.core.util.SliceUtil;
 import com.google.cloud.spring.data.datastore.core.util.ValueUtil;
 import com.google.cloud.spring.data.datastore.repository.query.DatastorePageable;
 import com.google.common.collect.Iterables;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -107,8 +115,17 @@ import org.springframework.util.TypeUtils;
 @ImportRuntimeHints(DatastoreCoreRuntimeHints.class)
 public class DatastoreTemplate implements DatastoreOperations, ApplicationEventPublisherAware {
 
+  /** The maximum number of keys requested in a single lookup while prefetching references. */
+  private static final int MAX_LOOKUP_SIZE = 1000;
+
   private int maxWriteSize = 500;
 
+  private @Nullable Executor descendantQueryExecutor;
+
+  private @Nullable Executor deleteExecutor;
+
+  private int maxConcurrentDeletes = 4;
+
   private final Supplier<? extends DatastoreReaderWriter> datastore;
 
   private final DatastoreEntityConverter datastoreEntityConverter;
@@ -144,6 +161,41 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
     this.eventPublisher = applicationEventPublisher;
   }
 
+  /**
+   * Sets the executor used to run the ancestor queries of {@code @Descendants} properties
+   * concurrently while reading. Queries run sequentially on the calling thread when no executor is
+   * set or when a transaction is active.
+   *
+   * @param descendantQueryExecutor the executor for descendant queries, or {@code null} to run
+   *     them sequentially.
+   */
+  public void setDescendantQueryExecutor(@Nullable Executor descendantQueryExecutor) {
+    this.descendantQueryExecutor = descendantQueryExecutor;
+  }
+
+  /**
+   * Sets the executor used by {@link #deleteAll(Class, LongConsumer)} to delete slices of keys
+   * concurrently with reading the next page of keys. Slices are deleted sequentially on the
+   * calling thread when no executor is set or when a transaction is active.
+   *
+   * @param deleteExecutor the executor for slice deletes, or {@code null} to delete sequentially.
+   */
+  public void setDeleteExecutor(@Nullable Executor deleteExecutor) {
+    this.deleteExecutor = deleteExecutor;
+  }
+
+  /**
+   * Sets the maximum number of slices that {@link #deleteAll(Class, LongConsumer)} deletes
+   * concurrently when a delete executor is set. Defaults to 4.
+   *
+   * @param maxConcurrentDeletes the maximum number of in-flight slice deletes.
+   */
+  public void setMaxConcurrentDeletes(int maxConcurrentDeletes) {
+    Assert.isTrue(
+        maxConcurrentDeletes > 0, "The maximum number of concurrent deletes must be positive.");
+    this.maxConcurrentDeletes = maxConcurrentDeletes;
+  }
+
   @Override
   public <T> T findById(Object id, Class<T> entityClass) {
     Iterator<T> results = performFindByKey(Collections.singleton(id), entityClass).iterator();
@@ -243,14 +295,80 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
 
   @Override
   public long deleteAll(Class<?> entityClass) {
-    Key[] keysToDelete = findAllKeys(entityClass);
-    performDelete(keysToDelete, null, null, entityClass);
-    return keysToDelete.length;
+    return deleteAll(entityClass, null);
+  }
+
+  @Override
+  public long deleteAll(Class<?> entityClass, @Nullable LongConsumer progressListener) {
+    DatastoreReaderWriter datastoreReaderWriter = getDatastoreReadWriter();
+    boolean concurrent =
+        this.deleteExecutor != null
+            && this.maxConcurrentDeletes > 1
+            && !TransactionSynchronizationManager.isActualTransactionActive();
+    Semaphore permits = new Semaphore(this.maxConcurrentDeletes);
+    List<CompletableFuture<Void>> pendingDeletes = new ArrayList<>();
+    AtomicLong deletedCount = new AtomicLong();
+
+    String kind = getPersistentEntity(entityClass).kindName();
+    Cursor cursor = null;
+    do {
+      KeyQuery.Builder queryBuilder =
+          Query.newKeyQueryBuilder().setKind(kind).setLimit(this.maxWriteSize);
+      if (cursor != null) {
+        queryBuilder.setStartCursor(cursor);
+      }
+      QueryResults<Key> results = datastoreReaderWriter.run(queryBuilder.build());
+      List<Key> page = new ArrayList<>();
+      results.forEachRemaining(page::add);
+      cursor = page.size() < this.maxWriteSize ? null : results.getCursorAfter();
+      if (page.isEmpty()) {
+        break;
+      }
+
+      Key[] slice = page.toArray(new Key[0]);
+      Runnable deleteSlice =
+          () -> {
+            performDelete(datastoreReaderWriter, slice, null, null, entityClass);
+            long deleted = deletedCount.addAndGet(slice.length);
+            if (progressListener != null) {
+              progressListener.accept(deleted);
+            }
+          };
+      if (concurrent) {
+        // Keep failed deletes so that the failure is rethrown below, and stop paging after one.
+        pendingDeletes.removeIf(future -> future.isDone() && !future.isCompletedExceptionally());
+        if (pendingDeletes.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+          break;
+        }
+        permits.acquireUninterruptibly();
+        pendingDeletes.add(
+            CompletableFuture.runAsync(deleteSlice, this.deleteExecutor)
+                .whenComplete((unused, ex) -> permits.release()));
+      } else {
+        deleteSlice.run();
+      }
+    } while (cursor != null);
+
+    try {
+      CompletableFuture.allOf(pendingDeletes.toArray(new CompletableFuture[0])).join();
+    } catch (CompletionException ex) {
+      throw ex.getCause() instanceof RuntimeException runtimeException ? runtimeException : ex;
+    }
+    return deletedCount.get();
   }
 
   private void performDelete(Key[] keys, Iterable ids, Iterable entities, Class entityClass) {
+    performDelete(getDatastoreReadWriter(), keys, ids, entities, entityClass);
+  }
+
+  private void performDelete(
+      DatastoreReaderWriter datastoreReaderWriter,
+      Key[] keys,
+      Iterable ids,
+      Iterable entities,
+      Class entityClass) {
     maybeEmitEvent(new BeforeDeleteEvent(keys, entityClass, ids, entities));
-    SliceUtil.sliceAndExecute(keys, this.maxWriteSize, getDatastoreReadWriter()::delete);
+    SliceUtil.sliceAndExecute(keys, this.maxWriteSize, datastoreReaderWriter::delete);
     maybeEmitEvent(new AfterDeleteEvent(keys, entityClass, ids, entities));
   }
 
@@ -689,6 +807,8 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
       return Collections.emptyList();
     }
 
+    prefetchReferencesAndDescendants(keys, entityClass, context);
+
     return keys.stream()
         .map(key -> convertEntityResolveDescendantsAndReferences(entityClass, key, context))
         .filter(Objects::nonNull)
@@ -828,30 +948,14 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
         descendantPersistentProperty -> {
           Class descendantType = descendantPersistentProperty.getComponentType();
 
-          Key entityKey = (Key) entity.getKey();
-          Key ancestorKey = KeyUtil.getKeyWithoutAncestors(entityKey);
-
-          DatastorePersistentEntity descendantEntityType =
-              this.datastoreMappingContext.getPersistentEntity(descendantType);
-
-          Filter ancestorFilter =
-              descendantEntityType.getDiscriminationFieldName() != null
-                  ? StructuredQuery.CompositeFilter.and(
-                      PropertyFilter.eq(
-                          descendantEntityType.getDiscriminationFieldName(),
-                          descendantEntityType.getDiscriminatorValue()),
-                      PropertyFilter.hasAncestor(ancestorKey))
-                  : PropertyFilter.hasAncestor(ancestorKey);
-
-          EntityQuery descendantQuery =
-              Query.newEntityQueryBuilder()
-                  .setKind(descendantEntityType.kindName())
-                  .setFilter(ancestorFilter)
-                  .build();
+          EntityQuery descendantQuery = getDescendantQuery(descendantPersistentProperty, entity);
 
+          List<BaseKey> prefetchedKeys = context.getDescendantKeys(descendantQuery);
           List entities =
-              convertEntitiesForRead(
-                  getDatastoreReadWriter().run(descendantQuery), descendantType, context);
+              prefetchedKeys != null
+                  ? convertEntitiesForRead(prefetchedKeys, descendantType, context)
+                  : convertEntitiesForRead(
+                      getDatastoreReadWriter().run(descendantQuery), descendantType, context);
 
           datastorePersistentEntity
               .getPropertyAccessor(convertedObject)
@@ -865,6 +969,180 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
         });
   }
 
+  private EntityQuery getDescendantQuery(
+      DatastorePersistentProperty descendantPersistentProperty, BaseEntity entity) {
+    Key entityKey = (Key) entity.getKey();
+    Key ancestorKey = KeyUtil.getKeyWithoutAncestors(entityKey);
+
+    DatastorePersistentEntity descendantEntityType =
+        this.datastoreMappingContext.getPersistentEntity(
+            descendantPersistentProperty.getComponentType());
+
+    Filter ancestorFilter =
+        descendantEntityType.getDiscriminationFieldName() != null
+            ? StructuredQuery.CompositeFilter.and(
+                PropertyFilter.eq(
+                    descendantEntityType.getDiscriminationFieldName(),
+                    descendantEntityType.getDiscriminatorValue()),
+                PropertyFilter.hasAncestor(ancestorKey))
+            : PropertyFilter.hasAncestor(ancestorKey);
+
+    return Query.newEntityQueryBuilder()
+        .setKind(descendantEntityType.kindName())
+        .setFilter(ancestorFilter)
+        .build();
+  }
+
+  /**
+   * Loads the raw entities that the given entities eagerly reference or own as descendants into the
+   * read context, breadth-first. Each level of the object graph costs one batched lookup for all of
+   * its references plus its descendant queries, instead of one lookup and one query per converted
+   * entity. Entities that were already visited with this context are skipped.
+   */
+  private void prefetchReferencesAndDescendants(
+      Collection<? extends BaseKey> keys, Class<?> entityClass, ReadContext context) {
+    List<Map.Entry<Class<?>, BaseEntity>> level = new ArrayList<>();
+    for (BaseKey key : keys) {
+      BaseEntity entity = context.getReadEntity(key);
+      if (entity != null && context.markPrefetched(key)) {
+        level.add(new AbstractMap.SimpleEntry<>(entityClass, entity));
+      }
+    }
+
+    while (!level.isEmpty()) {
+      Map<Key, Class<?>> referencedKeys = new LinkedHashMap<>();
+      Map<EntityQuery, Class<?>> descendantQueries = new LinkedHashMap<>();
+      for (Map.Entry<Class<?>, BaseEntity> entry : level) {
+        DatastorePersistentEntity<?> persistentEntity =
+            this.datastoreEntityConverter.getDiscriminationPersistentEntity(
+                entry.getKey(), entry.getValue());
+        if (persistentEntity != null) {
+          collectReferencedKeys(persistentEntity, entry.getValue(), referencedKeys);
+          collectDescendantQueries(
+              persistentEntity, entry.getValue(), context, descendantQueries);
+        }
+      }
+
+      List<Map.Entry<Class<?>, BaseEntity>> nextLevel = new ArrayList<>();
+
+      // descendants are resolved before references, so they are not looked up a second time
+      Map<EntityQuery, List<BaseEntity>> descendantResults = runQueries(descendantQueries.keySet());
+      descendantResults.forEach(
+          (query, results) -> {
+            List<BaseKey> resultKeys = new ArrayList<>();
+            for (BaseEntity result : results) {
+              BaseKey resultKey = result.getKey();
+              resultKeys.add(resultKey);
+              if (context.notCached(resultKey)) {
+                context.putReadEntity(resultKey, result);
+              }
+              if (context.markPrefetched(resultKey)) {
+                nextLevel.add(new AbstractMap.SimpleEntry<>(descendantQueries.get(query), result));
+              }
+            }
+            context.putDescendantKeys(query, resultKeys);
+          });
+
+      List<Key> missingKeys =
+          referencedKeys.keySet().stream().filter(context::notCached).toList();
+      for (List<Key> slice : Iterables.partition(missingKeys, MAX_LOOKUP_SIZE)) {
+        List<Entity> entities = getDatastoreReadWriter().fetch(slice.toArray(new Key[] {}));
+        Assert.isTrue(slice.size() == entities.size(), "Fetched incorrect number of entities");
+        for (int i = 0; i < slice.size(); i++) {
+          Key key = slice.get(i);
+          context.putReadEntity(key, entities.get(i));
+          if (entities.get(i) != null && context.markPrefetched(key)) {
+            nextLevel.add(new AbstractMap.SimpleEntry<>(referencedKeys.get(key), entities.get(i)));
+          }
+        }
+      }
+
+      level = nextLevel;
+    }
+  }
+
+  private void collectReferencedKeys(
+      DatastorePersistentEntity<?> persistentEntity,
+      BaseEntity entity,
+      Map<Key, Class<?>> referencedKeys) {
+    persistentEntity.doWithAssociations(
+        (AssociationHandler)
+            association -> {
+              DatastorePersistentProperty referenceProperty =
+                  (DatastorePersistentProperty) association.getInverse();
+              String fieldName = referenceProperty.getFieldName();
+              if (referenceProperty.isLazyLoaded()
+                  || !entity.contains(fieldName)
+                  || entity.isNull(fieldName)) {
+                return;
+              }
+              try {
+                if (referenceProperty.isCollectionLike()) {
+                  for (Key key : valuesToKeys(entity.getList(fieldName))) {
+                    referencedKeys.putIfAbsent(key, referenceProperty.getComponentType());
+                  }
+                } else {
+                  referencedKeys.putIfAbsent(
+                      entity.getKey(fieldName), referenceProperty.getType());
+                }
+              } catch (ClassCastException ex) {
+                // not prefetched; the descriptive error is raised when the property is resolved
+              }
+            });
+  }
+
+  private void collectDescendantQueries(
+      DatastorePersistentEntity<?> persistentEntity,
+      BaseEntity entity,
+      ReadContext context,
+      Map<EntityQuery, Class<?>> descendantQueries) {
+    persistentEntity.doWithDescendantProperties(
+        descendantPersistentProperty -> {
+          EntityQuery descendantQuery = getDescendantQuery(descendantPersistentProperty, entity);
+          if (context.getDescendantKeys(descendantQuery) == null) {
+            descendantQueries.putIfAbsent(
+                descendantQuery, descendantPersistentProperty.getComponentType());
+          }
+        });
+  }
+
+  private Map<EntityQuery, List<BaseEntity>> runQueries(Collection<EntityQuery> queries) {
+    Map<EntityQuery, List<BaseEntity>> results = new LinkedHashMap<>();
+    if (queries.isEmpty()) {
+      return results;
+    }
+    DatastoreReaderWriter datastoreReaderWriter = getDatastoreReadWriter();
+    if (this.descendantQueryExecutor == null
+        || queries.size() == 1
+        || TransactionSynchronizationManager.isActualTransactionActive()) {
+      queries.forEach(query -> results.put(query, runQuery(datastoreReaderWriter, query)));
+      return results;
+    }
+    Map<EntityQuery, CompletableFuture<List<BaseEntity>>> futures = new LinkedHashMap<>();
+    queries.forEach(
+        query ->
+            futures.put(
+                query,
+                CompletableFuture.supplyAsync(
+                    () -> runQuery(datastoreReaderWriter, query), this.descendantQueryExecutor)));
+    try {
+      futures.forEach((query, future) -> results.put(query, future.join()));
+    } catch (CompletionException ex) {
+      throw ex.getCause() instanceof RuntimeException runtimeException ? runtimeException : ex;
+    }
+    return results;
+  }
+
+  private static List<BaseEntity> runQuery(
+      DatastoreReaderWriter datastoreReaderWriter, EntityQuery query) {
+    List<BaseEntity> entities = new ArrayList<>();
+    QueryResults<Entity> queryResults = datastoreReaderWriter.run(query);
+    if (queryResults != null) {
+      queryResults.forEachRemaining(entities::add);
+    }
+    return entities;
+  }
+
   private Key getKeyFromId(Object id, Class entityClass) {
     return this.objectToKeyFactory.getKeyFromId(id, getPersistentEntity(entityClass).kindName());
   }
@@ -884,15 +1162,6 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
     return this.objectToKeyFactory.getKeyFromObject(entity, datastorePersistentEntity);
   }
 
-  private Key[] findAllKeys(Class entityClass) {
-    Iterable<Key> keysFound =
-        queryKeys(
-            Query.newKeyQueryBuilder()
-                .setKind(getPersistentEntity(entityClass).kindName())
-                .build());
-    return StreamSupport.stream(keysFound.spliterator(), false).toArray(Key[]::new);
-  }
-
   private <T> Set<Key> getKeysFromIds(Iterable<?> ids, Class<T> entityClass) {
     Set<Key> keys = new HashSet<>();
     ids.forEach(x -> keys.add(getKeyFromId(x, entityClass)));
@@ -1053,6 +1322,20 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
   class ReadContext {
     private final Map<BaseKey, Object> convertedEntities = new HashMap<>();
     private final Map<BaseKey, BaseEntity> readEntities = new HashMap<>();
+    private final Set<BaseKey> prefetchedKeys = new HashSet<>();
+    private final Map<EntityQuery, List<BaseKey>> descendantKeys = new HashMap<>();
+
+    boolean markPrefetched(BaseKey key) {
+      return this.prefetchedKeys.add(key);
+    }
+
+    List<BaseKey> getDescendantKeys(EntityQuery query) {
+      return this.descendantKeys.get(query);
+    }
+
+    void putDescendantKeys(EntityQuery query, List<BaseKey> keys) {
+      this.descendantKeys.put(query, keys);
+    }
 
     void putConvertedEntity(BaseKey key, Object entity) {
       this.convertedEntities.put(key, entity);
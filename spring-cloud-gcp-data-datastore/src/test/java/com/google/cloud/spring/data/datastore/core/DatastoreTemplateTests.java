@@ -24,7 +24,9 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.notNull;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -35,6 +37,7 @@ import com.google.cloud.datastore.AggregationResults;
 import com.google.cloud.datastore.Cursor;
 import com.google.cloud.datastore.Datastore;
 import com.google.cloud.datastore.Datastore.TransactionCallable;
+import com.google.cloud.datastore.DatastoreException;
 import com.google.cloud.datastore.DatastoreReaderWriter;
 import com.google.cloud.datastore.Entity;
 import com.google.cloud.datastore.EntityQuery;
@@ -570,6 +573,52 @@ class DatastoreTemplateTests {
         x -> {});
   }
 
+  @Test
+  void queryReferencesFetchedInOneLookupTest() {
+    Key siblingKey1 = createFakeKey("sibling1");
+    Key siblingKey2 = createFakeKey("sibling2");
+    Entity referencing1 = Entity.newBuilder(this.key1).set("sibling", siblingKey1).build();
+    Entity referencing2 = Entity.newBuilder(this.key2).set("sibling", siblingKey2).build();
+    Entity sibling1 = Entity.newBuilder(siblingKey1).build();
+    Entity sibling2 = Entity.newBuilder(siblingKey2).build();
+
+    Query<Entity> query = Query.newEntityQueryBuilder().setKind("reference_test").build();
+    QueryResults<Entity> queryResults = mock(QueryResults.class);
+    doAnswer(
+            invocation -> {
+              Arrays.asList(referencing1, referencing2)
+                  .iterator()
+                  .forEachRemaining(invocation.getArgument(0));
+              return null;
+            })
+        .when(queryResults)
+        .forEachRemaining(any());
+    when(this.datastore.run(query)).thenReturn(queryResults);
+    when(this.datastore.fetch(siblingKey1, siblingKey2))
+        .thenReturn(Arrays.asList(sibling1, sibling2));
+
+    DatastorePersistentEntity referenceTestPersistentEntity =
+        new DatastoreMappingContext().getDatastorePersistentEntity(ReferenceTestEntity.class);
+    Map<Entity, ReferenceTestEntity> converted = new HashMap<>();
+    for (Entity entity : Arrays.asList(referencing1, referencing2, sibling1, sibling2)) {
+      converted.put(entity, new ReferenceTestEntity());
+      when(this.datastoreEntityConverter.read(eq(ReferenceTestEntity.class), same(entity)))
+          .thenReturn(converted.get(entity));
+      when(this.datastoreEntityConverter.getDiscriminationPersistentEntity(
+              eq(ReferenceTestEntity.class), same(entity)))
+          .thenReturn(referenceTestPersistentEntity);
+    }
+
+    List<ReferenceTestEntity> results = new ArrayList<>();
+    this.datastoreTemplate.query(query, ReferenceTestEntity.class).forEach(results::add);
+
+    assertThat(results)
+        .containsExactly(converted.get(referencing1), converted.get(referencing2));
+    assertThat(results.get(0).sibling).isSameAs(converted.get(sibling1));
+    assertThat(results.get(1).sibling).isSameAs(converted.get(sibling2));
+    verify(this.datastore, times(1)).fetch(siblingKey1, siblingKey2);
+  }
+
   @ParameterizedTest
   @EnumSource(SaveOrInsertMethod.class)
   void saveOrInsertReferenceLoopTest(SaveOrInsertMethod method) {
@@ -1153,7 +1202,8 @@ class DatastoreTemplateTests {
             })
         .when(queryResults)
         .forEachRemaining(any());
-    when(this.datastore.run(Query.newKeyQueryBuilder().setKind("custom_test_kind").build()))
+    when(this.datastore.run(
+            Query.newKeyQueryBuilder().setKind("custom_test_kind").setLimit(500).build()))
         .thenReturn(queryResults);
 
     verifyBeforeAndAfterEvents(
@@ -1163,6 +1213,97 @@ class DatastoreTemplateTests {
         x -> x.verify(this.datastore, times(1)).delete(same(this.key1), same(this.key2)));
   }
 
+  @Test
+  void deleteAllPagedByCursorTest() {
+    this.datastoreTemplate.setMaxWriteSize(1);
+    Cursor cursor = Cursor.copyFrom("cursor".getBytes());
+
+    QueryResults<Key> firstPage = mock(QueryResults.class);
+    doAnswer(
+            invocation -> {
+              Collections.singletonList(this.key1)
+                  .iterator()
+                  .forEachRemaining(invocation.getArgument(0));
+              return null;
+            })
+        .when(firstPage)
+        .forEachRemaining(any());
+    when(firstPage.getCursorAfter()).thenReturn(cursor);
+
+    QueryResults<Key> secondPage = mock(QueryResults.class);
+    doAnswer(
+            invocation -> {
+              Collections.singletonList(this.key2)
+                  .iterator()
+                  .forEachRemaining(invocation.getArgument(0));
+              return null;
+            })
+        .when(secondPage)
+        .forEachRemaining(any());
+    when(secondPage.getCursorAfter()).thenReturn(cursor);
+
+    QueryResults<Key> lastPage = mock(QueryResults.class);
+
+    KeyQuery.Builder builder = Query.newKeyQueryBuilder().setKind("custom_test_kind").setLimit(1);
+    when(this.datastore.run(builder.build())).thenReturn(firstPage);
+    when(this.datastore.run(builder.setStartCursor(cursor).build()))
+        .thenReturn(secondPage)
+        .thenReturn(lastPage);
+
+    List<Long> progress = new ArrayList<>();
+    assertThat(this.datastoreTemplate.deleteAll(TestEntity.class, progress::add)).isEqualTo(2);
+
+    assertThat(progress).containsExactly(1L, 2L);
+    verify(this.datastore, times(1)).delete(same(this.key1));
+    verify(this.datastore, times(1)).delete(same(this.key2));
+    verify(this.datastore, times(3)).run(any(KeyQuery.class));
+  }
+
+  @Test
+  void deleteAllConcurrentFailureStopsPagingTest() {
+    this.datastoreTemplate.setMaxWriteSize(1);
+    this.datastoreTemplate.setDeleteExecutor(Runnable::run);
+    this.datastoreTemplate.setMaxConcurrentDeletes(2);
+    Cursor cursor = Cursor.copyFrom("cursor".getBytes());
+
+    QueryResults<Key> firstPage = mock(QueryResults.class);
+    doAnswer(
+            invocation -> {
+              Collections.singletonList(this.key1)
+                  .iterator()
+                  .forEachRemaining(invocation.getArgument(0));
+              return null;
+            })
+        .when(firstPage)
+        .forEachRemaining(any());
+    when(firstPage.getCursorAfter()).thenReturn(cursor);
+
+    QueryResults<Key> secondPage = mock(QueryResults.class);
+    doAnswer(
+            invocation -> {
+              Collections.singletonList(this.key2)
+                  .iterator()
+                  .forEachRemaining(invocation.getArgument(0));
+              return null;
+            })
+        .when(secondPage)
+        .forEachRemaining(any());
+    when(secondPage.getCursorAfter()).thenReturn(cursor);
+
+    KeyQuery.Builder builder = Query.newKeyQueryBuilder().setKind("custom_test_kind").setLimit(1);
+    when(this.datastore.run(builder.build())).thenReturn(firstPage);
+    when(this.datastore.run(builder.setStartCursor(cursor).build())).thenReturn(secondPage);
+    doThrow(new DatastoreException(500, "delete failed", "INTERNAL"))
+        .when(this.datastore)
+        .delete(same(this.key1));
+
+    assertThatThrownBy(() -> this.datastoreTemplate.deleteAll(TestEntity.class))
+        .isInstanceOf(DatastoreException.class)
+        .hasMessage("delete failed");
+
+    verify(this.datastore, never()).delete(same(this.key2));
+  }
+
   private void verifyBeforeAndAfterEvents(
       ApplicationEvent expectedBefore,
       ApplicationEvent expectedAfter,
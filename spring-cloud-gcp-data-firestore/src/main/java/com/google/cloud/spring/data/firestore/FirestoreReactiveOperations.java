@@ -98,8 +98,8 @@ public interface FirestoreReactiveOperations {
   <T> Flux<T> findAllById(Publisher<String> idPublisher, Class<T> entityClass);
 
   /**
-   * Count entities of the given domain. Note that Firestore doesn't support "count" operation
-   * natively, so id query will be executed and all ids will be retrieved so they could be counted.
+   * Count entities of the given domain. The count is computed by Firestore with an aggregation
+   * query, without retrieving the entities.
    *
    * @param <T> the type param of the domain type.
    * @param entityClass the domain type of entities.
@@ -109,17 +109,46 @@ public interface FirestoreReactiveOperations {
 
   /**
    * Count entities of the given domain corresponding to the predicates given in the query builder.
-   * Note that Firestore doesn't support "count" operation natively, so id query will be executed
-   * and all ids will be retrieved so they could be counted.
+   * The count is computed by Firestore with an aggregation query, without retrieving the entities.
    *
    * @param <T> the type param of the domain type.
    * @param entityClass the domain type of entities.
-   * @param queryBuilder the query builder that contains predicates; note that id projection and the
-   *     collection name will be set during execution
+   * @param queryBuilder the query builder that contains predicates; note that the collection name
+   *     will be set during execution
    * @return {@link Mono} emitting the number of entities.
    */
   <T> Mono<Long> count(Class<T> entityClass, StructuredQuery.Builder queryBuilder);
 
+  /**
+   * Sum a numeric property of the entities of the given domain corresponding to the predicates
+   * given in the query builder. The sum is computed by Firestore with an aggregation query.
+   *
+   * @param <T> the type param of the domain type.
+   * @param entityClass the domain type of entities.
+   * @param propertyName the name of the property to sum.
+   * @param queryBuilder the query builder that contains predicates, or {@code null} to sum over all
+   *     entities; note that the collection name will be set during execution
+   * @return {@link Mono} emitting the sum, a {@link Long} if all summed values are integers and a
+   *     {@link Double} otherwise.
+   */
+  <T> Mono<Number> sum(
+      Class<T> entityClass, String propertyName, StructuredQuery.Builder queryBuilder);
+
+  /**
+   * Average a numeric property of the entities of the given domain corresponding to the predicates
+   * given in the query builder. The average is computed by Firestore with an aggregation query.
+   *
+   * @param <T> the type param of the domain type.
+   * @param entityClass the domain type of entities.
+   * @param propertyName the name of the property to average.
+   * @param queryBuilder the query builder that contains predicates, or {@code null} to average over
+   *     all entities; note that the collection name will be set during execution
+   * @return {@link Mono} emitting the average, or empty if no entity has a numeric value for the
+   *     property.
+   */
+  <T> Mono<Double> avg(
+      Class<T> entityClass, String propertyName, StructuredQuery.Builder queryBuilder);
+
   /**
    * Delete entities provided by publisher.
    *
@@ -27,19 +27,31 @@ import com.google.cloud.spring.data.firestore.mapping.UpdateTime;
 import com.google.cloud.spring.data.firestore.transaction.ReactiveFirestoreResourceHolder;
 import com.google.cloud.spring.data.firestore.util.ObservableReactiveUtil;
 import com.google.cloud.spring.data.firestore.util.Util;
+import com.google.firestore.v1.BatchGetDocumentsRequest;
+import com.google.firestore.v1.BatchGetDocumentsResponse;
 import com.google.firestore.v1.CommitRequest;
 import com.google.firestore.v1.CommitResponse;
+import com.google.firestore.v1.Cursor;
 import com.google.firestore.v1.Document;
 import com.google.firestore.v1.DocumentMask;
 import com.google.firestore.v1.FirestoreGrpc.FirestoreStub;
 import com.google.firestore.v1.GetDocumentRequest;
+import com.google.firestore.v1.PartitionQueryRequest;
+import com.google.firestore.v1.PartitionQueryResponse;
 import com.google.firestore.v1.Precondition;
+import com.google.firestore.v1.RunAggregationQueryRequest;
+import com.google.firestore.v1.RunAggregationQueryResponse;
 import com.google.firestore.v1.RunQueryRequest;
 import com.google.firestore.v1.RunQueryResponse;
+import com.google.firestore.v1.StructuredAggregationQuery;
+import com.google.firestore.v1.StructuredAggregationQuery.Aggregation;
 import com.google.firestore.v1.StructuredQuery;
+import com.google.firestore.v1.Value;
 import com.google.firestore.v1.Write;
 import com.google.firestore.v1.Write.Builder;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -62,13 +74,14 @@ public class FirestoreTemplate implements FirestoreReactiveOperations {
 
   private static final int FIRESTORE_WRITE_MAX_SIZE = 500;
 
+  private static final int FIRESTORE_READ_MAX_SIZE = 1000;
+
   /** Constant representing the special property to use when querying by a document ID. */
   public static final String NAME_FIELD = FieldPath.documentId().toString();
 
-  private static final StructuredQuery.Projection ID_PROJECTION =
-      StructuredQuery.Projection.newBuilder()
-          .addFields(StructuredQuery.FieldReference.newBuilder().setFieldPath(NAME_FIELD).build())
-          .build();
+  private static final String AGGREGATION_ALIAS = "aggregate";
+
+  private static final int PARTITIONS_PER_SCAN_THREAD = 4;
 
   private static final DocumentMask NAME_ONLY_MASK =
       DocumentMask.newBuilder().addFieldPaths(NAME_FIELD).build();
@@ -87,6 +100,12 @@ public class FirestoreTemplate implements FirestoreReactiveOperations {
 
   private int writeBufferSize = FIRESTORE_WRITE_MAX_SIZE;
 
+  private Duration readBufferTimeout = Duration.ofMillis(10);
+
+  private int readBufferSize = FIRESTORE_READ_MAX_SIZE;
+
+  private int scanParallelism = 1;
+
   private String collectionNameSuffix = "";
 
   /**
@@ -157,6 +176,65 @@ public class FirestoreTemplate implements FirestoreReactiveOperations {
     return this.writeBufferSize;
   }
 
+  /**
+   * Sets the {@link Duration} for how long to wait for the ID buffer to fill before sending the
+   * buffered IDs to Firestore in a single batched read by {@link #findAllById}.
+   *
+   * @param bufferTimeout duration to wait for ID buffer to fill before sending to Firestore.
+   *     (default = 10ms)
+   */
+  public void setReadBufferTimeout(Duration bufferTimeout) {
+    this.readBufferTimeout = bufferTimeout;
+  }
+
+  public Duration getReadBufferTimeout() {
+    return this.readBufferTimeout;
+  }
+
+  /**
+   * Sets how many document IDs to include in a single batched read by {@link #findAllById}.
+   *
+   * <p>The maximum buffer size is 1000.
+   *
+   * @param bufferReadSize the ID buffer size for batched reads (default = 1000)
+   */
+  public void setReadBufferSize(int bufferReadSize) {
+    Assert.isTrue(
+        bufferReadSize > 0 && bufferReadSize <= FIRESTORE_READ_MAX_SIZE,
+        "The FirestoreTemplate buffer read size must be between 1 and " + FIRESTORE_READ_MAX_SIZE);
+    this.readBufferSize = bufferReadSize;
+  }
+
+  public int getReadBufferSize() {
+    return this.readBufferSize;
+  }
+
+  /**
+   * Sets how many partitions of a collection are read concurrently by {@link #findAll} and {@link
+   * #deleteAll}.
+   *
+   * <p>With a parallelism above 1, the collection is split into cursor ranges with a {@code
+   * PartitionQuery} call and the ranges are read with concurrent queries, so documents are emitted
+   * in no particular order. Scans within a transaction, and scans of subcollections (templates
+   * created with {@code withParent}), always run as a single query, because {@code PartitionQuery}
+   * only accepts the database root as parent.
+   *
+   * <p>Partitioning requires a collection group query: the partitions cover, and the concurrent
+   * queries read and are billed for, the documents of every collection with the same ID in the
+   * database, including same-named subcollections, which are then filtered out on the client.
+   * Only enable it for collections whose ID is not reused by subcollections.
+   *
+   * @param scanParallelism the number of partitions read concurrently (default = 1)
+   */
+  public void setScanParallelism(int scanParallelism) {
+    Assert.isTrue(scanParallelism > 0, "The FirestoreTemplate scan parallelism must be positive");
+    this.scanParallelism = scanParallelism;
+  }
+
+  public int getScanParallelism() {
+    return this.scanParallelism;
+  }
+
   @Override
   public <T> Mono<Boolean> existsById(Publisher<String> idPublisher, Class<T> entityClass) {
     return Flux.from(idPublisher)
@@ -171,13 +249,27 @@ public class FirestoreTemplate implements FirestoreReactiveOperations {
 
   @Override
   public <T> Mono<T> findById(Publisher<String> idPublisher, Class<T> entityClass) {
-    return findAllById(idPublisher, entityClass).next();
+    return Flux.from(idPublisher)
+        .next()
+        .flatMap(id -> getDocument(id, entityClass, null))
+        .onErrorMap(
+            throwable -> new FirestoreDataException("Error while reading entries by id", throwable))
+        .map(document -> getClassMapper().documentToEntity(document, entityClass));
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The IDs are read in batches, each with a single {@code BatchGetDocuments} call. The buffer
+   * size and buffer timeout of these batches can be modified by calling {@link #setReadBufferSize}
+   * and {@link #setReadBufferTimeout}. Documents are emitted in the order of their IDs, and IDs of
+   * missing documents are skipped.
+   */
   @Override
   public <T> Flux<T> findAllById(Publisher<String> idPublisher, Class<T> entityClass) {
     return Flux.from(idPublisher)
-        .flatMap(id -> getDocument(id, entityClass, null))
+        .bufferTimeout(this.readBufferSize, this.readBufferTimeout)
+        .flatMapSequential(ids -> getDocuments(ids, entityClass))
         .onErrorMap(
             throwable -> new FirestoreDataException("Error while reading entries by id", throwable))
         .map(document -> getClassMapper().documentToEntity(document, entityClass));
@@ -222,7 +314,7 @@ public class FirestoreTemplate implements FirestoreReactiveOperations {
   public <T> Flux<T> findAll(Class<T> clazz) {
     return Flux.defer(
         () ->
-            findAllDocuments(clazz)
+            scanAllDocuments(clazz)
                 .map(document -> getClassMapper().documentToEntity(document, clazz)));
   }
 
@@ -233,7 +325,40 @@ public class FirestoreTemplate implements FirestoreReactiveOperations {
 
   @Override
   public <T> Mono<Long> count(Class<T> entityClass, StructuredQuery.Builder queryBuilder) {
-    return findAllDocuments(entityClass, ID_PROJECTION, queryBuilder).count();
+    return runAggregation(
+            entityClass,
+            queryBuilder,
+            Aggregation.newBuilder().setCount(Aggregation.Count.getDefaultInstance()))
+        .map(Value::getIntegerValue)
+        .defaultIfEmpty(0L);
+  }
+
+  @Override
+  public <T> Mono<Number> sum(
+      Class<T> entityClass, String propertyName, StructuredQuery.Builder queryBuilder) {
+    return runAggregation(
+            entityClass,
+            queryBuilder,
+            Aggregation.newBuilder()
+                .setSum(
+                    Aggregation.Sum.newBuilder()
+                        .setField(buildFieldReference(entityClass, propertyName))))
+        .mapNotNull(FirestoreTemplate::toNumber);
+  }
+
+  @Override
+  public <T> Mono<Double> avg(
+      Class<T> entityClass, String propertyName, StructuredQuery.Builder queryBuilder) {
+    return runAggregation(
+            entityClass,
+            queryBuilder,
+            Aggregation.newBuilder()
+                .setAvg(
+                    Aggregation.Avg.newBuilder()
+                        .setField(buildFieldReference(entityClass, propertyName))))
+        // the average is null if no document has a numeric value for the field
+        .filter(value -> value.getValueTypeCase() == Value.ValueTypeCase.DOUBLE_VALUE)
+        .map(Value::getDoubleValue);
   }
 
   /**
@@ -244,7 +369,7 @@ public class FirestoreTemplate implements FirestoreReactiveOperations {
    */
   @Override
   public <T> Mono<Long> deleteAll(Class<T> clazz) {
-    return deleteDocumentsByName(findAllDocuments(clazz).map(Document::getName)).count();
+    return deleteDocumentsByName(scanAllDocuments(clazz).map(Document::getName)).count();
   }
 
   /**
@@ -310,6 +435,9 @@ public class FirestoreTemplate implements FirestoreReactiveOperations {
             this.firestoreStub, resourceName, this.classMapper, this.mappingContext);
     firestoreTemplate.setWriteBufferSize(this.writeBufferSize);
     firestoreTemplate.setWriteBufferTimeout(this.writeBufferTimeout);
+    firestoreTemplate.setReadBufferSize(this.readBufferSize);
+    firestoreTemplate.setReadBufferTimeout(this.readBufferTimeout);
+    firestoreTemplate.setScanParallelism(this.scanParallelism);
 
     return firestoreTemplate;
   }
@@ -377,34 +505,192 @@ public class FirestoreTemplate implements FirestoreReactiveOperations {
       Class<T> clazz, StructuredQuery.Projection projection, StructuredQuery.Builder queryBuilder) {
     return Flux.deferContextual(
         ctx -> {
-          FirestorePersistentEntity<?> persistentEntity =
-              this.mappingContext.getPersistentEntity(clazz);
-
-          StructuredQuery.Builder builder =
-              queryBuilder != null ? queryBuilder.clone() : StructuredQuery.newBuilder();
-          builder.addFrom(
-              StructuredQuery.CollectionSelector.newBuilder()
-                  .setCollectionId(persistentEntity.collectionName() + collectionNameSuffix)
-                  .build());
-          if (projection != null) {
-            builder.setSelect(projection);
-          }
           RunQueryRequest.Builder requestBuilder =
               RunQueryRequest.newBuilder()
                   .setParent(this.parent)
-                  .setStructuredQuery(builder.build());
+                  .setStructuredQuery(buildStructuredQuery(clazz, projection, queryBuilder));
 
           doIfTransaction(
               ctx,
               resourceHolder -> requestBuilder.setTransaction(resourceHolder.getTransactionId()));
 
-          return ObservableReactiveUtil.<RunQueryResponse>streamingCall(
-                  obs -> this.firestoreStub.runQuery(requestBuilder.build(), obs))
-              .filter(RunQueryResponse::hasDocument)
-              .map(RunQueryResponse::getDocument);
+          return runQuery(requestBuilder.build());
         });
   }
 
+  private Flux<Document> runQuery(RunQueryRequest request) {
+    return ObservableReactiveUtil.<RunQueryResponse>streamingCall(
+            obs -> this.firestoreStub.runQuery(request, obs))
+        .filter(RunQueryResponse::hasDocument)
+        .map(RunQueryResponse::getDocument);
+  }
+
+  private <T> Flux<Document> scanAllDocuments(Class<T> clazz) {
+    return Flux.deferContextual(
+        ctx ->
+            this.scanParallelism > 1
+                    && !ctx.hasKey(TransactionContext.class)
+                    && this.parent.equals(this.databasePath + "/documents")
+                ? findAllDocumentsPartitioned(clazz)
+                : findAllDocuments(clazz));
+  }
+
+  /**
+   * Reads all documents of a collection with concurrent queries over the cursor ranges returned by
+   * a {@code PartitionQuery} call. Partitioning requires a collection group query, so documents of
+   * same-named subcollections are filtered out.
+   */
+  private <T> Flux<Document> findAllDocumentsPartitioned(Class<T> clazz) {
+    FirestorePersistentEntity<?> persistentEntity = this.mappingContext.getPersistentEntity(clazz);
+    String collectionId = persistentEntity.collectionName() + collectionNameSuffix;
+    String collectionPath = this.parent + "/" + collectionId + "/";
+    StructuredQuery query =
+        StructuredQuery.newBuilder()
+            .addFrom(
+                StructuredQuery.CollectionSelector.newBuilder()
+                    .setCollectionId(collectionId)
+                    .setAllDescendants(true))
+            .addOrderBy(
+                StructuredQuery.Order.newBuilder()
+                    .setField(StructuredQuery.FieldReference.newBuilder().setFieldPath(NAME_FIELD))
+                    .setDirection(StructuredQuery.Direction.ASCENDING))
+            .build();
+    PartitionQueryRequest request =
+        PartitionQueryRequest.newBuilder()
+            .setParent(this.parent)
+            .setStructuredQuery(query)
+            .setPartitionCount(this.scanParallelism * PARTITIONS_PER_SCAN_THREAD - 1L)
+            .build();
+
+    return partitionQuery(request)
+        .expand(
+            response ->
+                response.getNextPageToken().isEmpty()
+                    ? Mono.empty()
+                    : partitionQuery(
+                        request.toBuilder().setPageToken(response.getNextPageToken()).build()))
+        .flatMapIterable(PartitionQueryResponse::getPartitionsList)
+        // cursors of different pages are not ordered relative to each other
+        .sort(Comparator.comparing(FirestoreTemplate::cursorPath, FirestoreTemplate::comparePaths))
+        .collectList()
+        .flatMapMany(
+            cursors -> {
+              List<StructuredQuery> ranges = new ArrayList<>(cursors.size() + 1);
+              Cursor start = null;
+              for (Cursor end : cursors) {
+                ranges.add(partitionRange(query, start, end));
+                start = end;
+              }
+              ranges.add(partitionRange(query, start, null));
+              return Flux.fromIterable(ranges)
+                  .flatMap(
+                      range ->
+                          runQuery(
+                              RunQueryRequest.newBuilder()
+                                  .setParent(this.parent)
+                                  .setStructuredQuery(range)
+                                  .build()),
+                      this.scanParallelism);
+            })
+        .filter(
+            document ->
+                document.getName().startsWith(collectionPath)
+                    && document.getName().indexOf('/', collectionPath.length()) < 0);
+  }
+
+  private Mono<PartitionQueryResponse> partitionQuery(PartitionQueryRequest request) {
+    return ObservableReactiveUtil.unaryCall(
+        obs -> this.firestoreStub.partitionQuery(request, obs));
+  }
+
+  private static StructuredQuery partitionRange(StructuredQuery query, Cursor start, Cursor end) {
+    StructuredQuery.Builder builder = query.toBuilder();
+    if (start != null) {
+      builder.setStartAt(start.toBuilder().setBefore(true));
+    }
+    if (end != null) {
+      builder.setEndAt(end.toBuilder().setBefore(true));
+    }
+    return builder.build();
+  }
+
+  private static String cursorPath(Cursor cursor) {
+    return cursor.getValuesCount() > 0 ? cursor.getValues(0).getReferenceValue() : "";
+  }
+
+  /** Compares document names segment by segment, as Firestore orders them. */
+  private static int comparePaths(String left, String right) {
+    String[] leftSegments = left.split("/");
+    String[] rightSegments = right.split("/");
+    for (int i = 0; i < Math.min(leftSegments.length, rightSegments.length); i++) {
+      int comparison = leftSegments[i].compareTo(rightSegments[i]);
+      if (comparison != 0) {
+        return comparison;
+      }
+    }
+    return Integer.compare(leftSegments.length, rightSegments.length);
+  }
+
+  private Mono<Value> runAggregation(
+      Class<?> clazz, StructuredQuery.Builder queryBuilder, Aggregation.Builder aggregation) {
+    return Mono.deferContextual(
+        ctx -> {
+          RunAggregationQueryRequest.Builder requestBuilder =
+              RunAggregationQueryRequest.newBuilder()
+                  .setParent(this.parent)
+                  .setStructuredAggregationQuery(
+                      StructuredAggregationQuery.newBuilder()
+                          .setStructuredQuery(buildStructuredQuery(clazz, null, queryBuilder))
+                          .addAggregations(aggregation.setAlias(AGGREGATION_ALIAS)));
+
+          doIfTransaction(
+              ctx,
+              resourceHolder -> requestBuilder.setTransaction(resourceHolder.getTransactionId()));
+
+          return ObservableReactiveUtil.<RunAggregationQueryResponse>streamingCall(
+                  obs -> this.firestoreStub.runAggregationQuery(requestBuilder.build(), obs))
+              .filter(RunAggregationQueryResponse::hasResult)
+              .next()
+              .mapNotNull(
+                  response -> response.getResult().getAggregateFieldsMap().get(AGGREGATION_ALIAS))
+              .filter(value -> !value.hasNullValue());
+        });
+  }
+
+  private StructuredQuery buildStructuredQuery(
+      Class<?> clazz, StructuredQuery.Projection projection, StructuredQuery.Builder queryBuilder) {
+    FirestorePersistentEntity<?> persistentEntity = this.mappingContext.getPersistentEntity(clazz);
+
+    StructuredQuery.Builder builder =
+        queryBuilder != null ? queryBuilder.clone() : StructuredQuery.newBuilder();
+    builder.addFrom(
+        StructuredQuery.CollectionSelector.newBuilder()
+            .setCollectionId(persistentEntity.collectionName() + collectionNameSuffix)
+            .build());
+    if (projection != null) {
+      builder.setSelect(projection);
+    }
+    return builder.build();
+  }
+
+  private static Number toNumber(Value value) {
+    if (value.getValueTypeCase() == Value.ValueTypeCase.INTEGER_VALUE) {
+      return value.getIntegerValue();
+    }
+    if (value.getValueTypeCase() == Value.ValueTypeCase.DOUBLE_VALUE) {
+      return value.getDoubleValue();
+    }
+    return null;
+  }
+
+  private StructuredQuery.FieldReference buildFieldReference(Class<?> clazz, String propertyName) {
+    FirestorePersistentEntity<?> persistentEntity = this.mappingContext.getPersistentEntity(clazz);
+    FirestorePersistentProperty property = persistentEntity.getPersistentProperty(propertyName);
+    // names that don't match a property are used as Firestore field paths as is
+    String fieldPath = property != null ? property.getFieldName() : propertyName;
+    return StructuredQuery.FieldReference.newBuilder().setFieldPath(fieldPath).build();
+  }
+
   private Mono<Document> getDocument(String id, Class clazz, DocumentMask documentMask) {
     return Mono.deferContextual(
         ctx -> {
@@ -427,6 +713,31 @@ public class FirestoreTemplate implements FirestoreReactiveOperations {
         });
   }
 
+  private Flux<Document> getDocuments(List<String> ids, Class<?> clazz) {
+    return Flux.deferContextual(
+        ctx -> {
+          FirestorePersistentEntity<?> persistentEntity =
+              this.mappingContext.getPersistentEntity(clazz);
+          List<String> names =
+              ids.stream().map(id -> buildResourceName(persistentEntity, id)).toList();
+          BatchGetDocumentsRequest.Builder builder =
+              BatchGetDocumentsRequest.newBuilder()
+                  .setDatabase(this.databasePath)
+                  .addAllDocuments(names);
+
+          doIfTransaction(ctx, holder -> builder.setTransaction(holder.getTransactionId()));
+
+          // results arrive in no particular order, so they are reordered by document name
+          return ObservableReactiveUtil.<BatchGetDocumentsResponse>streamingCall(
+                  obs -> this.firestoreStub.batchGetDocuments(builder.build(), obs))
+              .filter(BatchGetDocumentsResponse::hasFound)
+              .map(BatchGetDocumentsResponse::getFound)
+              .collectMap(Document::getName)
+              .flatMapIterable(
+                  found -> names.stream().map(found::get).filter(Objects::nonNull).toList());
+        });
+  }
+
   private void doIfTransaction(
       ContextView ctx, Consumer<ReactiveFirestoreResourceHolder> holderConsumer) {
     Optional<TransactionContext> transactionContext = ctx.getOrEmpty(TransactionContext.class);
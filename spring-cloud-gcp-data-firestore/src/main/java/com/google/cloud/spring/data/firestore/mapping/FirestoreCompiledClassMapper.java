@@ -0,0 +1,552 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.firestore.mapping;
+
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.Blob;
+import com.google.cloud.firestore.GeoPoint;
+import com.google.cloud.firestore.annotation.Exclude;
+import com.google.cloud.spring.data.firestore.FirestoreDataException;
+import com.google.firestore.v1.ArrayValue;
+import com.google.firestore.v1.Document;
+import com.google.firestore.v1.MapValue;
+import com.google.firestore.v1.Value;
+import com.google.protobuf.NullValue;
+import com.google.type.LatLng;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.springframework.data.core.TypeInformation;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.model.EntityInstantiators;
+import org.springframework.data.mapping.model.PersistentEntityParameterValueProvider;
+import org.springframework.data.mapping.model.PropertyValueProvider;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Maps entities directly to and from Firestore protos. The mapping plan of each entity type,
+ * including the codec of every property, is computed once and cached.
+ *
+ * <p>Unlike {@link FirestoreDefaultClassMapper}, which converts through the Firestore client
+ * library's reflective bean mapper, this mapper discovers properties through the {@link
+ * FirestoreMappingContext} and accesses them with Spring Data property accessors. It honors
+ * {@link com.google.cloud.firestore.annotation.DocumentId}, {@link
+ * com.google.cloud.firestore.annotation.PropertyName}, {@link Exclude} and {@link UpdateTime}, and
+ * instantiates entities through their persistence constructors. Property types without a built-in
+ * codec are converted with the client library.
+ */
+public final class FirestoreCompiledClassMapper implements FirestoreClassMapper {
+
+  private static final Value NULL_VALUE =
+      Value.newBuilder().setNullValue(NullValue.NULL_VALUE).build();
+
+  private static final Map<Class<?>, ValueCodec> SCALAR_CODECS = createScalarCodecs();
+
+  private final FirestoreMappingContext mappingContext;
+
+  private final FirestoreDefaultClassMapper fallbackMapper;
+
+  private final EntityInstantiators instantiators = new EntityInstantiators();
+
+  private final Map<Class<?>, EntityPlan> entityPlans = new ConcurrentHashMap<>();
+
+  private final Map<Class<?>, ValueCodec> runtimeCodecs = new ConcurrentHashMap<>();
+
+  private final ValueCodec dynamicCodec = new DynamicCodec();
+
+  public FirestoreCompiledClassMapper(FirestoreMappingContext mappingContext) {
+    this.mappingContext = mappingContext;
+    this.fallbackMapper = new FirestoreDefaultClassMapper(mappingContext);
+  }
+
+  @Override
+  public <T> Value toFirestoreValue(T sourceValue) {
+    return this.dynamicCodec.write(sourceValue);
+  }
+
+  @Override
+  public <T> Document entityToDocument(T entity, String documentResourceName) {
+    Document.Builder builder = Document.newBuilder().setName(documentResourceName);
+    writeFields(getEntityPlan(entity.getClass()), entity, builder::putFields);
+    return builder.build();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T documentToEntity(Document document, Class<T> clazz) {
+    T entity = (T) readEntity(getEntityPlan(clazz), document.getFieldsMap(), document.getName());
+    return setUpdateTime(
+        entity, document.hasUpdateTime() ? Timestamp.fromProto(document.getUpdateTime()) : null);
+  }
+
+  @Override
+  public <T> T setUpdateTime(T entity, Timestamp updateTime) {
+    EntityPlan plan = getEntityPlan(entity.getClass());
+    if (plan.updateTimeProperty != null) {
+      plan.entity.getPropertyAccessor(entity).setProperty(plan.updateTimeProperty, updateTime);
+    }
+    return entity;
+  }
+
+  private EntityPlan getEntityPlan(Class<?> clazz) {
+    EntityPlan plan = this.entityPlans.get(clazz);
+    if (plan == null) {
+      plan = this.entityPlans.computeIfAbsent(clazz, this::createEntityPlan);
+    }
+    return plan;
+  }
+
+  private EntityPlan createEntityPlan(Class<?> clazz) {
+    FirestorePersistentEntity<?> persistentEntity =
+        Objects.requireNonNull(
+            this.mappingContext.getPersistentEntity(clazz),
+            () -> clazz + " is not a valid Firestore entity class.");
+    FirestorePersistentProperty idProperty = persistentEntity.getIdProperty();
+    FirestorePersistentProperty updateTimeProperty = persistentEntity.getUpdateTimeProperty();
+    Map<String, PropertyPlan> properties = new HashMap<>();
+    for (FirestorePersistentProperty property : persistentEntity) {
+      if (property == idProperty
+          || property == updateTimeProperty
+          || property.isAnnotationPresent(Exclude.class)) {
+        continue;
+      }
+      properties.put(
+          property.getName(),
+          new PropertyPlan(
+              property, property.getFieldName(), codecFor(property.getTypeInformation())));
+    }
+    return new EntityPlan(
+        persistentEntity,
+        List.copyOf(properties.values()),
+        properties,
+        idProperty != null && idProperty.getType() == String.class ? idProperty : null,
+        updateTimeProperty);
+  }
+
+  private void writeFields(EntityPlan plan, Object entity, BiConsumer<String, Value> fields) {
+    PersistentPropertyAccessor<?> accessor = plan.entity.getPropertyAccessor(entity);
+    for (PropertyPlan propertyPlan : plan.properties) {
+      Object value = accessor.getProperty(propertyPlan.property);
+      fields.accept(
+          propertyPlan.fieldName, value == null ? NULL_VALUE : propertyPlan.codec.write(value));
+    }
+  }
+
+  private Object readEntity(EntityPlan plan, Map<String, Value> fields, String documentName) {
+    FirestorePersistentEntity<?> persistentEntity = plan.entity;
+    PropertyValueProvider<FirestorePersistentProperty> valueProvider =
+        new PropertyValueProvider<>() {
+          @Override
+          @SuppressWarnings("unchecked")
+          public <T> T getPropertyValue(FirestorePersistentProperty property) {
+            if (property == plan.idProperty) {
+              return (T) documentId(documentName);
+            }
+            PropertyPlan propertyPlan = plan.propertiesByName.get(property.getName());
+            Value value = propertyPlan != null ? fields.get(propertyPlan.fieldName) : null;
+            return value != null ? (T) readProperty(propertyPlan, value) : null;
+          }
+        };
+
+    PersistentEntityParameterValueProvider<FirestorePersistentProperty> parameterValueProvider =
+        new PersistentEntityParameterValueProvider<>(persistentEntity, valueProvider, null);
+    Object instance =
+        this.instantiators
+            .getInstantiatorFor(persistentEntity)
+            .createInstance(persistentEntity, parameterValueProvider);
+    PersistentPropertyAccessor<?> accessor = persistentEntity.getPropertyAccessor(instance);
+
+    for (PropertyPlan propertyPlan : plan.properties) {
+      Value value = fields.get(propertyPlan.fieldName);
+      // missing fields and constructor arguments keep the value set on instantiation
+      if (value == null || persistentEntity.isCreatorArgument(propertyPlan.property)) {
+        continue;
+      }
+      Object propertyValue = readProperty(propertyPlan, value);
+      if (propertyValue != null || !propertyPlan.property.getType().isPrimitive()) {
+        accessor.setProperty(propertyPlan.property, propertyValue);
+      }
+    }
+    if (plan.idProperty != null
+        && documentName != null
+        && !persistentEntity.isCreatorArgument(plan.idProperty)) {
+      accessor.setProperty(plan.idProperty, documentId(documentName));
+    }
+    return accessor.getBean();
+  }
+
+  private static String documentId(String documentName) {
+    return documentName == null || documentName.isEmpty()
+        ? null
+        : documentName.substring(documentName.lastIndexOf('/') + 1);
+  }
+
+  private static Object readProperty(PropertyPlan propertyPlan, Value value) {
+    try {
+      return read(propertyPlan.codec, value);
+    } catch (ArithmeticException ex) {
+      throw new FirestoreDataException(
+          "Unable to read property " + propertyPlan.property.getName() + ": " + ex.getMessage(),
+          ex);
+    }
+  }
+
+  private static Object read(ValueCodec codec, Value value) {
+    return value.hasNullValue() ? null : codec.read(value);
+  }
+
+  private ValueCodec codecFor(TypeInformation<?> type) {
+    Class<?> clazz = ClassUtils.resolvePrimitiveIfNecessary(type.getType());
+    ValueCodec scalarCodec = SCALAR_CODECS.get(clazz);
+    if (scalarCodec != null) {
+      return scalarCodec;
+    }
+    if (clazz.isEnum()) {
+      return new EnumCodec(clazz);
+    }
+    if (clazz == Object.class) {
+      return this.dynamicCodec;
+    }
+    if (clazz.isAssignableFrom(ArrayList.class)) {
+      TypeInformation<?> elementType = type.getComponentType();
+      return new ListCodec(elementType != null ? codecFor(elementType) : this.dynamicCodec);
+    }
+    if (clazz.isAssignableFrom(HashMap.class)) {
+      TypeInformation<?> keyType = type.getComponentType();
+      TypeInformation<?> valueType = type.getMapValueType();
+      if (keyType == null || keyType.getType() == String.class) {
+        return new MapCodec(valueType != null ? codecFor(valueType) : this.dynamicCodec);
+      }
+    }
+    if (!clazz.isInterface()
+        && !clazz.isArray()
+        && !Modifier.isAbstract(clazz.getModifiers())
+        && !clazz.getName().startsWith("java.")) {
+      return new EntityCodec(clazz);
+    }
+    return new FallbackCodec(clazz);
+  }
+
+  private ValueCodec runtimeCodecFor(Class<?> clazz) {
+    ValueCodec codec = this.runtimeCodecs.get(clazz);
+    if (codec == null) {
+      codec =
+          this.runtimeCodecs.computeIfAbsent(
+              clazz, runtimeClass -> codecFor(TypeInformation.of(runtimeClass)));
+    }
+    return codec;
+  }
+
+  private static Map<Class<?>, ValueCodec> createScalarCodecs() {
+    Map<Class<?>, ValueCodec> codecs = new HashMap<>();
+    codecs.put(
+        String.class,
+        new ScalarCodec(
+            value -> Value.newBuilder().setStringValue((String) value).build(),
+            value -> expect(value, Value.ValueTypeCase.STRING_VALUE).getStringValue()));
+    codecs.put(
+        Boolean.class,
+        new ScalarCodec(
+            value -> Value.newBuilder().setBooleanValue((Boolean) value).build(),
+            value -> expect(value, Value.ValueTypeCase.BOOLEAN_VALUE).getBooleanValue()));
+    codecs.put(
+        Long.class, new ScalarCodec(FirestoreCompiledClassMapper::integer, v -> toLong(v)));
+    codecs.put(
+        Integer.class,
+        new ScalarCodec(
+            FirestoreCompiledClassMapper::integer,
+            v -> (int) toLong(v, Integer.MIN_VALUE, Integer.MAX_VALUE, "int")));
+    codecs.put(
+        Short.class,
+        new ScalarCodec(
+            FirestoreCompiledClassMapper::integer,
+            v -> (short) toLong(v, Short.MIN_VALUE, Short.MAX_VALUE, "short")));
+    codecs.put(
+        Byte.class,
+        new ScalarCodec(
+            FirestoreCompiledClassMapper::integer,
+            v -> (byte) toLong(v, Byte.MIN_VALUE, Byte.MAX_VALUE, "byte")));
+    codecs.put(
+        Double.class, new ScalarCodec(FirestoreCompiledClassMapper::floating, v -> toDouble(v)));
+    codecs.put(
+        Float.class,
+        new ScalarCodec(FirestoreCompiledClassMapper::floating, v -> (float) toDouble(v)));
+    codecs.put(
+        Timestamp.class,
+        new ScalarCodec(
+            value -> Value.newBuilder().setTimestampValue(((Timestamp) value).toProto()).build(),
+            value ->
+                Timestamp.fromProto(
+                    expect(value, Value.ValueTypeCase.TIMESTAMP_VALUE).getTimestampValue())));
+    codecs.put(
+        Date.class,
+        new ScalarCodec(
+            value ->
+                Value.newBuilder().setTimestampValue(Timestamp.of((Date) value).toProto()).build(),
+            value ->
+                Timestamp.fromProto(
+                        expect(value, Value.ValueTypeCase.TIMESTAMP_VALUE).getTimestampValue())
+                    .toDate()));
+    codecs.put(
+        Blob.class,
+        new ScalarCodec(
+            value -> Value.newBuilder().setBytesValue(((Blob) value).toByteString()).build(),
+            value ->
+                Blob.fromByteString(
+                    expect(value, Value.ValueTypeCase.BYTES_VALUE).getBytesValue())));
+    codecs.put(
+        GeoPoint.class,
+        new ScalarCodec(
+            value -> {
+              GeoPoint geoPoint = (GeoPoint) value;
+              return Value.newBuilder()
+                  .setGeoPointValue(
+                      LatLng.newBuilder()
+                          .setLatitude(geoPoint.getLatitude())
+                          .setLongitude(geoPoint.getLongitude()))
+                  .build();
+            },
+            value -> {
+              LatLng latLng = expect(value, Value.ValueTypeCase.GEO_POINT_VALUE).getGeoPointValue();
+              return new GeoPoint(latLng.getLatitude(), latLng.getLongitude());
+            }));
+    return Map.copyOf(codecs);
+  }
+
+  private static Value integer(Object value) {
+    return Value.newBuilder().setIntegerValue(((Number) value).longValue()).build();
+  }
+
+  private static Value floating(Object value) {
+    return Value.newBuilder().setDoubleValue(((Number) value).doubleValue()).build();
+  }
+
+  private static long toLong(Value value) {
+    if (value.getValueTypeCase() == Value.ValueTypeCase.DOUBLE_VALUE) {
+      double doubleValue = value.getDoubleValue();
+      // 0x1p63 is the first double above Long.MAX_VALUE; the cast would saturate from there on
+      if (!(doubleValue >= -0x1p63 && doubleValue < 0x1p63)) {
+        throw new ArithmeticException("Value " + doubleValue + " is out of range for long");
+      }
+      return (long) doubleValue;
+    }
+    return expect(value, Value.ValueTypeCase.INTEGER_VALUE).getIntegerValue();
+  }
+
+  private static long toLong(Value value, long min, long max, String typeName) {
+    long longValue = toLong(value);
+    if (longValue < min || longValue > max) {
+      throw new ArithmeticException("Value " + longValue + " is out of range for " + typeName);
+    }
+    return longValue;
+  }
+
+  private static double toDouble(Value value) {
+    if (value.getValueTypeCase() == Value.ValueTypeCase.INTEGER_VALUE) {
+      return value.getIntegerValue();
+    }
+    return expect(value, Value.ValueTypeCase.DOUBLE_VALUE).getDoubleValue();
+  }
+
+  private static Value expect(Value value, Value.ValueTypeCase expectedType) {
+    if (value.getValueTypeCase() != expectedType) {
+      throw new FirestoreDataException(
+          "Unable to convert a Firestore value of type "
+              + value.getValueTypeCase()
+              + "; expected "
+              + expectedType);
+    }
+    return value;
+  }
+
+  /** Converts a non-null value of a property type to and from a Firestore value. */
+  private interface ValueCodec {
+    Value write(Object value);
+
+    Object read(Value value);
+  }
+
+  private record ScalarCodec(Function<Object, Value> writer, Function<Value, Object> reader)
+      implements ValueCodec {
+
+    @Override
+    public Value write(Object value) {
+      return this.writer.apply(value);
+    }
+
+    @Override
+    public Object read(Value value) {
+      return this.reader.apply(value);
+    }
+  }
+
+  private record EnumCodec(Class<?> enumType) implements ValueCodec {
+
+    @Override
+    public Value write(Object value) {
+      return Value.newBuilder().setStringValue(((Enum<?>) value).name()).build();
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Object read(Value value) {
+      return Enum.valueOf(
+          (Class<Enum>) this.enumType,
+          expect(value, Value.ValueTypeCase.STRING_VALUE).getStringValue());
+    }
+  }
+
+  private record ListCodec(ValueCodec elementCodec) implements ValueCodec {
+
+    @Override
+    public Value write(Object value) {
+      ArrayValue.Builder builder = ArrayValue.newBuilder();
+      for (Object element : (Iterable<?>) value) {
+        builder.addValues(element == null ? NULL_VALUE : this.elementCodec.write(element));
+      }
+      return Value.newBuilder().setArrayValue(builder).build();
+    }
+
+    @Override
+    public Object read(Value value) {
+      List<Value> values =
+          expect(value, Value.ValueTypeCase.ARRAY_VALUE).getArrayValue().getValuesList();
+      List<Object> list = new ArrayList<>(values.size());
+      for (Value element : values) {
+        list.add(FirestoreCompiledClassMapper.read(this.elementCodec, element));
+      }
+      return list;
+    }
+  }
+
+  private record MapCodec(ValueCodec valueCodec) implements ValueCodec {
+
+    @Override
+    public Value write(Object value) {
+      MapValue.Builder builder = MapValue.newBuilder();
+      ((Map<?, ?>) value)
+          .forEach(
+              (key, entryValue) ->
+                  builder.putFields(
+                      key.toString(),
+                      entryValue == null ? NULL_VALUE : this.valueCodec.write(entryValue)));
+      return Value.newBuilder().setMapValue(builder).build();
+    }
+
+    @Override
+    public Object read(Value value) {
+      Map<String, Value> fields =
+          expect(value, Value.ValueTypeCase.MAP_VALUE).getMapValue().getFieldsMap();
+      Map<String, Object> map = new HashMap<>(fields.size() * 4 / 3 + 1);
+      fields.forEach(
+          (key, fieldValue) ->
+              map.put(key, FirestoreCompiledClassMapper.read(this.valueCodec, fieldValue)));
+      return map;
+    }
+  }
+
+  /** Maps nested objects to map values, resolving their plan lazily to allow recursive types. */
+  private final class EntityCodec implements ValueCodec {
+
+    private final Class<?> type;
+
+    private EntityCodec(Class<?> type) {
+      this.type = type;
+    }
+
+    @Override
+    public Value write(Object value) {
+      MapValue.Builder builder = MapValue.newBuilder();
+      writeFields(getEntityPlan(value.getClass()), value, builder::putFields);
+      return Value.newBuilder().setMapValue(builder).build();
+    }
+
+    @Override
+    public Object read(Value value) {
+      return readEntity(
+          getEntityPlan(this.type),
+          expect(value, Value.ValueTypeCase.MAP_VALUE).getMapValue().getFieldsMap(),
+          null);
+    }
+  }
+
+  /** Maps values of properties declared as {@link Object} according to their runtime type. */
+  private final class DynamicCodec implements ValueCodec {
+
+    @Override
+    public Value write(Object value) {
+      return value == null ? NULL_VALUE : runtimeCodecFor(value.getClass()).write(value);
+    }
+
+    @Override
+    public Object read(Value value) {
+      return switch (value.getValueTypeCase()) {
+        case STRING_VALUE -> value.getStringValue();
+        case INTEGER_VALUE -> value.getIntegerValue();
+        case DOUBLE_VALUE -> value.getDoubleValue();
+        case BOOLEAN_VALUE -> value.getBooleanValue();
+        case TIMESTAMP_VALUE -> Timestamp.fromProto(value.getTimestampValue());
+        case BYTES_VALUE -> Blob.fromByteString(value.getBytesValue());
+        case GEO_POINT_VALUE ->
+            new GeoPoint(
+                value.getGeoPointValue().getLatitude(), value.getGeoPointValue().getLongitude());
+        case ARRAY_VALUE -> new ListCodec(this).read(value);
+        case MAP_VALUE -> new MapCodec(this).read(value);
+        default ->
+            FirestoreCompiledClassMapper.this.fallbackMapper.fromFirestoreValue(
+                value, Object.class);
+      };
+    }
+  }
+
+  /** Converts types without a built-in codec with the Firestore client library. */
+  private final class FallbackCodec implements ValueCodec {
+
+    private final Class<?> type;
+
+    private FallbackCodec(Class<?> type) {
+      this.type = type;
+    }
+
+    @Override
+    public Value write(Object value) {
+      return FirestoreCompiledClassMapper.this.fallbackMapper.toFirestoreValue(value);
+    }
+
+    @Override
+    public Object read(Value value) {
+      return FirestoreCompiledClassMapper.this.fallbackMapper.fromFirestoreValue(value, this.type);
+    }
+  }
+
+  private record PropertyPlan(
+      FirestorePersistentProperty property, String fieldName, ValueCodec codec) {}
+
+  private record EntityPlan(
+      FirestorePersistentEntity<?> entity,
+      List<PropertyPlan> properties,
+      Map<String, PropertyPlan> propertiesByName,
+      FirestorePersistentProperty idProperty,
+      FirestorePersistentProperty updateTimeProperty) {}
+}
@@ -40,6 +40,9 @@ public final class FirestoreDefaultClassMapper implements FirestoreClassMapper {
 
   private static final String NOT_USED_PATH = "/not/used/path";
 
+  private static final String NOT_USED_DOCUMENT_NAME =
+      "projects/dummy-project-id/databases/(default)/documents/not/used";
+
   private FirestoreMappingContext mappingContext;
 
   public FirestoreDefaultClassMapper(FirestoreMappingContext mappingContext) {
@@ -54,6 +57,23 @@ public final class FirestoreDefaultClassMapper implements FirestoreClassMapper {
     return INTERNAL.protoFromSnapshot(documentSnapshot).get(VALUE_FIELD_NAME);
   }
 
+  /**
+   * Converts a Firestore value to the given type with the Firestore client library.
+   *
+   * @param <T> the type of the target object
+   * @param value the value to convert
+   * @param clazz the type of the target object
+   * @return the converted value
+   */
+  <T> T fromFirestoreValue(Value value, Class<T> clazz) {
+    Document document =
+        Document.newBuilder()
+            .setName(NOT_USED_DOCUMENT_NAME)
+            .putFields(VALUE_FIELD_NAME, value)
+            .build();
+    return INTERNAL.snapshotFromProto(Timestamp.now(), document).get(VALUE_FIELD_NAME, clazz);
+  }
+
   public <T> Document entityToDocument(T entity, String documentResourceName) {
     DocumentSnapshot documentSnapshot = INTERNAL.snapshotFromObject(NOT_USED_PATH, entity);
     return Document.newBuilder()
@@ -23,6 +23,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -32,25 +33,38 @@ import com.google.cloud.spring.data.firestore.mapping.FirestoreDefaultClassMappe
 import com.google.cloud.spring.data.firestore.mapping.FirestoreMappingContext;
 import com.google.cloud.spring.data.firestore.mapping.FirestorePersistentEntityImpl;
 import com.google.cloud.spring.data.firestore.mapping.UpdateTime;
+import com.google.firestore.v1.AggregationResult;
+import com.google.firestore.v1.BatchGetDocumentsRequest;
+import com.google.firestore.v1.BatchGetDocumentsResponse;
 import com.google.firestore.v1.CommitRequest;
 import com.google.firestore.v1.CommitResponse;
+import com.google.firestore.v1.Cursor;
 import com.google.firestore.v1.Document.Builder;
 import com.google.firestore.v1.DocumentMask;
 import com.google.firestore.v1.FirestoreGrpc.FirestoreStub;
 import com.google.firestore.v1.GetDocumentRequest;
+import com.google.firestore.v1.PartitionQueryRequest;
+import com.google.firestore.v1.PartitionQueryResponse;
 import com.google.firestore.v1.Precondition;
+import com.google.firestore.v1.RunAggregationQueryRequest;
+import com.google.firestore.v1.RunAggregationQueryResponse;
 import com.google.firestore.v1.RunQueryRequest;
 import com.google.firestore.v1.RunQueryResponse;
+import com.google.firestore.v1.StructuredAggregationQuery;
+import com.google.firestore.v1.StructuredAggregationQuery.Aggregation;
 import com.google.firestore.v1.StructuredQuery;
 import com.google.firestore.v1.Value;
 import com.google.firestore.v1.Write;
 import com.google.firestore.v1.WriteResult;
+import com.google.protobuf.NullValue;
 import io.grpc.stub.StreamObserver;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.data.core.TypeInformation;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -117,6 +131,80 @@ public class FirestoreTemplateTests {
     verify(this.firestoreStub, times(1)).runQuery(any(), any());
   }
 
+  @Test
+  void findAllPartitionedTest() {
+    String splitPoint = parent + "/testEntities/e2";
+    doAnswer(
+            invocation -> {
+              StreamObserver<PartitionQueryResponse> streamObserver = invocation.getArgument(1);
+              streamObserver.onNext(
+                  PartitionQueryResponse.newBuilder()
+                      .addPartitions(
+                          Cursor.newBuilder()
+                              .addValues(Value.newBuilder().setReferenceValue(splitPoint)))
+                      .build());
+              streamObserver.onCompleted();
+              return null;
+            })
+        .when(this.firestoreStub)
+        .partitionQuery(any(), any());
+    doAnswer(
+            invocation -> {
+              RunQueryRequest request = invocation.getArgument(0);
+              StreamObserver<RunQueryResponse> streamObserver = invocation.getArgument(1);
+              if (request.getStructuredQuery().hasEndAt()) {
+                streamObserver.onNext(
+                    RunQueryResponse.newBuilder().setDocument(buildDocument("e1", 100L)).build());
+                // a document of a same-named subcollection returned by the collection group query
+                streamObserver.onNext(
+                    RunQueryResponse.newBuilder()
+                        .setDocument(buildDocument("e1/testEntities/nested", 300L))
+                        .build());
+              } else {
+                streamObserver.onNext(
+                    RunQueryResponse.newBuilder().setDocument(buildDocument("e2", 200L)).build());
+              }
+              streamObserver.onCompleted();
+              return null;
+            })
+        .when(this.firestoreStub)
+        .runQuery(any(), any());
+
+    this.firestoreTemplate.setScanParallelism(2);
+
+    StepVerifier.create(this.firestoreTemplate.findAll(TestEntity.class))
+        .recordWith(HashSet::new)
+        .expectNextCount(2)
+        .consumeRecordedWith(
+            entities ->
+                assertThat(entities)
+                    .containsExactlyInAnyOrder(
+                        new TestEntity("e1", 100L), new TestEntity("e2", 200L)))
+        .verifyComplete();
+
+    ArgumentCaptor<PartitionQueryRequest> partitionRequest =
+        ArgumentCaptor.forClass(PartitionQueryRequest.class);
+    verify(this.firestoreStub, times(1)).partitionQuery(partitionRequest.capture(), any());
+    assertThat(partitionRequest.getValue().getPartitionCount()).isEqualTo(7L);
+    assertThat(partitionRequest.getValue().getStructuredQuery().getFrom(0).getAllDescendants())
+        .isTrue();
+    verify(this.firestoreStub, times(2)).runQuery(any(), any());
+  }
+
+  @Test
+  void findAllSubcollectionIsNotPartitionedTest() {
+    mockRunQueryMethod();
+    this.firestoreTemplate.setScanParallelism(2);
+
+    StepVerifier.create(
+            this.firestoreTemplate.withParent("e1", TestEntity.class).findAll(TestEntity.class))
+        .expectNextCount(2)
+        .verifyComplete();
+
+    verify(this.firestoreStub, never()).partitionQuery(any(), any());
+    verify(this.firestoreStub, times(1)).runQuery(any(), any());
+  }
+
   @Test
   void saveAllTest() {
     mockCommitMethod();
@@ -387,90 +475,106 @@ public class FirestoreTemplateTests {
 
   @Test
   void findAllByIdTest() {
-    GetDocumentRequest request1 =
-        GetDocumentRequest.newBuilder().setName(parent + "/testEntities/e1").build();
-
-    GetDocumentRequest request2 =
-        GetDocumentRequest.newBuilder().setName(parent + "/testEntities/e2").build();
-
-    GetDocumentRequest request3 =
-        GetDocumentRequest.newBuilder().setName(parent + "/testEntities/e3").build();
-
     doAnswer(
             invocation -> {
-              StreamObserver<com.google.firestore.v1.Document> streamObserver =
+              StreamObserver<BatchGetDocumentsResponse> streamObserver =
                   invocation.getArgument(1);
-              streamObserver.onNext(buildDocument("e1", 100L));
+              streamObserver.onNext(
+                  BatchGetDocumentsResponse.newBuilder()
+                      .setFound(buildDocument("e2", 200L))
+                      .build());
+              streamObserver.onNext(
+                  BatchGetDocumentsResponse.newBuilder()
+                      .setMissing(parent + "/testEntities/e3")
+                      .build());
+              streamObserver.onNext(
+                  BatchGetDocumentsResponse.newBuilder()
+                      .setFound(buildDocument("e1", 100L))
+                      .build());
 
               streamObserver.onCompleted();
               return null;
             })
         .when(this.firestoreStub)
-        .getDocument(eq(request1), any());
+        .batchGetDocuments(any(), any());
 
-    doAnswer(
-            invocation -> {
-              StreamObserver<com.google.firestore.v1.Document> streamObserver =
-                  invocation.getArgument(1);
-              streamObserver.onNext(buildDocument("e2", 200L));
+    StepVerifier.create(
+            this.firestoreTemplate.findAllById(Flux.just("e1", "e2", "e3"), TestEntity.class))
+        .expectNext(new TestEntity("e1", 100L), new TestEntity("e2", 200L))
+        .verifyComplete();
 
-              streamObserver.onCompleted();
-              return null;
-            })
-        .when(this.firestoreStub)
-        .getDocument(eq(request2), any());
+    BatchGetDocumentsRequest request =
+        BatchGetDocumentsRequest.newBuilder()
+            .setDatabase("projects/my-project/databases/(default)")
+            .addDocuments(parent + "/testEntities/e1")
+            .addDocuments(parent + "/testEntities/e2")
+            .addDocuments(parent + "/testEntities/e3")
+            .build();
 
+    verify(this.firestoreStub, times(1)).batchGetDocuments(eq(request), any());
+  }
+
+  @Test
+  void findAllByIdBufferSizeTest() {
     doAnswer(
             invocation -> {
-              StreamObserver<com.google.firestore.v1.Document> streamObserver =
+              BatchGetDocumentsRequest request = invocation.getArgument(0);
+              StreamObserver<BatchGetDocumentsResponse> streamObserver =
                   invocation.getArgument(1);
-              streamObserver.onError(new RuntimeException("NOT_FOUND: Document"));
+              for (String name : request.getDocumentsList()) {
+                String id = name.substring(name.lastIndexOf('/') + 1);
+                streamObserver.onNext(
+                    BatchGetDocumentsResponse.newBuilder()
+                        .setFound(buildDocument(id, 100L))
+                        .build());
+              }
 
               streamObserver.onCompleted();
               return null;
             })
         .when(this.firestoreStub)
-        .getDocument(eq(request3), any());
+        .batchGetDocuments(any(), any());
 
-    StepVerifier.create(this.firestoreTemplate.findAllById(Flux.just("e1", "e2"), TestEntity.class))
-        .expectNext(new TestEntity("e1", 100L), new TestEntity("e2", 200L))
+    this.firestoreTemplate.setReadBufferSize(2);
+
+    StepVerifier.create(
+            this.firestoreTemplate.findAllById(
+                Flux.just("e1", "e2", "e3", "e4", "e5"), TestEntity.class))
+        .expectNext(
+            new TestEntity("e1", 100L),
+            new TestEntity("e2", 100L),
+            new TestEntity("e3", 100L),
+            new TestEntity("e4", 100L),
+            new TestEntity("e5", 100L))
         .verifyComplete();
 
-    verify(this.firestoreStub, times(1)).getDocument(eq(request1), any());
+    verify(this.firestoreStub, times(3)).batchGetDocuments(any(), any());
   }
 
   @Test
   void countTest() {
-    mockRunQueryMethod();
+    mockRunAggregationQueryMethod(Value.newBuilder().setIntegerValue(2L).build());
 
     StepVerifier.create(this.firestoreTemplate.count(TestEntity.class))
         .expectNext(2L)
         .verifyComplete();
 
-    StructuredQuery structuredQuery =
-        StructuredQuery.newBuilder()
-            .addFrom(
-                StructuredQuery.CollectionSelector.newBuilder()
-                    .setCollectionId("testEntities")
-                    .build())
-            .setSelect(
-                StructuredQuery.Projection.newBuilder()
-                    .addFields(
-                        StructuredQuery.FieldReference.newBuilder()
-                            .setFieldPath("__name__")
-                            .build())
-                    .build())
-            .build();
-    RunQueryRequest request =
-        RunQueryRequest.newBuilder().setParent(parent).setStructuredQuery(structuredQuery).build();
-
-    verify(this.firestoreStub, times(1)).runQuery(eq(request), any());
-    verify(this.firestoreStub, times(1)).runQuery(any(), any());
+    RunAggregationQueryRequest request =
+        buildAggregationRequest(
+            StructuredQuery.newBuilder()
+                .addFrom(
+                    StructuredQuery.CollectionSelector.newBuilder()
+                        .setCollectionId("testEntities")
+                        .build()),
+            Aggregation.newBuilder().setCount(Aggregation.Count.getDefaultInstance()));
+
+    verify(this.firestoreStub, times(1)).runAggregationQuery(eq(request), any());
+    verify(this.firestoreStub, times(0)).runQuery(any(), any());
   }
 
   @Test
   void countWithQueryTest() {
-    mockRunQueryMethod();
+    mockRunAggregationQueryMethod(Value.newBuilder().setIntegerValue(2L).build());
 
     StructuredQuery.Builder builder = StructuredQuery.newBuilder();
     addWhere(builder);
@@ -484,21 +588,87 @@ public class FirestoreTemplateTests {
             .addFrom(
                 StructuredQuery.CollectionSelector.newBuilder()
                     .setCollectionId("testEntities")
-                    .build())
-            .setSelect(
-                StructuredQuery.Projection.newBuilder()
-                    .addFields(
-                        StructuredQuery.FieldReference.newBuilder()
-                            .setFieldPath("__name__")
-                            .build())
                     .build());
     addWhere(expectedBuilder);
 
-    RunQueryRequest request =
-        RunQueryRequest.newBuilder().setParent(parent).setStructuredQuery(expectedBuilder).build();
+    RunAggregationQueryRequest request =
+        buildAggregationRequest(
+            expectedBuilder,
+            Aggregation.newBuilder().setCount(Aggregation.Count.getDefaultInstance()));
 
-    verify(this.firestoreStub, times(1)).runQuery(eq(request), any());
-    verify(this.firestoreStub, times(1)).runQuery(any(), any());
+    verify(this.firestoreStub, times(1)).runAggregationQuery(eq(request), any());
+  }
+
+  @Test
+  void sumTest() {
+    mockRunAggregationQueryMethod(Value.newBuilder().setIntegerValue(300L).build());
+
+    StepVerifier.create(this.firestoreTemplate.sum(TestEntity.class, "longField", null))
+        .expectNext(300L)
+        .verifyComplete();
+
+    RunAggregationQueryRequest request =
+        buildAggregationRequest(
+            StructuredQuery.newBuilder()
+                .addFrom(
+                    StructuredQuery.CollectionSelector.newBuilder()
+                        .setCollectionId("testEntities")
+                        .build()),
+            Aggregation.newBuilder()
+                .setSum(
+                    Aggregation.Sum.newBuilder()
+                        .setField(
+                            StructuredQuery.FieldReference.newBuilder()
+                                .setFieldPath("longField"))));
+
+    verify(this.firestoreStub, times(1)).runAggregationQuery(eq(request), any());
+  }
+
+  @Test
+  void avgTest() {
+    mockRunAggregationQueryMethod(Value.newBuilder().setDoubleValue(150.0).build());
+
+    StepVerifier.create(this.firestoreTemplate.avg(TestEntity.class, "longField", null))
+        .expectNext(150.0)
+        .verifyComplete();
+  }
+
+  @Test
+  void avgNoValuesTest() {
+    mockRunAggregationQueryMethod(
+        Value.newBuilder().setNullValue(NullValue.NULL_VALUE).build());
+
+    StepVerifier.create(this.firestoreTemplate.avg(TestEntity.class, "longField", null))
+        .verifyComplete();
+  }
+
+  private static RunAggregationQueryRequest buildAggregationRequest(
+      StructuredQuery.Builder query, Aggregation.Builder aggregation) {
+    return RunAggregationQueryRequest.newBuilder()
+        .setParent(parent)
+        .setStructuredAggregationQuery(
+            StructuredAggregationQuery.newBuilder()
+                .setStructuredQuery(query)
+                .addAggregations(aggregation.setAlias("aggregate")))
+        .build();
+  }
+
+  private void mockRunAggregationQueryMethod(Value result) {
+    doAnswer(
+            invocation -> {
+              StreamObserver<RunAggregationQueryResponse> streamObserver =
+                  invocation.getArgument(1);
+              streamObserver.onNext(
+                  RunAggregationQueryResponse.newBuilder()
+                      .setResult(
+                          AggregationResult.newBuilder().putAggregateFields("aggregate", result))
+                      .build());
+
+              streamObserver.onCompleted();
+              return null;
+            })
+        .when(this.firestoreStub)
+        .runAggregationQuery(any(), any());
   }
 
   private void addWhere(StructuredQuery.Builder builder) {
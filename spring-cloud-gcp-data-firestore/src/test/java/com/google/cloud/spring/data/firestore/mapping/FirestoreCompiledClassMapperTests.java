@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.firestore.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.annotation.DocumentId;
+import com.google.cloud.firestore.annotation.Exclude;
+import com.google.cloud.firestore.annotation.PropertyName;
+import com.google.cloud.spring.data.firestore.FirestoreDataException;
+import com.google.firestore.v1.Document;
+import com.google.firestore.v1.Value;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link FirestoreCompiledClassMapper}. */
+class FirestoreCompiledClassMapperTests {
+
+  private static final String DOCUMENT_NAME =
+      "projects/my-project/databases/(default)/documents/entities/e1";
+
+  private final FirestoreMappingContext mappingContext = new FirestoreMappingContext();
+
+  private final FirestoreCompiledClassMapper compiledMapper =
+      new FirestoreCompiledClassMapper(this.mappingContext);
+
+  private final FirestoreDefaultClassMapper defaultMapper =
+      new FirestoreDefaultClassMapper(this.mappingContext);
+
+  @Test
+  void testEntityToDocumentMatchesDefaultMapper() {
+    MappedEntity entity = createEntity();
+
+    Document document = this.compiledMapper.entityToDocument(entity, DOCUMENT_NAME);
+
+    assertThat(document).isEqualTo(this.defaultMapper.entityToDocument(entity, DOCUMENT_NAME));
+    assertThat(document.getFieldsMap())
+        .containsKey("renamed")
+        .doesNotContainKeys("id", "updateTime", "excluded");
+  }
+
+  @Test
+  void testDocumentToEntityMatchesDefaultMapper() {
+    Timestamp updateTime = Timestamp.ofTimeSecondsAndNanos(1000, 0);
+    Document document =
+        this.defaultMapper.entityToDocument(createEntity(), DOCUMENT_NAME).toBuilder()
+            .setUpdateTime(updateTime.toProto())
+            .build();
+
+    MappedEntity entity = this.compiledMapper.documentToEntity(document, MappedEntity.class);
+
+    assertThat(entity)
+        .isEqualTo(this.defaultMapper.documentToEntity(document, MappedEntity.class));
+    assertThat(entity.id).isEqualTo("e1");
+    assertThat(entity.updateTime).isEqualTo(updateTime);
+    assertThat(entity.nested.label).isEqualTo("inner");
+  }
+
+  @Test
+  void testDocumentToEntityWidensNumbers() {
+    Document document =
+        Document.newBuilder()
+            .setName(DOCUMENT_NAME)
+            .putFields("doubleValue", Value.newBuilder().setIntegerValue(3).build())
+            .putFields("intValue", Value.newBuilder().setIntegerValue(7).build())
+            .build();
+
+    MappedEntity entity = this.compiledMapper.documentToEntity(document, MappedEntity.class);
+
+    assertThat(entity.doubleValue).isEqualTo(3.0);
+    assertThat(entity.intValue).isEqualTo(7);
+    assertThat(entity.name).isNull();
+  }
+
+  @Test
+  void testDocumentToEntityRejectsOutOfRangeNumbers() {
+    Document document =
+        Document.newBuilder()
+            .setName(DOCUMENT_NAME)
+            .putFields("intValue", Value.newBuilder().setIntegerValue(1L << 31).build())
+            .build();
+    Document infiniteDocument =
+        Document.newBuilder()
+            .setName(DOCUMENT_NAME)
+            .putFields(
+                "longValue", Value.newBuilder().setDoubleValue(Double.POSITIVE_INFINITY).build())
+            .build();
+
+    assertThatThrownBy(() -> this.compiledMapper.documentToEntity(document, MappedEntity.class))
+        .isInstanceOf(FirestoreDataException.class)
+        .hasMessageContaining("intValue")
+        .hasMessageContaining("2147483648");
+    assertThatThrownBy(
+            () -> this.compiledMapper.documentToEntity(infiniteDocument, MappedEntity.class))
+        .isInstanceOf(FirestoreDataException.class)
+        .hasMessageContaining("longValue");
+  }
+
+  @Test
+  void testToFirestoreValue() {
+    assertThat(this.compiledMapper.toFirestoreValue(List.of("a", 1L)))
+        .isEqualTo(this.defaultMapper.toFirestoreValue(List.of("a", 1L)));
+    assertThat(this.compiledMapper.toFirestoreValue(Color.RED))
+        .isEqualTo(this.defaultMapper.toFirestoreValue(Color.RED));
+  }
+
+  private static MappedEntity createEntity() {
+    MappedEntity entity = new MappedEntity();
+    entity.id = "e1";
+    entity.name = "entity";
+    entity.intValue = 42;
+    entity.longValue = 4200L;
+    entity.doubleValue = 4.2;
+    entity.flag = true;
+    entity.color = Color.GREEN;
+    entity.created = Timestamp.ofTimeSecondsAndNanos(500, 0);
+    entity.tags = List.of("a", "b");
+    entity.counts = Map.of("x", 1L, "y", 2L);
+    entity.renamedValue = "renamed";
+    entity.excluded = "excluded";
+    entity.nested = new Nested();
+    entity.nested.label = "inner";
+    entity.nested.values = List.of(1L, 2L);
+    return entity;
+  }
+
+  /** A color. */
+  public enum Color {
+    RED,
+    GREEN
+  }
+
+  /** An entity exercising the supported property types. */
+  @com.google.cloud.spring.data.firestore.Document(collectionName = "entities")
+  public static class MappedEntity {
+
+    @DocumentId public String id;
+
+    public String name;
+
+    public int intValue;
+
+    public Long longValue;
+
+    public Double doubleValue;
+
+    public Boolean flag;
+
+    public Color color;
+
+    public Timestamp created;
+
+    public List<String> tags;
+
+    public Map<String, Long> counts;
+
+    @PropertyName("renamed")
+    public String renamedValue;
+
+    @Exclude public String excluded;
+
+    public Nested nested;
+
+    @UpdateTime public Timestamp updateTime;
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof MappedEntity that)) {
+        return false;
+      }
+      return intValue == that.intValue
+          && Objects.equals(id, that.id)
+          && Objects.equals(name, that.name)
+          && Objects.equals(longValue, that.longValue)
+          && Objects.equals(doubleValue, that.doubleValue)
+          && Objects.equals(flag, that.flag)
+          && color == that.color
+          && Objects.equals(created, that.created)
+          && Objects.equals(tags, that.tags)
+          && Objects.equals(counts, that.counts)
+          && Objects.equals(renamedValue, that.renamedValue)
+          && Objects.equals(nested, that.nested)
+          && Objects.equals(updateTime, that.updateTime);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(id, name, intValue, longValue);
+    }
+  }
+
+  /** A nested value object. */
+  public static class Nested {
+
+    public String label;
+
+    public List<Long> values;
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Nested that)) {
+        return false;
+      }
+      return Objects.equals(label, that.label) && Objects.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(label, values);
+    }
+  }
+}
@@ -32,7 +32,11 @@ public class SpannerRepositoryRuntimeHints implements RuntimeHintsRegistrar {
             Arrays.asList(
                 TypeReference.of(
                     com.google.cloud.spring.data.spanner.repository.support.SimpleSpannerRepository
-                        .class)),
+                        .class),
+                // referenced by name so that Reactor stays optional
+                TypeReference.of(
+                    "com.google.cloud.spring.data.spanner.repository.support"
+                        + ".SimpleReactiveSpannerRepository")),
             hint ->
                 hint.withMembers(
                     MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import com.google.cloud.spanner.Partition;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
+import java.lang.ref.Cleaner;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Merges the rows of partitions that are read in parallel into a single iterator. The partitions
+ * are read by up to {@code parallelism} tasks on the given executor, and the mapped rows are handed
+ * over through a bounded queue, so the partitions are never held in memory all at once. Rows of
+ * different partitions are interleaved in no particular order.
+ *
+ * <p>The tasks stop once the results are closed or exhausted. They do not reference the results
+ * themselves, so results that are dropped without being closed are closed when they are garbage
+ * collected, and the tasks do not wait for a consumer that is gone.
+ *
+ * @param <T> the type of the mapped rows.
+ */
+final class PartitionedResults<T> implements Iterator<T>, AutoCloseable {
+
+  private static final Cleaner CLEANER = Cleaner.create();
+
+  private static final Object PARTITION_DONE = new Object();
+
+  private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+  private final Readers<T> readers;
+
+  private final Cleaner.Cleanable cleanable;
+
+  private int remainingPartitions;
+
+  private Object next;
+
+  /**
+   * Constructor. Starts reading all partitions.
+   *
+   * @param partitions the partitions to read.
+   * @param partitionReader the function that reads and maps the rows of a partition. The returned
+   *     stream is closed once the partition is read.
+   * @param executor the executor on which the partitions are read.
+   * @param parallelism the maximum number of partitions read at the same time.
+   * @param bufferSize the maximum number of mapped rows waiting to be consumed.
+   * @param closeAction run once when the results are closed or exhausted.
+   */
+  PartitionedResults(
+      List<Partition> partitions,
+      Function<Partition, Stream<T>> partitionReader,
+      Executor executor,
+      int parallelism,
+      int bufferSize,
+      Runnable closeAction) {
+    this.readers = new Readers<>(partitions, partitionReader, bufferSize, closeAction);
+    this.cleanable = CLEANER.register(this, this.readers::close);
+    this.remainingPartitions = partitions.size();
+    for (int i = 0; i < Math.min(parallelism, partitions.size()); i++) {
+      executor.execute(this.readers::readPartitions);
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (this.next == null && this.remainingPartitions > 0 && !this.readers.closed) {
+      Object item = take();
+      if (item == PARTITION_DONE) {
+        this.remainingPartitions--;
+      } else if (item instanceof PartitionFailure failure) {
+        close();
+        throw failure.toException();
+      } else {
+        this.next = item;
+      }
+    }
+    if (this.next == null) {
+      close();
+      return false;
+    }
+    return true;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    T result = (T) this.next;
+    this.next = null;
+    return result;
+  }
+
+  private Object take() {
+    try {
+      return this.readers.queue.take();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      close();
+      throw new SpannerDataException("Interrupted while waiting for partitioned read results.", ex);
+    }
+  }
+
+  @Override
+  public void close() {
+    this.cleanable.clean();
+  }
+
+  /** The state shared with the reading tasks, which must not reference the results. */
+  private static final class Readers<T> {
+
+    private final Queue<Partition> partitions;
+
+    private final Function<Partition, Stream<T>> partitionReader;
+
+    private final BlockingQueue<Object> queue;
+
+    private final Runnable closeAction;
+
+    private volatile boolean closed;
+
+    Readers(
+        List<Partition> partitions,
+        Function<Partition, Stream<T>> partitionReader,
+        int bufferSize,
+        Runnable closeAction) {
+      this.partitions = new ConcurrentLinkedQueue<>(partitions);
+      this.partitionReader = partitionReader;
+      this.queue = new ArrayBlockingQueue<>(bufferSize);
+      this.closeAction = closeAction;
+    }
+
+    void readPartitions() {
+      Partition partition;
+      while (!this.closed && (partition = this.partitions.poll()) != null) {
+        readPartition(partition);
+      }
+    }
+
+    private void readPartition(Partition partition) {
+      try (Stream<T> rows = this.partitionReader.apply(partition)) {
+        Iterator<T> iterator = rows.iterator();
+        while (!this.closed && iterator.hasNext()) {
+          enqueue(iterator.next());
+        }
+      } catch (Throwable ex) {
+        // errors are handed over as well, or the consumer would wait for this partition forever
+        enqueue(new PartitionFailure(ex));
+        return;
+      }
+      enqueue(PARTITION_DONE);
+    }
+
+    private void enqueue(Object item) {
+      try {
+        // the consumer may stop taking items, so give up once the results are closed
+        while (!this.closed
+            && !this.queue.offer(item, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+          // keep waiting for room in the buffer
+        }
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    /** Stops the reading tasks; run once by the cleanable of the results. */
+    void close() {
+      this.closed = true;
+      this.queue.clear();
+      this.closeAction.run();
+    }
+  }
+
+  private record PartitionFailure(Throwable failure) {
+    RuntimeException toException() {
+      if (this.failure instanceof Error error) {
+        throw error;
+      }
+      return this.failure instanceof RuntimeException runtimeException
+          ? runtimeException
+          : new SpannerDataException("Failed to read a partition.", this.failure);
+    }
+  }
+}
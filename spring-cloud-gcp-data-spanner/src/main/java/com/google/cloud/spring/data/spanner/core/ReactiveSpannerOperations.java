@@ -0,0 +1,212 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.Struct;
+import com.google.cloud.spring.data.spanner.core.convert.SpannerEntityProcessor;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
+import java.util.function.Function;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Defines reactive operations available to use with Spanner. Rows are read with the asynchronous
+ * API of the Cloud Spanner client and are only fetched as fast as subscribers request them.
+ * These operations never join a transaction managed by Spring.
+ */
+public interface ReactiveSpannerOperations {
+
+  /**
+   * Finds a single stored object using a key.
+   *
+   * @param entityClass the type of the object to retrieve.
+   * @param key the key of the object.
+   * @param <T> the type of the object to retrieve.
+   * @return a mono of the object, which is empty if no object is stored with the given key.
+   */
+  <T> Mono<T> read(Class<T> entityClass, Key key);
+
+  /**
+   * Finds objects stored using a set of keys.
+   *
+   * @param entityClass the type of the object to retrieve.
+   * @param keys the keys of the objects to retrieve.
+   * @param options optional read options, such as the index and the timestamp bound.
+   * @param <T> the type of the object to retrieve.
+   * @return a flux of the objects found.
+   */
+  <T> Flux<T> read(Class<T> entityClass, KeySet keys, SpannerReadOptions options);
+
+  /**
+   * Finds all objects of the given type.
+   *
+   * @param entityClass the type of the object to retrieve.
+   * @param <T> the type of the object to retrieve.
+   * @return a flux of all objects.
+   */
+  <T> Flux<T> readAll(Class<T> entityClass);
+
+  /**
+   * Returns whether an entity with the given key exists.
+   *
+   * @param entityClass the type of the entity.
+   * @param key the key of the entity.
+   * @param <T> the type of the entity.
+   * @return a mono of {@code true} if the entity exists.
+   */
+  <T> Mono<Boolean> existsById(Class<T> entityClass, Key key);
+
+  /**
+   * Finds objects by using an SQL statement.
+   *
+   * @param entityClass the type of object to retrieve.
+   * @param statement the SQL statement used to select the objects.
+   * @param options optional query options, such as the timestamp bound.
+   * @param <T> the type of object to retrieve.
+   * @return a flux of the objects found by the statement.
+   */
+  <T> Flux<T> query(Class<T> entityClass, Statement statement, SpannerQueryOptions options);
+
+  /**
+   * Executes an SQL statement and maps each row with a function.
+   *
+   * @param rowFunc the function that turns each row into an object.
+   * @param statement the SQL statement to execute.
+   * @param options optional query options, such as the timestamp bound.
+   * @param <A> the type of object the rows are mapped to.
+   * @return a flux of the mapped rows.
+   */
+  <A> Flux<A> query(Function<Struct, A> rowFunc, Statement statement, SpannerQueryOptions options);
+
+  /**
+   * Finds all objects of the given type with paging and sorting.
+   *
+   * @param entityClass the type of object to retrieve.
+   * @param options the sorting, paging and query options.
+   * @param <T> the type of object to retrieve.
+   * @return a flux of the objects found.
+   */
+  <T> Flux<T> queryAll(Class<T> entityClass, SpannerPageableQueryOptions options);
+
+  /**
+   * Counts the number of objects of the given type.
+   *
+   * @param entityClass the type of object to count.
+   * @param <T> the type of object to count.
+   * @return a mono of the number of stored objects.
+   */
+  <T> Mono<Long> count(Class<T> entityClass);
+
+  /**
+   * Executes a DML statement in a read-write transaction.
+   *
+   * @param statement the DML statement to execute.
+   * @return a mono of the number of rows affected.
+   */
+  Mono<Long> executeDmlStatement(Statement statement);
+
+  /**
+   * Inserts an object.
+   *
+   * @param object the object to insert.
+   * @return a mono that completes when the insert has been committed.
+   */
+  Mono<Void> insert(Object object);
+
+  /**
+   * Inserts several objects in a single commit.
+   *
+   * @param objects the objects to insert.
+   * @return a mono that completes when the inserts have been committed.
+   */
+  Mono<Void> insertAll(Iterable<?> objects);
+
+  /**
+   * Updates an object already in storage.
+   *
+   * @param object the object to update.
+   * @return a mono that completes when the update has been committed.
+   */
+  Mono<Void> update(Object object);
+
+  /**
+   * Updates several objects already in storage in a single commit.
+   *
+   * @param objects the objects to update.
+   * @return a mono that completes when the updates have been committed.
+   */
+  Mono<Void> updateAll(Iterable<?> objects);
+
+  /**
+   * Updates or inserts an object.
+   *
+   * @param object the object to update or insert.
+   * @return a mono that completes when the write has been committed.
+   */
+  Mono<Void> upsert(Object object);
+
+  /**
+   * Updates or inserts several objects in a single commit.
+   *
+   * @param objects the objects to update or insert.
+   * @return a mono that completes when the writes have been committed.
+   */
+  Mono<Void> upsertAll(Iterable<?> objects);
+
+  /**
+   * Deletes an object.
+   *
+   * @param entity the object to delete.
+   * @return a mono that completes when the delete has been committed.
+   */
+  Mono<Void> delete(Object entity);
+
+  /**
+   * Deletes several objects in a single commit.
+   *
+   * @param objects the objects to delete.
+   * @return a mono that completes when the deletes have been committed.
+   */
+  Mono<Void> deleteAll(Iterable<?> objects);
+
+  /**
+   * Deletes the objects of the given type stored with the given keys.
+   *
+   * @param entityClass the type of the objects to delete.
+   * @param keys the keys of the objects to delete.
+   * @param <T> the type of the objects to delete.
+   * @return a mono that completes when the delete has been committed.
+   */
+  <T> Mono<Void> delete(Class<T> entityClass, KeySet keys);
+
+  /**
+   * Gets the mapping context used by the operations.
+   *
+   * @return the mapping context.
+   */
+  SpannerMappingContext getMappingContext();
+
+  /**
+   * Gets the entity processor used to convert rows and keys.
+   *
+   * @return the entity processor.
+   */
+  SpannerEntityProcessor getSpannerEntityProcessor();
+}
@@ -0,0 +1,471 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.spanner.AsyncResultSet;
+import com.google.cloud.spanner.AsyncResultSet.CallbackResponse;
+import com.google.cloud.spanner.AsyncResultSet.CursorState;
+import com.google.cloud.spanner.DatabaseClient;
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spanner.Mutation;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.Struct;
+import com.google.cloud.spring.data.spanner.core.convert.SpannerEntityProcessor;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentEntity;
+import com.google.cloud.spring.data.spanner.core.mapping.event.AfterDeleteEvent;
+import com.google.cloud.spring.data.spanner.core.mapping.event.AfterExecuteDmlEvent;
+import com.google.cloud.spring.data.spanner.core.mapping.event.AfterSaveEvent;
+import com.google.cloud.spring.data.spanner.core.mapping.event.BeforeDeleteEvent;
+import com.google.cloud.spring.data.spanner.core.mapping.event.BeforeExecuteDmlEvent;
+import com.google.cloud.spring.data.spanner.core.mapping.event.BeforeSaveEvent;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * An implementation of {@link ReactiveSpannerOperations} on top of the asynchronous API of the
+ * Cloud Spanner client. Rows are delivered to a callback that maps them with the entity processor
+ * of the given {@link SpannerTemplate}; the callback pauses the result set whenever subscribers
+ * have no outstanding demand, so no thread waits for Cloud Spanner and rows are not buffered
+ * beyond the client's own prefetch. Writes are committed by an {@code AsyncRunner}. The mapping
+ * context, mutation factory and event publisher of the {@link SpannerTemplate} are shared.
+ *
+ * <p>Entities with interleaved properties or a {@code @Where} clause need further queries for
+ * their children; reads of such entities run the blocking operations of the {@link
+ * SpannerTemplate} on the bounded elastic scheduler instead.
+ */
+public class ReactiveSpannerTemplate implements ReactiveSpannerOperations {
+
+  private static final Log LOGGER = LogFactory.getLog(ReactiveSpannerTemplate.class);
+
+  private final SpannerTemplate spannerTemplate;
+
+  private final Executor callbackExecutor;
+
+  /**
+   * Constructor that maps rows on a pool of daemon threads owned by this template, one per
+   * processor.
+   *
+   * @param spannerTemplate the template whose configuration the reactive operations share.
+   */
+  public ReactiveSpannerTemplate(SpannerTemplate spannerTemplate) {
+    this(spannerTemplate, SpannerAsyncSupport.newCallbackExecutor());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param spannerTemplate the template whose configuration the reactive operations share.
+   * @param callbackExecutor the executor that maps rows and commits writes.
+   */
+  public ReactiveSpannerTemplate(SpannerTemplate spannerTemplate, Executor callbackExecutor) {
+    Assert.notNull(spannerTemplate, "A valid Spanner template is required.");
+    Assert.notNull(callbackExecutor, "A valid callback executor is required.");
+    this.spannerTemplate = spannerTemplate;
+    this.callbackExecutor = callbackExecutor;
+  }
+
+  @Override
+  public SpannerMappingContext getMappingContext() {
+    return this.spannerTemplate.getMappingContext();
+  }
+
+  @Override
+  public SpannerEntityProcessor getSpannerEntityProcessor() {
+    return this.spannerTemplate.getSpannerEntityProcessor();
+  }
+
+  @Override
+  public <T> Mono<T> read(Class<T> entityClass, Key key) {
+    return read(entityClass, KeySet.singleKey(key), null).next();
+  }
+
+  @Override
+  public <T> Flux<T> read(Class<T> entityClass, KeySet keys, SpannerReadOptions options) {
+    SpannerPersistentEntity<?> persistentEntity =
+        getMappingContext().getPersistentEntityOrFail(entityClass);
+    if (SpannerAsyncSupport.requiresFollowUpQueries(persistentEntity)) {
+      return blocking(() -> this.spannerTemplate.read(entityClass, keys, options));
+    }
+    return flux(
+        () -> executeRead(persistentEntity.tableName(), keys, persistentEntity.columns(), options),
+        entityRowFunc(entityClass, options));
+  }
+
+  @Override
+  public <T> Flux<T> readAll(Class<T> entityClass) {
+    return read(entityClass, KeySet.all(), null);
+  }
+
+  @Override
+  public <T> Mono<Boolean> existsById(Class<T> entityClass, Key key) {
+    Assert.notNull(key, "A non-null key is required.");
+    SpannerPersistentEntity<?> persistentEntity =
+        getMappingContext().getPersistentEntityOrFail(entityClass);
+    return flux(
+            () ->
+                executeRead(
+                    persistentEntity.tableName(),
+                    KeySet.singleKey(key),
+                    Collections.singleton(persistentEntity.getPrimaryKeyColumnName()),
+                    null),
+            row -> Boolean.TRUE)
+        .hasElements();
+  }
+
+  @Override
+  public <T> Flux<T> query(Class<T> entityClass, Statement statement, SpannerQueryOptions options) {
+    if (SpannerAsyncSupport.requiresFollowUpQueries(
+        getMappingContext().getPersistentEntityOrFail(entityClass))) {
+      return blocking(() -> this.spannerTemplate.query(entityClass, statement, options));
+    }
+    return query(entityRowFunc(entityClass, options), statement, options);
+  }
+
+  @Override
+  public <A> Flux<A> query(
+      Function<Struct, A> rowFunc, Statement statement, SpannerQueryOptions options) {
+    return flux(() -> executeQuery(statement, options), rowFunc);
+  }
+
+  @Override
+  public <T> Flux<T> queryAll(Class<T> entityClass, SpannerPageableQueryOptions options) {
+    return query(
+        entityClass, this.spannerTemplate.buildQueryAllStatement(entityClass, options), options);
+  }
+
+  @Override
+  public <T> Mono<Long> count(Class<T> entityClass) {
+    SpannerPersistentEntity<?> persistentEntity =
+        getMappingContext().getPersistentEntityOrFail(entityClass);
+    Statement statement =
+        Statement.of(String.format("SELECT COUNT(*) FROM %s", persistentEntity.tableName()));
+    return query(row -> row.getLong(0), statement, null).single();
+  }
+
+  @Override
+  public Mono<Long> executeDmlStatement(Statement statement) {
+    return Mono.defer(
+        () -> {
+          this.spannerTemplate.maybeEmitEvent(new BeforeExecuteDmlEvent(statement));
+          return toMono(
+                  getDatabaseClient()
+                      .runAsync()
+                      .runAsync(
+                          transaction -> transaction.executeUpdateAsync(statement),
+                          this.callbackExecutor))
+              .doOnNext(
+                  count ->
+                      this.spannerTemplate.maybeEmitEvent(
+                          new AfterExecuteDmlEvent(statement, count)));
+        });
+  }
+
+  @Override
+  public Mono<Void> insert(Object object) {
+    return applySaveMutations(
+        () -> this.spannerTemplate.getMutationFactory().insert(object),
+        Collections.singletonList(object));
+  }
+
+  @Override
+  public Mono<Void> insertAll(Iterable<?> objects) {
+    return applySaveMutations(
+        () ->
+            SpannerAsyncSupport.getMutationsForMultipleObjects(
+                objects, x -> this.spannerTemplate.getMutationFactory().insert(x)),
+        objects);
+  }
+
+  @Override
+  public Mono<Void> update(Object object) {
+    return applySaveMutations(
+        () -> this.spannerTemplate.getMutationFactory().update(object, null),
+        Collections.singletonList(object));
+  }
+
+  @Override
+  public Mono<Void> updateAll(Iterable<?> objects) {
+    return applySaveMutations(
+        () ->
+            SpannerAsyncSupport.getMutationsForMultipleObjects(
+                objects, x -> this.spannerTemplate.getMutationFactory().update(x, null)),
+        objects);
+  }
+
+  @Override
+  public Mono<Void> upsert(Object object) {
+    return applySaveMutations(
+        () -> this.spannerTemplate.getMutationFactory().upsert(object, null),
+        Collections.singletonList(object));
+  }
+
+  @Override
+  public Mono<Void> upsertAll(Iterable<?> objects) {
+    return applySaveMutations(
+        () ->
+            SpannerAsyncSupport.getMutationsForMultipleObjects(
+                objects, x -> this.spannerTemplate.getMutationFactory().upsert(x, null)),
+        objects);
+  }
+
+  @Override
+  public Mono<Void> delete(Object entity) {
+    return deleteAll(Collections.singletonList(entity));
+  }
+
+  @Override
+  public Mono<Void> deleteAll(Iterable<?> objects) {
+    return Mono.defer(
+        () -> {
+          List<Mutation> mutations =
+              SpannerAsyncSupport.getMutationsForMultipleObjects(
+                  objects,
+                  x ->
+                      Collections.singletonList(
+                          this.spannerTemplate.getMutationFactory().delete(x)));
+          this.spannerTemplate.maybeEmitEvent(
+              new BeforeDeleteEvent(mutations, objects, null, null));
+          return applyMutations(mutations)
+              .doOnSuccess(
+                  x ->
+                      this.spannerTemplate.maybeEmitEvent(
+                          new AfterDeleteEvent(mutations, objects, null, null)));
+        });
+  }
+
+  @Override
+  public <T> Mono<Void> delete(Class<T> entityClass, KeySet keys) {
+    return Mono.defer(
+        () -> {
+          List<Mutation> mutations =
+              Collections.singletonList(
+                  this.spannerTemplate.getMutationFactory().delete(entityClass, keys));
+          this.spannerTemplate.maybeEmitEvent(
+              new BeforeDeleteEvent(mutations, null, keys, entityClass));
+          return applyMutations(mutations)
+              .doOnSuccess(
+                  x ->
+                      this.spannerTemplate.maybeEmitEvent(
+                          new AfterDeleteEvent(mutations, null, keys, entityClass)));
+        });
+  }
+
+  private Mono<Void> applySaveMutations(
+      Supplier<List<Mutation>> mutationsSupplier, Iterable<?> entities) {
+    return Mono.defer(
+        () -> {
+          this.spannerTemplate.maybeEmitEvent(new BeforeSaveEvent(entities, null));
+          List<Mutation> mutations = mutationsSupplier.get();
+          return applyMutations(mutations)
+              .doOnSuccess(
+                  x ->
+                      this.spannerTemplate.maybeEmitEvent(
+                          new AfterSaveEvent(mutations, entities, null)));
+        });
+  }
+
+  private Mono<Void> applyMutations(List<Mutation> mutations) {
+    return Mono.defer(
+        () -> {
+          LOGGER.debug("Applying Mutation reactively: " + mutations);
+          return toMono(
+                  getDatabaseClient()
+                      .runAsync()
+                      .runAsync(
+                          transaction -> {
+                            transaction.buffer(mutations);
+                            return ApiFutures.<Void>immediateFuture(null);
+                          },
+                          this.callbackExecutor))
+              .then();
+        });
+  }
+
+  /**
+   * Creates a flux of the rows of an asynchronous result set. The result set is opened when the
+   * flux is subscribed to. Its callback emits rows while there is demand and pauses otherwise.
+   *
+   * <p>The Cloud Spanner client ignores a resume while the callback is running, so a request must
+   * not resume the result set before the pause has taken effect. The callback marks itself as
+   * {@link PauseState#PAUSING} and checks the demand a last time before it returns {@link
+   * CallbackResponse#PAUSE}. A request made while the callback is pausing is recorded and the
+   * result set is resumed once the callback has returned to the executor, when the pause has taken
+   * effect.
+   */
+  private <A> Flux<A> flux(
+      Supplier<AsyncResultSet> resultSetSupplier, Function<Struct, A> rowFunc) {
+    return Flux.create(
+        sink -> {
+          AsyncResultSet resultSet = resultSetSupplier.get();
+          AtomicBoolean finished = new AtomicBoolean();
+          AtomicReference<PauseState> state = new AtomicReference<>(PauseState.RUNNING);
+          Runnable resume =
+              () -> {
+                if (!finished.get()) {
+                  resultSet.resume();
+                }
+              };
+          Executor executor =
+              task ->
+                  this.callbackExecutor.execute(
+                      () -> {
+                        try {
+                          task.run();
+                        } finally {
+                          // the callback has returned, so a pause it returned has taken effect
+                          if (!state.compareAndSet(PauseState.PAUSING, PauseState.PAUSED)
+                              && state.compareAndSet(
+                                  PauseState.RESUME_REQUESTED, PauseState.RUNNING)) {
+                            resume.run();
+                          }
+                        }
+                      });
+          ApiFuture<Void> done =
+              resultSet.setCallback(
+                  executor,
+                  cursor -> {
+                    while (true) {
+                      if (sink.isCancelled()) {
+                        return CallbackResponse.DONE;
+                      }
+                      while (sink.requestedFromDownstream() > 0) {
+                        CursorState cursorState = cursor.tryNext();
+                        if (cursorState == CursorState.DONE) {
+                          return CallbackResponse.DONE;
+                        }
+                        if (cursorState == CursorState.NOT_READY) {
+                          return CallbackResponse.CONTINUE;
+                        }
+                        sink.next(rowFunc.apply(cursor.getCurrentRowAsStruct()));
+                      }
+                      state.set(PauseState.PAUSING);
+                      if (sink.requestedFromDownstream() == 0) {
+                        return CallbackResponse.PAUSE;
+                      }
+                      // demand arrived before the pause, so keep emitting instead
+                      state.set(PauseState.RUNNING);
+                    }
+                  });
+          ApiFutures.addCallback(
+              done,
+              new ApiFutureCallback<>() {
+                @Override
+                public void onFailure(Throwable throwable) {
+                  finished.set(true);
+                  if (!sink.isCancelled()) {
+                    sink.error(throwable);
+                  }
+                }
+
+                @Override
+                public void onSuccess(Void result) {
+                  finished.set(true);
+                  sink.complete();
+                }
+              },
+              Runnable::run);
+          sink.onRequest(
+              n -> {
+                while (true) {
+                  PauseState current = state.get();
+                  if (current == PauseState.PAUSED) {
+                    if (state.compareAndSet(PauseState.PAUSED, PauseState.RUNNING)) {
+                      resume.run();
+                      return;
+                    }
+                  } else if (current == PauseState.PAUSING) {
+                    if (state.compareAndSet(PauseState.PAUSING, PauseState.RESUME_REQUESTED)) {
+                      return;
+                    }
+                  } else {
+                    // the callback is running and sees the demand, or a resume is already queued
+                    return;
+                  }
+                }
+              });
+          sink.onCancel(
+              () -> {
+                if (!finished.get()) {
+                  resultSet.cancel();
+                }
+              });
+        });
+  }
+
+  private <T> Flux<T> blocking(Supplier<List<T>> operation) {
+    return Mono.fromCallable(operation::get)
+        .subscribeOn(Schedulers.boundedElastic())
+        .flatMapIterable(Function.identity());
+  }
+
+  private AsyncResultSet executeQuery(Statement statement, SpannerQueryOptions options) {
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Executing reactive query: " + statement);
+    }
+    return SpannerAsyncSupport.executeQuery(getDatabaseClient(), statement, options);
+  }
+
+  private AsyncResultSet executeRead(
+      String tableName, KeySet keys, Iterable<String> columns, SpannerReadOptions options) {
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Executing reactive read on table " + tableName + " with keys: " + keys);
+    }
+    return SpannerAsyncSupport.executeRead(
+        getDatabaseClient(), tableName, keys, columns, options);
+  }
+
+  private <T> Function<Struct, T> entityRowFunc(
+      Class<T> entityClass, AbstractSpannerRequestOptions<?> options) {
+    return SpannerAsyncSupport.entityRowFunc(getSpannerEntityProcessor(), entityClass, options);
+  }
+
+  private DatabaseClient getDatabaseClient() {
+    return this.spannerTemplate.getDatabaseClientProvider().get();
+  }
+
+  private static <T> Mono<T> toMono(ApiFuture<T> apiFuture) {
+    return Mono.fromFuture(SpannerAsyncSupport.toCompletableFuture(apiFuture));
+  }
+
+  /** The hand-off between the result set callback and requests of the subscriber. */
+  private enum PauseState {
+    /** The callback is running or scheduled and sees new demand. */
+    RUNNING,
+    /** The callback is returning {@link CallbackResponse#PAUSE}. */
+    PAUSING,
+    /** The pause has taken effect; the next request resumes the result set. */
+    PAUSED,
+    /** A request arrived while pausing; the result set is resumed once the pause took effect. */
+    RESUME_REQUESTED
+  }
+}
@@ -62,6 +62,14 @@ class ReadOnlyTransactionSpannerTemplate extends SpannerTemplate {
     throw new SpannerDataException("A read-only transaction template cannot perform mutations.");
   }
 
+  @Override
+  protected SpannerBulkWriteResult applyBulkSaveMutations(
+      Iterable<?> entities,
+      Function<Object, Collection<Mutation>> mutationFunc,
+      SpannerBulkWriteOptions options) {
+    throw new SpannerDataException("A read-only transaction template cannot perform mutations.");
+  }
+
   @Override
   public long executeDmlStatement(Statement statement) {
     throw new SpannerDataException("A read-only transaction template cannot execute DML.");
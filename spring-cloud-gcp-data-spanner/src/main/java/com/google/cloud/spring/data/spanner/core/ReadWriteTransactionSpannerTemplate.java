@@ -67,6 +67,14 @@ class ReadWriteTransactionSpannerTemplate extends SpannerTemplate {
     return this.transactionContext;
   }
 
+  @Override
+  protected SpannerBulkWriteResult applyBulkSaveMutations(
+      Iterable<?> entities,
+      Function<Object, Collection<Mutation>> mutationFunc,
+      SpannerBulkWriteOptions options) {
+    throw new SpannerDataException("A read-write transaction template cannot perform bulk writes.");
+  }
+
   @Override
   public long executeDmlStatement(Statement statement) {
     return this.transactionContext.executeUpdate(statement);
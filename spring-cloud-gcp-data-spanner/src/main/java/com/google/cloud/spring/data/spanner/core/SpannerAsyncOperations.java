@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.Struct;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Defines non-blocking operations available to use with Spanner. Each method starts the operation
+ * and returns immediately; the returned future completes once Cloud Spanner has answered and the
+ * rows have been mapped on the callback executor. These operations never join a transaction
+ * managed by Spring.
+ */
+public interface SpannerAsyncOperations {
+
+  /**
+   * Finds a single stored object using a key.
+   *
+   * @param entityClass the type of the object to retrieve.
+   * @param key the key of the object.
+   * @param <T> the type of the object to retrieve.
+   * @return a future of the object, which completes with null if no object is stored with the
+   *     given key.
+   */
+  <T> CompletableFuture<T> readAsync(Class<T> entityClass, Key key);
+
+  /**
+   * Finds objects stored using a set of keys.
+   *
+   * @param entityClass the type of the object to retrieve.
+   * @param keys the keys of the objects to retrieve.
+   * @param options optional read options, such as the index and the timestamp bound.
+   * @param <T> the type of the object to retrieve.
+   * @return a future of the list of objects, which may be empty.
+   */
+  <T> CompletableFuture<List<T>> readAsync(
+      Class<T> entityClass, KeySet keys, SpannerReadOptions options);
+
+  /**
+   * Finds all objects of the given type.
+   *
+   * @param entityClass the type of the object to retrieve.
+   * @param <T> the type of the object to retrieve.
+   * @return a future of the list of all objects.
+   */
+  <T> CompletableFuture<List<T>> readAllAsync(Class<T> entityClass);
+
+  /**
+   * Finds objects by using an SQL statement.
+   *
+   * @param entityClass the type of object to retrieve.
+   * @param statement the SQL statement used to select the objects.
+   * @param options optional query options, such as the timestamp bound.
+   * @param <T> the type of object to retrieve.
+   * @return a future of the list of objects found by the statement.
+   */
+  <T> CompletableFuture<List<T>> queryAsync(
+      Class<T> entityClass, Statement statement, SpannerQueryOptions options);
+
+  /**
+   * Executes an SQL statement and maps each row with a function.
+   *
+   * @param rowFunc the function that turns each row into an object.
+   * @param statement the SQL statement to execute.
+   * @param options optional query options, such as the timestamp bound.
+   * @param <A> the type of object the rows are mapped to.
+   * @return a future of the list of mapped rows.
+   */
+  <A> CompletableFuture<List<A>> queryAsync(
+      Function<Struct, A> rowFunc, Statement statement, SpannerQueryOptions options);
+
+  /**
+   * Inserts an object.
+   *
+   * @param object the object to insert.
+   * @return a future that completes when the insert has been committed.
+   */
+  CompletableFuture<Void> insertAsync(Object object);
+
+  /**
+   * Inserts several objects in a single commit.
+   *
+   * @param objects the objects to insert.
+   * @return a future that completes when the inserts have been committed.
+   */
+  CompletableFuture<Void> insertAllAsync(Iterable<?> objects);
+
+  /**
+   * Updates an object already in storage.
+   *
+   * @param object the object to update.
+   * @return a future that completes when the update has been committed.
+   */
+  CompletableFuture<Void> updateAsync(Object object);
+
+  /**
+   * Updates several objects already in storage in a single commit.
+   *
+   * @param objects the objects to update.
+   * @return a future that completes when the updates have been committed.
+   */
+  CompletableFuture<Void> updateAllAsync(Iterable<?> objects);
+
+  /**
+   * Updates or inserts an object.
+   *
+   * @param object the object to update or insert.
+   * @return a future that completes when the write has been committed.
+   */
+  CompletableFuture<Void> upsertAsync(Object object);
+
+  /**
+   * Updates or inserts several objects in a single commit.
+   *
+   * @param objects the objects to update or insert.
+   * @return a future that completes when the writes have been committed.
+   */
+  CompletableFuture<Void> upsertAllAsync(Iterable<?> objects);
+
+  /**
+   * Deletes an object.
+   *
+   * @param entity the object to delete.
+   * @return a future that completes when the delete has been committed.
+   */
+  CompletableFuture<Void> deleteAsync(Object entity);
+
+  /**
+   * Deletes several objects in a single commit.
+   *
+   * @param objects the objects to delete.
+   * @return a future that completes when the deletes have been committed.
+   */
+  CompletableFuture<Void> deleteAllAsync(Iterable<?> objects);
+
+  /**
+   * Performs multiple read and write operations in a single transaction that is run by an
+   * asynchronous transaction runner. The operations run on the callback executor, and the
+   * transaction is retried as a whole if Cloud Spanner aborts it.
+   *
+   * @param operations the function representing the operations to perform using a SpannerOperations
+   *     based on a single transaction.
+   * @param <T> the final return type of the operations.
+   * @return a future of the final result of the transaction.
+   */
+  <T> CompletableFuture<T> performReadWriteTransactionAsync(
+      Function<SpannerTemplate, T> operations);
+}
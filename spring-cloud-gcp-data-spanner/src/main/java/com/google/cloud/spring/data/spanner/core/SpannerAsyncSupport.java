@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.spanner.AsyncResultSet;
+import com.google.cloud.spanner.DatabaseClient;
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spanner.Mutation;
+import com.google.cloud.spanner.ReadContext;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.Struct;
+import com.google.cloud.spanner.TimestampBound;
+import com.google.cloud.spring.data.spanner.core.convert.SpannerEntityProcessor;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentEntity;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/** Helpers shared by {@link SpannerAsyncTemplate} and {@link ReactiveSpannerTemplate}. */
+final class SpannerAsyncSupport {
+
+  /** The number of threads that run the blocking fallbacks of a template, per processor. */
+  private static final int BLOCKING_THREADS_PER_PROCESSOR = 10;
+
+  private SpannerAsyncSupport() {}
+
+  /**
+   * Creates the default callback executor of a template. Callbacks never wait for Cloud Spanner, so
+   * one daemon thread per processor is enough; the threads are released when idle.
+   */
+  static Executor newCallbackExecutor() {
+    return newExecutor("gcp-spanner-callback-", Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates the default executor for the blocking {@link SpannerTemplate} operations of a
+   * template, so that they never occupy the callback executor.
+   */
+  static Executor newBlockingExecutor() {
+    return newExecutor(
+        "gcp-spanner-blocking-",
+        BLOCKING_THREADS_PER_PROCESSOR * Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Checks if entities of the given type need further queries for their interleaved children or
+   * {@code @Where} clause, which only the blocking {@link SpannerTemplate} can run.
+   */
+  static boolean requiresFollowUpQueries(SpannerPersistentEntity<?> persistentEntity) {
+    boolean[] hasInterleavedProperties = {false};
+    persistentEntity.doWithInterleavedProperties(x -> hasInterleavedProperties[0] = true);
+    return hasInterleavedProperties[0] || persistentEntity.hasWhere();
+  }
+
+  static AsyncResultSet executeQuery(
+      DatabaseClient databaseClient, Statement statement, SpannerQueryOptions options) {
+    if (options == null) {
+      return getReadContext(databaseClient, null).executeQueryAsync(statement);
+    }
+    return getReadContext(databaseClient, options.getTimestampBound())
+        .executeQueryAsync(statement, options.getOptions());
+  }
+
+  static AsyncResultSet executeRead(
+      DatabaseClient databaseClient,
+      String tableName,
+      KeySet keys,
+      Iterable<String> columns,
+      SpannerReadOptions options) {
+    ReadContext readContext =
+        getReadContext(databaseClient, (options != null) ? options.getTimestampBound() : null);
+    if (options == null) {
+      return readContext.readAsync(tableName, keys, columns);
+    }
+    if (options.getIndex() == null) {
+      return readContext.readAsync(tableName, keys, columns, options.getOptions());
+    }
+    return readContext.readUsingIndexAsync(
+        tableName, options.getIndex(), keys, columns, options.getOptions());
+  }
+
+  private static ReadContext getReadContext(
+      DatabaseClient databaseClient, TimestampBound timestampBound) {
+    return (timestampBound != null)
+        ? databaseClient.singleUse(timestampBound)
+        : databaseClient.singleUse();
+  }
+
+  static <T> Function<Struct, T> entityRowFunc(
+      SpannerEntityProcessor entityProcessor,
+      Class<T> entityClass,
+      AbstractSpannerRequestOptions<?> options) {
+    Set<String> includeProperties = (options != null) ? options.getIncludeProperties() : null;
+    boolean allowMissingColumns = options != null && options.isAllowPartialRead();
+    return row -> entityProcessor.read(entityClass, row, includeProperties, allowMissingColumns);
+  }
+
+  static List<Mutation> getMutationsForMultipleObjects(
+      Iterable<?> objects, Function<Object, ? extends List<Mutation>> mutationFunc) {
+    return StreamSupport.stream(objects.spliterator(), false)
+        .flatMap(x -> mutationFunc.apply(x).stream())
+        .collect(Collectors.toList());
+  }
+
+  static <T> CompletableFuture<T> toCompletableFuture(ApiFuture<T> apiFuture) {
+    CompletableFuture<T> completableFuture = new CompletableFuture<>();
+    ApiFutures.addCallback(
+        apiFuture,
+        new ApiFutureCallback<>() {
+          @Override
+          public void onFailure(Throwable throwable) {
+            completableFuture.completeExceptionally(throwable);
+          }
+
+          @Override
+          public void onSuccess(T result) {
+            completableFuture.complete(result);
+          }
+        },
+        Runnable::run);
+    return completableFuture;
+  }
+
+  private static Executor newExecutor(String threadNamePrefix, int threads) {
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+    threadFactory.setDaemon(true);
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.spanner.AsyncResultSet;
+import com.google.cloud.spanner.AsyncResultSet.CallbackResponse;
+import com.google.cloud.spanner.AsyncResultSet.CursorState;
+import com.google.cloud.spanner.DatabaseClient;
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spanner.Mutation;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.Struct;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentEntity;
+import com.google.cloud.spring.data.spanner.core.mapping.event.AfterDeleteEvent;
+import com.google.cloud.spring.data.spanner.core.mapping.event.AfterQueryEvent;
+import com.google.cloud.spring.data.spanner.core.mapping.event.AfterReadEvent;
+import com.google.cloud.spring.data.spanner.core.mapping.event.AfterSaveEvent;
+import com.google.cloud.spring.data.spanner.core.mapping.event.BeforeDeleteEvent;
+import com.google.cloud.spring.data.spanner.core.mapping.event.BeforeSaveEvent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.util.Assert;
+
+/**
+ * An implementation of {@link SpannerAsyncOperations} on top of the asynchronous API of the Cloud
+ * Spanner client. Queries and reads stream their rows to a callback that maps them with the
+ * entity processor of the given {@link SpannerTemplate}, and writes are committed by an {@code
+ * AsyncRunner}, so no thread waits for Cloud Spanner. The mapping context, mutation factory and
+ * event publisher of the {@link SpannerTemplate} are shared.
+ *
+ * <p>Entities with interleaved properties or a {@code @Where} clause need further queries for
+ * their children; reads of such entities run the blocking operations of the {@link
+ * SpannerTemplate} on a separate blocking executor instead. The functions given to {@link
+ * #performReadWriteTransactionAsync(Function)} also run there.
+ */
+public class SpannerAsyncTemplate implements SpannerAsyncOperations {
+
+  private static final Log LOGGER = LogFactory.getLog(SpannerAsyncTemplate.class);
+
+  private final SpannerTemplate spannerTemplate;
+
+  private final Executor callbackExecutor;
+
+  private final Executor blockingExecutor;
+
+  /**
+   * Constructor that maps rows on a pool of daemon threads owned by this template, one per
+   * processor.
+   *
+   * @param spannerTemplate the template whose configuration the asynchronous operations share.
+   */
+  public SpannerAsyncTemplate(SpannerTemplate spannerTemplate) {
+    this(spannerTemplate, SpannerAsyncSupport.newCallbackExecutor());
+  }
+
+  /**
+   * Constructor that runs blocking operations on a bounded pool of daemon threads owned by this
+   * template.
+   *
+   * @param spannerTemplate the template whose configuration the asynchronous operations share.
+   * @param callbackExecutor the executor that maps rows and commits writes.
+   */
+  public SpannerAsyncTemplate(SpannerTemplate spannerTemplate, Executor callbackExecutor) {
+    this(spannerTemplate, callbackExecutor, SpannerAsyncSupport.newBlockingExecutor());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param spannerTemplate the template whose configuration the asynchronous operations share.
+   * @param callbackExecutor the executor that maps rows and commits writes.
+   * @param blockingExecutor the executor that runs blocking reads and transaction bodies.
+   */
+  public SpannerAsyncTemplate(
+      SpannerTemplate spannerTemplate, Executor callbackExecutor, Executor blockingExecutor) {
+    Assert.notNull(spannerTemplate, "A valid Spanner template is required.");
+    Assert.notNull(callbackExecutor, "A valid callback executor is required.");
+    Assert.notNull(blockingExecutor, "A valid blocking executor is required.");
+    this.spannerTemplate = spannerTemplate;
+    this.callbackExecutor = callbackExecutor;
+    this.blockingExecutor = blockingExecutor;
+  }
+
+  @Override
+  public <T> CompletableFuture<T> readAsync(Class<T> entityClass, Key key) {
+    return readAsync(entityClass, KeySet.singleKey(key), null)
+        .thenApply(items -> items.isEmpty() ? null : items.get(0));
+  }
+
+  @Override
+  public <T> CompletableFuture<List<T>> readAsync(
+      Class<T> entityClass, KeySet keys, SpannerReadOptions options) {
+    SpannerPersistentEntity<?> persistentEntity =
+        this.spannerTemplate.getMappingContext().getPersistentEntityOrFail(entityClass);
+    if (SpannerAsyncSupport.requiresFollowUpQueries(persistentEntity)) {
+      return CompletableFuture.supplyAsync(
+          () -> this.spannerTemplate.read(entityClass, keys, options), this.blockingExecutor);
+    }
+
+    AsyncResultSet resultSet =
+        SpannerAsyncSupport.executeRead(
+            getDatabaseClient(),
+            persistentEntity.tableName(),
+            keys,
+            persistentEntity.columns(),
+            options);
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(
+          "Executing asynchronous read on table "
+              + persistentEntity.tableName()
+              + " with keys: "
+              + keys);
+    }
+
+    return mapAsync(resultSet, entityRowFunc(entityClass, options))
+        .thenApply(
+            entities -> {
+              this.spannerTemplate.maybeEmitEvent(new AfterReadEvent(entities, keys, options));
+              return entities;
+            });
+  }
+
+  @Override
+  public <T> CompletableFuture<List<T>> readAllAsync(Class<T> entityClass) {
+    return readAsync(entityClass, KeySet.all(), null);
+  }
+
+  @Override
+  public <T> CompletableFuture<List<T>> queryAsync(
+      Class<T> entityClass, Statement statement, SpannerQueryOptions options) {
+    if (SpannerAsyncSupport.requiresFollowUpQueries(
+        this.spannerTemplate.getMappingContext().getPersistentEntityOrFail(entityClass))) {
+      return CompletableFuture.supplyAsync(
+          () -> this.spannerTemplate.query(entityClass, statement, options),
+          this.blockingExecutor);
+    }
+    return queryAsync(entityRowFunc(entityClass, options), statement, options);
+  }
+
+  @Override
+  public <A> CompletableFuture<List<A>> queryAsync(
+      Function<Struct, A> rowFunc, Statement statement, SpannerQueryOptions options) {
+    AsyncResultSet resultSet =
+        SpannerAsyncSupport.executeQuery(getDatabaseClient(), statement, options);
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Executing asynchronous query: " + statement);
+    }
+
+    return mapAsync(resultSet, rowFunc)
+        .thenApply(
+            result -> {
+              this.spannerTemplate.maybeEmitEvent(new AfterQueryEvent(result, statement, options));
+              return result;
+            });
+  }
+
+  @Override
+  public CompletableFuture<Void> insertAsync(Object object) {
+    return applySaveMutationsAsync(
+        () -> this.spannerTemplate.getMutationFactory().insert(object),
+        Collections.singletonList(object));
+  }
+
+  @Override
+  public CompletableFuture<Void> insertAllAsync(Iterable<?> objects) {
+    return applySaveMutationsAsync(
+        () ->
+            SpannerAsyncSupport.getMutationsForMultipleObjects(
+                objects, x -> this.spannerTemplate.getMutationFactory().insert(x)),
+        objects);
+  }
+
+  @Override
+  public CompletableFuture<Void> updateAsync(Object object) {
+    return applySaveMutationsAsync(
+        () -> this.spannerTemplate.getMutationFactory().update(object, null),
+        Collections.singletonList(object));
+  }
+
+  @Override
+  public CompletableFuture<Void> updateAllAsync(Iterable<?> objects) {
+    return applySaveMutationsAsync(
+        () ->
+            SpannerAsyncSupport.getMutationsForMultipleObjects(
+                objects, x -> this.spannerTemplate.getMutationFactory().update(x, null)),
+        objects);
+  }
+
+  @Override
+  public CompletableFuture<Void> upsertAsync(Object object) {
+    return applySaveMutationsAsync(
+        () -> this.spannerTemplate.getMutationFactory().upsert(object, null),
+        Collections.singletonList(object));
+  }
+
+  @Override
+  public CompletableFuture<Void> upsertAllAsync(Iterable<?> objects) {
+    return applySaveMutationsAsync(
+        () ->
+            SpannerAsyncSupport.getMutationsForMultipleObjects(
+                objects, x -> this.spannerTemplate.getMutationFactory().upsert(x, null)),
+        objects);
+  }
+
+  @Override
+  public CompletableFuture<Void> deleteAsync(Object entity) {
+    return deleteAllAsync(Collections.singletonList(entity));
+  }
+
+  @Override
+  public CompletableFuture<Void> deleteAllAsync(Iterable<?> objects) {
+    List<Mutation> mutations =
+        SpannerAsyncSupport.getMutationsForMultipleObjects(
+            objects,
+            x -> Collections.singletonList(this.spannerTemplate.getMutationFactory().delete(x)));
+    this.spannerTemplate.maybeEmitEvent(new BeforeDeleteEvent(mutations, objects, null, null));
+    return applyMutationsAsync(mutations)
+        .thenRun(
+            () ->
+                this.spannerTemplate.maybeEmitEvent(
+                    new AfterDeleteEvent(mutations, objects, null, null)));
+  }
+
+  @Override
+  public <T> CompletableFuture<T> performReadWriteTransactionAsync(
+      Function<SpannerTemplate, T> operations) {
+    return SpannerAsyncSupport.toCompletableFuture(
+        getDatabaseClient()
+            .runAsync()
+            .runAsync(
+                transaction ->
+                    ApiFutures.immediateFuture(
+                        operations.apply(
+                            this.spannerTemplate.createReadWriteTransactionTemplate(transaction))),
+                this.blockingExecutor));
+  }
+
+  private CompletableFuture<Void> applySaveMutationsAsync(
+      Supplier<List<Mutation>> mutationsSupplier, Iterable<?> entities) {
+    this.spannerTemplate.maybeEmitEvent(new BeforeSaveEvent(entities, null));
+    List<Mutation> mutations = mutationsSupplier.get();
+    return applyMutationsAsync(mutations)
+        .thenRun(
+            () ->
+                this.spannerTemplate.maybeEmitEvent(
+                    new AfterSaveEvent(mutations, entities, null)));
+  }
+
+  private CompletableFuture<Void> applyMutationsAsync(List<Mutation> mutations) {
+    LOGGER.debug("Applying Mutation asynchronously: " + mutations);
+    return SpannerAsyncSupport.toCompletableFuture(
+        getDatabaseClient()
+            .runAsync()
+            .runAsync(
+                transaction -> {
+                  transaction.buffer(mutations);
+                  return ApiFutures.<Void>immediateFuture(null);
+                },
+                this.callbackExecutor));
+  }
+
+  /**
+   * Collects the rows of an asynchronous result set. The callback maps the rows that are already
+   * buffered and returns as soon as it would have to wait for more, so it never blocks the callback
+   * executor.
+   */
+  private <A> CompletableFuture<List<A>> mapAsync(
+      AsyncResultSet resultSet, Function<Struct, A> rowFunc) {
+    List<A> rows = new ArrayList<>();
+    ApiFuture<Void> done =
+        resultSet.setCallback(
+            this.callbackExecutor,
+            cursor -> {
+              CursorState state;
+              while ((state = cursor.tryNext()) == CursorState.OK) {
+                rows.add(rowFunc.apply(cursor.getCurrentRowAsStruct()));
+              }
+              return (state == CursorState.DONE)
+                  ? CallbackResponse.DONE
+                  : CallbackResponse.CONTINUE;
+            });
+    return SpannerAsyncSupport.toCompletableFuture(done).thenApply(x -> rows);
+  }
+
+  private <T> Function<Struct, T> entityRowFunc(
+      Class<T> entityClass, AbstractSpannerRequestOptions<?> options) {
+    return SpannerAsyncSupport.entityRowFunc(
+        this.spannerTemplate.getSpannerEntityProcessor(), entityClass, options);
+  }
+
+  private DatabaseClient getDatabaseClient() {
+    return this.spannerTemplate.getDatabaseClientProvider().get();
+  }
+}
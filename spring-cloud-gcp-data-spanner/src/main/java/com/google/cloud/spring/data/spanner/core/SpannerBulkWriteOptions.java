@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import org.springframework.util.Assert;
+
+/**
+ * Settings for bulk writes, which split the mutations of many entities into several commits that
+ * run concurrently. The mutations of one entity, such as those of its interleaved children, are
+ * always committed together.
+ */
+public class SpannerBulkWriteOptions {
+
+  /** Cloud Spanner counts each written column value as a mutation towards the commit limit. */
+  public static final int DEFAULT_MAX_MUTATIONS_PER_COMMIT = 20_000;
+
+  public static final long DEFAULT_MAX_BYTES_PER_COMMIT = 10L * 1024 * 1024;
+
+  public static final int DEFAULT_PARALLELISM = 4;
+
+  private int maxMutationsPerCommit = DEFAULT_MAX_MUTATIONS_PER_COMMIT;
+
+  private long maxBytesPerCommit = DEFAULT_MAX_BYTES_PER_COMMIT;
+
+  private int parallelism = DEFAULT_PARALLELISM;
+
+  private boolean useBatchWrite;
+
+  public int getMaxMutationsPerCommit() {
+    return this.maxMutationsPerCommit;
+  }
+
+  /**
+   * Sets the maximum number of mutations in a commit, where each written column value counts as
+   * one mutation.
+   *
+   * @param maxMutationsPerCommit the maximum number of column values per commit.
+   * @return this options object.
+   */
+  public SpannerBulkWriteOptions setMaxMutationsPerCommit(int maxMutationsPerCommit) {
+    Assert.isTrue(maxMutationsPerCommit > 0, "The maximum mutations per commit must be positive.");
+    this.maxMutationsPerCommit = maxMutationsPerCommit;
+    return this;
+  }
+
+  public long getMaxBytesPerCommit() {
+    return this.maxBytesPerCommit;
+  }
+
+  /**
+   * Sets the maximum estimated size of a commit in bytes.
+   *
+   * @param maxBytesPerCommit the maximum estimated size of the mutations of a commit.
+   * @return this options object.
+   */
+  public SpannerBulkWriteOptions setMaxBytesPerCommit(long maxBytesPerCommit) {
+    Assert.isTrue(maxBytesPerCommit > 0, "The maximum bytes per commit must be positive.");
+    this.maxBytesPerCommit = maxBytesPerCommit;
+    return this;
+  }
+
+  public int getParallelism() {
+    return this.parallelism;
+  }
+
+  /**
+   * Sets the number of commits that run at the same time.
+   *
+   * @param parallelism the number of concurrent commits.
+   * @return this options object.
+   */
+  public SpannerBulkWriteOptions setParallelism(int parallelism) {
+    Assert.isTrue(parallelism > 0, "The parallelism must be positive.");
+    this.parallelism = parallelism;
+    return this;
+  }
+
+  public boolean isUseBatchWrite() {
+    return this.useBatchWrite;
+  }
+
+  /**
+   * Sets whether commits are sent with Cloud Spanner's BatchWrite API. Each entity is then applied
+   * as its own mutation group with at-least-once semantics, and failures are reported per entity
+   * instead of per commit.
+   *
+   * @param useBatchWrite true to send commits with BatchWrite.
+   * @return this options object.
+   */
+  public SpannerBulkWriteOptions setUseBatchWrite(boolean useBatchWrite) {
+    this.useBatchWrite = useBatchWrite;
+    return this;
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import java.util.Collections;
+import java.util.List;
+
+/** The outcome of a bulk write, which may have partially failed. */
+public class SpannerBulkWriteResult {
+
+  private final long writtenCount;
+
+  private final List<Failure> failures;
+
+  SpannerBulkWriteResult(long writtenCount, List<Failure> failures) {
+    this.writtenCount = writtenCount;
+    this.failures = Collections.unmodifiableList(failures);
+  }
+
+  /**
+   * Gets the number of entities whose mutations were committed.
+   *
+   * @return the number of written entities.
+   */
+  public long getWrittenCount() {
+    return this.writtenCount;
+  }
+
+  /**
+   * Gets the groups of entities that could not be written.
+   *
+   * @return the failures, empty if all entities were written.
+   */
+  public List<Failure> getFailures() {
+    return this.failures;
+  }
+
+  public boolean hasFailures() {
+    return !this.failures.isEmpty();
+  }
+
+  /** A group of entities that was not written, and the reason why. */
+  public static class Failure {
+
+    private final List<Object> entities;
+
+    private final Exception cause;
+
+    Failure(List<Object> entities, Exception cause) {
+      this.entities = Collections.unmodifiableList(entities);
+      this.cause = cause;
+    }
+
+    public List<Object> getEntities() {
+      return this.entities;
+    }
+
+    public Exception getCause() {
+      return this.cause;
+    }
+  }
+}
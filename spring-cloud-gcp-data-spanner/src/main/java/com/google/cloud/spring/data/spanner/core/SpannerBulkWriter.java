@@ -0,0 +1,263 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import com.google.api.gax.rpc.ServerStream;
+import com.google.cloud.spanner.DatabaseClient;
+import com.google.cloud.spanner.Mutation;
+import com.google.cloud.spanner.MutationGroup;
+import com.google.cloud.spanner.Value;
+import com.google.cloud.spring.data.spanner.core.SpannerBulkWriteResult.Failure;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
+import com.google.rpc.Code;
+import com.google.spanner.v1.BatchWriteResponse;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Writes the mutations of many entities in several commits. Entities are consumed one at a time
+ * and packed into commits that stay within the mutation count and estimated byte size limits of
+ * {@link SpannerBulkWriteOptions}. Up to the configured parallelism of commits run at the same
+ * time, so only that many commits are held in memory. A failed commit does not stop the others;
+ * it is reported in the {@link SpannerBulkWriteResult}. The commit listener is called on the thread
+ * that runs {@link #write(Iterable)}, not on the threads of the executor.
+ */
+final class SpannerBulkWriter {
+
+  private final DatabaseClient databaseClient;
+
+  private final Executor executor;
+
+  private final SpannerBulkWriteOptions options;
+
+  private final Function<Object, Collection<Mutation>> mutationFunc;
+
+  private final BiConsumer<List<Mutation>, List<Object>> commitListener;
+
+  private final AtomicLong writtenCount = new AtomicLong();
+
+  private final Queue<Failure> failures = new ConcurrentLinkedQueue<>();
+
+  /** The commit listener calls of successful commits, run by the writing thread. */
+  private final Queue<Runnable> committed = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Constructor.
+   *
+   * @param databaseClient the client used to commit the mutations.
+   * @param executor runs the commits.
+   * @param options the limits and parallelism of the commits.
+   * @param mutationFunc creates the mutations of an entity.
+   * @param commitListener called with the mutations and entities of each successful commit.
+   */
+  SpannerBulkWriter(
+      DatabaseClient databaseClient,
+      Executor executor,
+      SpannerBulkWriteOptions options,
+      Function<Object, Collection<Mutation>> mutationFunc,
+      BiConsumer<List<Mutation>, List<Object>> commitListener) {
+    this.databaseClient = databaseClient;
+    this.executor = executor;
+    this.options = options;
+    this.mutationFunc = mutationFunc;
+    this.commitListener = commitListener;
+  }
+
+  SpannerBulkWriteResult write(Iterable<?> entities) {
+    int parallelism = this.options.getParallelism();
+    Semaphore permits = new Semaphore(parallelism);
+    try {
+      CommitBatch batch = new CommitBatch();
+      for (Object entity : entities) {
+        List<Mutation> mutations = new ArrayList<>(this.mutationFunc.apply(entity));
+        long mutationCount = 0;
+        long bytes = 0;
+        for (Mutation mutation : mutations) {
+          mutationCount += countMutations(mutation);
+          bytes += estimateSize(mutation);
+        }
+        if (!batch.entities.isEmpty()
+            && (batch.mutationCount + mutationCount > this.options.getMaxMutationsPerCommit()
+                || batch.bytes + bytes > this.options.getMaxBytesPerCommit())) {
+          submit(batch, permits);
+          batch = new CommitBatch();
+        }
+        batch.add(entity, mutations, mutationCount, bytes);
+      }
+      if (!batch.entities.isEmpty()) {
+        submit(batch, permits);
+      }
+      // all permits are free again once every submitted commit has finished
+      permits.acquire(parallelism);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new SpannerDataException("Interrupted while waiting for bulk write commits.", ex);
+    }
+    notifyCommitted();
+    return new SpannerBulkWriteResult(this.writtenCount.get(), new ArrayList<>(this.failures));
+  }
+
+  private void submit(CommitBatch batch, Semaphore permits) throws InterruptedException {
+    permits.acquire();
+    notifyCommitted();
+    try {
+      this.executor.execute(
+          () -> {
+            try {
+              commit(batch);
+            } finally {
+              permits.release();
+            }
+          });
+    } catch (RejectedExecutionException ex) {
+      permits.release();
+      throw ex;
+    }
+  }
+
+  private void notifyCommitted() {
+    Runnable notification;
+    while ((notification = this.committed.poll()) != null) {
+      notification.run();
+    }
+  }
+
+  private void commit(CommitBatch batch) {
+    if (this.options.isUseBatchWrite()) {
+      commitWithBatchWrite(batch);
+      return;
+    }
+    List<Mutation> mutations = new ArrayList<>();
+    batch.mutationGroups.forEach(mutations::addAll);
+    try {
+      this.databaseClient.write(mutations);
+    } catch (RuntimeException ex) {
+      this.failures.add(new Failure(batch.entities, ex));
+      return;
+    }
+    this.writtenCount.addAndGet(batch.entities.size());
+    this.committed.add(() -> this.commitListener.accept(mutations, batch.entities));
+  }
+
+  private void commitWithBatchWrite(CommitBatch batch) {
+    List<MutationGroup> groups = new ArrayList<>(batch.mutationGroups.size());
+    batch.mutationGroups.forEach(mutations -> groups.add(MutationGroup.of(mutations)));
+    boolean[] applied = new boolean[groups.size()];
+    Exception[] groupFailures = new Exception[groups.size()];
+    RuntimeException streamFailure = null;
+    try {
+      ServerStream<BatchWriteResponse> responses =
+          this.databaseClient.batchWriteAtLeastOnce(groups);
+      for (BatchWriteResponse response : responses) {
+        boolean ok = response.getStatus().getCode() == Code.OK_VALUE;
+        Exception failure =
+            ok
+                ? null
+                : new SpannerDataException(
+                    "Batch write of mutation groups failed: " + response.getStatus().getMessage());
+        for (int index : response.getIndexesList()) {
+          applied[index] = ok;
+          groupFailures[index] = failure;
+        }
+      }
+    } catch (RuntimeException ex) {
+      streamFailure = ex;
+    }
+
+    List<Mutation> written = new ArrayList<>();
+    List<Object> writtenEntities = new ArrayList<>();
+    List<Object> unreported = new ArrayList<>();
+    for (int i = 0; i < groups.size(); i++) {
+      Object entity = batch.entities.get(i);
+      if (applied[i]) {
+        written.addAll(batch.mutationGroups.get(i));
+        writtenEntities.add(entity);
+      } else if (groupFailures[i] != null) {
+        this.failures.add(new Failure(List.of(entity), groupFailures[i]));
+      } else {
+        unreported.add(entity);
+      }
+    }
+    if (!unreported.isEmpty()) {
+      this.failures.add(
+          new Failure(
+              unreported,
+              streamFailure != null
+                  ? streamFailure
+                  : new SpannerDataException("Batch write did not report these mutation groups.")));
+    }
+    if (!writtenEntities.isEmpty()) {
+      this.writtenCount.addAndGet(writtenEntities.size());
+      this.committed.add(() -> this.commitListener.accept(written, writtenEntities));
+    }
+  }
+
+  /** Counts the mutations of a write the way Cloud Spanner does, one per column value. */
+  private static long countMutations(Mutation mutation) {
+    if (mutation.getOperation() == Mutation.Op.DELETE) {
+      return 1;
+    }
+    long count = 0;
+    for (String ignored : mutation.getColumns()) {
+      count++;
+    }
+    return count;
+  }
+
+  /** Estimates the size of a mutation from the string forms of its column names and values. */
+  private static long estimateSize(Mutation mutation) {
+    long size = mutation.getTable().length();
+    if (mutation.getOperation() == Mutation.Op.DELETE) {
+      return size + mutation.getKeySet().toString().length();
+    }
+    for (String column : mutation.getColumns()) {
+      size += column.length();
+    }
+    for (Value value : mutation.getValues()) {
+      size += value.isNull() ? 1 : value.toString().length();
+    }
+    return size;
+  }
+
+  /** The entities and mutations of a single commit. */
+  private static final class CommitBatch {
+
+    private final List<Object> entities = new ArrayList<>();
+
+    private final List<List<Mutation>> mutationGroups = new ArrayList<>();
+
+    private long mutationCount;
+
+    private long bytes;
+
+    void add(Object entity, List<Mutation> mutations, long mutationCount, long bytes) {
+      this.entities.add(entity);
+      this.mutationGroups.add(mutations);
+      this.mutationCount += mutationCount;
+      this.bytes += bytes;
+    }
+  }
+}
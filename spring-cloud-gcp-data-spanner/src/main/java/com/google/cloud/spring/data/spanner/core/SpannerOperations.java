@@ -25,6 +25,7 @@ import com.google.cloud.spanner.Struct;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Defines operations available to use with Spanner.
@@ -185,6 +186,98 @@ public interface SpannerOperations {
    */
   <T> List<T> queryAll(Class<T> entityClass, SpannerPageableQueryOptions options);
 
+  /**
+   * Executes a query and lazily applies the given function to each row as the returned stream is
+   * consumed. The rows are never held in memory all at once. The stream must be closed to release
+   * the underlying result set, for example with a try-with-resources block.
+   *
+   * @param rowFunc the function to apply to each row of the result.
+   * @param statement the SQL statement used to select the objects.
+   * @param options the options with which to run this query.
+   * @param <A> the type to convert each row Struct into.
+   * @return a stream of the rows each transformed with the given function.
+   */
+  <A> Stream<A> queryStream(
+      Function<Struct, A> rowFunc, Statement statement, SpannerQueryOptions options);
+
+  /**
+   * Finds objects by using an SQL statement and maps them lazily as the returned stream is
+   * consumed. The stream must be closed to release the underlying result set. Interleaved
+   * children are resolved in batches as the stream advances. No {@code AfterQueryEvent} is
+   * published for streamed results.
+   *
+   * @param entityClass the type of object to retrieve.
+   * @param statement the SQL statement used to select the objects.
+   * @param options the Cloud Spanner read options with which to conduct the read operation.
+   * @param <T> the type of object to retrieve.
+   * @return a stream of the objects found.
+   */
+  <T> Stream<T> queryStream(Class<T> entityClass, Statement statement, SpannerQueryOptions options);
+
+  /**
+   * Finds all objects of the given type and maps them lazily as the returned stream is consumed.
+   * The stream must be closed to release the underlying result set. No {@code AfterReadEvent} is
+   * published for streamed results.
+   *
+   * @param entityClass the type of the object to retrieve.
+   * @param options the Cloud Spanner read options with which to conduct the read operation.
+   * @param <T> the type of the object to retrieve.
+   * @return a stream of all objects stored of the given type.
+   */
+  <T> Stream<T> readAllStream(Class<T> entityClass, SpannerReadOptions options);
+
+  /**
+   * Finds all objects of the given type and maps them lazily as the returned stream is consumed.
+   * The stream must be closed to release the underlying result set.
+   *
+   * @param entityClass the type of the object to retrieve.
+   * @param <T> the type of the object to retrieve.
+   * @return a stream of all objects stored of the given type.
+   */
+  <T> Stream<T> readAllStream(Class<T> entityClass);
+
+  /**
+   * Finds all objects of the given type with a query and maps them lazily as the returned stream
+   * is consumed. The stream must be closed to release the underlying result set.
+   *
+   * @param entityClass the type of the object to retrieve.
+   * @param options the Cloud Spanner query options with which to conduct the query operation.
+   * @param <T> the type of the object to retrieve.
+   * @return a stream of all objects stored of the given type.
+   */
+  <T> Stream<T> queryAllStream(Class<T> entityClass, SpannerPageableQueryOptions options);
+
+  /**
+   * Finds objects by using an SQL statement that is split into partitions, which are read in
+   * parallel in a single batch read-only transaction. The mapped rows of all partitions are merged
+   * into the returned stream in no particular order. The statement must be root-partitionable, so
+   * for example it cannot order or limit the results. Interleaved child properties are resolved
+   * with the regular database client, so they are not read at the timestamp of the batch
+   * transaction. The stream must be closed to release the transaction if it is not fully consumed.
+   *
+   * @param entityClass the type of object to retrieve.
+   * @param statement the SQL statement used to select the objects.
+   * @param options the Cloud Spanner query options with which to conduct the query operation.
+   * @param <T> the type of object to retrieve.
+   * @return a stream of the objects found.
+   */
+  <T> Stream<T> queryPartitioned(
+      Class<T> entityClass, Statement statement, SpannerQueryOptions options);
+
+  /**
+   * Finds all objects of the given type by reading the table in partitions, which are read in
+   * parallel in a single batch read-only transaction. The mapped rows of all partitions are merged
+   * into the returned stream in no particular order. Interleaved child properties are resolved with
+   * the regular database client, so they are not read at the timestamp of the batch transaction.
+   * The stream must be closed to release the transaction if it is not fully consumed.
+   *
+   * @param entityClass the type of the object to retrieve.
+   * @param options the Cloud Spanner read options with which to conduct the read operation.
+   * @param <T> the type of the object to retrieve.
+   * @return a stream of all objects stored of the given type.
+   */
+  <T> Stream<T> readAllPartitioned(Class<T> entityClass, SpannerReadOptions options);
+
   /**
    * Deletes an object based on a key.
    *
@@ -231,6 +324,19 @@ public interface SpannerOperations {
    */
   void insertAll(Iterable<?> objects);
 
+  /**
+   * Inserts objects into Cloud Spanner in several commits that run concurrently. The mutations are
+   * split into commits that stay within the mutation count and size limits of the given options,
+   * and the mutations of each object are always committed together. Unlike {@link
+   * #insertAll(Iterable)}, the objects are not written atomically: a failed commit does not roll
+   * back the others and is reported in the result. Bulk writes cannot run in a transaction.
+   *
+   * @param objects the objects to insert.
+   * @param options the commit limits and parallelism of the bulk write.
+   * @return the number of written objects and the objects that could not be written.
+   */
+  SpannerBulkWriteResult insertAll(Iterable<?> objects, SpannerBulkWriteOptions options);
+
   /**
    * Update an object already in storage.
    *
@@ -277,6 +383,17 @@ public interface SpannerOperations {
    */
   void upsertAll(Iterable<?> objects);
 
+  /**
+   * Updates or inserts objects in Cloud Spanner in several commits that run concurrently. The
+   * mutations are split into commits as in {@link #insertAll(Iterable, SpannerBulkWriteOptions)},
+   * and the objects are not written atomically.
+   *
+   * @param objects the objects to update or insert.
+   * @param options the commit limits and parallelism of the bulk write.
+   * @return the number of written objects and the objects that could not be written.
+   */
+  SpannerBulkWriteResult upsertAll(Iterable<?> objects, SpannerBulkWriteOptions options);
+
   /**
    * Update or insert an object into storage.
    *
@@ -16,6 +16,8 @@
 
 package com.google.cloud.spring.data.spanner.core;
 
+import com.google.cloud.spanner.BatchClient;
+import com.google.cloud.spanner.BatchReadOnlyTransaction;
 import com.google.cloud.spanner.DatabaseClient;
 import com.google.cloud.spanner.Key;
 import com.google.cloud.spanner.KeySet;
@@ -23,6 +25,8 @@ import com.google.cloud.spanner.Mutation;
 import com.google.cloud.spanner.Options.QueryOption;
 import com.google.cloud.spanner.Options.ReadOption;
 import com.google.cloud.spanner.Options.UpdateOption;
+import com.google.cloud.spanner.Partition;
+import com.google.cloud.spanner.PartitionOptions;
 import com.google.cloud.spanner.ReadContext;
 import com.google.cloud.spanner.ReadOnlyTransaction;
 import com.google.cloud.spanner.ResultSet;
@@ -37,6 +41,7 @@ import com.google.cloud.spring.data.spanner.core.convert.SpannerEntityProcessor;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentEntity;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentProperty;
 import com.google.cloud.spring.data.spanner.core.mapping.event.AfterDeleteEvent;
 import com.google.cloud.spring.data.spanner.core.mapping.event.AfterExecuteDmlEvent;
 import com.google.cloud.spring.data.spanner.core.mapping.event.AfterQueryEvent;
@@ -50,13 +55,24 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.StringJoiner;
+import java.util.concurrent.Executor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import javax.annotation.Nullable;
 import org.apache.commons.logging.Log;
@@ -65,6 +81,7 @@ import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
@@ -77,6 +94,21 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 
   private static final Log LOGGER = LogFactory.getLog(SpannerTemplate.class);
 
+  /**
+   * The maximum number of parent key parts bound to a single interleaved children query. Cloud
+   * Spanner limits the number of parameters per query, so larger batches are split.
+   */
+  private static final int MAX_CHILD_QUERY_PARAMETERS = 900;
+
+  /** The number of streamed entities whose interleaved children are resolved together. */
+  private static final int STREAM_CHILD_RESOLUTION_BATCH_SIZE = 100;
+
+  /** The number of partitions read at a time when no partition executor is set. */
+  private static final int DEFAULT_PARTITION_PARALLELISM = 4;
+
+  /** The maximum number of rows read from partitions ahead of the consumer. */
+  private static final int PARTITION_BUFFER_SIZE = 1000;
+
   private final Supplier<DatabaseClient> databaseClientProvider;
 
   private final SpannerMappingContext mappingContext;
@@ -89,6 +121,16 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 
   private @Nullable ApplicationEventPublisher eventPublisher;
 
+  private @Nullable Supplier<BatchClient> batchClientProvider;
+
+  private @Nullable Executor partitionExecutor;
+
+  private @Nullable Executor defaultPartitionExecutor;
+
+  private @Nullable Executor bulkWriteExecutor;
+
+  private PartitionOptions partitionOptions = PartitionOptions.getDefaultInstance();
+
   public SpannerTemplate(
       Supplier<DatabaseClient> databaseClientProvider,
       SpannerMappingContext mappingContext,
@@ -129,6 +171,84 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
     return this.spannerEntityProcessor;
   }
 
+  Supplier<DatabaseClient> getDatabaseClientProvider() {
+    return this.databaseClientProvider;
+  }
+
+  SpannerMutationFactory getMutationFactory() {
+    return this.mutationFactory;
+  }
+
+  /**
+   * Sets the supplier of the batch client used for partitioned reads. Partitioned reads are not
+   * available until this is set.
+   *
+   * @param batchClientProvider the supplier of the batch client for the database.
+   */
+  public void setBatchClientProvider(Supplier<BatchClient> batchClientProvider) {
+    this.batchClientProvider = batchClientProvider;
+  }
+
+  /**
+   * Sets the executor on which the partitions of partitioned reads are read. If none is set, the
+   * partitions are read on a shared pool of daemon threads, at most {@value
+   * #DEFAULT_PARTITION_PARALLELISM} at a time for each partitioned read; idle threads are released
+   * after a minute.
+   *
+   * @param partitionExecutor the executor for reading partitions.
+   */
+  public void setPartitionExecutor(Executor partitionExecutor) {
+    this.partitionExecutor = partitionExecutor;
+  }
+
+  /**
+   * Sets the executor on which the commits of bulk writes run. If none is set, the template creates
+   * a pool of daemon threads on first use. The threads are reused across bulk writes, and idle
+   * threads are released after a minute.
+   *
+   * @param bulkWriteExecutor the executor for bulk write commits.
+   */
+  public void setBulkWriteExecutor(Executor bulkWriteExecutor) {
+    this.bulkWriteExecutor = bulkWriteExecutor;
+  }
+
+  private synchronized Executor getPartitionExecutor() {
+    if (this.partitionExecutor != null) {
+      return this.partitionExecutor;
+    }
+    if (this.defaultPartitionExecutor == null) {
+      CustomizableThreadFactory threadFactory =
+          new CustomizableThreadFactory("gcp-spanner-partition-read-");
+      threadFactory.setDaemon(true);
+      this.defaultPartitionExecutor =
+          new ThreadPoolExecutor(
+              0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory);
+    }
+    return this.defaultPartitionExecutor;
+  }
+
+  private synchronized Executor getBulkWriteExecutor() {
+    if (this.bulkWriteExecutor == null) {
+      CustomizableThreadFactory threadFactory =
+          new CustomizableThreadFactory("gcp-spanner-bulk-write-");
+      threadFactory.setDaemon(true);
+      this.bulkWriteExecutor =
+          new ThreadPoolExecutor(
+              0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory);
+    }
+    return this.bulkWriteExecutor;
+  }
+
+  /**
+   * Sets the options that control how partitioned reads are split into partitions.
+   *
+   * @param partitionOptions the partition options.
+   */
+  public void setPartitionOptions(PartitionOptions partitionOptions) {
+    Assert.notNull(partitionOptions, "A valid partition options is required.");
+    this.partitionOptions = partitionOptions;
+  }
+
   @Override
   public long executeDmlStatement(Statement statement) {
     Assert.notNull(statement, "A non-null statement is required.");
@@ -279,6 +399,189 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 
   @Override
   public <T> List<T> queryAll(Class<T> entityClass, SpannerPageableQueryOptions options) {
+    return query(entityClass, buildQueryAllStatement(entityClass, options), options);
+  }
+
+  @Override
+  public <A> Stream<A> queryStream(
+      Function<Struct, A> rowFunc, Statement statement, SpannerQueryOptions options) {
+    return ConversionUtils.streamResultSet(executeQuery(statement, options), rowFunc);
+  }
+
+  @Override
+  public <T> Stream<T> queryStream(
+      Class<T> entityClass, Statement statement, SpannerQueryOptions options) {
+    Set<String> includeProperties = (options != null) ? options.getIncludeProperties() : null;
+    return resolveChildEntities(
+        this.spannerEntityProcessor.mapToStream(
+            executeQuery(statement, options),
+            entityClass,
+            includeProperties,
+            options != null && options.isAllowPartialRead()),
+        includeProperties);
+  }
+
+  @Override
+  public <T> Stream<T> readAllStream(Class<T> entityClass, SpannerReadOptions options) {
+    SpannerPersistentEntity<T> persistentEntity =
+        (SpannerPersistentEntity<T>) this.mappingContext.getPersistentEntityOrFail(entityClass);
+    KeySet keys = KeySet.all();
+    if (persistentEntity.hasEagerlyLoadedProperties() || persistentEntity.hasWhere()) {
+      return queryStream(
+          entityClass,
+          SpannerStatementQueryExecutor.buildQuery(
+              keys,
+              persistentEntity,
+              this.spannerEntityProcessor.getWriteConverter(),
+              this.mappingContext,
+              options != null ? options.getIndex() : null),
+          toQueryOption(keys, options));
+    }
+    Set<String> includeProperties = (options != null) ? options.getIncludeProperties() : null;
+    return resolveChildEntities(
+        this.spannerEntityProcessor.mapToStream(
+            executeRead(persistentEntity.tableName(), keys, persistentEntity.columns(), options),
+            entityClass,
+            includeProperties,
+            options != null && options.isAllowPartialRead()),
+        includeProperties);
+  }
+
+  @Override
+  public <T> Stream<T> readAllStream(Class<T> entityClass) {
+    return readAllStream(entityClass, null);
+  }
+
+  @Override
+  public <T> Stream<T> queryAllStream(Class<T> entityClass, SpannerPageableQueryOptions options) {
+    return queryStream(entityClass, buildQueryAllStatement(entityClass, options), options);
+  }
+
+  @Override
+  public <T> Stream<T> queryPartitioned(
+      Class<T> entityClass, Statement statement, SpannerQueryOptions options) {
+    BatchReadOnlyTransaction transaction =
+        getBatchClient()
+            .batchReadOnlyTransaction(
+                (options != null && options.getTimestampBound() != null)
+                    ? options.getTimestampBound()
+                    : TimestampBound.strong());
+    List<Partition> partitions;
+    try {
+      partitions =
+          (options != null)
+              ? transaction.partitionQuery(this.partitionOptions, statement, options.getOptions())
+              : transaction.partitionQuery(this.partitionOptions, statement);
+    } catch (RuntimeException ex) {
+      transaction.close();
+      throw ex;
+    }
+    LOGGER.debug("Executing query in " + partitions.size() + " partitions: " + statement);
+    return readPartitions(
+        transaction,
+        partitions,
+        entityClass,
+        (options != null) ? options.getIncludeProperties() : null,
+        options != null && options.isAllowPartialRead());
+  }
+
+  @Override
+  public <T> Stream<T> readAllPartitioned(Class<T> entityClass, SpannerReadOptions options) {
+    SpannerPersistentEntity<T> persistentEntity =
+        (SpannerPersistentEntity<T>) this.mappingContext.getPersistentEntityOrFail(entityClass);
+    KeySet keys = KeySet.all();
+    if (persistentEntity.hasEagerlyLoadedProperties() || persistentEntity.hasWhere()) {
+      return queryPartitioned(
+          entityClass,
+          SpannerStatementQueryExecutor.buildQuery(
+              keys,
+              persistentEntity,
+              this.spannerEntityProcessor.getWriteConverter(),
+              this.mappingContext,
+              options != null ? options.getIndex() : null),
+          toQueryOption(keys, options));
+    }
+
+    BatchReadOnlyTransaction transaction =
+        getBatchClient()
+            .batchReadOnlyTransaction(
+                (options != null && options.getTimestampBound() != null)
+                    ? options.getTimestampBound()
+                    : TimestampBound.strong());
+    String tableName = persistentEntity.tableName();
+    Set<String> columns = persistentEntity.columns();
+    List<Partition> partitions;
+    try {
+      if (options == null) {
+        partitions = transaction.partitionRead(this.partitionOptions, tableName, keys, columns);
+      } else if (options.getIndex() == null) {
+        partitions =
+            transaction.partitionRead(
+                this.partitionOptions, tableName, keys, columns, options.getOptions());
+      } else {
+        partitions =
+            transaction.partitionReadUsingIndex(
+                this.partitionOptions,
+                tableName,
+                options.getIndex(),
+                keys,
+                columns,
+                options.getOptions());
+      }
+    } catch (RuntimeException ex) {
+      transaction.close();
+      throw ex;
+    }
+    LOGGER.debug(
+        "Executing read on table " + tableName + " in " + partitions.size() + " partitions");
+    return readPartitions(
+        transaction,
+        partitions,
+        entityClass,
+        (options != null) ? options.getIncludeProperties() : null,
+        options != null && options.isAllowPartialRead());
+  }
+
+  private BatchClient getBatchClient() {
+    if (this.batchClientProvider == null) {
+      throw new SpannerDataException(
+          "Partitioned reads require a batch client. Set one with setBatchClientProvider.");
+    }
+    return this.batchClientProvider.get();
+  }
+
+  /**
+   * Reads the partitions of a batch read-only transaction in parallel and merges their mapped rows
+   * into a single stream. The transaction is closed when the stream is closed or exhausted.
+   */
+  private <T> Stream<T> readPartitions(
+      BatchReadOnlyTransaction transaction,
+      List<Partition> partitions,
+      Class<T> entityClass,
+      Set<String> includeProperties,
+      boolean allowMissingColumns) {
+    PartitionedResults<T> results =
+        new PartitionedResults<>(
+            partitions,
+            partition ->
+                this.spannerEntityProcessor.mapToStream(
+                    transaction.execute(partition),
+                    entityClass,
+                    includeProperties,
+                    allowMissingColumns),
+            getPartitionExecutor(),
+            (this.partitionExecutor != null) ? partitions.size() : DEFAULT_PARTITION_PARALLELISM,
+            PARTITION_BUFFER_SIZE,
+            transaction::close);
+    Stream<T> entities =
+        StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(results, Spliterator.NONNULL), false)
+            .onClose(results::close);
+    return resolveChildEntities(entities, includeProperties);
+  }
+
+  Statement buildQueryAllStatement(
+      Class<?> entityClass, SpannerPageableQueryOptions options) {
     SpannerPersistentEntity<?> entity = this.mappingContext.getPersistentEntityOrFail(entityClass);
 
     String sql =
@@ -288,17 +591,14 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
             + " FROM "
             + entity.tableName()
             + SpannerStatementQueryExecutor.buildWhere(entity);
-    return query(
-        entityClass,
-        SpannerStatementQueryExecutor.buildStatementFromSqlWithArgs(
-            SpannerStatementQueryExecutor.applySortingPagingQueryOptions(
-                entityClass, options, sql, this.mappingContext, false),
-            null,
-            null,
-            null,
-            null,
-            null),
-        options);
+    return SpannerStatementQueryExecutor.buildStatementFromSqlWithArgs(
+        SpannerStatementQueryExecutor.applySortingPagingQueryOptions(
+            entityClass, options, sql, this.mappingContext, false),
+        null,
+        null,
+        null,
+        null,
+        null);
   }
 
   @Override
@@ -373,6 +673,50 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
         includeProperties);
   }
 
+  @Override
+  public SpannerBulkWriteResult insertAll(Iterable<?> objects, SpannerBulkWriteOptions options) {
+    return applyBulkSaveMutations(objects, this.mutationFactory::insert, options);
+  }
+
+  @Override
+  public SpannerBulkWriteResult upsertAll(Iterable<?> objects, SpannerBulkWriteOptions options) {
+    return applyBulkSaveMutations(objects, x -> this.mutationFactory.upsert(x, null), options);
+  }
+
+  /**
+   * Writes the mutations of the given entities in several concurrent commits. An {@link
+   * AfterSaveEvent} is published for each successful commit, on the calling thread.
+   */
+  protected SpannerBulkWriteResult applyBulkSaveMutations(
+      Iterable<?> entities,
+      Function<Object, Collection<Mutation>> mutationFunc,
+      SpannerBulkWriteOptions options) {
+    Assert.notNull(options, "Valid bulk write options are required.");
+    if (getTransactionContext() != null) {
+      throw new SpannerDataException(
+          "Bulk writes commit independently and cannot run in a transaction.");
+    }
+    maybeEmitEvent(new BeforeSaveEvent(entities, null));
+    SpannerBulkWriteResult result =
+        new SpannerBulkWriter(
+                this.databaseClientProvider.get(),
+                getBulkWriteExecutor(),
+                options,
+                mutationFunc,
+                (mutations, written) ->
+                    maybeEmitEvent(new AfterSaveEvent(mutations, written, null)))
+            .write(entities);
+    if (result.hasFailures()) {
+      LOGGER.warn(
+          "Bulk write failed for "
+              + result.getFailures().stream().mapToInt(f -> f.getEntities().size()).sum()
+              + " entities in "
+              + result.getFailures().size()
+              + " groups.");
+    }
+    return result;
+  }
+
   private void applySaveMutations(
       Supplier<List<Mutation>> mutationsSupplier,
       Iterable<?> entities,
@@ -456,21 +800,28 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
                     new TransactionCallable<T>() {
                       @Nullable
                       @Override
-                      public T run(TransactionContext transaction) { // @formatter:off
-                        ReadWriteTransactionSpannerTemplate transactionSpannerTemplate =
-                            new ReadWriteTransactionSpannerTemplate(
-                                // @formatter:on
-                                SpannerTemplate.this.databaseClientProvider,
-                                SpannerTemplate.this.mappingContext,
-                                SpannerTemplate.this.spannerEntityProcessor,
-                                SpannerTemplate.this.mutationFactory,
-                                SpannerTemplate.this.spannerSchemaUtils,
-                                transaction);
-                        return operations.apply(transactionSpannerTemplate);
+                      public T run(TransactionContext transaction) {
+                        return operations.apply(createReadWriteTransactionTemplate(transaction));
                       }
                     }));
   }
 
+  /**
+   * Creates a template that performs its operations in the given read-write transaction.
+   *
+   * @param transaction the transaction the operations run in.
+   * @return the transaction-bound template.
+   */
+  SpannerTemplate createReadWriteTransactionTemplate(TransactionContext transaction) {
+    return new ReadWriteTransactionSpannerTemplate(
+        this.databaseClientProvider,
+        this.mappingContext,
+        this.spannerEntityProcessor,
+        this.mutationFactory,
+        this.spannerSchemaUtils,
+        transaction);
+  }
+
   @Override
   public <T> T performReadOnlyTransaction(
       Function<SpannerTemplate, T> operations, SpannerReadOptions readOptions) {
@@ -655,48 +1006,165 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
   }
 
   private <T> List<T> resolveChildEntities(List<T> entities, Set<String> includeProperties) {
+    Map<Class<?>, List<Object>> entitiesByType = new LinkedHashMap<>();
     for (Object entity : entities) {
-      resolveChildEntity(entity, includeProperties);
+      entitiesByType.computeIfAbsent(entity.getClass(), x -> new ArrayList<>()).add(entity);
     }
+    entitiesByType.forEach(
+        (entityType, sameTypeEntities) ->
+            resolveChildEntitiesOfType(entityType, sameTypeEntities, includeProperties));
     return entities;
   }
 
-  private void resolveChildEntity(Object entity, Set<String> includeProperties) {
+  /**
+   * Resolves the interleaved properties of streamed entities. The stream is consumed in batches of
+   * {@link #STREAM_CHILD_RESOLUTION_BATCH_SIZE} so that the children of each batch are fetched
+   * together while only one batch is held in memory.
+   */
+  private <T> Stream<T> resolveChildEntities(Stream<T> entities, Set<String> includeProperties) {
+    Iterator<T> iterator = entities.iterator();
+    Iterator<List<T>> batches =
+        new Iterator<>() {
+          @Override
+          public boolean hasNext() {
+            return iterator.hasNext();
+          }
+
+          @Override
+          public List<T> next() {
+            List<T> batch = new ArrayList<>();
+            while (batch.size() < STREAM_CHILD_RESOLUTION_BATCH_SIZE && iterator.hasNext()) {
+              batch.add(iterator.next());
+            }
+            return resolveChildEntities(batch, includeProperties);
+          }
+        };
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED), false)
+        .flatMap(List::stream)
+        .onClose(entities::close);
+  }
+
+  /**
+   * Resolves the interleaved properties of entities of the same type. The children of all the
+   * given parents are fetched with one query per interleaved property (per chunk of {@link
+   * #MAX_CHILD_QUERY_PARAMETERS} key parts) and are then assigned to their parents in memory. Lazy
+   * interleaved properties share a single batched load that runs when the first proxy is touched.
+   */
+  private void resolveChildEntitiesOfType(
+      Class<?> entityType, List<Object> entities, Set<String> includeProperties) {
     SpannerPersistentEntity<?> spannerPersistentEntity =
-        this.mappingContext.getPersistentEntityOrFail(entity.getClass());
+        this.mappingContext.getPersistentEntityOrFail(entityType);
 
-    PersistentPropertyAccessor<?> accessor = spannerPersistentEntity.getPropertyAccessor(entity);
     spannerPersistentEntity.doWithInterleavedProperties(
         spannerPersistentProperty -> {
           if (includeProperties != null
               && !includeProperties.contains(spannerPersistentEntity.getName())) {
             return;
           }
-          // an interleaved property can only be List
-          List propertyValue = (List) accessor.getProperty(spannerPersistentProperty);
-          if (propertyValue != null) {
-            resolveChildEntities(propertyValue, null);
+          List<Object> loadedChildren = new ArrayList<>();
+          Map<Key, List<PersistentPropertyAccessor<?>>> unresolvedParents = new LinkedHashMap<>();
+          for (Object entity : entities) {
+            PersistentPropertyAccessor<?> accessor =
+                spannerPersistentEntity.getPropertyAccessor(entity);
+            // an interleaved property can only be List
+            List propertyValue = (List) accessor.getProperty(spannerPersistentProperty);
+            if (propertyValue != null) {
+              loadedChildren.addAll(propertyValue);
+            } else {
+              unresolvedParents
+                  .computeIfAbsent(this.spannerSchemaUtils.getKey(entity), x -> new ArrayList<>())
+                  .add(accessor);
+            }
+          }
+          resolveChildEntities(loadedChildren, null);
+          if (unresolvedParents.isEmpty()) {
             return;
           }
-          Class<?> childType = spannerPersistentProperty.getColumnInnerType();
-
-          Supplier<List> getChildrenEntitiesFunc =
-              () ->
-                  queryAndResolveChildren(
-                      childType,
-                      SpannerStatementQueryExecutor.getChildrenRowsQuery(
-                          this.spannerSchemaUtils.getKey(entity),
+
+          Supplier<Map<Key, List<Object>>> getChildrenByParentKeyFunc =
+              memoize(
+                  () ->
+                      getChildrenByParentKey(
+                          unresolvedParents.keySet(), spannerPersistentProperty));
+
+          unresolvedParents.forEach(
+              (parentKey, accessors) -> {
+                for (int i = 0; i < accessors.size(); i++) {
+                  // parents that share a key must not share a mutable list of children
+                  boolean copy = i > 0;
+                  Supplier<List> getChildrenEntitiesFunc =
+                      () -> {
+                        List<Object> children =
+                            getChildrenByParentKeyFunc
+                                .get()
+                                .getOrDefault(parentKey, Collections.emptyList());
+                        return copy || children.isEmpty() ? new ArrayList<>(children) : children;
+                      };
+                  accessors
+                      .get(i)
+                      .setProperty(
                           spannerPersistentProperty,
-                          this.spannerEntityProcessor.getWriteConverter(),
-                          this.mappingContext),
-                      null);
+                          spannerPersistentProperty.isLazyInterleaved()
+                              ? ConversionUtils.wrapSimpleLazyProxy(
+                                  getChildrenEntitiesFunc, List.class)
+                              : getChildrenEntitiesFunc.get());
+                }
+              });
+        });
+  }
 
-          accessor.setProperty(
+  private Map<Key, List<Object>> getChildrenByParentKey(
+      Collection<Key> parentKeys, SpannerPersistentProperty spannerPersistentProperty) {
+    Class<?> childType = spannerPersistentProperty.getColumnInnerType();
+    List<Key> keys = new ArrayList<>(parentKeys);
+    int parentKeySize = keys.get(0).size();
+    int chunkSize = Math.max(1, MAX_CHILD_QUERY_PARAMETERS / Math.max(1, parentKeySize));
+
+    List<Object> children = new ArrayList<>();
+    for (int from = 0; from < keys.size(); from += chunkSize) {
+      Statement statement =
+          SpannerStatementQueryExecutor.getChildrenRowsQuery(
+              keys.subList(from, Math.min(from + chunkSize, keys.size())),
               spannerPersistentProperty,
-              spannerPersistentProperty.isLazyInterleaved()
-                  ? ConversionUtils.wrapSimpleLazyProxy(getChildrenEntitiesFunc, List.class)
-                  : getChildrenEntitiesFunc.get());
-        });
+              this.spannerEntityProcessor.getWriteConverter(),
+              this.mappingContext);
+      children.addAll(
+          this.spannerEntityProcessor.mapToList(
+              executeQuery(statement, null), childType, null, false));
+    }
+    resolveChildEntities(children, null);
+
+    Map<Key, List<Object>> childrenByParentKey = new HashMap<>();
+    for (Object child : children) {
+      childrenByParentKey
+          .computeIfAbsent(getKeyPrefix(child, parentKeySize), x -> new ArrayList<>())
+          .add(child);
+    }
+    return childrenByParentKey;
+  }
+
+  private Key getKeyPrefix(Object entity, int size) {
+    Key.Builder builder = Key.newBuilder();
+    Iterator<Object> parts = this.spannerSchemaUtils.getKey(entity).getParts().iterator();
+    for (int i = 0; i < size && parts.hasNext(); i++) {
+      builder.appendObject(parts.next());
+    }
+    return builder.build();
+  }
+
+  private static <A> Supplier<A> memoize(Supplier<A> supplier) {
+    return new Supplier<A>() {
+      private A value;
+
+      @Override
+      public synchronized A get() {
+        if (this.value == null) {
+          this.value = supplier.get();
+        }
+        return this.value;
+      }
+    };
   }
 
   private List<Mutation> getMutationsForMultipleObjects(
@@ -727,7 +1195,7 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
         : funcWithoutTransactionContext.get();
   }
 
-  private void maybeEmitEvent(ApplicationEvent event) {
+  void maybeEmitEvent(ApplicationEvent event) {
     if (this.eventPublisher != null) {
       this.eventPublisher.publishEvent(event);
     }
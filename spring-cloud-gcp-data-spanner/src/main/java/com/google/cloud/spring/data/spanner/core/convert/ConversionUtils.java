@@ -17,13 +17,21 @@
 package com.google.cloud.spring.data.spanner.core.convert;
 
 import com.google.cloud.ByteArray;
+import com.google.cloud.spanner.ResultSet;
+import com.google.cloud.spanner.Struct;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.springframework.util.Assert;
 
 /**
@@ -55,6 +63,32 @@ public final class ConversionUtils {
     return result;
   }
 
+  /**
+   * Wraps a {@link ResultSet} in a sequential stream that applies the given function to each row
+   * as it is consumed. Rows are read from the ResultSet on demand, and the ResultSet is closed when
+   * the stream is closed.
+   *
+   * @param resultSet the Spanner results to stream.
+   * @param rowFunc the function to apply to each row.
+   * @param <A> the type each row is converted into.
+   * @return a lazily populated stream of the converted rows.
+   */
+  public static <A> Stream<A> streamResultSet(ResultSet resultSet, Function<Struct, A> rowFunc) {
+    Spliterator<A> spliterator =
+        new Spliterators.AbstractSpliterator<A>(
+            Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+          @Override
+          public boolean tryAdvance(Consumer<? super A> action) {
+            if (!resultSet.next()) {
+              return false;
+            }
+            action.accept(rowFunc.apply(resultSet.getCurrentRowAsStruct()));
+            return true;
+          }
+        };
+    return StreamSupport.stream(spliterator, false).onClose(resultSet::close);
+  }
+
   @SuppressWarnings("unchecked")
   public static <T> T wrapSimpleLazyProxy(Supplier<T> supplierFunc, Class<T> type) {
     return (T)
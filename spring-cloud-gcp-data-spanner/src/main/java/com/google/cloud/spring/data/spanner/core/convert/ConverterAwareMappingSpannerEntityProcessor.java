@@ -27,6 +27,8 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.util.Assert;
 
@@ -77,13 +79,16 @@ public class ConverterAwareMappingSpannerEntityProcessor implements SpannerEntit
       boolean allowMissingColumns) {
     ArrayList<T> result = new ArrayList<>();
     try {
+      // all rows of a result set share a type, so the plan compiled for the first row is reused
+      ConverterAwareMappingSpannerEntityReader.RowPlan<T> rowPlan = null;
       while (resultSet.next()) {
-        result.add(
-            this.entityReader.read(
-                entityClass,
-                resultSet.getCurrentRowAsStruct(),
-                includeColumns,
-                allowMissingColumns));
+        Struct row = resultSet.getCurrentRowAsStruct();
+        if (rowPlan == null) {
+          rowPlan =
+              this.entityReader.getRowPlan(
+                  entityClass, row.getType(), includeColumns, allowMissingColumns);
+        }
+        result.add(rowPlan.read(row));
       }
     } finally {
       resultSet.close();
@@ -91,6 +96,30 @@ public class ConverterAwareMappingSpannerEntityProcessor implements SpannerEntit
     return result;
   }
 
+  @Override
+  public <T> Stream<T> mapToStream(
+      ResultSet resultSet,
+      Class<T> entityClass,
+      Set<String> includeColumns,
+      boolean allowMissingColumns) {
+    return ConversionUtils.streamResultSet(
+        resultSet,
+        new Function<Struct, T>() {
+          // compiled from the first row and reused for the rest, as in mapToList
+          private ConverterAwareMappingSpannerEntityReader.RowPlan<T> rowPlan;
+
+          @Override
+          public T apply(Struct row) {
+            if (this.rowPlan == null) {
+              this.rowPlan =
+                  ConverterAwareMappingSpannerEntityProcessor.this.entityReader.getRowPlan(
+                      entityClass, row.getType(), includeColumns, allowMissingColumns);
+            }
+            return this.rowPlan.read(row);
+          }
+        });
+  }
+
   @Override
   public <T> List<T> mapToList(
       ResultSet resultSet, Class<T> entityClass, String... includeColumns) {
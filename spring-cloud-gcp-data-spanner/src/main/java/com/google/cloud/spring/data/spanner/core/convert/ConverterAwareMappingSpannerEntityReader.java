@@ -17,22 +17,37 @@
 package com.google.cloud.spring.data.spanner.core.convert;
 
 import com.google.cloud.spanner.Struct;
+import com.google.cloud.spanner.Type;
+import com.google.cloud.spanner.Type.Code;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentEntity;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentProperty;
+import com.google.gson.Gson;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 import org.springframework.data.mapping.InstanceCreatorMetadata;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.model.EntityInstantiator;
 import org.springframework.data.mapping.model.EntityInstantiators;
-import org.springframework.data.mapping.model.ParameterValueProvider;
 import org.springframework.data.mapping.model.PersistentEntityParameterValueProvider;
+import org.springframework.data.mapping.model.PropertyValueProvider;
 
 /**
  * A reading converter for Spanner that uses custom converters.
  *
+ * <p>For every combination of entity type, row type and read options a {@link RowPlan} is
+ * compiled once. The plan resolves each property to a column position and pre-selects the
+ * Struct read method and conversion for it, so that mapping the rows of a result set only
+ * performs positional reads.
+ *
  * @since 1.1
  */
 class ConverterAwareMappingSpannerEntityReader implements SpannerEntityReader {
@@ -43,6 +58,11 @@ class ConverterAwareMappingSpannerEntityReader implements SpannerEntityReader {
 
   private final SpannerReadConverter converter;
 
+  // Ad hoc column selections would otherwise add plans without bound.
+  private static final int MAX_ROW_PLANS = 1024;
+
+  private final Map<RowPlanKey, RowPlan<?>> rowPlans = new ConcurrentHashMap<>();
+
   ConverterAwareMappingSpannerEntityReader(
       SpannerMappingContext spannerMappingContext, SpannerReadConverter spannerReadConverter) {
     this.spannerMappingContext = spannerMappingContext;
@@ -63,84 +83,309 @@ class ConverterAwareMappingSpannerEntityReader implements SpannerEntityReader {
    * @param <R> the type of the POJO.
    * @return the POJO
    */
-  @SuppressWarnings("unchecked")
   public <R> R read(
       Class<R> type, Struct source, Set<String> includeColumns, boolean allowMissingColumns) {
-    boolean readAllColumns = includeColumns == null;
-    SpannerPersistentEntity<R> persistentEntity =
-        (SpannerPersistentEntity<R>) this.spannerMappingContext.getPersistentEntityOrFail(type);
-
-    StructAccessor structAccessor =
-        new StructAccessor(source, this.spannerMappingContext.getGson());
+    return getRowPlan(type, source.getType(), includeColumns, allowMissingColumns).read(source);
+  }
 
-    StructPropertyValueProvider propertyValueProvider =
-        new StructPropertyValueProvider(structAccessor, this.converter, this, allowMissingColumns);
+  /**
+   * Gets the compiled plan for reading rows of the given type into POJOs. The plan is compiled on
+   * first use and reused for every later row of the same type and read options. At most {@value
+   * #MAX_ROW_PLANS} plans are cached; the cache starts over once it is full.
+   *
+   * @param type the type of POJO
+   * @param rowType the type of the Cloud Spanner rows that will be read.
+   * @param includeColumns the columns to read. If null then all columns will be read.
+   * @param allowMissingColumns if true, then properties with no corresponding column are not
+   *     mapped. If false, then an exception is thrown.
+   * @param <R> the type of the POJO.
+   * @return the plan that reads rows of the given type.
+   */
+  @SuppressWarnings("unchecked")
+  <R> RowPlan<R> getRowPlan(
+      Class<R> type, Type rowType, Set<String> includeColumns, boolean allowMissingColumns) {
+    // looked up with the caller's column set; only a cached key holds an immutable copy of it
+    RowPlanKey key = new RowPlanKey(type, rowType, includeColumns, allowMissingColumns);
+    // not computeIfAbsent, because compiling a plan recursively compiles the plans of embedded
+    // properties
+    RowPlan<R> plan = (RowPlan<R>) this.rowPlans.get(key);
+    if (plan == null) {
+      plan = compile(type, rowType, includeColumns, allowMissingColumns);
+      if (this.rowPlans.size() >= MAX_ROW_PLANS) {
+        this.rowPlans.clear();
+      }
+      RowPlanKey cachedKey =
+          includeColumns == null
+              ? key
+              : new RowPlanKey(type, rowType, Set.copyOf(includeColumns), allowMissingColumns);
+      RowPlan<R> existing = (RowPlan<R>) this.rowPlans.putIfAbsent(cachedKey, plan);
+      if (existing != null) {
+        plan = existing;
+      }
+    }
+    return plan;
+  }
 
+  @SuppressWarnings("unchecked")
+  private <R> RowPlan<R> compile(
+      Class<R> type, Type rowType, Set<String> includeColumns, boolean allowMissingColumns) {
+    SpannerPersistentEntity<R> persistentEntity =
+        (SpannerPersistentEntity<R>) this.spannerMappingContext.getPersistentEntityOrFail(type);
     InstanceCreatorMetadata<SpannerPersistentProperty> instanceCreatorMetadata =
         persistentEntity.getInstanceCreatorMetadata();
 
-    // @formatter:off
-    ParameterValueProvider<SpannerPersistentProperty> parameterValueProvider =
-        new PersistentEntityParameterValueProvider<>(persistentEntity, propertyValueProvider, null);
-    // @formatter:on
-
-    EntityInstantiator instantiator = this.instantiators.getInstantiatorFor(persistentEntity);
-    R instance = instantiator.createInstance(persistentEntity, parameterValueProvider);
-    PersistentPropertyAccessor accessor = persistentEntity.getPropertyAccessor(instance);
+    List<Type.StructField> fields = rowType.getStructFields();
+    Map<String, Integer> columnIndexes = new HashMap<>();
+    for (int i = 0; i < fields.size(); i++) {
+      columnIndexes.putIfAbsent(fields.get(i).getName(), i);
+    }
 
+    Map<SpannerPersistentProperty, CompiledColumn> creatorParameterColumns =
+        new IdentityHashMap<>();
+    List<PropertyStep> steps = new ArrayList<>();
     persistentEntity.doWithProperties(
         (PropertyHandler<SpannerPersistentProperty>)
             spannerPersistentProperty -> {
+              String columnName = spannerPersistentProperty.getColumnName();
+              Integer columnIndex = columnIndexes.get(columnName);
+              CompiledColumn column =
+                  columnIndex == null
+                      ? null
+                      : new CompiledColumn(
+                          spannerPersistentProperty,
+                          columnIndex,
+                          compileColumnReader(
+                              spannerPersistentProperty,
+                              columnIndex,
+                              fields.get(columnIndex).getType(),
+                              allowMissingColumns));
+              boolean creatorParameter =
+                  instanceCreatorMetadata != null
+                      && instanceCreatorMetadata.isCreatorParameter(spannerPersistentProperty);
+              if (creatorParameter) {
+                creatorParameterColumns.put(spannerPersistentProperty, column);
+              }
+
               if (spannerPersistentProperty.isEmbedded()) {
-                accessor.setProperty(
-                    spannerPersistentProperty,
-                    read(
-                        spannerPersistentProperty.getType(),
-                        source,
-                        includeColumns,
-                        allowMissingColumns));
-              } else {
-                if (!shouldSkipProperty(
-                    structAccessor,
-                    spannerPersistentProperty,
-                    includeColumns,
-                    readAllColumns,
-                    allowMissingColumns,
-                    instanceCreatorMetadata)) {
-
-                  Object value = propertyValueProvider.getPropertyValue(spannerPersistentProperty);
-                  accessor.setProperty(spannerPersistentProperty, value);
+                steps.add(
+                    new EmbeddedStep(
+                        spannerPersistentProperty,
+                        getRowPlan(
+                            spannerPersistentProperty.getType(),
+                            rowType,
+                            includeColumns,
+                            allowMissingColumns)));
+              } else if (spannerPersistentProperty.isLazyInterleaved()
+                  || (includeColumns != null && !includeColumns.contains(columnName))) {
+                // not read
+              } else if (column == null) {
+                if (!allowMissingColumns) {
+                  steps.add(new MissingColumnStep(columnName));
                 }
+              } else if (!creatorParameter) {
+                steps.add(new ColumnStep(column));
               }
             });
 
-    return instance;
+    return new RowPlan<>(persistentEntity, creatorParameterColumns, steps);
   }
 
-  private boolean shouldSkipProperty(
-      StructAccessor struct,
+  @SuppressWarnings("unchecked")
+  private ColumnReader compileColumnReader(
       SpannerPersistentProperty spannerPersistentProperty,
-      Set<String> includeColumns,
-      boolean readAllColumns,
-      boolean allowMissingColumns,
-      InstanceCreatorMetadata<SpannerPersistentProperty> persistenceConstructor) {
+      int columnIndex,
+      Type columnType,
+      boolean allowMissingColumns) {
     String columnName = spannerPersistentProperty.getColumnName();
-    boolean notRequiredByPartialRead = !readAllColumns && !includeColumns.contains(columnName);
+    Class propType = spannerPersistentProperty.getType();
+    boolean json = spannerPersistentProperty.getAnnotatedColumnItemType() == Code.JSON;
+    Gson gson = this.spannerMappingContext.getGson();
+
+    if (ConversionUtils.isIterableNonByteArrayType(propType)) {
+      Class innerType = spannerPersistentProperty.getColumnInnerType();
+      if (columnType.getCode() != Code.ARRAY) {
+        return struct -> {
+          throw new SpannerDataException(StructAccessor.EXCEPTION_COL_NOT_ARRAY + columnName);
+        };
+      }
+      if (json) {
+        return struct -> {
+          List<String> jsonStrings = struct.getJsonList(columnIndex);
+          List<Object> result = new ArrayList<>(jsonStrings.size());
+          jsonStrings.forEach(item -> result.add(gson.fromJson(item, innerType)));
+          return result;
+        };
+      }
+      Type elementType = columnType.getArrayElementType();
+      BiFunction<Struct, Integer, List> readMethod =
+          StructAccessor.readIterableMappingIntCol.get(
+              SpannerTypeMapper.getSimpleJavaClassFor(elementType.getCode()));
+      ValueConverter itemConverter =
+          compileValueConverter(innerType, elementType, allowMissingColumns);
+      return struct -> {
+        List<?> values = readMethod.apply(struct, columnIndex);
+        List<Object> result = new ArrayList<>(values.size());
+        for (Object item : values) {
+          result.add(item == null ? null : itemConverter.convert(item));
+        }
+        return result;
+      };
+    }
+
+    if (json) {
+      return struct -> gson.fromJson(struct.getJson(columnIndex), propType);
+    }
+    BiFunction<Struct, Integer, ?> readMethod =
+        StructAccessor.singleItemReadMethodMappingIntCol.get(
+            StructAccessor.getSingleItemTypeCode(columnType));
+    if (readMethod == null) {
+      // This case should only occur if the POJO field is non-Iterable, but the column type
+      // is ARRAY of STRUCT, TIMESTAMP, DATE, BYTES, or STRING. This use-case is not supported.
+      return struct -> null;
+    }
+    ValueConverter valueConverter =
+        compileValueConverter(propType, columnType, allowMissingColumns);
+    return struct -> {
+      Object value = readMethod.apply(struct, columnIndex);
+      return value == null ? null : valueConverter.convert(value);
+    };
+  }
+
+  @SuppressWarnings("unchecked")
+  private ValueConverter compileValueConverter(
+      Class targetType, Type sourceType, boolean allowMissingColumns) {
+    if (sourceType.getCode() == Code.STRUCT
+        && !this.converter.canConvert(Struct.class, targetType)) {
+      return value -> read(targetType, (Struct) value, null, allowMissingColumns);
+    }
+    return value -> this.converter.convert(value, targetType);
+  }
+
+  /** Reads and converts the value of one non-null column of a row. */
+  @FunctionalInterface
+  private interface ColumnReader {
+    Object read(Struct source);
+  }
 
-    return spannerPersistentProperty.isLazyInterleaved()
-        || notRequiredByPartialRead
-        || isMissingColumn(struct, allowMissingColumns, columnName)
-        || struct.isNull(columnName)
-        || persistenceConstructor.isCreatorParameter(spannerPersistentProperty);
+  /** Converts a single value read from a column to the type of a property. */
+  @FunctionalInterface
+  private interface ValueConverter {
+    Object convert(Object value);
+  }
+
+  /** The compiled read of the column that holds the value of a property. */
+  private record CompiledColumn(
+      SpannerPersistentProperty property, int columnIndex, ColumnReader reader) {
+
+    /** Returns the converted value of the column, or null if the column is null. */
+    Object read(Struct source) {
+      if (source.isNull(this.columnIndex)) {
+        return null;
+      }
+      Object value = this.reader.read(source);
+      if (value == null) {
+        throw new SpannerDataException(
+            String.format(
+                "The value in column with name %s"
+                    + " could not be converted to the corresponding property in the entity."
+                    + " The property's type is %s.",
+                this.property.getColumnName(), this.property.getType()));
+      }
+      return value;
+    }
+  }
+
+  /** A step that sets one property of an instantiated POJO from a row. */
+  private interface PropertyStep {
+    void apply(Struct source, PersistentPropertyAccessor<?> accessor);
+  }
+
+  private record ColumnStep(CompiledColumn column) implements PropertyStep {
+    @Override
+    public void apply(Struct source, PersistentPropertyAccessor<?> accessor) {
+      Object value = this.column.read(source);
+      if (value != null) {
+        accessor.setProperty(this.column.property(), value);
+      }
+    }
+  }
+
+  private record EmbeddedStep(SpannerPersistentProperty property, RowPlan<?> plan)
+      implements PropertyStep {
+    @Override
+    public void apply(Struct source, PersistentPropertyAccessor<?> accessor) {
+      accessor.setProperty(this.property, this.plan.read(source));
+    }
   }
 
-  private boolean isMissingColumn(
-      StructAccessor struct, boolean allowMissingColumns, String columnName) {
-    boolean missingColumn = !struct.hasColumn(columnName);
-    if (missingColumn && !allowMissingColumns) {
+  private record MissingColumnStep(String columnName) implements PropertyStep {
+    @Override
+    public void apply(Struct source, PersistentPropertyAccessor<?> accessor) {
       throw new SpannerDataException(
-          "Unable to read column from Cloud Spanner results: " + columnName);
+          "Unable to read column from Cloud Spanner results: " + this.columnName);
+    }
+  }
+
+  private record RowPlanKey(
+      Class<?> type, Type rowType, Set<String> includeColumns, boolean allowMissingColumns) {}
+
+  /**
+   * A compiled plan that reads rows of a single type into POJOs of a single type.
+   *
+   * @param <R> the type of the POJO.
+   */
+  final class RowPlan<R> {
+
+    private final SpannerPersistentEntity<R> persistentEntity;
+
+    private final EntityInstantiator instantiator;
+
+    private final Map<SpannerPersistentProperty, CompiledColumn> creatorParameterColumns;
+
+    private final PropertyStep[] steps;
+
+    private RowPlan(
+        SpannerPersistentEntity<R> persistentEntity,
+        Map<SpannerPersistentProperty, CompiledColumn> creatorParameterColumns,
+        List<PropertyStep> steps) {
+      this.persistentEntity = persistentEntity;
+      this.instantiator = instantiators.getInstantiatorFor(persistentEntity);
+      this.creatorParameterColumns = creatorParameterColumns;
+      this.steps = steps.toArray(new PropertyStep[0]);
+    }
+
+    /**
+     * Reads a single POJO from a row of the type this plan was compiled for.
+     *
+     * @param source the Cloud Spanner row
+     * @return the POJO
+     */
+    R read(Struct source) {
+      R instance =
+          this.instantiator.createInstance(
+              this.persistentEntity,
+              new PersistentEntityParameterValueProvider<>(
+                  this.persistentEntity, creatorParameterValueProvider(source), null));
+      PersistentPropertyAccessor<R> accessor = this.persistentEntity.getPropertyAccessor(instance);
+      for (PropertyStep step : this.steps) {
+        step.apply(source, accessor);
+      }
+      return instance;
+    }
+
+    @SuppressWarnings("unchecked")
+    private PropertyValueProvider<SpannerPersistentProperty> creatorParameterValueProvider(
+        Struct source) {
+      return new PropertyValueProvider<>() {
+        @Override
+        public <T> T getPropertyValue(SpannerPersistentProperty property) {
+          CompiledColumn column = creatorParameterColumns.get(property);
+          if (column == null) {
+            throw new SpannerDataException("Column not found: " + property.getColumnName());
+          }
+          return (T) column.read(source);
+        }
+      };
     }
-    return missingColumn;
   }
 }
@@ -19,6 +19,7 @@ package com.google.cloud.spring.data.spanner.core.convert;
 import com.google.cloud.spanner.ResultSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Interface for processors that can populate fields from Spanner Structs and write them to Spanner
@@ -67,6 +68,29 @@ public interface SpannerEntityProcessor extends SpannerEntityReader, SpannerEnti
    */
   <T> List<T> mapToList(ResultSet resultSet, Class<T> entityClass, String... includeColumns);
 
+  /**
+   * Converts a Spanner {@link ResultSet} into a stream of objects. Rows are read and converted as
+   * the stream is consumed, so the results are never held in memory all at once.
+   *
+   * @param resultSet the Spanner results to convert. The ResultSet is closed when the stream is
+   *     closed.
+   * @param entityClass the type of the objects the Spanner results represent.
+   * @param includeColumns the Set of columns to read. If this param is null then all columns will
+   *     be read.
+   * @param allowMissingColumns if true, then properties with no corresponding column are not
+   *     mapped. If false, then an exception is thrown.
+   * @param <T> the type of the objects the Spanner results represent.
+   * @return a lazily populated stream of objects.
+   */
+  default <T> Stream<T> mapToStream(
+      ResultSet resultSet,
+      Class<T> entityClass,
+      Set<String> includeColumns,
+      boolean allowMissingColumns) {
+    return ConversionUtils.streamResultSet(
+        resultSet, row -> read(entityClass, row, includeColumns, allowMissingColumns));
+  }
+
   /**
    * Gets the type that will work for both read and writes with Spanner directly.
    *
@@ -29,10 +29,8 @@ import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
 import com.google.gson.Gson;
 import java.math.BigDecimal;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiFunction;
 
@@ -61,6 +59,22 @@ public class StructAccessor {
           .put(UUID.class, AbstractStructReader::getUuidList)
           .build();
 
+  static final Map<Class, BiFunction<Struct, Integer, List>> readIterableMappingIntCol =
+      new MapBuilder<Class, BiFunction<Struct, Integer, List>>()
+          .put(Boolean.class, AbstractStructReader::getBooleanList)
+          .put(Long.class, AbstractStructReader::getLongList)
+          .put(String.class, AbstractStructReader::getStringList)
+          .put(Double.class, AbstractStructReader::getDoubleList)
+          .put(Float.class, AbstractStructReader::getFloatList)
+          .put(Timestamp.class, AbstractStructReader::getTimestampList)
+          .put(Date.class, AbstractStructReader::getDateList)
+          .put(ByteArray.class, AbstractStructReader::getBytesList)
+          .put(BigDecimal.class, AbstractStructReader::getBigDecimalList)
+          .put(Struct.class, AbstractStructReader::getStructList)
+          .put(Interval.class, AbstractStructReader::getIntervalList)
+          .put(UUID.class, AbstractStructReader::getUuidList)
+          .build();
+
   static final Map<Class, BiFunction<Struct, String, ?>> singleItemReadMethodMapping =
       new MapBuilder<Class, BiFunction<Struct, String, ?>>()
           .put(Boolean.class, AbstractStructReader::getBoolean)
@@ -115,37 +129,21 @@ public class StructAccessor {
           .build();
 
   // @formatter:on
-  private static final String EXCEPTION_COL_NOT_ARRAY = "Column is not an ARRAY type: ";
+  static final String EXCEPTION_COL_NOT_ARRAY = "Column is not an ARRAY type: ";
 
   private Struct struct;
 
-  private Set<String> columnNamesIndex;
-
   private Gson gson;
 
   public StructAccessor(Struct struct) {
     this.struct = struct;
-    this.columnNamesIndex = indexColumnNames();
   }
 
   public StructAccessor(Struct struct, Gson gson) {
     this.struct = struct;
-    this.columnNamesIndex = indexColumnNames();
     this.gson = gson;
   }
 
-  Object getSingleValue(String colName) {
-    Type colType = this.struct.getColumnType(colName);
-    Class sourceType = getSingleItemTypeCode(colType);
-    BiFunction readFunction = singleItemReadMethodMapping.get(sourceType);
-    if (readFunction == null) {
-      // This case should only occur if the POJO field is non-Iterable, but the column type
-      // is ARRAY of STRUCT, TIMESTAMP, DATE, BYTES, or STRING. This use-case is not supported.
-      return null;
-    }
-    return readFunction.apply(this.struct, colName);
-  }
-
   public Object getSingleValue(int colIndex) {
     if (this.struct.isNull(colIndex)) {
       return null;
@@ -163,26 +161,6 @@ public class StructAccessor {
     return readFunction.apply(this.struct, colIndex);
   }
 
-  List getListValue(String colName) {
-    if (this.struct.getColumnType(colName).getCode() != Code.ARRAY) {
-      throw new SpannerDataException(EXCEPTION_COL_NOT_ARRAY + colName);
-    }
-    Type.Code innerTypeCode = this.struct.getColumnType(colName).getArrayElementType().getCode();
-    Class clazz = SpannerTypeMapper.getSimpleJavaClassFor(innerTypeCode);
-    BiFunction<Struct, String, List> readMethod = readIterableMapping.get(clazz);
-    return readMethod.apply(this.struct, colName);
-  }
-
-  <T> List<T> getListJsonValue(String colName, Class<T> colType) {
-    if (this.struct.getColumnType(colName).getCode() != Code.ARRAY) {
-      throw new SpannerDataException(EXCEPTION_COL_NOT_ARRAY + colName);
-    }
-    List<String> jsonStringList = this.struct.getJsonList(colName);
-    List<T> result = new ArrayList<>();
-    jsonStringList.forEach(item -> result.add(gson.fromJson(item, colType)));
-    return result;
-  }
-
   public <T> Object getJsonValue(int colIndex, Class<T> colType) {
     if (this.struct.getColumnType(colIndex).getCode() != Code.ARRAY) {
       return getSingleJsonValue(colIndex, colType);
@@ -200,37 +178,13 @@ public class StructAccessor {
     return result;
   }
 
-  boolean hasColumn(String columnName) {
-    return this.columnNamesIndex.contains(columnName);
-  }
-
-  boolean isNull(String columnName) {
-    return this.struct.isNull(columnName);
-  }
-
-  private Set<String> indexColumnNames() {
-    Set<String> cols = new HashSet<>();
-    for (Type.StructField f : this.struct.getType().getStructFields()) {
-      cols.add(f.getName());
-    }
-    return cols;
-  }
-
-  private Class getSingleItemTypeCode(Type colType) {
+  static Class getSingleItemTypeCode(Type colType) {
     Code code = colType.getCode();
     return code.equals(Code.ARRAY)
         ? SpannerTypeMapper.getArrayJavaClassFor(colType.getArrayElementType().getCode())
         : SpannerTypeMapper.getSimpleJavaClassFor(code);
   }
 
-  <T> T getSingleJsonValue(String colName, Class<T> colType) {
-    if (this.struct.isNull(colName)) {
-      return null;
-    }
-    String jsonString = this.struct.getJson(colName);
-    return gson.fromJson(jsonString, colType);
-  }
-
   // TODO: change this to private in next major release
   public <T> T getSingleJsonValue(int colIndex, Class<T> colType) {
     if (this.struct.getColumnType(colIndex).getCode() != Code.JSON) {
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.repository;
+
+import com.google.cloud.spring.data.spanner.core.ReactiveSpannerOperations;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.data.repository.reactive.ReactiveSortingRepository;
+
+/**
+ * An extension of {@link ReactiveCrudRepository} that adds sorting and access to the reactive
+ * Cloud Spanner operations. Entities are mapped with the same {@code @Table}, {@code @Interleaved}
+ * and {@code @Embedded} metadata and converters as {@link SpannerRepository}.
+ *
+ * @param <T> the entity type of the repository
+ * @param <I> the id type of the entity
+ */
+public interface ReactiveSpannerRepository<T, I>
+    extends ReactiveSortingRepository<T, I>, ReactiveCrudRepository<T, I> {
+
+  /**
+   * Gets a {@link ReactiveSpannerOperations}, which allows more-direct access to Google Cloud
+   * Spanner functions.
+   *
+   * @return the operations object providing reactive Cloud Spanner functions.
+   */
+  ReactiveSpannerOperations getReactiveSpannerTemplate();
+}
@@ -17,10 +17,12 @@
 package com.google.cloud.spring.data.spanner.repository.query;
 
 import com.google.cloud.spring.data.spanner.core.SpannerTemplate;
+import com.google.cloud.spring.data.spanner.core.convert.SpannerReadConverter;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.springframework.data.repository.query.RepositoryQuery;
 
 /**
@@ -60,6 +62,9 @@ abstract class AbstractSpannerQuery<T> implements RepositoryQuery {
 
   @Override
   public Object execute(Object[] parameters) {
+    if (this.queryMethod.isStreamQuery()) {
+      return executeStream(parameters);
+    }
     List results = executeRawResult(parameters);
     Class<?> simpleConvertedType = getReturnedSimpleConvertableItemType();
     if (simpleConvertedType != null) {
@@ -73,6 +78,17 @@ abstract class AbstractSpannerQuery<T> implements RepositoryQuery {
         : this.queryMethod.getResultProcessor().processResult(results.get(0));
   }
 
+  private Stream<?> executeStream(Object[] parameters) {
+    Stream<?> results = executeStreamResult(parameters);
+    Class<?> simpleConvertedType = getReturnedSimpleConvertableItemType();
+    if (simpleConvertedType != null) {
+      SpannerReadConverter readConverter =
+          this.spannerTemplate.getSpannerEntityProcessor().getReadConverter();
+      return results.map(x -> readConverter.convert(x, simpleConvertedType));
+    }
+    return results.map(this::processRawObjectForProjection);
+  }
+
   Object convertToSimpleReturnType(List<?> results, Class<?> simpleConvertedType) {
     return this.queryMethod.isCollectionQuery()
         ? results.stream()
@@ -94,7 +110,7 @@ abstract class AbstractSpannerQuery<T> implements RepositoryQuery {
   }
 
   Class<?> getReturnedType() {
-    return this.queryMethod.isCollectionQuery()
+    return this.queryMethod.isCollectionQuery() || this.queryMethod.isStreamQuery()
         ? this.queryMethod.getResultProcessor().getReturnedType().getReturnedType()
         : this.queryMethod.getReturnedObjectType();
   }
@@ -129,4 +145,16 @@ abstract class AbstractSpannerQuery<T> implements RepositoryQuery {
   }
 
   protected abstract List executeRawResult(Object[] parameters);
+
+  /**
+   * Executes the query for a method that returns a {@link Stream}. By default the results of
+   * {@link #executeRawResult(Object[])} are streamed; subclasses that can read rows lazily
+   * override this to avoid holding the whole result in memory.
+   *
+   * @param parameters the parameters of the query method invocation.
+   * @return a stream of the raw results, which must be closed by the caller.
+   */
+  protected Stream executeStreamResult(Object[] parameters) {
+    return executeRawResult(parameters).stream();
+  }
 }
@@ -21,6 +21,7 @@ import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Stream;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.parser.PartTree;
@@ -79,6 +80,20 @@ public class PartTreeSpannerQuery<T> extends AbstractSpannerQuery<T> {
         this.spannerMappingContext);
   }
 
+  @Override
+  protected Stream executeStreamResult(Object[] parameters) {
+    if (isCountOrExistsQuery() || this.tree.isDelete()) {
+      return super.executeStreamResult(parameters);
+    }
+    return SpannerStatementQueryExecutor.executeQueryStream(
+        this.entityType,
+        this.tree,
+        new ParametersParameterAccessor(getQueryMethod().getParameters(), parameters),
+        getQueryMethod().getQueryMethod().getParameters(),
+        this.spannerTemplate,
+        this.spannerMappingContext);
+  }
+
   private Function<SpannerTemplate, List> getDeleteFunction(Object[] parameters) {
     return transactionTemplate -> {
       ParameterAccessor paramAccessor =
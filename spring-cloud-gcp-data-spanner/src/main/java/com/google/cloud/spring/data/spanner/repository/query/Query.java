@@ -53,4 +53,14 @@ public @interface Query {
    *     method is executed as a DML query.
    */
   boolean dmlStatement() default false;
+
+  /**
+   * Indicates if the SQL query is split into partitions that are read in parallel. This requires a
+   * batch client to be set on the template and a root-partitionable query, and the results are
+   * returned in no particular order. Partitioned query methods cannot take {@code Pageable} or
+   * {@code Sort} parameters, and cannot return entities with interleaved properties.
+   *
+   * @return {@code true} if the query is read in parallel partitions.
+   */
+  boolean partitioned() default false;
 }
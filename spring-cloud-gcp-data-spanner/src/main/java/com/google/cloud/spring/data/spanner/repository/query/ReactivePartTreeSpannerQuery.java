@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.repository.query;
+
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spring.data.spanner.core.ReactiveSpannerOperations;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.repository.query.ParametersParameterAccessor;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.parser.PartTree;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementation of a reactive Spanner Query Method that handles all Part-tree / name-convention
+ * query methods. The SQL is derived exactly as for {@link PartTreeSpannerQuery}; the results are
+ * returned as a {@link Flux}, or as a {@link Mono} for methods declared to return one.
+ *
+ * @param <T> the return type of the Query Method
+ */
+public class ReactivePartTreeSpannerQuery<T> implements RepositoryQuery {
+
+  private final SpannerQueryMethod queryMethod;
+
+  private final ReactiveSpannerOperations reactiveSpannerTemplate;
+
+  private final SpannerMappingContext spannerMappingContext;
+
+  private final Class<T> entityType;
+
+  private final PartTree tree;
+
+  /**
+   * Constructor.
+   *
+   * @param type the underlying entity type
+   * @param queryMethod the underlying query method to support.
+   * @param reactiveSpannerTemplate used for executing queries.
+   * @param spannerMappingContext used for getting metadata about entities.
+   */
+  public ReactivePartTreeSpannerQuery(
+      Class<T> type,
+      SpannerQueryMethod queryMethod,
+      ReactiveSpannerOperations reactiveSpannerTemplate,
+      SpannerMappingContext spannerMappingContext) {
+    this.queryMethod = queryMethod;
+    this.entityType = type;
+    this.reactiveSpannerTemplate = reactiveSpannerTemplate;
+    this.spannerMappingContext = spannerMappingContext;
+    this.tree = new PartTree(queryMethod.getName(), type);
+  }
+
+  @Override
+  public Object execute(Object[] parameters) {
+    Statement statement =
+        SpannerStatementQueryExecutor.buildPartTreeStatement(
+            this.entityType,
+            this.tree,
+            new ParametersParameterAccessor(this.queryMethod.getParameters(), parameters),
+            this.queryMethod.getQueryMethod().getParameters(),
+            this.reactiveSpannerTemplate.getSpannerEntityProcessor().getWriteConverter(),
+            this.spannerMappingContext);
+    if (this.tree.isCountProjection()) {
+      return this.reactiveSpannerTemplate
+          .query(struct -> struct.getLong(0), statement, null)
+          .next();
+    }
+    if (this.tree.isExistsProjection()) {
+      return this.reactiveSpannerTemplate
+          .query(struct -> struct.getBoolean(0), statement, null)
+          .next();
+    }
+    Flux<T> results = this.reactiveSpannerTemplate.query(this.entityType, statement, null);
+    if (this.tree.isDelete()) {
+      return executeDelete(results);
+    }
+    return isMonoQuery() ? results.next() : results;
+  }
+
+  /**
+   * Deletes the entities selected by the query. Unlike {@link PartTreeSpannerQuery}, the read and
+   * the delete are not run in one transaction.
+   */
+  private Object executeDelete(Flux<T> entitiesToDelete) {
+    Mono<List<T>> deleted =
+        entitiesToDelete
+            .collectList()
+            .flatMap(
+                entities -> this.reactiveSpannerTemplate.deleteAll(entities).thenReturn(entities));
+    Class<?> returnedType = this.queryMethod.getReturnedObjectType();
+    if (!isMonoQuery()) {
+      return deleted.flatMapIterable(Function.identity());
+    }
+    if (returnedType == Long.class || returnedType == long.class) {
+      return deleted.map(entities -> (long) entities.size());
+    }
+    if (returnedType == Integer.class || returnedType == int.class) {
+      return deleted.map(List::size);
+    }
+    return deleted.then();
+  }
+
+  private boolean isMonoQuery() {
+    return Mono.class.isAssignableFrom(this.queryMethod.getQueryMethod().getReturnType());
+  }
+
+  @Override
+  public SpannerQueryMethod getQueryMethod() {
+    return this.queryMethod;
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.repository.query;
+
+import com.google.cloud.spring.data.spanner.core.ReactiveSpannerOperations;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
+import java.lang.reflect.Method;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.Assert;
+
+/**
+ * Instantiates the implementations of the Query Methods of reactive Spanner repositories. Only
+ * Part-tree / name-convention query methods are supported.
+ */
+public class ReactiveSpannerQueryLookupStrategy implements QueryLookupStrategy {
+
+  private final ReactiveSpannerOperations reactiveSpannerTemplate;
+
+  private final SpannerMappingContext spannerMappingContext;
+
+  public ReactiveSpannerQueryLookupStrategy(
+      SpannerMappingContext spannerMappingContext,
+      ReactiveSpannerOperations reactiveSpannerTemplate) {
+    Assert.notNull(spannerMappingContext, "A valid SpannerMappingContext is required.");
+    Assert.notNull(reactiveSpannerTemplate, "A valid ReactiveSpannerOperations is required.");
+    this.spannerMappingContext = spannerMappingContext;
+    this.reactiveSpannerTemplate = reactiveSpannerTemplate;
+  }
+
+  @Override
+  public RepositoryQuery resolveQuery(
+      Method method,
+      RepositoryMetadata metadata,
+      ProjectionFactory factory,
+      NamedQueries namedQueries) {
+    SpannerQueryMethod queryMethod = new SpannerQueryMethod(method, metadata, factory);
+    if (queryMethod.hasAnnotatedQuery()
+        || namedQueries.hasQuery(queryMethod.getNamedQueryName())) {
+      throw new SpannerDataException(
+          "Reactive Spanner repositories only support query methods derived from the method name: "
+              + method);
+    }
+    return createPartTreeSpannerQuery(
+        queryMethod.getResultProcessor().getReturnedType().getDomainType(), queryMethod);
+  }
+
+  private <T> ReactivePartTreeSpannerQuery<T> createPartTreeSpannerQuery(
+      Class<T> entityType, SpannerQueryMethod queryMethod) {
+    return new ReactivePartTreeSpannerQuery<>(
+        entityType, queryMethod, this.reactiveSpannerTemplate, this.spannerMappingContext);
+  }
+}
@@ -42,6 +42,7 @@ import java.util.StringJoiner;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -87,21 +88,79 @@ public final class SpannerStatementQueryExecutor {
       Parameter[] queryMethodParamsMetadata,
       SpannerTemplate spannerTemplate,
       SpannerMappingContext spannerMappingContext) {
+    return spannerTemplate.query(
+        type,
+        buildPartTreeStatement(
+            type,
+            tree,
+            parameterAccessor,
+            queryMethodParamsMetadata,
+            spannerTemplate.getSpannerEntityProcessor().getWriteConverter(),
+            spannerMappingContext),
+        null);
+  }
+
+  /**
+   * Executes a PartTree-based query and maps the resulting rows lazily.
+   *
+   * @param type the type of the underlying entity
+   * @param tree the parsed metadata of the query
+   * @param parameterAccessor the parameters of this specific query
+   * @param queryMethodParamsMetadata parameter metadata from Query Method
+   * @param spannerTemplate used to execute the query
+   * @param spannerMappingContext used to get metadata about the entity type
+   * @param <T> the type of the underlying entity
+   * @return stream of entities, which must be closed to release the underlying result set.
+   */
+  public static <T> Stream<T> executeQueryStream(
+      Class<T> type,
+      PartTree tree,
+      ParameterAccessor parameterAccessor,
+      Parameter[] queryMethodParamsMetadata,
+      SpannerTemplate spannerTemplate,
+      SpannerMappingContext spannerMappingContext) {
+    return spannerTemplate.queryStream(
+        type,
+        buildPartTreeStatement(
+            type,
+            tree,
+            parameterAccessor,
+            queryMethodParamsMetadata,
+            spannerTemplate.getSpannerEntityProcessor().getWriteConverter(),
+            spannerMappingContext),
+        null);
+  }
+
+  /**
+   * Builds the statement of a PartTree-based query.
+   *
+   * @param type the type of the underlying entity
+   * @param tree the parsed metadata of the query
+   * @param parameterAccessor the parameters of this specific query
+   * @param queryMethodParamsMetadata parameter metadata from Query Method
+   * @param writeConverter used to convert params that aren't Cloud Spanner native types
+   * @param spannerMappingContext used to get metadata about the entity type
+   * @return the statement of the query.
+   */
+  public static Statement buildPartTreeStatement(
+      Class<?> type,
+      PartTree tree,
+      ParameterAccessor parameterAccessor,
+      Parameter[] queryMethodParamsMetadata,
+      SpannerCustomConverter writeConverter,
+      SpannerMappingContext spannerMappingContext) {
     SqlStringAndPlaceholders sqlStringAndPlaceholders =
         buildPartTreeSqlString(tree, spannerMappingContext, type, parameterAccessor);
     Map<String, Parameter> paramMetadataMap =
         preparePartTreeSqlTagParameterMap(queryMethodParamsMetadata, sqlStringAndPlaceholders);
     Object[] params = StreamSupport.stream(parameterAccessor.spliterator(), false).toArray();
-    return spannerTemplate.query(
-        type,
-        buildStatementFromSqlWithArgs(
-            sqlStringAndPlaceholders.getSql(),
-            sqlStringAndPlaceholders.getPlaceholders(),
-            null,
-            spannerTemplate.getSpannerEntityProcessor().getWriteConverter(),
-            params,
-            paramMetadataMap),
-        null);
+    return buildStatementFromSqlWithArgs(
+        sqlStringAndPlaceholders.getSql(),
+        sqlStringAndPlaceholders.getPlaceholders(),
+        null,
+        writeConverter,
+        params,
+        paramMetadataMap);
   }
 
   private static Map<String, Parameter> preparePartTreeSqlTagParameterMap(
@@ -143,20 +202,15 @@ public final class SpannerStatementQueryExecutor {
       Parameter[] queryMethodParamsMetadata,
       SpannerTemplate spannerTemplate,
       SpannerMappingContext spannerMappingContext) {
-    SqlStringAndPlaceholders sqlStringAndPlaceholders =
-        buildPartTreeSqlString(tree, spannerMappingContext, type, parameterAccessor);
-    Map<String, Parameter> paramMetadataMap =
-        preparePartTreeSqlTagParameterMap(queryMethodParamsMetadata, sqlStringAndPlaceholders);
-    Object[] params = StreamSupport.stream(parameterAccessor.spliterator(), false).toArray();
     return spannerTemplate.query(
         rowFunc,
-        buildStatementFromSqlWithArgs(
-            sqlStringAndPlaceholders.getSql(),
-            sqlStringAndPlaceholders.getPlaceholders(),
-            null,
+        buildPartTreeStatement(
+            type,
+            tree,
+            parameterAccessor,
+            queryMethodParamsMetadata,
             spannerTemplate.getSpannerEntityProcessor().getWriteConverter(),
-            params,
-            paramMetadataMap),
+            spannerMappingContext),
         null);
   }
 
@@ -256,6 +310,57 @@ public final class SpannerStatementQueryExecutor {
         KeySet.singleKey(parentKey), persistentEntity, writeConverter, mappingContext, whereClause);
   }
 
+  /**
+   * Gets a {@link Statement} that returns the child rows of several parent entities at once. The
+   * parent keys are matched against the leading primary key columns of the interleaved child table,
+   * so a single statement can replace one {@link #getChildrenRowsQuery(Key,
+   * SpannerPersistentProperty, SpannerCustomConverter, SpannerMappingContext)} call per parent.
+   *
+   * @param parentKeys the parent keys whose children to get. Must not be empty.
+   * @param spannerPersistentProperty the property with interleaved list of child entries in the
+   *     parent entity.
+   * @param writeConverter a converter to convert key values as needed to bind to the query
+   *     statement.
+   * @param mappingContext mapping context
+   * @return the Spanner statement to perform the retrieval.
+   */
+  public static Statement getChildrenRowsQuery(
+      Iterable<Key> parentKeys,
+      SpannerPersistentProperty spannerPersistentProperty,
+      SpannerCustomConverter writeConverter,
+      SpannerMappingContext mappingContext) {
+    Class<?> childType = spannerPersistentProperty.getColumnInnerType();
+    SpannerPersistentEntity<?> persistentEntity =
+        mappingContext.getPersistentEntityOrFail(childType);
+    List<SpannerPersistentProperty> keyProperties =
+        persistentEntity.getFlattenedPrimaryKeyProperties();
+    List<String> orParts = new ArrayList<>();
+    List<String> tags = new ArrayList<>();
+    List<Object> keyParts = new ArrayList<>();
+    for (Key parentKey : parentKeys) {
+      StringJoiner andJoiner = new StringJoiner(AND);
+      int partIndex = 0;
+      for (Object part : parentKey.getParts()) {
+        String tagName = "tag" + tags.size();
+        andJoiner.add(keyProperties.get(partIndex).getColumnName() + " = @" + tagName);
+        tags.add(tagName);
+        keyParts.add(part);
+        partIndex++;
+      }
+      orParts.add("(" + andJoiner + ")");
+    }
+    String condition =
+        combineWithAnd(
+            String.join(" OR ", orParts), getWhere(spannerPersistentProperty, persistentEntity));
+    String sql =
+        "SELECT "
+            + getColumnsStringForSelect(persistentEntity, mappingContext, true)
+            + " FROM "
+            + persistentEntity.tableName()
+            + (condition.isEmpty() ? "" : WHERE + condition);
+    return buildStatementFromSqlWithArgs(sql, tags, null, writeConverter, keyParts.toArray(), null);
+  }
+
   /**
    * Builds a query that returns the rows associated with a key set. If the entity class has {@link
    * com.google.cloud.spring.data.spanner.core.mapping.Where} annotation it will be used to build
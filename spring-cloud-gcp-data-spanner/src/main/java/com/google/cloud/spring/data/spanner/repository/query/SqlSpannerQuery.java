@@ -38,6 +38,8 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -98,6 +100,34 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
     this.expressionParser = expressionParser;
     this.sql = StringUtils.trimTrailingCharacter(sql.trim(), ';');
     this.isDml = isDml;
+    if (!isDml && isPartitioned()) {
+      validatePartitionedQuery();
+    }
+  }
+
+  /**
+   * Partitions are read in no particular order and each one is read separately, so sorting and
+   * paging cannot be applied to a partitioned query. Interleaved children would be resolved on the
+   * regular database client at a different read timestamp than the batch transaction.
+   */
+  private void validatePartitionedQuery() {
+    for (Parameter param : getQueryMethod().getParameters()) {
+      if (isPageableOrSort(param.getType())) {
+        throw new SpannerDataException(
+            "Partitioned query methods cannot take Pageable or Sort parameters: "
+                + getQueryMethod().getName());
+      }
+    }
+    SpannerPersistentEntity<?> persistentEntity =
+        this.spannerMappingContext.getPersistentEntity(this.entityType);
+    if (persistentEntity != null) {
+      persistentEntity.doWithInterleavedProperties(
+          property -> {
+            throw new SpannerDataException(
+                "Partitioned query methods cannot read entities with interleaved properties: "
+                    + getQueryMethod().getName());
+          });
+    }
   }
 
   private boolean isPageableOrSort(Class<?> type) {
@@ -199,6 +229,37 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
 
     ParameterAccessor paramAccessor =
         new ParametersParameterAccessor(getQueryMethod().getParameters(), parameters);
+    QueryTagValue queryTagValue = resolveQueryTagValue(parameters, paramAccessor);
+
+    return this.isDml
+        ? Collections.singletonList(
+            this.spannerTemplate.executeDmlStatement(buildStatementFromQueryAndTags(queryTagValue)))
+        : executeReadSql(paramAccessor.getPageable(), paramAccessor.getSort(), queryTagValue);
+  }
+
+  @Override
+  protected Stream executeStreamResult(Object[] parameters) {
+    if (this.isDml) {
+      return super.executeStreamResult(parameters);
+    }
+    ParameterAccessor paramAccessor =
+        new ParametersParameterAccessor(getQueryMethod().getParameters(), parameters);
+    QueryTagValue queryTagValue = resolveQueryTagValue(parameters, paramAccessor);
+    SpannerPageableQueryOptions spannerQueryOptions =
+        prepareReadSql(paramAccessor.getPageable(), paramAccessor.getSort(), queryTagValue);
+    Statement statement = buildStatementFromQueryAndTags(queryTagValue);
+
+    Function<Struct, ?> rowFunc = getNonEntityRowFunction();
+    if (rowFunc != null) {
+      return this.spannerTemplate.queryStream(rowFunc, statement, spannerQueryOptions);
+    }
+    return isPartitioned()
+        ? this.spannerTemplate.queryPartitioned(this.entityType, statement, spannerQueryOptions)
+        : this.spannerTemplate.queryStream(this.entityType, statement, spannerQueryOptions);
+  }
+
+  private QueryTagValue resolveQueryTagValue(
+      Object[] parameters, ParameterAccessor paramAccessor) {
     Object[] params = StreamSupport.stream(paramAccessor.spliterator(), false).toArray();
 
     QueryTagValue queryTagValue =
@@ -209,14 +270,34 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
             resolveEntityClassNames(this.sql, this.spannerMappingContext));
 
     resolveSpelTags(queryTagValue);
-
-    return this.isDml
-        ? Collections.singletonList(
-            this.spannerTemplate.executeDmlStatement(buildStatementFromQueryAndTags(queryTagValue)))
-        : executeReadSql(paramAccessor.getPageable(), paramAccessor.getSort(), queryTagValue);
+    return queryTagValue;
   }
 
   private List executeReadSql(Pageable pageable, Sort sort, QueryTagValue queryTagValue) {
+    SpannerPageableQueryOptions spannerQueryOptions =
+        prepareReadSql(pageable, sort, queryTagValue);
+    Statement statement = buildStatementFromQueryAndTags(queryTagValue);
+
+    Function<Struct, ?> rowFunc = getNonEntityRowFunction();
+    if (rowFunc != null) {
+      return this.spannerTemplate.query(rowFunc, statement, spannerQueryOptions);
+    }
+    if (isPartitioned()) {
+      try (Stream<T> results =
+          this.spannerTemplate.queryPartitioned(this.entityType, statement, spannerQueryOptions)) {
+        return results.collect(Collectors.toList());
+      }
+    }
+    return this.spannerTemplate.query(this.entityType, statement, spannerQueryOptions);
+  }
+
+  private boolean isPartitioned() {
+    Query queryAnnotation = getQueryMethod().getQueryAnnotation();
+    return queryAnnotation != null && queryAnnotation.partitioned();
+  }
+
+  private SpannerPageableQueryOptions prepareReadSql(
+      Pageable pageable, Sort sort, QueryTagValue queryTagValue) {
     SpannerPageableQueryOptions spannerQueryOptions =
         new SpannerPageableQueryOptions().setAllowPartialRead(true);
 
@@ -239,25 +320,28 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
             queryTagValue.sql,
             this.spannerMappingContext,
             entity != null && entity.hasEagerlyLoadedProperties());
+    return spannerQueryOptions;
+  }
 
-    Statement statement = buildStatementFromQueryAndTags(queryTagValue);
-
+  /**
+   * Gets the function that reads the first column of each row when the query method does not
+   * return entities.
+   *
+   * @return the row function, or null if the rows should be mapped to entities.
+   */
+  private Function<Struct, ?> getNonEntityRowFunction() {
     if (getReturnedSimpleConvertableItemType() != null) {
-      return this.spannerTemplate.query(
-          struct -> new StructAccessor(struct).getSingleValue(0), statement, spannerQueryOptions);
+      return struct -> new StructAccessor(struct).getSingleValue(0);
     }
     // check if returnedType is a field annotated as json or is inner-type of a field annotated as
     // json
+    Class<?> returnedType = getReturnedType();
     if (isJsonFieldType(returnedType)) {
-      return this.spannerTemplate.query(
-          struct ->
-              new StructAccessor(struct, this.spannerMappingContext.getGson())
-                  .getJsonValue(0, returnedType),
-          statement,
-          spannerQueryOptions);
+      return struct ->
+          new StructAccessor(struct, this.spannerMappingContext.getGson())
+              .getJsonValue(0, returnedType);
     }
-
-    return this.spannerTemplate.query(this.entityType, statement, spannerQueryOptions);
+    return null;
   }
 
   private boolean isJsonFieldType(Class<?> returnedType) {
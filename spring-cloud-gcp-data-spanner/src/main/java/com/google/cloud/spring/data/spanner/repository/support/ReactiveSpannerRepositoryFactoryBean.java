@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.repository.support;
+
+import com.google.cloud.spring.data.spanner.aot.SpannerRepositoryRuntimeHints;
+import com.google.cloud.spring.data.spanner.core.ReactiveSpannerOperations;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+
+/**
+ * The bean to create reactive Spanner repository factories.
+ *
+ * @param <S> the entity type of the repository
+ * @param <I> the id type of the entity
+ * @param <T> the repository type
+ */
+@ImportRuntimeHints(SpannerRepositoryRuntimeHints.class)
+public class ReactiveSpannerRepositoryFactoryBean<T extends Repository<S, I>, S, I>
+    extends RepositoryFactoryBeanSupport<T, S, I> {
+
+  private SpannerMappingContext spannerMappingContext;
+
+  private ReactiveSpannerOperations reactiveSpannerTemplate;
+
+  /**
+   * Creates a new {@link ReactiveSpannerRepositoryFactoryBean} for the given repository interface.
+   *
+   * @param repositoryInterface must not be {@literal null}.
+   */
+  ReactiveSpannerRepositoryFactoryBean(Class<T> repositoryInterface) {
+    super(repositoryInterface);
+  }
+
+  public void setReactiveSpannerTemplate(ReactiveSpannerOperations reactiveSpannerTemplate) {
+    this.reactiveSpannerTemplate = reactiveSpannerTemplate;
+  }
+
+  public void setSpannerMappingContext(SpannerMappingContext mappingContext) {
+    super.setMappingContext(mappingContext);
+    this.spannerMappingContext = mappingContext;
+  }
+
+  @Override
+  protected RepositoryFactorySupport createRepositoryFactory() {
+    return new ReactiveSpannerRepositoryFactory(
+        this.spannerMappingContext, this.reactiveSpannerTemplate);
+  }
+}
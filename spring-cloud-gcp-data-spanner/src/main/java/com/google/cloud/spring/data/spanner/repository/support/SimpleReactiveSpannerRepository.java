@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.repository.support;
+
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spring.data.spanner.core.ReactiveSpannerOperations;
+import com.google.cloud.spring.data.spanner.core.SpannerPageableQueryOptions;
+import com.google.cloud.spring.data.spanner.repository.ReactiveSpannerRepository;
+import org.reactivestreams.Publisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The default implementation of a {@link ReactiveSpannerRepository}.
+ *
+ * @param <T> the entity type of the repository
+ * @param <I> the id type of the entity
+ */
+public class SimpleReactiveSpannerRepository<T, I> implements ReactiveSpannerRepository<T, I> {
+
+  private static final String NON_NULL_ID_REQUIRED = "A non-null ID is required.";
+
+  private final ReactiveSpannerOperations reactiveSpannerTemplate;
+
+  private final Class<T> entityType;
+
+  public SimpleReactiveSpannerRepository(
+      ReactiveSpannerOperations reactiveSpannerTemplate, Class<T> entityType) {
+    Assert.notNull(reactiveSpannerTemplate, "A valid ReactiveSpannerOperations is required.");
+    Assert.notNull(entityType, "A valid entity type is required.");
+    this.reactiveSpannerTemplate = reactiveSpannerTemplate;
+    this.entityType = entityType;
+  }
+
+  @Override
+  public ReactiveSpannerOperations getReactiveSpannerTemplate() {
+    return this.reactiveSpannerTemplate;
+  }
+
+  @Override
+  public <S extends T> Mono<S> save(S entity) {
+    Assert.notNull(entity, "A non-null entity is required for saving.");
+    return this.reactiveSpannerTemplate.upsert(entity).thenReturn(entity);
+  }
+
+  @Override
+  public <S extends T> Flux<S> saveAll(Iterable<S> entities) {
+    Assert.notNull(entities, "A non-null list of entities is required for saving.");
+    return this.reactiveSpannerTemplate.upsertAll(entities).thenMany(Flux.fromIterable(entities));
+  }
+
+  @Override
+  public <S extends T> Flux<S> saveAll(Publisher<S> entityStream) {
+    Assert.notNull(entityStream, "A non-null stream of entities is required for saving.");
+    return Flux.from(entityStream).concatMap(this::save);
+  }
+
+  @Override
+  public Mono<T> findById(I id) {
+    Assert.notNull(id, NON_NULL_ID_REQUIRED);
+    return this.reactiveSpannerTemplate.read(this.entityType, toKey(id));
+  }
+
+  @Override
+  public Mono<T> findById(Publisher<I> id) {
+    return Mono.from(id).flatMap(this::findById);
+  }
+
+  @Override
+  public Mono<Boolean> existsById(I id) {
+    Assert.notNull(id, NON_NULL_ID_REQUIRED);
+    return this.reactiveSpannerTemplate.existsById(this.entityType, toKey(id));
+  }
+
+  @Override
+  public Mono<Boolean> existsById(Publisher<I> id) {
+    return Mono.from(id).flatMap(this::existsById);
+  }
+
+  @Override
+  public Flux<T> findAll() {
+    return this.reactiveSpannerTemplate.readAll(this.entityType);
+  }
+
+  @Override
+  public Flux<T> findAll(Sort sort) {
+    Assert.notNull(sort, "A non-null Sort is required.");
+    return this.reactiveSpannerTemplate.queryAll(
+        this.entityType, new SpannerPageableQueryOptions().setSort(sort));
+  }
+
+  @Override
+  public Flux<T> findAllById(Iterable<I> ids) {
+    Assert.notNull(ids, "IDs must not be null");
+    KeySet keys = toKeySet(ids);
+    return (keys != null)
+        ? this.reactiveSpannerTemplate.read(this.entityType, keys, null)
+        : Flux.empty();
+  }
+
+  @Override
+  public Flux<T> findAllById(Publisher<I> idStream) {
+    return Flux.from(idStream).collectList().flatMapMany(this::findAllById);
+  }
+
+  @Override
+  public Mono<Long> count() {
+    return this.reactiveSpannerTemplate.count(this.entityType);
+  }
+
+  @Override
+  public Mono<Void> deleteById(I id) {
+    Assert.notNull(id, NON_NULL_ID_REQUIRED);
+    return this.reactiveSpannerTemplate.delete(this.entityType, KeySet.singleKey(toKey(id)));
+  }
+
+  @Override
+  public Mono<Void> deleteById(Publisher<I> id) {
+    return Mono.from(id).flatMap(this::deleteById);
+  }
+
+  @Override
+  public Mono<Void> delete(T entity) {
+    Assert.notNull(entity, "A non-null entity is required.");
+    return this.reactiveSpannerTemplate.delete(entity);
+  }
+
+  @Override
+  public Mono<Void> deleteAllById(Iterable<? extends I> ids) {
+    Assert.notNull(ids, "IDs must not be null");
+    KeySet keys = toKeySet(ids);
+    return (keys != null)
+        ? this.reactiveSpannerTemplate.delete(this.entityType, keys)
+        : Mono.empty();
+  }
+
+  @Override
+  public Mono<Void> deleteAll(Iterable<? extends T> entities) {
+    Assert.notNull(entities, "A non-null list of entities is required.");
+    return this.reactiveSpannerTemplate.deleteAll(entities);
+  }
+
+  @Override
+  public Mono<Void> deleteAll(Publisher<? extends T> entityStream) {
+    return Flux.from(entityStream).collectList().flatMap(this::deleteAll);
+  }
+
+  @Override
+  public Mono<Void> deleteAll() {
+    return this.reactiveSpannerTemplate.delete(this.entityType, KeySet.all());
+  }
+
+  private KeySet toKeySet(Iterable<?> ids) {
+    KeySet.Builder builder = KeySet.newBuilder();
+    int keyCount = 0;
+    for (Object id : ids) {
+      builder.addKey(toKey(id));
+      keyCount++;
+    }
+    return (keyCount == 0) ? null : builder.build();
+  }
+
+  private Key toKey(Object id) {
+    return this.reactiveSpannerTemplate.getSpannerEntityProcessor().convertToKey(id);
+  }
+}
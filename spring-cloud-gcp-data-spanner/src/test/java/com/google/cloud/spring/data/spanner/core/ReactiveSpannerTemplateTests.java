@@ -0,0 +1,360 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.cloud.spanner.AsyncResultSet;
+import com.google.cloud.spanner.AsyncResultSet.CallbackResponse;
+import com.google.cloud.spanner.AsyncResultSet.CursorState;
+import com.google.cloud.spanner.AsyncResultSet.ReadyCallback;
+import com.google.cloud.spanner.AsyncRunner;
+import com.google.cloud.spanner.AsyncRunner.AsyncWork;
+import com.google.cloud.spanner.DatabaseClient;
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spanner.Mutation;
+import com.google.cloud.spanner.ReadContext;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.Struct;
+import com.google.cloud.spanner.TransactionContext;
+import com.google.cloud.spring.data.spanner.core.admin.SpannerSchemaUtils;
+import com.google.cloud.spring.data.spanner.core.convert.SpannerEntityProcessor;
+import com.google.cloud.spring.data.spanner.core.mapping.PrimaryKey;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
+import com.google.cloud.spring.data.spanner.core.mapping.Table;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+/** Tests for the reactive Spanner template. */
+class ReactiveSpannerTemplateTests {
+
+  private DatabaseClient databaseClient;
+
+  private ReadContext readContext;
+
+  private SpannerEntityProcessor entityProcessor;
+
+  private SpannerMutationFactory mutationFactory;
+
+  private SpannerTemplate spannerTemplate;
+
+  private ReactiveSpannerTemplate reactiveSpannerTemplate;
+
+  @BeforeEach
+  void setUp() {
+    this.databaseClient = mock(DatabaseClient.class);
+    this.readContext = mock(ReadContext.class);
+    when(this.databaseClient.singleUse()).thenReturn(this.readContext);
+    SpannerMappingContext mappingContext = new SpannerMappingContext();
+    this.entityProcessor = mock(SpannerEntityProcessor.class);
+    this.mutationFactory = mock(SpannerMutationFactory.class);
+    this.spannerTemplate =
+        new SpannerTemplate(
+            () -> this.databaseClient,
+            mappingContext,
+            this.entityProcessor,
+            this.mutationFactory,
+            new SpannerSchemaUtils(mappingContext, this.entityProcessor, true));
+    this.reactiveSpannerTemplate = new ReactiveSpannerTemplate(this.spannerTemplate, Runnable::run);
+  }
+
+  @Test
+  void queryEmitsRowsTest() {
+    Statement statement = Statement.of("SELECT id FROM items");
+    when(this.readContext.executeQueryAsync(statement))
+        .thenReturn(mockAsyncResultSet(row("a"), row("b"), row("c")));
+
+    StepVerifier.create(
+            this.reactiveSpannerTemplate.query(row -> row.getString("id"), statement, null))
+        .expectNext("a", "b", "c")
+        .verifyComplete();
+  }
+
+  @Test
+  void queryPausesWithoutDemandTest() {
+    Statement statement = Statement.of("SELECT id FROM items");
+    AsyncResultSet resultSet = mockAsyncResultSet(row("a"), row("b"), row("c"));
+    when(this.readContext.executeQueryAsync(statement)).thenReturn(resultSet);
+
+    StepVerifier.create(
+            this.reactiveSpannerTemplate.query(row -> row.getString("id"), statement, null), 1)
+        .expectNext("a")
+        .thenRequest(1)
+        .expectNext("b")
+        .thenRequest(1)
+        .expectNext("c")
+        .thenRequest(1)
+        .verifyComplete();
+  }
+
+  @Test
+  void queryResumesOnlyPausedResultSetTest() {
+    Statement statement = Statement.of("SELECT id FROM items");
+    AtomicInteger ignoredResumes = new AtomicInteger();
+    when(this.readContext.executeQueryAsync(statement))
+        .thenReturn(
+            mockPausingAsyncResultSet(ignoredResumes, () -> {}, row("a"), row("b"), row("c")));
+
+    StepVerifier.create(
+            this.reactiveSpannerTemplate.query(row -> row.getString("id"), statement, null), 0)
+        .thenRequest(1)
+        .expectNext("a")
+        .thenRequest(1)
+        .expectNext("b")
+        .thenRequest(1)
+        .expectNext("c")
+        .thenRequest(1)
+        .verifyComplete();
+    assertThat(ignoredResumes).hasValue(0);
+  }
+
+  @Test
+  void queryRequestDuringCallbackKeepsEmittingTest() {
+    Statement statement = Statement.of("SELECT id FROM items");
+    AtomicInteger ignoredResumes = new AtomicInteger();
+    when(this.readContext.executeQueryAsync(statement))
+        .thenReturn(
+            mockPausingAsyncResultSet(ignoredResumes, () -> {}, row("a"), row("b"), row("c")));
+
+    // limitRate(1) requests the next row from within onNext, while the callback is running
+    StepVerifier.create(
+            this.reactiveSpannerTemplate
+                .query(row -> row.getString("id"), statement, null)
+                .limitRate(1))
+        .expectNext("a", "b", "c")
+        .verifyComplete();
+    assertThat(ignoredResumes).hasValue(0);
+  }
+
+  @Test
+  void queryRequestBeforePauseTakesEffectResumesTest() {
+    Statement statement = Statement.of("SELECT id FROM items");
+    AtomicInteger ignoredResumes = new AtomicInteger();
+    CountDownLatch pauseReturned = new CountDownLatch(1);
+    CountDownLatch requested = new CountDownLatch(1);
+    // the first pause waits for the request, which comes after the callback checked the demand
+    Runnable beforePause =
+        () -> {
+          pauseReturned.countDown();
+          await(requested);
+        };
+    when(this.readContext.executeQueryAsync(statement))
+        .thenReturn(mockPausingAsyncResultSet(ignoredResumes, beforePause, row("a"), row("b")));
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      ReactiveSpannerTemplate template =
+          new ReactiveSpannerTemplate(this.spannerTemplate, executor);
+
+      StepVerifier.create(template.query(row -> row.getString("id"), statement, null), 0)
+          .then(() -> await(pauseReturned))
+          .thenRequest(1)
+          .then(requested::countDown)
+          .expectNext("a")
+          .thenRequest(1)
+          .expectNext("b")
+          .thenRequest(1)
+          .expectComplete()
+          .verify(Duration.ofSeconds(5));
+      assertThat(ignoredResumes).hasValue(0);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void readMapsEntityTest() {
+    Struct row = row("a");
+    when(this.readContext.readAsync(eq("items"), any(KeySet.class), any()))
+        .thenReturn(mockAsyncResultSet(row));
+    Item item = new Item();
+    when(this.entityProcessor.read(Item.class, row, null, false)).thenReturn(item);
+
+    StepVerifier.create(this.reactiveSpannerTemplate.read(Item.class, Key.of("a")))
+        .expectNext(item)
+        .verifyComplete();
+  }
+
+  @Test
+  void existsByIdEmptyTest() {
+    when(this.readContext.readAsync(eq("items"), any(KeySet.class), any()))
+        .thenReturn(mockAsyncResultSet());
+
+    StepVerifier.create(this.reactiveSpannerTemplate.existsById(Item.class, Key.of("a")))
+        .expectNext(false)
+        .verifyComplete();
+  }
+
+  @Test
+  void insertIsDeferredUntilSubscriptionTest() {
+    Mutation mutation = Mutation.newInsertBuilder("items").set("id").to("a").build();
+    Item item = new Item();
+    when(this.mutationFactory.insert(same(item))).thenReturn(Collections.singletonList(mutation));
+    TransactionContext transactionContext = mockAsyncRunner();
+
+    StepVerifier.create(this.reactiveSpannerTemplate.insert(item)).verifyComplete();
+
+    verify(transactionContext).buffer(Collections.singletonList(mutation));
+  }
+
+  private static Struct row(String id) {
+    return Struct.newBuilder().set("id").to(id).build();
+  }
+
+  /**
+   * Mocks a result set that invokes its callback on the given executor when it is set and on every
+   * resume, until the callback reports that it is done.
+   */
+  private static AsyncResultSet mockAsyncResultSet(Struct... rows) {
+    AsyncResultSet resultSet = mockCursor(rows);
+    SettableApiFuture<Void> done = SettableApiFuture.create();
+    AtomicReference<ReadyCallback> callback = new AtomicReference<>();
+    AtomicReference<Executor> executor = new AtomicReference<>();
+    Runnable invokeCallback =
+        () -> {
+          if (!done.isDone()
+              && callback.get().cursorReady(resultSet) == CallbackResponse.DONE) {
+            done.set(null);
+          }
+        };
+    when(resultSet.setCallback(any(Executor.class), any(ReadyCallback.class)))
+        .thenAnswer(
+            invocation -> {
+              executor.set(invocation.getArgument(0));
+              callback.set(invocation.getArgument(1));
+              executor.get().execute(invokeCallback);
+              return done;
+            });
+    doAnswer(
+            invocation -> {
+              executor.get().execute(invokeCallback);
+              return null;
+            })
+        .when(resultSet)
+        .resume();
+    return resultSet;
+  }
+
+  /**
+   * Mocks a result set that, like the Cloud Spanner client, invokes its callback on the given
+   * executor and only resumes the callback after its {@link CallbackResponse#PAUSE} has taken
+   * effect. Other calls to resume are counted and ignored. The given action runs after the
+   * callback has returned {@code PAUSE} and before the pause takes effect.
+   */
+  private static AsyncResultSet mockPausingAsyncResultSet(
+      AtomicInteger ignoredResumes, Runnable beforePause, Struct... rows) {
+    AsyncResultSet resultSet = mockCursor(rows);
+    AtomicReference<ReadyCallback> callback = new AtomicReference<>();
+    AtomicReference<Executor> executor = new AtomicReference<>();
+    AtomicBoolean paused = new AtomicBoolean();
+    SettableApiFuture<Void> done = SettableApiFuture.create();
+    Runnable invokeCallback =
+        () -> {
+          CallbackResponse response = callback.get().cursorReady(resultSet);
+          if (response == CallbackResponse.DONE) {
+            done.set(null);
+          } else if (response == CallbackResponse.PAUSE) {
+            beforePause.run();
+            paused.set(true);
+          }
+        };
+    when(resultSet.setCallback(any(Executor.class), any(ReadyCallback.class)))
+        .thenAnswer(
+            invocation -> {
+              executor.set(invocation.getArgument(0));
+              callback.set(invocation.getArgument(1));
+              executor.get().execute(invokeCallback);
+              return done;
+            });
+    doAnswer(
+            invocation -> {
+              if (paused.compareAndSet(true, false)) {
+                executor.get().execute(invokeCallback);
+              } else {
+                ignoredResumes.incrementAndGet();
+              }
+              return null;
+            })
+        .when(resultSet)
+        .resume();
+    return resultSet;
+  }
+
+  /** Mocks a result set whose cursor returns the given rows, all of them ready. */
+  private static AsyncResultSet mockCursor(Struct... rows) {
+    AsyncResultSet resultSet = mock(AsyncResultSet.class);
+    CursorState[] states = new CursorState[rows.length + 1];
+    Arrays.fill(states, CursorState.OK);
+    states[rows.length] = CursorState.DONE;
+    when(resultSet.tryNext())
+        .thenReturn(states[0], Arrays.copyOfRange(states, 1, states.length));
+    if (rows.length > 0) {
+      when(resultSet.getCurrentRowAsStruct())
+          .thenReturn(rows[0], Arrays.copyOfRange(rows, 1, rows.length));
+    }
+    return resultSet;
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private TransactionContext mockAsyncRunner() {
+    TransactionContext transactionContext = mock(TransactionContext.class);
+    AsyncRunner asyncRunner = mock(AsyncRunner.class);
+    when(this.databaseClient.runAsync()).thenReturn(asyncRunner);
+    when(asyncRunner.runAsync(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              AsyncWork<?> work = invocation.getArgument(0);
+              return work.doWorkAsync(transactionContext);
+            });
+    return transactionContext;
+  }
+
+  /** A simple entity without interleaved properties. */
+  @Table(name = "items")
+  private static class Item {
+    @PrimaryKey String id;
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.api.core.ApiFutures;
+import com.google.cloud.spanner.AsyncResultSet;
+import com.google.cloud.spanner.AsyncResultSet.CursorState;
+import com.google.cloud.spanner.AsyncResultSet.ReadyCallback;
+import com.google.cloud.spanner.AsyncRunner;
+import com.google.cloud.spanner.AsyncRunner.AsyncWork;
+import com.google.cloud.spanner.DatabaseClient;
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spanner.Mutation;
+import com.google.cloud.spanner.ReadContext;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.Struct;
+import com.google.cloud.spanner.TransactionContext;
+import com.google.cloud.spring.data.spanner.core.admin.SpannerSchemaUtils;
+import com.google.cloud.spring.data.spanner.core.convert.SpannerEntityProcessor;
+import com.google.cloud.spring.data.spanner.core.mapping.PrimaryKey;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
+import com.google.cloud.spring.data.spanner.core.mapping.Table;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the asynchronous Spanner template. */
+class SpannerAsyncTemplateTests {
+
+  private DatabaseClient databaseClient;
+
+  private ReadContext readContext;
+
+  private SpannerEntityProcessor entityProcessor;
+
+  private SpannerMutationFactory mutationFactory;
+
+  private Executor blockingExecutor;
+
+  private SpannerAsyncTemplate spannerAsyncTemplate;
+
+  @BeforeEach
+  void setUp() {
+    this.databaseClient = mock(DatabaseClient.class);
+    this.readContext = mock(ReadContext.class);
+    when(this.databaseClient.singleUse()).thenReturn(this.readContext);
+    SpannerMappingContext mappingContext = new SpannerMappingContext();
+    this.entityProcessor = mock(SpannerEntityProcessor.class);
+    this.mutationFactory = mock(SpannerMutationFactory.class);
+    SpannerTemplate spannerTemplate =
+        new SpannerTemplate(
+            () -> this.databaseClient,
+            mappingContext,
+            this.entityProcessor,
+            this.mutationFactory,
+            new SpannerSchemaUtils(mappingContext, this.entityProcessor, true));
+    this.blockingExecutor = mock(Executor.class);
+    doAnswer(
+            invocation -> {
+              invocation.<Runnable>getArgument(0).run();
+              return null;
+            })
+        .when(this.blockingExecutor)
+        .execute(any());
+    this.spannerAsyncTemplate =
+        new SpannerAsyncTemplate(spannerTemplate, Runnable::run, this.blockingExecutor);
+  }
+
+  @Test
+  void queryAsyncMapsRowsInCallbackTest() {
+    Struct row1 = Struct.newBuilder().set("id").to("a").build();
+    Struct row2 = Struct.newBuilder().set("id").to("b").build();
+    AsyncResultSet resultSet = mockAsyncResultSet(row1, row2);
+    Statement statement = Statement.of("SELECT id FROM items");
+    when(this.readContext.executeQueryAsync(statement)).thenReturn(resultSet);
+
+    List<String> ids =
+        this.spannerAsyncTemplate
+            .queryAsync(row -> row.getString("id"), statement, null)
+            .join();
+
+    assertThat(ids).containsExactly("a", "b");
+  }
+
+  @Test
+  void readAsyncMapsEntitiesTest() {
+    Struct row = Struct.newBuilder().set("id").to("a").build();
+    AsyncResultSet resultSet = mockAsyncResultSet(row);
+    when(this.readContext.readAsync(eq("items"), any(KeySet.class), any())).thenReturn(resultSet);
+    Item item = new Item();
+    when(this.entityProcessor.read(Item.class, row, null, false)).thenReturn(item);
+
+    Item result = this.spannerAsyncTemplate.readAsync(Item.class, Key.of("a")).join();
+
+    assertThat(result).isSameAs(item);
+  }
+
+  @Test
+  void insertAsyncBuffersMutationsInAsyncRunnerTest() {
+    Mutation mutation = Mutation.newInsertBuilder("items").set("id").to("a").build();
+    Item item = new Item();
+    when(this.mutationFactory.insert(same(item))).thenReturn(Collections.singletonList(mutation));
+    TransactionContext transactionContext = mockAsyncRunner();
+
+    this.spannerAsyncTemplate.insertAsync(item).join();
+
+    verify(transactionContext).buffer(Collections.singletonList(mutation));
+  }
+
+  @Test
+  void performReadWriteTransactionAsyncTest() {
+    Mutation mutation = Mutation.newInsertBuilder("items").set("id").to("a").build();
+    Item item = new Item();
+    when(this.mutationFactory.insert(same(item))).thenReturn(Collections.singletonList(mutation));
+    TransactionContext transactionContext = mockAsyncRunner();
+
+    String result =
+        this.spannerAsyncTemplate
+            .performReadWriteTransactionAsync(
+                template -> {
+                  template.insert(item);
+                  return "done";
+                })
+            .join();
+
+    assertThat(result).isEqualTo("done");
+    verify(transactionContext).buffer(Collections.singletonList(mutation));
+    verify(this.databaseClient.runAsync()).runAsync(any(), same(this.blockingExecutor));
+  }
+
+  private static AsyncResultSet mockAsyncResultSet(Struct row, Struct... moreRows) {
+    AsyncResultSet resultSet = mock(AsyncResultSet.class);
+    CursorState[] nextStates = new CursorState[moreRows.length + 1];
+    Arrays.fill(nextStates, CursorState.OK);
+    nextStates[moreRows.length] = CursorState.DONE;
+    when(resultSet.tryNext()).thenReturn(CursorState.OK, nextStates);
+    when(resultSet.getCurrentRowAsStruct()).thenReturn(row, moreRows);
+    when(resultSet.setCallback(any(Executor.class), any(ReadyCallback.class)))
+        .thenAnswer(
+            invocation -> {
+              ReadyCallback callback = invocation.getArgument(1);
+              callback.cursorReady(resultSet);
+              return ApiFutures.immediateFuture(null);
+            });
+    return resultSet;
+  }
+
+  private TransactionContext mockAsyncRunner() {
+    TransactionContext transactionContext = mock(TransactionContext.class);
+    AsyncRunner asyncRunner = mock(AsyncRunner.class);
+    when(this.databaseClient.runAsync()).thenReturn(asyncRunner);
+    when(asyncRunner.runAsync(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              AsyncWork<?> work = invocation.getArgument(0);
+              return work.doWorkAsync(transactionContext);
+            });
+    return transactionContext;
+  }
+
+  /** A simple entity without interleaved properties. */
+  @Table(name = "items")
+  private static class Item {
+    @PrimaryKey String id;
+  }
+}
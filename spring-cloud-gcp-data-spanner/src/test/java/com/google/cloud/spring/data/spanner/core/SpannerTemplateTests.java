@@ -25,6 +25,7 @@ import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -32,6 +33,8 @@ import static org.mockito.Mockito.when;
 
 import com.google.cloud.ByteArray;
 import com.google.cloud.Timestamp;
+import com.google.cloud.spanner.BatchClient;
+import com.google.cloud.spanner.BatchReadOnlyTransaction;
 import com.google.cloud.spanner.DatabaseClient;
 import com.google.cloud.spanner.Key;
 import com.google.cloud.spanner.KeySet;
@@ -40,10 +43,12 @@ import com.google.cloud.spanner.Options;
 import com.google.cloud.spanner.Options.ReadOption;
 import com.google.cloud.spanner.Options.ReadQueryUpdateTransactionOption;
 import com.google.cloud.spanner.Options.RpcPriority;
+import com.google.cloud.spanner.Partition;
 import com.google.cloud.spanner.ReadContext;
 import com.google.cloud.spanner.ReadOnlyTransaction;
 import com.google.cloud.spanner.ResultSet;
 import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.Struct;
 import com.google.cloud.spanner.TimestampBound;
 import com.google.cloud.spanner.TransactionContext;
 import com.google.cloud.spanner.TransactionRunner;
@@ -56,6 +61,7 @@ import com.google.cloud.spring.data.spanner.core.mapping.Column;
 import com.google.cloud.spring.data.spanner.core.mapping.Embedded;
 import com.google.cloud.spring.data.spanner.core.mapping.Interleaved;
 import com.google.cloud.spring.data.spanner.core.mapping.PrimaryKey;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
 import com.google.cloud.spring.data.spanner.core.mapping.Table;
 import com.google.cloud.spring.data.spanner.core.mapping.Where;
@@ -74,9 +80,11 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
@@ -525,6 +533,126 @@ class SpannerTemplateTests {
         x -> {});
   }
 
+  @Test
+  void queryStreamFuncTest() {
+    ResultSet resultSet = mock(ResultSet.class);
+    when(resultSet.next()).thenReturn(true, true, false);
+    when(resultSet.getCurrentRowAsStruct())
+        .thenReturn(
+            Struct.newBuilder().set("id").to("a").build(),
+            Struct.newBuilder().set("id").to("b").build());
+    Statement query = Statement.of("test");
+    when(this.readContext.executeQuery(query)).thenReturn(resultSet);
+
+    try (Stream<String> results =
+        this.spannerTemplate.queryStream(x -> x.getString("id"), query, null)) {
+      verify(resultSet, never()).next();
+      assertThat(results).containsExactly("a", "b");
+    }
+    verify(resultSet, times(1)).close();
+  }
+
+  @Test
+  void readAllStreamTestEager() {
+    SpannerTemplate spyTemplate = spy(this.spannerTemplate);
+    spyTemplate.readAllStream(ParentEntity.class);
+    Statement statement =
+        Statement.newBuilder(
+                "SELECT other, id, custom_col, id_2, ARRAY (SELECT AS STRUCT deleted, id3, id, id_2"
+                    + " FROM child_test_table WHERE (child_test_table.id = parent_test_table.id AND"
+                    + " child_test_table.id_2 = parent_test_table.id_2) AND (deleted = false)) AS"
+                    + " childEntities FROM parent_test_table")
+            .build();
+    verify(spyTemplate, times(1)).queryStream(eq(ParentEntity.class), eq(statement), any());
+    verify(this.databaseClient, times(1)).singleUse();
+  }
+
+  @Test
+  void queryPartitionedTest() {
+    BatchClient batchClient = mock(BatchClient.class);
+    BatchReadOnlyTransaction transaction = mock(BatchReadOnlyTransaction.class);
+    when(batchClient.batchReadOnlyTransaction(TimestampBound.strong())).thenReturn(transaction);
+    Statement statement = Statement.of("SELECT * FROM custom_test_table");
+    Partition partition1 = mock(Partition.class);
+    Partition partition2 = mock(Partition.class);
+    when(transaction.partitionQuery(any(), eq(statement)))
+        .thenReturn(List.of(partition1, partition2));
+    ResultSet results1 = mock(ResultSet.class);
+    ResultSet results2 = mock(ResultSet.class);
+    when(transaction.execute(partition1)).thenReturn(results1);
+    when(transaction.execute(partition2)).thenReturn(results2);
+    TestEntity entity1 = new TestEntity();
+    TestEntity entity2 = new TestEntity();
+    TestEntity entity3 = new TestEntity();
+    when(this.objectMapper.mapToStream(same(results1), eq(TestEntity.class), isNull(), eq(false)))
+        .thenReturn(Stream.of(entity1, entity2));
+    when(this.objectMapper.mapToStream(same(results2), eq(TestEntity.class), isNull(), eq(false)))
+        .thenReturn(Stream.of(entity3));
+    this.spannerTemplate.setBatchClientProvider(() -> batchClient);
+
+    try (Stream<TestEntity> entities =
+        this.spannerTemplate.queryPartitioned(TestEntity.class, statement, null)) {
+      assertThat(entities).containsExactlyInAnyOrder(entity1, entity2, entity3);
+    }
+    verify(transaction, times(1)).close();
+  }
+
+  @Test
+  void queryPartitionedReadsOnDaemonThreadsTest() {
+    BatchClient batchClient = mock(BatchClient.class);
+    BatchReadOnlyTransaction transaction = mock(BatchReadOnlyTransaction.class);
+    when(batchClient.batchReadOnlyTransaction(TimestampBound.strong())).thenReturn(transaction);
+    Statement statement = Statement.of("SELECT * FROM custom_test_table");
+    Partition partition = mock(Partition.class);
+    when(transaction.partitionQuery(any(), eq(statement))).thenReturn(List.of(partition));
+    AtomicReference<Thread> readerThread = new AtomicReference<>();
+    TestEntity entity = new TestEntity();
+    when(this.objectMapper.mapToStream(any(), eq(TestEntity.class), isNull(), eq(false)))
+        .thenAnswer(
+            invocation -> {
+              readerThread.set(Thread.currentThread());
+              return Stream.of(entity);
+            });
+    this.spannerTemplate.setBatchClientProvider(() -> batchClient);
+
+    try (Stream<TestEntity> entities =
+        this.spannerTemplate.queryPartitioned(TestEntity.class, statement, null)) {
+      assertThat(entities).containsExactly(entity);
+    }
+    assertThat(readerThread.get().isDaemon()).isTrue();
+    assertThat(readerThread.get().getName()).startsWith("gcp-spanner-partition-read-");
+  }
+
+  @Test
+  void queryPartitionedRethrowsErrorOfPartitionTest() {
+    BatchClient batchClient = mock(BatchClient.class);
+    BatchReadOnlyTransaction transaction = mock(BatchReadOnlyTransaction.class);
+    when(batchClient.batchReadOnlyTransaction(TimestampBound.strong())).thenReturn(transaction);
+    Statement statement = Statement.of("SELECT * FROM custom_test_table");
+    Partition partition = mock(Partition.class);
+    when(transaction.partitionQuery(any(), eq(statement))).thenReturn(List.of(partition));
+    when(this.objectMapper.mapToStream(any(), eq(TestEntity.class), isNull(), eq(false)))
+        .thenThrow(new NoClassDefFoundError("MissingConverter"));
+    this.spannerTemplate.setBatchClientProvider(() -> batchClient);
+
+    try (Stream<TestEntity> entities =
+        this.spannerTemplate.queryPartitioned(TestEntity.class, statement, null)) {
+      assertThatThrownBy(entities::count)
+          .isInstanceOf(NoClassDefFoundError.class)
+          .hasMessage("MissingConverter");
+    }
+    verify(transaction, times(1)).close();
+  }
+
+  @Test
+  void queryPartitionedWithoutBatchClientTest() {
+    Statement statement = Statement.of("SELECT * FROM custom_test_table");
+    assertThatThrownBy(
+            () -> this.spannerTemplate.queryPartitioned(TestEntity.class, statement, null))
+        .isInstanceOf(SpannerDataException.class)
+        .hasMessageContaining("batch client");
+  }
+
   @Test
   void findSingleKeyTest() {
     SpannerTemplate spyTemplate = spy(this.spannerTemplate);
@@ -773,6 +901,102 @@ class SpannerTemplateTests {
         x -> x.verify(this.databaseClient, times(1)).write(mutations));
   }
 
+  @Test
+  void insertAllBulkSplitsCommitsTest() {
+    Mutation mutation =
+        Mutation.newInsertBuilder("custom_test_table")
+            .set("id")
+            .to("key")
+            .set("custom_col")
+            .to("value")
+            .build();
+    TestEntity entity = new TestEntity();
+    List entities = Arrays.asList(entity, entity, entity);
+    when(this.mutationFactory.insert(same(entity))).thenReturn(Collections.singletonList(mutation));
+
+    SpannerBulkWriteResult result =
+        this.spannerTemplate.insertAll(
+            entities, new SpannerBulkWriteOptions().setMaxMutationsPerCommit(4).setParallelism(1));
+
+    assertThat(result.getWrittenCount()).isEqualTo(3);
+    assertThat(result.hasFailures()).isFalse();
+    verify(this.databaseClient, times(1)).write(Arrays.asList(mutation, mutation));
+    verify(this.databaseClient, times(1)).write(Collections.singletonList(mutation));
+  }
+
+  @Test
+  void insertAllBulkPublishesEventsOnCallingThreadTest() {
+    Mutation mutation = Mutation.newInsertBuilder("custom_test_table").set("id").to("key").build();
+    TestEntity entity = new TestEntity();
+    List entities = Arrays.asList(entity, entity, entity);
+    when(this.mutationFactory.insert(same(entity))).thenReturn(Collections.singletonList(mutation));
+    List<Thread> afterSaveThreads = new ArrayList<>();
+    ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+    doAnswer(
+            invocation -> {
+              if (invocation.getArgument(0) instanceof AfterSaveEvent) {
+                afterSaveThreads.add(Thread.currentThread());
+              }
+              return null;
+            })
+        .when(publisher)
+        .publishEvent(any());
+    this.spannerTemplate.setApplicationEventPublisher(publisher);
+
+    SpannerBulkWriteResult result =
+        this.spannerTemplate.insertAll(
+            entities, new SpannerBulkWriteOptions().setMaxMutationsPerCommit(1).setParallelism(2));
+
+    assertThat(result.getWrittenCount()).isEqualTo(3);
+    assertThat(afterSaveThreads).hasSize(3).containsOnly(Thread.currentThread());
+  }
+
+  @Test
+  void upsertAllBulkReportsFailedCommitsTest() {
+    Mutation mutation =
+        Mutation.newInsertOrUpdateBuilder("custom_test_table").set("id").to("key").build();
+    TestEntity entity = new TestEntity();
+    List entities = Arrays.asList(entity, entity, entity);
+    when(this.mutationFactory.upsert(same(entity), isNull()))
+        .thenReturn(Collections.singletonList(mutation));
+    RuntimeException failure = new RuntimeException("commit failed");
+    when(this.databaseClient.write(any()))
+        .thenThrow(failure)
+        .thenReturn(Timestamp.now())
+        .thenReturn(Timestamp.now());
+
+    SpannerBulkWriteResult result =
+        this.spannerTemplate.upsertAll(
+            entities, new SpannerBulkWriteOptions().setMaxMutationsPerCommit(1).setParallelism(1));
+
+    assertThat(result.getWrittenCount()).isEqualTo(2);
+    assertThat(result.getFailures()).hasSize(1);
+    assertThat(result.getFailures().get(0).getEntities()).containsExactly(entity);
+    assertThat(result.getFailures().get(0).getCause()).isSameAs(failure);
+    verify(this.databaseClient, times(3)).write(any());
+  }
+
+  @Test
+  void insertAllBulkInTransactionTest() {
+    TransactionRunner transactionRunner = mock(TransactionRunner.class);
+    when(this.databaseClient.readWriteTransaction()).thenReturn(transactionRunner);
+    TransactionContext transactionContext = mock(TransactionContext.class);
+    when(transactionRunner.run(any()))
+        .thenAnswer(
+            invocation -> {
+              TransactionCallable transactionCallable = invocation.getArgument(0);
+              return transactionCallable.run(transactionContext);
+            });
+    List<Object> entities = Collections.singletonList(new TestEntity());
+    SpannerBulkWriteOptions options = new SpannerBulkWriteOptions();
+
+    assertThatThrownBy(
+            () ->
+                this.spannerTemplate.performReadWriteTransaction(
+                    template -> template.insertAll(entities, options)))
+        .isInstanceOf(SpannerDataException.class);
+  }
+
   @Test
   void upsertColumnsArrayTest() {
     Mutation mutation = Mutation.newInsertOrUpdateBuilder("custom_test_table").build();
@@ -962,6 +1186,52 @@ class SpannerTemplateTests {
         x -> {});
   }
 
+  @Test
+  void resolveChildEntitiesBatchedTest() {
+    ParentEntity p1 = new ParentEntity();
+    p1.id = "a";
+    p1.id2 = "a2";
+    ParentEntity p2 = new ParentEntity();
+    p2.id = "b";
+    p2.id2 = "b2";
+    ChildEntity c1 = new ChildEntity();
+    c1.id = "a";
+    c1.id_2 = "a2";
+    c1.id3 = "c1";
+    ChildEntity c2 = new ChildEntity();
+    c2.id = "b";
+    c2.id_2 = "b2";
+    c2.id3 = "c2";
+    ChildEntity c3 = new ChildEntity();
+    c3.id = "a";
+    c3.id_2 = "a2";
+    c3.id3 = "c3";
+    GrandChildEntity gc = new GrandChildEntity();
+    gc.id = "b";
+    gc.id_2 = "b2";
+    gc.id3 = "c2";
+    gc.id4 = "gc";
+    when(this.objectMapper.mapToList(any(), eq(ParentEntity.class), any(), eq(false)))
+        .thenReturn(Arrays.asList(p1, p2));
+    when(this.objectMapper.mapToList(any(), eq(ChildEntity.class), any(), eq(false)))
+        .thenReturn(Arrays.asList(c1, c2, c3));
+    when(this.objectMapper.mapToList(any(), eq(GrandChildEntity.class), any(), eq(false)))
+        .thenReturn(Arrays.asList(gc));
+
+    List<ParentEntity> results = this.spannerTemplate.readAll(ParentEntity.class);
+
+    // one query for the parents and a single one for the children of both parents.
+    verify(this.readContext, times(2)).executeQuery(any());
+    assertThat(results.get(0).childEntities).containsExactly(c1, c3);
+    assertThat(results.get(1).childEntities).containsExactly(c2);
+
+    // touching any lazy grand-child list loads the grand-children of all children at once.
+    assertThat(results.get(0).childEntities.get(0).childEntities).isEmpty();
+    assertThat(results.get(1).childEntities.get(0).childEntities).containsExactly(gc);
+    assertThat(results.get(0).childEntities.get(1).childEntities).isEmpty();
+    verify(this.readContext, times(3)).executeQuery(any());
+  }
+
   @Test
   void lazyFetchChildrenTest() {
     ChildEntity c = new ChildEntity();
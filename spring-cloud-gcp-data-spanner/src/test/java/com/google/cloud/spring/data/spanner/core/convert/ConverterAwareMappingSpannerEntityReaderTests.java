@@ -43,7 +43,9 @@ import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
 import com.google.gson.Gson;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.convert.ConversionFailedException;
@@ -337,7 +339,7 @@ class ConverterAwareMappingSpannerEntityReaderTests {
   @Test
   void ensureConstructorArgsAreReadOnce() {
     Struct row = mock(Struct.class);
-    when(row.getString("id")).thenReturn("1234");
+    when(row.getString(0)).thenReturn("1234");
     when(row.getType()).thenReturn(Type.struct(List.of(StructField.of("id", Type.string()))));
     when(row.getColumnType("id")).thenReturn(Type.string());
 
@@ -345,7 +347,7 @@ class ConverterAwareMappingSpannerEntityReaderTests {
         this.spannerEntityReader.read(TestEntities.SimpleConstructorTester.class, row);
 
     assertThat(result.id).isEqualTo("1234");
-    verify(row, times(1)).getString("id");
+    verify(row, times(1)).getString(0);
   }
 
   @Test
@@ -391,7 +393,7 @@ class ConverterAwareMappingSpannerEntityReaderTests {
   @Test
   void readJsonFieldTest() {
     Struct row = mock(Struct.class);
-    when(row.getString("id")).thenReturn("1234");
+    when(row.getString(0)).thenReturn("1234");
     when(row.getType())
         .thenReturn(
             Type.struct(
@@ -400,7 +402,7 @@ class ConverterAwareMappingSpannerEntityReaderTests {
                     Type.StructField.of("params", Type.json()))));
     when(row.getColumnType("id")).thenReturn(Type.string());
 
-    when(row.getJson("params")).thenReturn("{\"p1\":\"address line\",\"p2\":\"5\"}");
+    when(row.getJson(1)).thenReturn("{\"p1\":\"address line\",\"p2\":\"5\"}");
 
     TestEntities.TestEntityJson result =
         this.spannerEntityReader.read(TestEntities.TestEntityJson.class, row);
@@ -414,7 +416,7 @@ class ConverterAwareMappingSpannerEntityReaderTests {
   @Test
   void readJsonInstantFieldTest() {
     Struct row = mock(Struct.class);
-    when(row.getString("id")).thenReturn("1234");
+    when(row.getString(0)).thenReturn("1234");
     when(row.getType())
         .thenReturn(
             Type.struct(
@@ -423,7 +425,7 @@ class ConverterAwareMappingSpannerEntityReaderTests {
                     Type.StructField.of("params", Type.json()))));
     when(row.getColumnType("id")).thenReturn(Type.string());
 
-    when(row.getJson("params")).thenReturn("{\"instant\":\"1970-01-01T00:00:00Z\"}");
+    when(row.getJson(1)).thenReturn("{\"instant\":\"1970-01-01T00:00:00Z\"}");
 
     TestEntities.TestEntityInstantInJson result =
         this.spannerEntityReader.read(TestEntities.TestEntityInstantInJson.class, row);
@@ -436,7 +438,7 @@ class ConverterAwareMappingSpannerEntityReaderTests {
   @Test
   void readArrayJsonFieldTest() {
     Struct row = mock(Struct.class);
-    when(row.getString("id")).thenReturn("1234");
+    when(row.getString(0)).thenReturn("1234");
     when(row.getType())
         .thenReturn(
             Type.struct(
@@ -446,7 +448,7 @@ class ConverterAwareMappingSpannerEntityReaderTests {
     when(row.getColumnType("id")).thenReturn(Type.string());
 
     when(row.getColumnType("paramsList")).thenReturn(Type.array(Type.json()));
-    when(row.getJsonList("paramsList"))
+    when(row.getJsonList(1))
         .thenReturn(
             Arrays.asList(
                 "{\"p1\":\"address line\",\"p2\":\"5\"}",
@@ -470,7 +472,7 @@ class ConverterAwareMappingSpannerEntityReaderTests {
   @Test
   void readArrayWithNullFieldTest() {
     Struct row = mock(Struct.class);
-    when(row.getString("id")).thenReturn("1234");
+    when(row.getString(0)).thenReturn("1234");
     when(row.getType())
         .thenReturn(
             Type.struct(
@@ -480,7 +482,7 @@ class ConverterAwareMappingSpannerEntityReaderTests {
     when(row.getColumnType("id")).thenReturn(Type.string());
 
     when(row.getColumnType("stringList")).thenReturn(Type.array(Type.string()));
-    when(row.getStringList("stringList"))
+    when(row.getStringList(1))
         .thenReturn(
             Arrays.asList("string1", null, "string3"));
 
@@ -494,4 +496,43 @@ class ConverterAwareMappingSpannerEntityReaderTests {
     assertThat(result.stringList.get(1)).isNull();
     assertThat(result.stringList.get(2)).isEqualTo("string3");
   }
+
+  @Test
+  void rowPlanIsReusedForRowsOfTheSameType() {
+    ConverterAwareMappingSpannerEntityReader reader =
+        (ConverterAwareMappingSpannerEntityReader) this.spannerEntityReader;
+    Struct first = Struct.newBuilder().set("id").to(Value.string("1")).build();
+    Struct second = Struct.newBuilder().set("id").to(Value.string("2")).build();
+
+    ConverterAwareMappingSpannerEntityReader.RowPlan<TestEntities.SimpleConstructorTester> plan =
+        reader.getRowPlan(TestEntities.SimpleConstructorTester.class, first.getType(), null, false);
+
+    assertThat(
+            reader.getRowPlan(
+                TestEntities.SimpleConstructorTester.class, second.getType(), null, false))
+        .isSameAs(plan);
+    assertThat(
+            reader.getRowPlan(
+                TestEntities.SimpleConstructorTester.class, second.getType(), null, true))
+        .isNotSameAs(plan);
+    assertThat(plan.read(first).id).isEqualTo("1");
+    assertThat(plan.read(second).id).isEqualTo("2");
+  }
+
+  @Test
+  void rowPlanCacheIsBoundedForAdHocColumnSelections() {
+    ConverterAwareMappingSpannerEntityReader reader =
+        (ConverterAwareMappingSpannerEntityReader) this.spannerEntityReader;
+    Class<TestEntities.SimpleConstructorTester> type = TestEntities.SimpleConstructorTester.class;
+    Type rowType = Struct.newBuilder().set("id").to(Value.string("1")).build().getType();
+
+    ConverterAwareMappingSpannerEntityReader.RowPlan<TestEntities.SimpleConstructorTester> plan =
+        reader.getRowPlan(type, rowType, new HashSet<>(Set.of("id")), false);
+
+    assertThat(reader.getRowPlan(type, rowType, Set.of("id"), false)).isSameAs(plan);
+    for (int i = 0; i < 1024; i++) {
+      reader.getRowPlan(type, rowType, Set.of("id", "column" + i), false);
+    }
+    assertThat(reader.getRowPlan(type, rowType, Set.of("id"), false)).isNotSameAs(plan);
+  }
 }
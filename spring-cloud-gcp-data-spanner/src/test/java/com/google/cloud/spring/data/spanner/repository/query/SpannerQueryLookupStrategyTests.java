@@ -41,6 +41,7 @@ import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentEntity
 import com.google.cloud.spring.data.spanner.core.mapping.Table;
 import com.google.cloud.spring.data.spanner.core.mapping.Where;
 import java.lang.annotation.Annotation;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -184,6 +185,28 @@ class SpannerQueryLookupStrategyTests {
     assertThat(statement.getParameters().get("tag1").getString()).isEqualTo("key2");
   }
 
+  @Test
+  void getChildrenRowsQueryForMultipleParentsTest() {
+    this.spannerQueryLookupStrategy = getSpannerQueryLookupStrategy();
+    Statement statement =
+        SpannerStatementQueryExecutor.getChildrenRowsQuery(
+            Arrays.asList(Key.of("a", "a2"), Key.of("b", "b2")),
+            this.spannerMappingContext
+                .getPersistentEntity(TestEntity.class)
+                .getPersistentProperty("childEntities"),
+            new SpannerWriteConverter(),
+            this.spannerMappingContext);
+    assertThat(statement.getSql())
+        .isEqualTo(
+            "SELECT deleted, id3, id, id_2 FROM child_test_table WHERE ((id = @tag0 AND id_2 ="
+                + " @tag1) OR (id = @tag2 AND id_2 = @tag3)) AND (deleted = false)");
+    assertThat(statement.getParameters()).hasSize(4);
+    assertThat(statement.getParameters().get("tag0").getString()).isEqualTo("a");
+    assertThat(statement.getParameters().get("tag1").getString()).isEqualTo("a2");
+    assertThat(statement.getParameters().get("tag2").getString()).isEqualTo("b");
+    assertThat(statement.getParameters().get("tag3").getString()).isEqualTo("b2");
+  }
+
   @Test
   void getColumnsStringForSelectTest() {
     this.spannerQueryLookupStrategy = getSpannerQueryLookupStrategy();
@@ -19,8 +19,10 @@ package com.google.cloud.spring.data.spanner.repository.query;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -44,6 +46,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.PageRequest;
@@ -451,6 +454,39 @@ class SpannerStatementQueryTests {
     verify(this.spannerTemplate).query((Class) any(), any(), any());
   }
 
+  @Test
+  void streamQueryTest() throws NoSuchMethodException {
+    when(this.queryMethod.getName()).thenReturn("findByActionAndSymbolAndTraderId");
+    when(this.queryMethod.isStreamQuery()).thenReturn(true);
+    this.partTreeSpannerQuery = spy(createQuery());
+    Method method =
+        QueryHolder.class.getMethod("repositoryMethod4", Object.class, Object.class, Object.class);
+    doReturn(new DefaultParameters(ParametersSource.of(method)))
+        .when(this.queryMethod)
+        .getParameters();
+    doReturn(null).when(this.partTreeSpannerQuery).getReturnedSimpleConvertableItemType();
+    doAnswer(invocation -> invocation.getArgument(0))
+        .when(this.partTreeSpannerQuery)
+        .processRawObjectForProjection(any());
+
+    Trade trade = new Trade();
+    when(this.spannerTemplate.queryStream((Class<Trade>) any(), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              Statement statement = invocation.getArgument(1);
+              assertThat(statement.getSql())
+                  .isEqualTo(
+                      "SELECT shares, trader_id, ticker, price, action, id, value, uuid FROM trades"
+                          + " WHERE ( action=@tag0 AND ticker=@tag1 AND trader_id=@tag2 )");
+              return Stream.of(trade);
+            });
+
+    Object result = this.partTreeSpannerQuery.execute(new Object[] {"BUY", "abcd", "abc123"});
+
+    assertThat((Stream<Object>) result).containsExactly(trade);
+    verify(this.spannerTemplate, never()).query((Class) any(), any(), any());
+  }
+
   @Test
   void unspecifiedParametersTest() throws NoSuchMethodException {
 
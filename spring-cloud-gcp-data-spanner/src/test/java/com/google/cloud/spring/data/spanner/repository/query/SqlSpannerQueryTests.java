@@ -17,6 +17,8 @@
 package com.google.cloud.spring.data.spanner.repository.query;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
@@ -46,6 +48,7 @@ import com.google.cloud.spring.data.spanner.core.convert.SpannerWriteConverter;
 import com.google.cloud.spring.data.spanner.core.mapping.Column;
 import com.google.cloud.spring.data.spanner.core.mapping.Interleaved;
 import com.google.cloud.spring.data.spanner.core.mapping.PrimaryKey;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
 import com.google.cloud.spring.data.spanner.core.mapping.Table;
 import com.google.cloud.spring.data.spanner.core.mapping.Where;
@@ -59,6 +62,7 @@ import java.util.Map;
 import java.util.function.Function;
 import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
@@ -751,6 +755,49 @@ class SqlSpannerQueryTests {
         .containsExactly(new Detail("address line", "5"), new Detail("address line 2", "6"));
   }
 
+  @Test
+  void partitionedQueryWithPageableIsRejectedTest() throws NoSuchMethodException {
+    Method method =
+        QueryHolder.class.getMethod("dummyMethod4", String.class, String.class, Pageable.class);
+    mockPartitionedQueryMethod(method);
+
+    assertThatThrownBy(() -> createQuery("SELECT * FROM children", Child.class, false, false))
+        .isInstanceOf(SpannerDataException.class)
+        .hasMessage(
+            "Partitioned query methods cannot take Pageable or Sort parameters: dummyMethod4");
+  }
+
+  @Test
+  void partitionedQueryWithInterleavedPropertiesIsRejectedTest() throws NoSuchMethodException {
+    Method method = QueryHolder.class.getMethod("dummyMethod3", String.class, String.class);
+    mockPartitionedQueryMethod(method);
+
+    assertThatThrownBy(() -> createQuery("SELECT * FROM trades", Trade.class, false, false))
+        .isInstanceOf(SpannerDataException.class)
+        .hasMessage(
+            "Partitioned query methods cannot read entities with interleaved properties: "
+                + "dummyMethod3");
+  }
+
+  @Test
+  void partitionedQueryWithoutInterleavedPropertiesTest() throws NoSuchMethodException {
+    Method method = QueryHolder.class.getMethod("dummyMethod3", String.class, String.class);
+    mockPartitionedQueryMethod(method);
+
+    assertThatCode(() -> createQuery("SELECT * FROM documents", Document.class, false, false))
+        .doesNotThrowAnyException();
+  }
+
+  private void mockPartitionedQueryMethod(Method method) {
+    Query queryAnnotation = mock(Query.class);
+    when(queryAnnotation.partitioned()).thenReturn(true);
+    when(this.queryMethod.getQueryAnnotation()).thenReturn(queryAnnotation);
+    when(this.queryMethod.getQueryMethod()).thenReturn(method);
+    when(this.queryMethod.getName()).thenReturn(method.getName());
+    Mockito.<Parameters>when(this.queryMethod.getParameters())
+        .thenReturn(new DefaultParameters(ParametersSource.of(method)));
+  }
+
   private static class Singer {
     @PrimaryKey String id;
 
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.parametermanager;
+
+import com.google.cloud.parametermanager.v1.ParameterVersionName;
+import com.google.cloud.spring.core.GcpProjectIdProvider;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Timestamp;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ParameterManagerPropertySource} that keeps the rendered parameters in a bounded
+ * in-process snapshot, so that resolving the same property again does not render it again.
+ *
+ * <p>While a parameter is rendered, its version is read without its payload on a background thread,
+ * so that the update time is recorded without delaying the render. Once a snapshot entry is older
+ * than its time-to-live, the version is read again and the parameter is rendered again only if its
+ * update time changed. Secrets referenced with {@code __REF__} are therefore not read again while
+ * the parameter version is unchanged. The snapshot of the previous
+ * property source can be carried over with {@link #restoreSnapshot} when the config data is loaded
+ * again, so that a refresh of the environment only checks versions instead of rendering every
+ * parameter. The parameters used at startup can be resolved concurrently with {@link #prefetch}.
+ */
+public class CachingParameterManagerPropertySource extends ParameterManagerPropertySource {
+
+  private static final Log LOGGER = LogFactory.getLog(CachingParameterManagerPropertySource.class);
+
+  private static final int VERSION_READ_THREADS = 4;
+
+  private final long ttlNanos;
+
+  private final Map<String, CachedParameter> snapshot;
+
+  private volatile ParameterManagerResolutionMetrics metrics;
+
+  private final Executor versionReadExecutor;
+
+  /**
+   * Creates the property source.
+   *
+   * @param propertySourceName the name of the property source
+   * @param parameterManagerTemplate the template used to render the parameters
+   * @param projectIdProvider the provider of the default project of the parameters
+   * @param ttl how long a rendered parameter is used before its version is checked for changes, or
+   *     null or zero to check it only when the snapshot is restored by another property source
+   * @param maxSize the maximum number of cached parameters; the least recently used are evicted
+   *     first
+   * @param metrics the metrics the calls to Parameter Manager are recorded in
+   */
+  public CachingParameterManagerPropertySource(
+      String propertySourceName,
+      ParameterManagerTemplate parameterManagerTemplate,
+      GcpProjectIdProvider projectIdProvider,
+      Duration ttl,
+      int maxSize,
+      ParameterManagerResolutionMetrics metrics) {
+    super(propertySourceName, parameterManagerTemplate, projectIdProvider);
+    Assert.isTrue(maxSize > 0, "The maximum cache size must be positive.");
+    Assert.notNull(metrics, "The metrics must not be null.");
+    this.ttlNanos = (ttl != null && !ttl.isZero()) ? ttl.toNanos() : Long.MAX_VALUE;
+    this.metrics = metrics;
+    this.snapshot =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, CachedParameter> eldest) {
+            return size() > maxSize;
+          }
+        };
+    CustomizableThreadFactory threadFactory =
+        new CustomizableThreadFactory("gcp-parametermanager-version-read-");
+    threadFactory.setDaemon(true);
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            VERSION_READ_THREADS,
+            VERSION_READ_THREADS,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            threadFactory);
+    executor.allowCoreThreadTimeOut(true);
+    this.versionReadExecutor = executor;
+  }
+
+  public ParameterManagerResolutionMetrics getMetrics() {
+    return this.metrics;
+  }
+
+  /**
+   * Records the calls to Parameter Manager in other metrics from now on, typically the ones shared
+   * by the property sources of an application context. The counts recorded so far, such as those
+   * of the prefetch, are added to the given metrics.
+   *
+   * @param metrics the metrics the calls to Parameter Manager are recorded in
+   */
+  public void setMetrics(ParameterManagerResolutionMetrics metrics) {
+    Assert.notNull(metrics, "The metrics must not be null.");
+    ParameterManagerResolutionMetrics previous = this.metrics;
+    this.metrics = metrics;
+    if (previous != metrics) {
+      metrics.add(previous);
+    }
+  }
+
+  @Override
+  public Object getProperty(String name) {
+    ParameterVersionName parameterIdentifier = getParameterVersionName(name);
+    if (parameterIdentifier == null) {
+      return null;
+    }
+
+    CachedParameter cached;
+    synchronized (this.snapshot) {
+      cached = this.snapshot.get(name);
+    }
+    if (cached != null && !cached.stale && System.nanoTime() - cached.checkedAt < this.ttlNanos) {
+      this.metrics.recordCacheHit();
+      return cached.value;
+    }
+
+    CompletableFuture<Timestamp> updateTime;
+    if (cached != null) {
+      // Check the version before rendering, so that a change made in between is found by the
+      // next check.
+      Timestamp current = readUpdateTime(parameterIdentifier);
+      if (current != null && current.equals(getUpdateTime(cached))) {
+        put(name, new CachedParameter(cached.value, cached.updateTime, System.nanoTime(), false));
+        this.metrics.recordCacheHit();
+        return cached.value;
+      }
+      updateTime = CompletableFuture.completedFuture(current);
+    } else {
+      // Record the update time for later checks without adding a call to the first render.
+      updateTime =
+          CompletableFuture.supplyAsync(
+              () -> readUpdateTime(parameterIdentifier), this.versionReadExecutor);
+    }
+
+    long start = System.nanoTime();
+    ByteString value = renderParameter(parameterIdentifier);
+    this.metrics.recordRender(System.nanoTime() - start);
+    put(name, new CachedParameter(value, updateTime, System.nanoTime(), false));
+    return value;
+  }
+
+  /**
+   * Resolves properties concurrently and caches their rendered parameters. Properties that are not
+   * Parameter Manager references are ignored, and parameters that can't be rendered are logged and
+   * left to fail when the property is resolved.
+   *
+   * @param propertyNames the names of the properties to resolve, such as {@code
+   *     pm@global/my-parameter/v1}
+   * @param parallelism the maximum number of parameters resolved concurrently
+   */
+  public void prefetch(Collection<String> propertyNames, int parallelism) {
+    Assert.isTrue(parallelism > 0, "The prefetch parallelism must be positive.");
+    if (propertyNames.isEmpty()) {
+      return;
+    }
+
+    long start = System.nanoTime();
+    ExecutorService executor =
+        Executors.newFixedThreadPool(Math.min(parallelism, propertyNames.size()));
+    try {
+      Map<String, Future<Object>> futures = new LinkedHashMap<>();
+      for (String name : propertyNames) {
+        futures.put(name, executor.submit(() -> getProperty(name)));
+      }
+      for (Map.Entry<String, Future<Object>> entry : futures.entrySet()) {
+        try {
+          entry.getValue().get();
+        } catch (ExecutionException ex) {
+          LOGGER.warn(
+              "Failed to prefetch the parameter of property " + entry.getKey(), ex.getCause());
+        }
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    } finally {
+      executor.shutdownNow();
+    }
+
+    long elapsed = System.nanoTime() - start;
+    this.metrics.recordPrefetch(elapsed);
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(
+          "Prefetched "
+              + propertyNames.size()
+              + " Parameter Manager properties in "
+              + TimeUnit.NANOSECONDS.toMillis(elapsed)
+              + " ms.");
+    }
+  }
+
+  /**
+   * Copies the snapshot of another property source, typically the one this property source
+   * replaces when the config data is loaded again. The copied parameters are used again only after
+   * their versions are checked for changes. Parameters this property source already rendered, such
+   * as the prefetched ones, are kept.
+   *
+   * @param previous the property source to copy the snapshot of
+   */
+  public void restoreSnapshot(CachingParameterManagerPropertySource previous) {
+    Map<String, CachedParameter> entries;
+    synchronized (previous.snapshot) {
+      entries = new LinkedHashMap<>(previous.snapshot);
+    }
+    synchronized (this.snapshot) {
+      entries.forEach(
+          (name, cached) ->
+              this.snapshot.putIfAbsent(
+                  name,
+                  new CachedParameter(cached.value, cached.updateTime, cached.checkedAt, true)));
+    }
+  }
+
+  private Timestamp readUpdateTime(ParameterVersionName parameterIdentifier) {
+    long start = System.nanoTime();
+    try {
+      return getSource().getParameterVersionUpdateTime(parameterIdentifier);
+    } finally {
+      this.metrics.recordVersionCheck(System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Returns the update time of the version a cached parameter was rendered from, or null if it
+   * could not be read, in which case the parameter is rendered again.
+   */
+  private static Timestamp getUpdateTime(CachedParameter cached) {
+    try {
+      return cached.updateTime.join();
+    } catch (CompletionException | CancellationException ex) {
+      LOGGER.debug("Failed to read the parameter version update time.", ex);
+      return null;
+    }
+  }
+
+  private void put(String name, CachedParameter cached) {
+    synchronized (this.snapshot) {
+      this.snapshot.put(name, cached);
+    }
+  }
+
+  private static final class CachedParameter {
+
+    private final ByteString value;
+
+    private final CompletableFuture<Timestamp> updateTime;
+
+    private final long checkedAt;
+
+    private final boolean stale;
+
+    CachedParameter(
+        ByteString value,
+        CompletableFuture<Timestamp> updateTime,
+        long checkedAt,
+        boolean stale) {
+      this.value = value;
+      this.updateTime = updateTime;
+      this.checkedAt = checkedAt;
+      this.stale = stale;
+    }
+  }
+}
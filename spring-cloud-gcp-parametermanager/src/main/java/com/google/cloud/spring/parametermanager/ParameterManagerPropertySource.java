@@ -18,6 +18,7 @@ package com.google.cloud.spring.parametermanager;
 
 import com.google.cloud.parametermanager.v1.ParameterVersionName;
 import com.google.cloud.spring.core.GcpProjectIdProvider;
+import com.google.protobuf.ByteString;
 import org.springframework.core.env.EnumerablePropertySource;
 
 public class ParameterManagerPropertySource
@@ -34,15 +35,35 @@ public class ParameterManagerPropertySource
 
   @Override
   public Object getProperty(String name) {
-    ParameterVersionName parameterIdentifier =
-        ParameterManagerPropertyUtils.getParameterVersionName(name, this.projectIdProvider);
+    ParameterVersionName parameterIdentifier = getParameterVersionName(name);
 
     if (parameterIdentifier != null) {
-      return getSource().getRenderedParameterByteString(parameterIdentifier);
+      return renderParameter(parameterIdentifier);
     }
     return null;
   }
 
+  /**
+   * Parses a property name into the parameter version it refers to.
+   *
+   * @param name the property name
+   * @return the parameter version, or null if the name is not a Parameter Manager reference
+   */
+  protected ParameterVersionName getParameterVersionName(String name) {
+    return ParameterManagerPropertyUtils.getParameterVersionName(name, this.projectIdProvider);
+  }
+
+  /**
+   * Renders a parameter version with Parameter Manager.
+   *
+   * @param parameterIdentifier the parameter version to render
+   * @return the rendered payload, or null if the parameter does not exist and default values are
+   *     allowed
+   */
+  protected ByteString renderParameter(ParameterVersionName parameterIdentifier) {
+    return getSource().getRenderedParameterByteString(parameterIdentifier);
+  }
+
   /**
    * The {@link ParameterManagerPropertySource} is not enumerable, so this always returns an empty
    * array.
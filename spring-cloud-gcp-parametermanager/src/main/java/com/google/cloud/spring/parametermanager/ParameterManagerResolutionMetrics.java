@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.parametermanager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the Parameter Manager calls made to resolve properties, and the time spent in them, so
+ * that their share of the application startup can be monitored.
+ *
+ * <p>The same instance can be shared by the property sources created each time the config data is
+ * loaded again, so that the counts cover the whole lifetime of the application. The counts of a
+ * property source that recorded into its own instance so far are carried over with {@link
+ * CachingParameterManagerPropertySource#setMetrics}.
+ */
+public class ParameterManagerResolutionMetrics {
+
+  private final LongAdder renderCount = new LongAdder();
+
+  private final LongAdder renderNanos = new LongAdder();
+
+  private final LongAdder versionCheckCount = new LongAdder();
+
+  private final LongAdder versionCheckNanos = new LongAdder();
+
+  private final LongAdder cacheHitCount = new LongAdder();
+
+  private final LongAdder prefetchCount = new LongAdder();
+
+  private final LongAdder prefetchNanos = new LongAdder();
+
+  void recordRender(long nanos) {
+    this.renderCount.increment();
+    this.renderNanos.add(nanos);
+  }
+
+  void recordVersionCheck(long nanos) {
+    this.versionCheckCount.increment();
+    this.versionCheckNanos.add(nanos);
+  }
+
+  void recordCacheHit() {
+    this.cacheHitCount.increment();
+  }
+
+  void recordPrefetch(long nanos) {
+    this.prefetchCount.increment();
+    this.prefetchNanos.add(nanos);
+  }
+
+  void add(ParameterManagerResolutionMetrics other) {
+    this.renderCount.add(other.renderCount.sum());
+    this.renderNanos.add(other.renderNanos.sum());
+    this.versionCheckCount.add(other.versionCheckCount.sum());
+    this.versionCheckNanos.add(other.versionCheckNanos.sum());
+    this.cacheHitCount.add(other.cacheHitCount.sum());
+    this.prefetchCount.add(other.prefetchCount.sum());
+    this.prefetchNanos.add(other.prefetchNanos.sum());
+  }
+
+  /** Returns the number of parameter versions rendered. */
+  public long getRenderCount() {
+    return this.renderCount.sum();
+  }
+
+  /** Returns the total time spent rendering parameter versions. */
+  public double getRenderTime(TimeUnit unit) {
+    return toUnit(this.renderNanos.sum(), unit);
+  }
+
+  /** Returns the number of checks of whether a cached parameter version changed. */
+  public long getVersionCheckCount() {
+    return this.versionCheckCount.sum();
+  }
+
+  /** Returns the total time spent checking whether cached parameter versions changed. */
+  public double getVersionCheckTime(TimeUnit unit) {
+    return toUnit(this.versionCheckNanos.sum(), unit);
+  }
+
+  /** Returns the number of properties resolved from the cache without rendering. */
+  public long getCacheHitCount() {
+    return this.cacheHitCount.sum();
+  }
+
+  /** Returns the number of prefetches of the configured parameters. */
+  public long getPrefetchCount() {
+    return this.prefetchCount.sum();
+  }
+
+  /** Returns the total wall-clock time of the prefetches of the configured parameters. */
+  public double getPrefetchTime(TimeUnit unit) {
+    return toUnit(this.prefetchNanos.sum(), unit);
+  }
+
+  private static double toUnit(long nanos, TimeUnit unit) {
+    return (double) nanos / TimeUnit.NANOSECONDS.convert(1, unit);
+  }
+}
@@ -31,8 +31,10 @@ import com.google.cloud.parametermanager.v1.ParameterVersion;
 import com.google.cloud.parametermanager.v1.ParameterVersionName;
 import com.google.cloud.parametermanager.v1.ParameterVersionPayload;
 import com.google.cloud.parametermanager.v1.UpdateParameterVersionRequest;
+import com.google.cloud.parametermanager.v1.View;
 import com.google.cloud.spring.core.GcpProjectIdProvider;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.Timestamp;
 import com.google.protobuf.util.FieldMaskUtil;
 import javax.annotation.Nullable;
 import org.apache.commons.logging.Log;
@@ -378,6 +380,28 @@ public class ParameterManagerTemplate implements ParameterManagerOperations {
     return parameterData;
   }
 
+  /**
+   * Reads the last update time of a parameter version without its payload, so that a cached
+   * rendering of the version can be checked for changes without rendering it again.
+   *
+   * @return the update time, or null if the version does not exist
+   */
+  @Nullable
+  Timestamp getParameterVersionUpdateTime(ParameterVersionName parameterVersionName) {
+    GetParameterVersionRequest request =
+        GetParameterVersionRequest.newBuilder()
+            .setName(parameterVersionName.toString())
+            .setView(View.BASIC)
+            .build();
+    try {
+      return getClient(parameterVersionName.getLocation())
+          .getParameterVersion(request)
+          .getUpdateTime();
+    } catch (NotFoundException ex) {
+      return null;
+    }
+  }
+
   /**
    * Creates a new version of parameter version with the provided {@code payload} under a {@link
    * Parameter}. Will also create a new {@link Parameter} if one does not exist with the provided
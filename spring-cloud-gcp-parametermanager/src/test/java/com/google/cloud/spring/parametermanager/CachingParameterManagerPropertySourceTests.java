@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.parametermanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.parametermanager.v1.ParameterVersionName;
+import com.google.cloud.spring.core.GcpProjectIdProvider;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Timestamp;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class CachingParameterManagerPropertySourceTests {
+
+  private static final String PROPERTY_SOURCE_NAME = "test-property-source";
+
+  private static final String TEST_PROJECT_ID = "test-project";
+
+  private static final ParameterVersionName PARAMETER =
+      ParameterVersionName.of(TEST_PROJECT_ID, "global", "test-parameter", "v1");
+
+  private static final ParameterVersionName OTHER_PARAMETER =
+      ParameterVersionName.of(TEST_PROJECT_ID, "global", "other-parameter", "v1");
+
+  @Mock private ParameterManagerTemplate parameterManagerTemplate;
+
+  @Mock private GcpProjectIdProvider projectIdProvider;
+
+  private ParameterManagerResolutionMetrics metrics;
+
+  private CachingParameterManagerPropertySource propertySource;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    when(projectIdProvider.getProjectId()).thenReturn(TEST_PROJECT_ID);
+    when(parameterManagerTemplate.getRenderedParameterByteString(PARAMETER))
+        .thenReturn(ByteString.copyFromUtf8("value"));
+    when(parameterManagerTemplate.getRenderedParameterByteString(OTHER_PARAMETER))
+        .thenReturn(ByteString.copyFromUtf8("other"));
+    metrics = new ParameterManagerResolutionMetrics();
+    propertySource = createPropertySource(Duration.ZERO);
+  }
+
+  @Test
+  void testCachedParameterIsRenderedOnce() {
+    assertThat(propertySource.getProperty("pm@global/test-parameter/v1"))
+        .isEqualTo(ByteString.copyFromUtf8("value"));
+    assertThat(propertySource.getProperty("pm@global/test-parameter/v1"))
+        .isEqualTo(ByteString.copyFromUtf8("value"));
+    assertThat(propertySource.getProperty("spring.application.name")).isNull();
+
+    verify(parameterManagerTemplate, times(1)).getRenderedParameterByteString(PARAMETER);
+    assertThat(metrics.getRenderCount()).isEqualTo(1);
+    assertThat(metrics.getCacheHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void testPrefetch() {
+    propertySource.prefetch(
+        Arrays.asList(
+            "pm@global/test-parameter/v1",
+            "pm@global/other-parameter/v1",
+            "spring.application.name"),
+        2);
+
+    assertThat(propertySource.getProperty("pm@global/other-parameter/v1"))
+        .isEqualTo(ByteString.copyFromUtf8("other"));
+    verify(parameterManagerTemplate, times(1)).getRenderedParameterByteString(PARAMETER);
+    verify(parameterManagerTemplate, times(1)).getRenderedParameterByteString(OTHER_PARAMETER);
+    assertThat(metrics.getPrefetchCount()).isEqualTo(1);
+    assertThat(metrics.getRenderCount()).isEqualTo(2);
+  }
+
+  @Test
+  void testRestoredSnapshotIsReusedWhenVersionIsUnchanged() {
+    Timestamp updateTime = Timestamp.newBuilder().setSeconds(100).build();
+    when(parameterManagerTemplate.getParameterVersionUpdateTime(PARAMETER)).thenReturn(updateTime);
+    propertySource.getProperty("pm@global/test-parameter/v1");
+
+    CachingParameterManagerPropertySource reloaded = createPropertySource(Duration.ZERO);
+    reloaded.restoreSnapshot(propertySource);
+    assertThat(reloaded.getProperty("pm@global/test-parameter/v1"))
+        .isEqualTo(ByteString.copyFromUtf8("value"));
+
+    // The update time read with the first render is enough to reuse the restored parameter.
+    verify(parameterManagerTemplate, times(1)).getRenderedParameterByteString(PARAMETER);
+    verify(parameterManagerTemplate, times(2)).getParameterVersionUpdateTime(PARAMETER);
+    assertThat(metrics.getRenderCount()).isEqualTo(1);
+    assertThat(metrics.getVersionCheckCount()).isEqualTo(2);
+    assertThat(metrics.getCacheHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void testRestoredSnapshotIsRenderedAgainWhenVersionChanged() {
+    when(parameterManagerTemplate.getParameterVersionUpdateTime(PARAMETER))
+        .thenReturn(Timestamp.newBuilder().setSeconds(100).build());
+    propertySource.getProperty("pm@global/test-parameter/v1");
+    verify(parameterManagerTemplate, timeout(5000)).getParameterVersionUpdateTime(PARAMETER);
+
+    when(parameterManagerTemplate.getParameterVersionUpdateTime(PARAMETER))
+        .thenReturn(Timestamp.newBuilder().setSeconds(200).build());
+    when(parameterManagerTemplate.getRenderedParameterByteString(PARAMETER))
+        .thenReturn(ByteString.copyFromUtf8("new-value"));
+    CachingParameterManagerPropertySource reloaded = createPropertySource(Duration.ZERO);
+    reloaded.restoreSnapshot(propertySource);
+
+    assertThat(reloaded.getProperty("pm@global/test-parameter/v1"))
+        .isEqualTo(ByteString.copyFromUtf8("new-value"));
+    verify(parameterManagerTemplate, times(2)).getRenderedParameterByteString(PARAMETER);
+  }
+
+  @Test
+  void testFreshEntryIsNotChecked() {
+    propertySource = createPropertySource(Duration.ofMinutes(5));
+    propertySource.getProperty("pm@global/test-parameter/v1");
+    propertySource.getProperty("pm@global/test-parameter/v1");
+
+    // Only the first render reads the version.
+    verify(parameterManagerTemplate, timeout(5000).times(1))
+        .getParameterVersionUpdateTime(PARAMETER);
+  }
+
+  @Test
+  void testFirstRenderDoesNotWaitForVersion() throws InterruptedException {
+    CountDownLatch versionRead = new CountDownLatch(1);
+    when(parameterManagerTemplate.getParameterVersionUpdateTime(PARAMETER))
+        .thenAnswer(
+            invocation -> {
+              versionRead.await(5, TimeUnit.SECONDS);
+              return Timestamp.newBuilder().setSeconds(100).build();
+            });
+
+    assertThat(propertySource.getProperty("pm@global/test-parameter/v1"))
+        .isEqualTo(ByteString.copyFromUtf8("value"));
+    versionRead.countDown();
+
+    // The update time read in the background is used once the snapshot is restored.
+    CachingParameterManagerPropertySource reloaded = createPropertySource(Duration.ZERO);
+    reloaded.restoreSnapshot(propertySource);
+    assertThat(reloaded.getProperty("pm@global/test-parameter/v1"))
+        .isEqualTo(ByteString.copyFromUtf8("value"));
+    verify(parameterManagerTemplate, times(1)).getRenderedParameterByteString(PARAMETER);
+  }
+
+  @Test
+  void testRestoredSnapshotKeepsRenderedParameters() {
+    propertySource.getProperty("pm@global/other-parameter/v1");
+
+    CachingParameterManagerPropertySource reloaded = createPropertySource(Duration.ZERO);
+    reloaded.getProperty("pm@global/other-parameter/v1");
+    reloaded.restoreSnapshot(propertySource);
+    reloaded.getProperty("pm@global/other-parameter/v1");
+
+    verify(parameterManagerTemplate, times(2)).getRenderedParameterByteString(OTHER_PARAMETER);
+  }
+
+  @Test
+  void testSetMetricsCarriesOverCounts() {
+    propertySource.getProperty("pm@global/test-parameter/v1");
+    ParameterManagerResolutionMetrics shared = new ParameterManagerResolutionMetrics();
+
+    propertySource.setMetrics(shared);
+    propertySource.getProperty("pm@global/test-parameter/v1");
+
+    assertThat(propertySource.getMetrics()).isSameAs(shared);
+    assertThat(shared.getRenderCount()).isEqualTo(1);
+    assertThat(shared.getCacheHitCount()).isEqualTo(1);
+  }
+
+  private CachingParameterManagerPropertySource createPropertySource(Duration ttl) {
+    return new CachingParameterManagerPropertySource(
+        PROPERTY_SOURCE_NAME, parameterManagerTemplate, projectIdProvider, ttl, 10, metrics);
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.benchmark;
+
+import com.google.protobuf.ByteString;
+import com.google.pubsub.v1.PubsubMessage;
+import com.google.pubsub.v1.PullResponse;
+import com.google.pubsub.v1.ReceivedMessage;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import tools.jackson.databind.ObjectMapper;
+
+/** Test data shared by the benchmarks. */
+final class BenchmarkMessages {
+
+  private BenchmarkMessages() {}
+
+  /** A JSON payload of roughly the requested size. */
+  static Payload payload(int payloadBytes) {
+    Payload payload = new Payload();
+    payload.id = "4c6e1f0a-7d21-4b6f-9a51-0d1c7e3b8f22";
+    payload.timestamp = 1_700_000_000_000L;
+    payload.tags = List.of("orders", "eu-west", "priority");
+    StringBuilder body = new StringBuilder(payloadBytes);
+    while (body.length() < payloadBytes) {
+      body.append("lorem ipsum dolor sit amet ");
+    }
+    payload.body = body.substring(0, payloadBytes);
+    return payload;
+  }
+
+  /** Attributes typical of messages published by Spring Integration and Spring Cloud Stream. */
+  static Map<String, String> attributes(int count) {
+    Map<String, String> attributes = new HashMap<>();
+    attributes.put("contentType", "application/json");
+    attributes.put("spanId", "7d21f0a4b6f9a51");
+    for (int i = attributes.size(); i < count; i++) {
+      attributes.put("attribute-" + i, "value-" + i);
+    }
+    return attributes;
+  }
+
+  static PullResponse pullResponse(
+      ObjectMapper objectMapper, int messages, int payloadBytes, int attributes) {
+    ByteString data =
+        ByteString.copyFrom(
+            objectMapper.writeValueAsString(payload(payloadBytes)), StandardCharsets.UTF_8);
+    List<ReceivedMessage> receivedMessages = new ArrayList<>(messages);
+    for (int i = 0; i < messages; i++) {
+      receivedMessages.add(
+          ReceivedMessage.newBuilder()
+              .setAckId("ack-id-" + i)
+              .setMessage(
+                  PubsubMessage.newBuilder()
+                      .setMessageId(Integer.toString(i))
+                      .setData(data)
+                      .putAllAttributes(attributes(attributes)))
+              .build());
+    }
+    return PullResponse.newBuilder().addAllReceivedMessages(receivedMessages).build();
+  }
+
+  /** The benchmark payload type. */
+  public static class Payload {
+
+    public String id;
+
+    public long timestamp;
+
+    public List<String> tags;
+
+    public String body;
+  }
+}
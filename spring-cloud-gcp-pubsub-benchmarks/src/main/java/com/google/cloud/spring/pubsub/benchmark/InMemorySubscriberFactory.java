@@ -0,0 +1,335 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.benchmark;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.gax.core.NoCredentialsProvider;
+import com.google.api.gax.grpc.GrpcTransportChannel;
+import com.google.api.gax.rpc.ApiCallContext;
+import com.google.api.gax.rpc.FixedTransportChannelProvider;
+import com.google.api.gax.rpc.UnaryCallable;
+import com.google.cloud.pubsub.v1.MessageReceiver;
+import com.google.cloud.pubsub.v1.Subscriber;
+import com.google.cloud.pubsub.v1.stub.SubscriberStub;
+import com.google.cloud.spring.pubsub.support.PubSubSubscriptionUtils;
+import com.google.cloud.spring.pubsub.support.SubscriberFactory;
+import com.google.protobuf.Empty;
+import com.google.pubsub.v1.AcknowledgeRequest;
+import com.google.pubsub.v1.ModifyAckDeadlineRequest;
+import com.google.pubsub.v1.PullRequest;
+import com.google.pubsub.v1.PullResponse;
+import com.google.pubsub.v1.StreamingPullRequest;
+import com.google.pubsub.v1.StreamingPullResponse;
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import java.io.InputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * A {@link SubscriberFactory} whose stubs answer every pull with the same canned response and
+ * complete acknowledgement requests immediately, without any network access. Its subscribers run
+ * over an in-memory channel that streams the canned messages whenever the subscriber's flow control
+ * asks for more.
+ */
+final class InMemorySubscriberFactory implements SubscriberFactory {
+
+  static final String PROJECT_ID = "benchmark-project";
+
+  private final PullResponse pullResponse;
+
+  private final LongAdder acknowledgedIds = new LongAdder();
+
+  private final LongAdder modifiedIds = new LongAdder();
+
+  InMemorySubscriberFactory(PullResponse pullResponse) {
+    this.pullResponse = pullResponse;
+  }
+
+  long getAcknowledgedIds() {
+    return this.acknowledgedIds.sum();
+  }
+
+  long getModifiedIds() {
+    return this.modifiedIds.sum();
+  }
+
+  @Override
+  public String getProjectId() {
+    return PROJECT_ID;
+  }
+
+  @Override
+  public Subscriber createSubscriber(String subscriptionName, MessageReceiver receiver) {
+    return Subscriber.newBuilder(
+            PubSubSubscriptionUtils.toProjectSubscriptionName(subscriptionName, PROJECT_ID),
+            receiver)
+        .setChannelProvider(
+            FixedTransportChannelProvider.create(
+                GrpcTransportChannel.create(new InMemorySubscriberChannel())))
+        .setCredentialsProvider(NoCredentialsProvider.create())
+        .build();
+  }
+
+  @Override
+  public PullRequest createPullRequest(
+      String subscriptionName, Integer maxMessages, Boolean returnImmediately) {
+    return PullRequest.newBuilder()
+        .setSubscription(
+            PubSubSubscriptionUtils.toProjectSubscriptionName(subscriptionName, PROJECT_ID)
+                .toString())
+        .setMaxMessages(maxMessages != null ? maxMessages : Integer.MAX_VALUE)
+        .build();
+  }
+
+  @Override
+  public SubscriberStub createSubscriberStub(String subscriptionName) {
+    return new InMemorySubscriberStub();
+  }
+
+  private void recordRequest(Object request) {
+    if (request instanceof AcknowledgeRequest acknowledgeRequest) {
+      this.acknowledgedIds.add(acknowledgeRequest.getAckIdsCount());
+    } else if (request instanceof ModifyAckDeadlineRequest modifyAckDeadlineRequest) {
+      this.modifiedIds.add(modifyAckDeadlineRequest.getAckIdsCount());
+    } else if (request instanceof StreamingPullRequest streamingPullRequest) {
+      this.acknowledgedIds.add(streamingPullRequest.getAckIdsCount());
+      this.modifiedIds.add(streamingPullRequest.getModifyDeadlineAckIdsCount());
+    }
+  }
+
+  /**
+   * A channel that answers the subscriber RPCs in memory. The streaming pull sends the canned
+   * messages once for every message the subscriber requests, and unary calls complete with an
+   * empty response. Responses are delivered on a single thread of the channel, as gRPC would.
+   */
+  private final class InMemorySubscriberChannel extends ManagedChannel {
+
+    private final ExecutorService executor;
+
+    InMemorySubscriberChannel() {
+      CustomizableThreadFactory threadFactory =
+          new CustomizableThreadFactory("in-memory-subscriber-channel-");
+      threadFactory.setDaemon(true);
+      this.executor = Executors.newSingleThreadExecutor(threadFactory);
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(
+        MethodDescriptor<ReqT, RespT> methodDescriptor, CallOptions callOptions) {
+      return new InMemoryCall<>(methodDescriptor);
+    }
+
+    @Override
+    public String authority() {
+      return "in-memory";
+    }
+
+    @Override
+    public ManagedChannel shutdown() {
+      this.executor.shutdown();
+      return this;
+    }
+
+    @Override
+    public ManagedChannel shutdownNow() {
+      this.executor.shutdownNow();
+      return this;
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return this.executor.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return this.executor.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+      return this.executor.awaitTermination(timeout, unit);
+    }
+
+    private final class InMemoryCall<ReqT, RespT> extends ClientCall<ReqT, RespT> {
+
+      private final MethodDescriptor<ReqT, RespT> methodDescriptor;
+
+      private final boolean streaming;
+
+      private volatile Listener<RespT> listener;
+
+      private volatile boolean closed;
+
+      InMemoryCall(MethodDescriptor<ReqT, RespT> methodDescriptor) {
+        this.methodDescriptor = methodDescriptor;
+        this.streaming = methodDescriptor.getType() == MethodDescriptor.MethodType.BIDI_STREAMING;
+      }
+
+      @Override
+      public void start(Listener<RespT> listener, Metadata headers) {
+        this.listener = listener;
+        deliver(() -> listener.onHeaders(new Metadata()));
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public void request(int numMessages) {
+        if (!this.streaming) {
+          return;
+        }
+        RespT response =
+            (RespT)
+                StreamingPullResponse.newBuilder()
+                    .addAllReceivedMessages(
+                        InMemorySubscriberFactory.this.pullResponse.getReceivedMessagesList())
+                    .build();
+        for (int i = 0; i < numMessages; i++) {
+          deliver(() -> this.listener.onMessage(response));
+        }
+      }
+
+      @Override
+      public void sendMessage(ReqT message) {
+        recordRequest(message);
+      }
+
+      @Override
+      public void halfClose() {
+        if (!this.streaming) {
+          RespT response = this.methodDescriptor.parseResponse(InputStream.nullInputStream());
+          deliver(() -> this.listener.onMessage(response));
+        }
+        close(Status.OK);
+      }
+
+      @Override
+      public void cancel(String message, Throwable cause) {
+        close(Status.CANCELLED.withDescription(message).withCause(cause));
+      }
+
+      private void close(Status status) {
+        deliver(
+            () -> {
+              if (!this.closed) {
+                this.closed = true;
+                this.listener.onClose(status, new Metadata());
+              }
+            });
+      }
+
+      /** Runs a callback of the listener on the channel thread, unless the call is closed. */
+      private void deliver(Runnable callback) {
+        try {
+          InMemorySubscriberChannel.this.executor.execute(
+              () -> {
+                if (!this.closed) {
+                  callback.run();
+                }
+              });
+        } catch (RejectedExecutionException ex) {
+          // the channel is shut down
+        }
+      }
+    }
+  }
+
+  private final class InMemorySubscriberStub extends SubscriberStub {
+
+    private final UnaryCallable<PullRequest, PullResponse> pullCallable =
+        new UnaryCallable<>() {
+          @Override
+          public ApiFuture<PullResponse> futureCall(PullRequest request, ApiCallContext context) {
+            return ApiFutures.immediateFuture(InMemorySubscriberFactory.this.pullResponse);
+          }
+        };
+
+    private final UnaryCallable<AcknowledgeRequest, Empty> acknowledgeCallable =
+        new UnaryCallable<>() {
+          @Override
+          public ApiFuture<Empty> futureCall(AcknowledgeRequest request, ApiCallContext context) {
+            InMemorySubscriberFactory.this.acknowledgedIds.add(request.getAckIdsCount());
+            return ApiFutures.immediateFuture(Empty.getDefaultInstance());
+          }
+        };
+
+    private final UnaryCallable<ModifyAckDeadlineRequest, Empty> modifyAckDeadlineCallable =
+        new UnaryCallable<>() {
+          @Override
+          public ApiFuture<Empty> futureCall(
+              ModifyAckDeadlineRequest request, ApiCallContext context) {
+            InMemorySubscriberFactory.this.modifiedIds.add(request.getAckIdsCount());
+            return ApiFutures.immediateFuture(Empty.getDefaultInstance());
+          }
+        };
+
+    @Override
+    public UnaryCallable<PullRequest, PullResponse> pullCallable() {
+      return this.pullCallable;
+    }
+
+    @Override
+    public UnaryCallable<AcknowledgeRequest, Empty> acknowledgeCallable() {
+      return this.acknowledgeCallable;
+    }
+
+    @Override
+    public UnaryCallable<ModifyAckDeadlineRequest, Empty> modifyAckDeadlineCallable() {
+      return this.modifyAckDeadlineCallable;
+    }
+
+    @Override
+    public void close() {
+      // nothing to release
+    }
+
+    @Override
+    public void shutdown() {
+      // nothing to release
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return false;
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return false;
+    }
+
+    @Override
+    public void shutdownNow() {
+      // nothing to release
+    }
+
+    @Override
+    public boolean awaitTermination(long duration, TimeUnit unit) {
+      return true;
+    }
+  }
+}
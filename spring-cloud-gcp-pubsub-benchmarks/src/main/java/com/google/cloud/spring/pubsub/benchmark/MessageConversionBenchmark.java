@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.benchmark;
+
+import com.google.cloud.spring.pubsub.benchmark.BenchmarkMessages.Payload;
+import com.google.cloud.spring.pubsub.support.converter.JacksonPubSubMessageConverter;
+import com.google.cloud.spring.pubsub.support.converter.SimplePubSubMessageConverter;
+import com.google.pubsub.v1.PubsubMessage;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Measures payload conversion on the publish and pull paths, for both the JSON and the plain
+ * {@code byte[]}/{@code String} converters.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageConversionBenchmark {
+
+  @Param({"256", "4096", "65536"})
+  int payloadBytes;
+
+  private JacksonPubSubMessageConverter jacksonConverter;
+
+  private SimplePubSubMessageConverter simpleConverter;
+
+  private Payload payload;
+
+  private byte[] rawPayload;
+
+  private Map<String, String> headers;
+
+  private PubsubMessage jsonMessage;
+
+  private PubsubMessage rawMessage;
+
+  @Setup
+  public void setUp() {
+    ObjectMapper objectMapper = new ObjectMapper();
+    this.jacksonConverter = new JacksonPubSubMessageConverter(objectMapper);
+    this.simpleConverter = new SimplePubSubMessageConverter();
+    this.payload = BenchmarkMessages.payload(this.payloadBytes);
+    this.rawPayload = this.payload.body.getBytes(StandardCharsets.UTF_8);
+    this.headers = BenchmarkMessages.attributes(4);
+    this.jsonMessage = this.jacksonConverter.toPubSubMessage(this.payload, this.headers);
+    this.rawMessage = this.simpleConverter.toPubSubMessage(this.rawPayload, this.headers);
+  }
+
+  @Benchmark
+  public PubsubMessage jacksonToPubSubMessage() {
+    return this.jacksonConverter.toPubSubMessage(this.payload, this.headers);
+  }
+
+  @Benchmark
+  public Payload jacksonFromPubSubMessage() {
+    return this.jacksonConverter.fromPubSubMessage(this.jsonMessage, Payload.class);
+  }
+
+  @Benchmark
+  public PubsubMessage simpleToPubSubMessage() {
+    return this.simpleConverter.toPubSubMessage(this.rawPayload, this.headers);
+  }
+
+  @Benchmark
+  public byte[] simpleFromPubSubMessage() {
+    return this.simpleConverter.fromPubSubMessage(this.rawMessage, byte[].class);
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.benchmark;
+
+import com.google.cloud.spring.pubsub.benchmark.BenchmarkMessages.Payload;
+import com.google.cloud.spring.pubsub.core.subscriber.PubSubSubscriberTemplate;
+import com.google.cloud.spring.pubsub.integration.AckMode;
+import com.google.cloud.spring.pubsub.integration.inbound.PubSubMessageSource;
+import com.google.cloud.spring.pubsub.support.AcknowledgeablePubsubMessage;
+import com.google.cloud.spring.pubsub.support.converter.ConvertedAcknowledgeablePubsubMessage;
+import com.google.cloud.spring.pubsub.support.converter.JacksonPubSubMessageConverter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Measures the synchronous pull, polling message source and batched acknowledgement paths of
+ * {@link PubSubSubscriberTemplate} against an in-memory subscriber stub. Scores are reported per
+ * message.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SubscriberBenchmark {
+
+  private static final int BATCH_SIZE = 100;
+
+  private static final int SUBSCRIPTIONS = 4;
+
+  private PubSubSubscriberTemplate template;
+
+  private PubSubMessageSource messageSource;
+
+  private List<AcknowledgeablePubsubMessage> pulledMessages;
+
+  @Setup
+  public void setUp() {
+    ObjectMapper objectMapper = new ObjectMapper();
+    InMemorySubscriberFactory subscriberFactory =
+        new InMemorySubscriberFactory(
+            BenchmarkMessages.pullResponse(objectMapper, BATCH_SIZE, 1024, 4));
+    this.template = new PubSubSubscriberTemplate(subscriberFactory);
+    this.template.setMessageConverter(new JacksonPubSubMessageConverter(objectMapper));
+
+    this.messageSource = new PubSubMessageSource(this.template, "subscription-0");
+    this.messageSource.setAckMode(AckMode.MANUAL);
+    this.messageSource.setPayloadType(Payload.class);
+    this.messageSource.setMaxFetchSize(BATCH_SIZE);
+
+    this.pulledMessages = new ArrayList<>(BATCH_SIZE * SUBSCRIPTIONS);
+    for (int i = 0; i < SUBSCRIPTIONS; i++) {
+      this.pulledMessages.addAll(this.template.pull("subscription-" + i, BATCH_SIZE, true));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public List<ConvertedAcknowledgeablePubsubMessage<Payload>> pullAndConvert() {
+    return this.template.pullAndConvert("subscription-0", BATCH_SIZE, true, Payload.class);
+  }
+
+  @Benchmark
+  public Object messageSourceReceive() {
+    return this.messageSource.receive();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE * SUBSCRIPTIONS)
+  public void batchedAck() {
+    this.template.ack(this.pulledMessages).join();
+  }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * JMH microbenchmarks for the per-message hot paths of the Pub/Sub module.
+ *
+ * <p>The benchmarks run offline against in-memory stubs of the Pub/Sub client. Build the module and
+ * run {@code java -jar target/benchmarks.jar -prof gc} to report throughput together with the
+ * allocation rate per operation.
+ */
+package com.google.cloud.spring.pubsub.benchmark;
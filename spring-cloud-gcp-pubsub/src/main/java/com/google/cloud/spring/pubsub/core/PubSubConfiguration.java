@@ -495,6 +495,15 @@ public class PubSubConfiguration {
     /** Number of threads used for batch acknowledgement. */
     private int maxAcknowledgementThreads = 4;
 
+    /**
+     * The optional delay in milliseconds for which ack IDs are buffered and coalesced into larger
+     * requests. Coalescing is disabled when not set.
+     */
+    private Long ackCoalescingDelay;
+
+    /** Number of threads sending coalesced acknowledgement requests. */
+    private int ackCoalescingShards = 4;
+
     /** The optional pull endpoint setting for the subscriber factory. */
     private String pullEndpoint;
 
@@ -616,6 +625,22 @@ public class PubSubConfiguration {
       this.maxAcknowledgementThreads = maxAcknowledgementThreads;
     }
 
+    public Long getAckCoalescingDelay() {
+      return this.ackCoalescingDelay;
+    }
+
+    public void setAckCoalescingDelay(Long ackCoalescingDelay) {
+      this.ackCoalescingDelay = ackCoalescingDelay;
+    }
+
+    public int getAckCoalescingShards() {
+      return this.ackCoalescingShards;
+    }
+
+    public void setAckCoalescingShards(int ackCoalescingShards) {
+      this.ackCoalescingShards = ackCoalescingShards;
+    }
+
     public String getUniverseDomain() {
       return universeDomain;
     }
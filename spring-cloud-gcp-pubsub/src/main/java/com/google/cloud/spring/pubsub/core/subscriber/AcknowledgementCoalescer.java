@@ -0,0 +1,308 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.core.subscriber;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.protobuf.Empty;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Buffers acknowledgement and ack deadline modifications per subscription for a short delay, so
+ * that many individual calls are sent as a few large requests.
+ *
+ * <p>Each subscription is assigned to one of a fixed number of single-threaded shards, which send
+ * its buffered ack IDs once the delay has elapsed or a full request has accumulated, in requests
+ * that stay within the Pub/Sub request size limits. Different subscriptions are flushed in
+ * parallel. Closing the coalescer sends the buffered ack IDs and waits for their requests to
+ * complete; ack IDs submitted after that are rejected.
+ */
+public class AcknowledgementCoalescer implements AutoCloseable {
+
+  private static final Log LOGGER = LogFactory.getLog(AcknowledgementCoalescer.class);
+
+  /** Ack deadline value used to denote an acknowledgement rather than a deadline change. */
+  static final int ACK = -1;
+
+  /** Maximum number of ack IDs in a single request. */
+  static final int MAX_ACK_IDS_PER_REQUEST = 2500;
+
+  /** Maximum serialized size of the ack IDs in a single request, below the 512 KB limit. */
+  static final int MAX_ACK_ID_BYTES_PER_REQUEST = 500 * 1024;
+
+  /** How long closing waits for the buffered ack IDs to be sent. */
+  private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(10);
+
+  private final AckOperation operation;
+
+  private final long delayNanos;
+
+  private final ScheduledThreadPoolExecutor[] shards;
+
+  private final Object lock = new Object();
+
+  private final Map<BatchKey, Batch> batches = new HashMap<>();
+
+  private final AtomicLong pendingAckIds = new AtomicLong();
+
+  private final AtomicInteger inflightRequests = new AtomicInteger();
+
+  private final Set<CompletableFuture<Void>> unfinished = ConcurrentHashMap.newKeySet();
+
+  private boolean closed;
+
+  /**
+   * Creates a coalescer.
+   *
+   * @param operation sends one request of ack IDs
+   * @param delay how long ack IDs are buffered before being sent
+   * @param shardCount the number of threads sending requests
+   */
+  AcknowledgementCoalescer(AckOperation operation, Duration delay, int shardCount) {
+    Assert.notNull(delay, "The coalescing delay can't be null.");
+    Assert.isTrue(shardCount > 0, "The number of shards must be positive.");
+    this.operation = operation;
+    this.delayNanos = delay.toNanos();
+    // one thread per shard, so the thread number identifies the shard in thread dumps
+    CustomizableThreadFactory threadFactory =
+        new CustomizableThreadFactory("gcp-pubsub-ack-coalescer-");
+    threadFactory.setDaemon(true);
+    this.shards = new ScheduledThreadPoolExecutor[shardCount];
+    for (int i = 0; i < shardCount; i++) {
+      this.shards[i] = new ScheduledThreadPoolExecutor(1, threadFactory);
+      // the buffered ack IDs are sent by close, not by the pending flushes
+      this.shards[i].setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+  }
+
+  /**
+   * Buffers ack IDs of a subscription.
+   *
+   * @param subscriptionName the fully qualified subscription name
+   * @param ackDeadlineSeconds the new ack deadline, or {@link #ACK} to acknowledge
+   * @param ackIds the ack IDs
+   * @return a future completed once all requests carrying the ack IDs have completed, or failed
+   *     with an {@link IllegalStateException} if the coalescer is closed
+   */
+  CompletableFuture<Void> submit(
+      String subscriptionName, int ackDeadlineSeconds, Collection<String> ackIds) {
+    BatchKey key = new BatchKey(subscriptionName, ackDeadlineSeconds);
+    CompletableFuture<Void> result = new CompletableFuture<>();
+    Batch full = null;
+    synchronized (this.lock) {
+      if (this.closed) {
+        result.completeExceptionally(
+            new IllegalStateException("The acknowledgement coalescer is closed."));
+        return result;
+      }
+      // counted before the flush path can see the ack IDs, which uncounts them once sent
+      this.pendingAckIds.addAndGet(ackIds.size());
+      this.unfinished.add(result);
+      result.whenComplete((ignored, throwable) -> this.unfinished.remove(result));
+      Batch batch = this.batches.get(key);
+      if (batch == null) {
+        batch = new Batch();
+        this.batches.put(key, batch);
+        Batch scheduled = batch;
+        shardFor(key).schedule(() -> flush(key, scheduled), this.delayNanos, TimeUnit.NANOSECONDS);
+      }
+      batch.ackIds.addAll(ackIds);
+      batch.futures.add(result);
+      if (batch.ackIds.size() >= MAX_ACK_IDS_PER_REQUEST) {
+        this.batches.remove(key);
+        full = batch;
+      }
+    }
+    if (full != null) {
+      Batch toSend = full;
+      try {
+        shardFor(key).execute(() -> send(key, toSend));
+      } catch (RejectedExecutionException ex) {
+        // closed since the batch filled up, so send it here
+        send(key, toSend);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the number of ack IDs buffered and not yet sent.
+   *
+   * @return the number of buffered ack IDs
+   */
+  public long getPendingAckIdCount() {
+    return this.pendingAckIds.get();
+  }
+
+  /**
+   * Returns the number of acknowledgement requests awaiting a response.
+   *
+   * @return the number of in-flight requests
+   */
+  public int getInflightRequestCount() {
+    return this.inflightRequests.get();
+  }
+
+  /**
+   * Sends all buffered ack IDs, stops the shards and waits for the requests to complete. Ack IDs
+   * submitted afterwards are rejected.
+   */
+  @Override
+  public void close() {
+    Map<BatchKey, Batch> remaining;
+    synchronized (this.lock) {
+      if (this.closed) {
+        return;
+      }
+      this.closed = true;
+      remaining = new HashMap<>(this.batches);
+      this.batches.clear();
+    }
+    remaining.forEach(this::send);
+    for (ScheduledExecutorService shard : this.shards) {
+      shard.shutdown();
+    }
+
+    long deadline = System.nanoTime() + CLOSE_TIMEOUT.toNanos();
+    try {
+      for (ScheduledExecutorService shard : this.shards) {
+        shard.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+      }
+      CompletableFuture.allOf(this.unfinished.toArray(new CompletableFuture<?>[0]))
+          .get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException ex) {
+      // the failure is reported to the callers of the failed acknowledgements
+    } catch (TimeoutException ex) {
+      LOGGER.warn(
+          "Timed out waiting for " + this.unfinished.size() + " acknowledgements to be sent.");
+    }
+  }
+
+  private ScheduledExecutorService shardFor(BatchKey key) {
+    return this.shards[Math.floorMod(key.subscriptionName.hashCode(), this.shards.length)];
+  }
+
+  private void flush(BatchKey key, Batch batch) {
+    synchronized (this.lock) {
+      // the batch may already have been sent because it filled up
+      if (!this.batches.remove(key, batch)) {
+        return;
+      }
+    }
+    send(key, batch);
+  }
+
+  private void send(BatchKey key, Batch batch) {
+    this.pendingAckIds.addAndGet(-batch.ackIds.size());
+    List<List<String>> requests = partition(batch.ackIds);
+    AtomicInteger remainingRequests = new AtomicInteger(requests.size());
+    for (List<String> requestAckIds : requests) {
+      this.inflightRequests.incrementAndGet();
+      ApiFuture<Empty> response;
+      try {
+        response = this.operation.send(key.subscriptionName, key.ackDeadlineSeconds, requestAckIds);
+      } catch (RuntimeException ex) {
+        response = ApiFutures.immediateFailedFuture(ex);
+      }
+      ApiFutures.addCallback(
+          response,
+          new ApiFutureCallback<>() {
+            @Override
+            public void onFailure(Throwable throwable) {
+              inflightRequests.decrementAndGet();
+              batch.futures.forEach(future -> future.completeExceptionally(throwable));
+            }
+
+            @Override
+            public void onSuccess(Empty empty) {
+              inflightRequests.decrementAndGet();
+              if (remainingRequests.decrementAndGet() == 0) {
+                batch.futures.forEach(future -> future.complete(null));
+              }
+            }
+          },
+          Runnable::run);
+    }
+  }
+
+  /**
+   * Splits ack IDs into requests within both the ack ID count and request size limits.
+   *
+   * @param ackIds the ack IDs to split
+   * @return the ack IDs of each request
+   */
+  static List<List<String>> partition(List<String> ackIds) {
+    List<List<String>> requests = new ArrayList<>();
+    List<String> request = new ArrayList<>();
+    int requestBytes = 0;
+    for (String ackId : ackIds) {
+      // each repeated string field costs its length plus a tag and a length prefix
+      int ackIdBytes = ackId.length() + 3;
+      if (!request.isEmpty()
+          && (request.size() == MAX_ACK_IDS_PER_REQUEST
+              || requestBytes + ackIdBytes > MAX_ACK_ID_BYTES_PER_REQUEST)) {
+        requests.add(request);
+        request = new ArrayList<>();
+        requestBytes = 0;
+      }
+      request.add(ackId);
+      requestBytes += ackIdBytes;
+    }
+    if (!request.isEmpty()) {
+      requests.add(request);
+    }
+    return requests;
+  }
+
+  /** Sends a single request of ack IDs. */
+  @FunctionalInterface
+  interface AckOperation {
+    ApiFuture<Empty> send(String subscriptionName, int ackDeadlineSeconds, List<String> ackIds);
+  }
+
+  private record BatchKey(String subscriptionName, int ackDeadlineSeconds) {}
+
+  private static final class Batch {
+
+    private final List<String> ackIds = new ArrayList<>();
+
+    private final List<CompletableFuture<Void>> futures = new ArrayList<>();
+  }
+}
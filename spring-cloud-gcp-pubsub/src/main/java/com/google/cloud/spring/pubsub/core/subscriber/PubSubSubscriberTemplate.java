@@ -38,8 +38,10 @@ import com.google.pubsub.v1.PubsubMessage;
 import com.google.pubsub.v1.PullRequest;
 import com.google.pubsub.v1.PullResponse;
 import com.google.pubsub.v1.ReceivedMessage;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -48,7 +50,6 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.DisposableBean;
@@ -82,6 +83,8 @@ public class PubSubSubscriberTemplate implements PubSubSubscriberOperations, Dis
 
   private Executor asyncPullExecutor = Runnable::run;
 
+  private AcknowledgementCoalescer ackCoalescer;
+
   private final ConcurrentHashMap<String, SubscriberStub> subscriptionNameToStubMap =
       new ConcurrentHashMap<>();
 
@@ -128,6 +131,41 @@ public class PubSubSubscriberTemplate implements PubSubSubscriberOperations, Dis
     this.ackExecutor = ackExecutor;
   }
 
+  /**
+   * Enables coalescing of acknowledgement and deadline operations. Ack IDs are buffered per
+   * subscription for up to {@code maxDelay} and sent in as few requests as the Pub/Sub request
+   * limits allow, from {@code shards} threads that each serve a fixed set of subscriptions.
+   *
+   * @param maxDelay how long ack IDs are buffered before being sent
+   * @param shards the number of threads sending acknowledgement requests
+   */
+  public void enableAckCoalescing(Duration maxDelay, int shards) {
+    Assert.notNull(maxDelay, "The maxDelay can't be null.");
+    Assert.isTrue(!maxDelay.isNegative(), "The maxDelay must not be negative.");
+    if (this.ackCoalescer != null) {
+      this.ackCoalescer.close();
+    }
+    this.ackCoalescer = new AcknowledgementCoalescer(this::sendAckRequest, maxDelay, shards);
+  }
+
+  /**
+   * Returns the number of ack IDs buffered by ack coalescing and not yet sent.
+   *
+   * @return the number of buffered ack IDs, or 0 if ack coalescing is disabled
+   */
+  public long getPendingAckIdCount() {
+    return this.ackCoalescer != null ? this.ackCoalescer.getPendingAckIdCount() : 0;
+  }
+
+  /**
+   * Returns the number of coalesced acknowledgement requests awaiting a response.
+   *
+   * @return the number of in-flight requests, or 0 if ack coalescing is disabled
+   */
+  public int getInflightAckRequestCount() {
+    return this.ackCoalescer != null ? this.ackCoalescer.getInflightRequestCount() : 0;
+  }
+
   /**
    * Set a custom {@link Executor} to control the threads that process the responses of the
    * asynchronous pull callback operations.
@@ -395,7 +433,7 @@ public class PubSubSubscriberTemplate implements PubSubSubscriberOperations, Dis
     Assert.notEmpty(
         acknowledgeablePubsubMessages, "The acknowledgeablePubsubMessages can't be empty.");
 
-    return doBatchedAsyncOperation(acknowledgeablePubsubMessages, this::ack);
+    return doBatchedAsyncOperation(acknowledgeablePubsubMessages, AcknowledgementCoalescer.ACK);
   }
 
   /**
@@ -428,21 +466,31 @@ public class PubSubSubscriberTemplate implements PubSubSubscriberOperations, Dis
         acknowledgeablePubsubMessages, "The acknowledgeablePubsubMessages can't be empty.");
     Assert.isTrue(ackDeadlineSeconds >= 0, "The ackDeadlineSeconds must not be negative.");
 
-    return doBatchedAsyncOperation(
-        acknowledgeablePubsubMessages,
-        (String subscriptionName, List<String> ackIds) ->
-            modifyAckDeadline(subscriptionName, ackIds, ackDeadlineSeconds));
+    return doBatchedAsyncOperation(acknowledgeablePubsubMessages, ackDeadlineSeconds);
   }
 
-  /** Destroys the default executor, regardless of whether it was used. */
+  /**
+   * Sends any coalesced ack IDs and destroys the default executor, regardless of whether it was
+   * used.
+   */
   @Override
   public void destroy() {
+    if (this.ackCoalescer != null) {
+      this.ackCoalescer.close();
+    }
     this.defaultAckExecutor.shutdown();
     for (SubscriberStub stub : subscriptionNameToStubMap.values()) {
       stub.close();
     }
   }
 
+  private ApiFuture<Empty> sendAckRequest(
+      String subscriptionName, int ackDeadlineSeconds, List<String> ackIds) {
+    return ackDeadlineSeconds == AcknowledgementCoalescer.ACK
+        ? ack(subscriptionName, ackIds)
+        : modifyAckDeadline(subscriptionName, ackIds, ackDeadlineSeconds);
+  }
+
   private ApiFuture<Empty> ack(String subscriptionName, Collection<String> ackIds) {
     AcknowledgeRequest acknowledgeRequest =
         AcknowledgeRequest.newBuilder()
@@ -466,7 +514,9 @@ public class PubSubSubscriberTemplate implements PubSubSubscriberOperations, Dis
   }
 
   /**
-   * Perform Pub/Sub operations (ack/nack/modifyAckDeadline) in per-subscription batches.
+   * Perform Pub/Sub operations (ack/nack/modifyAckDeadline) in per-subscription batches, each
+   * split into requests within the Pub/Sub request size limits, or handed to the coalescer if ack
+   * coalescing is enabled.
    *
    * <p>The returned {@link CompletableFuture} will complete when either all batches completes
    * successfully or when at least one fails.
@@ -475,12 +525,13 @@ public class PubSubSubscriberTemplate implements PubSubSubscriberOperations, Dis
    * CompletableFuture} is non-deterministic.
    *
    * @param acknowledgeablePubsubMessages messages, could be from different subscriptions.
-   * @param asyncOperation specific Pub/Sub operation to perform.
+   * @param ackDeadlineSeconds the new ack deadline, or {@link AcknowledgementCoalescer#ACK} to
+   *     acknowledge.
    * @return {@link CompletableFuture} indicating overall success or failure.
    */
   private CompletableFuture<Void> doBatchedAsyncOperation(
       Collection<? extends AcknowledgeablePubsubMessage> acknowledgeablePubsubMessages,
-      BiFunction<String, List<String>, ApiFuture<Empty>> asyncOperation) {
+      int ackDeadlineSeconds) {
 
     Map<ProjectSubscriptionName, List<String>> groupedMessages =
         acknowledgeablePubsubMessages.stream()
@@ -499,35 +550,61 @@ public class PubSubSubscriberTemplate implements PubSubSubscriberOperations, Dis
         "The project id of all messages must match.");
 
     CompletableFuture<Void> completableFuture = new CompletableFuture<>();
-    int numExpectedFutures = groupedMessages.size();
     AtomicInteger numCompletedFutures = new AtomicInteger();
 
+    if (this.ackCoalescer != null) {
+      int numExpectedFutures = groupedMessages.size();
+      groupedMessages.forEach(
+          (ProjectSubscriptionName psName, List<String> ackIds) ->
+              this.ackCoalescer
+                  .submit(psName.toString(), ackDeadlineSeconds, ackIds)
+                  .whenCompleteAsync(
+                      (Void result, Throwable throwable) -> {
+                        if (throwable != null) {
+                          completableFuture.completeExceptionally(throwable);
+                        } else if (numCompletedFutures.incrementAndGet() == numExpectedFutures) {
+                          completableFuture.complete(null);
+                        }
+                      },
+                      this.ackExecutor));
+      return completableFuture;
+    }
+
+    Map<String, List<List<String>>> requests = new HashMap<>();
     groupedMessages.forEach(
-        (ProjectSubscriptionName psName, List<String> ackIds) -> {
-          ApiFuture<Empty> ackApiFuture = asyncOperation.apply(psName.toString(), ackIds);
-
-          ApiFutures.addCallback(
-              ackApiFuture,
-              new ApiFutureCallback<>() {
-                @Override
-                public void onFailure(Throwable throwable) {
-                  processResult(throwable);
-                }
-
-                @Override
-                public void onSuccess(Empty empty) {
-                  processResult(null);
-                }
-
-                private void processResult(Throwable throwable) {
-                  if (throwable != null) {
-                    completableFuture.completeExceptionally(throwable);
-                  } else if (numCompletedFutures.incrementAndGet() == numExpectedFutures) {
-                    completableFuture.complete(null);
+        (ProjectSubscriptionName psName, List<String> ackIds) ->
+            requests.put(psName.toString(), AcknowledgementCoalescer.partition(ackIds)));
+    int numExpectedFutures = requests.values().stream().mapToInt(List::size).sum();
+
+    requests.forEach(
+        (String subscriptionName, List<List<String>> subscriptionRequests) -> {
+          for (List<String> ackIds : subscriptionRequests) {
+            ApiFuture<Empty> ackApiFuture =
+                sendAckRequest(subscriptionName, ackDeadlineSeconds, ackIds);
+
+            ApiFutures.addCallback(
+                ackApiFuture,
+                new ApiFutureCallback<>() {
+                  @Override
+                  public void onFailure(Throwable throwable) {
+                    processResult(throwable);
+                  }
+
+                  @Override
+                  public void onSuccess(Empty empty) {
+                    processResult(null);
                   }
-                }
-              },
-              this.ackExecutor);
+
+                  private void processResult(Throwable throwable) {
+                    if (throwable != null) {
+                      completableFuture.completeExceptionally(throwable);
+                    } else if (numCompletedFutures.incrementAndGet() == numExpectedFutures) {
+                      completableFuture.complete(null);
+                    }
+                  }
+                },
+                this.ackExecutor);
+          }
         });
 
     return completableFuture;
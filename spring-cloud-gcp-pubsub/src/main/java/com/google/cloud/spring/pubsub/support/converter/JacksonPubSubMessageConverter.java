@@ -19,15 +19,28 @@ package com.google.cloud.spring.pubsub.support.converter;
 import com.google.protobuf.ByteString;
 import com.google.pubsub.v1.PubsubMessage;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.util.Assert;
 import tools.jackson.core.JacksonException;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
 
-/** A converter using Jackson JSON. */
+/**
+ * A converter using Jackson JSON.
+ *
+ * <p>Payloads are serialized straight into the message's {@link ByteString} and parsed straight
+ * from it, so no intermediate {@code byte[]} copy of the payload is made in either direction. The
+ * {@link ObjectReader} and {@link ObjectWriter} for each payload type are created once and reused.
+ */
 public class JacksonPubSubMessageConverter implements PubSubMessageConverter {
 
   private final ObjectMapper objectMapper;
 
+  private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+  private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
   /**
    * Constructor.
    *
@@ -41,8 +54,9 @@ public class JacksonPubSubMessageConverter implements PubSubMessageConverter {
   @Override
   public PubsubMessage toPubSubMessage(Object payload, Map<String, String> headers) {
     try {
-      return byteStringToPubSubMessage(
-          ByteString.copyFrom(this.objectMapper.writeValueAsBytes(payload)), headers);
+      ByteString.Output output = ByteString.newOutput();
+      getWriter(payload).writeValue(output, payload);
+      return byteStringToPubSubMessage(output.toByteString(), headers);
     } catch (JacksonException ex) {
       throw new PubSubMessageConversionException(
           "JSON serialization of an object of type " + payload.getClass().getName() + " failed.",
@@ -53,11 +67,21 @@ public class JacksonPubSubMessageConverter implements PubSubMessageConverter {
   @Override
   public <T> T fromPubSubMessage(PubsubMessage message, Class<T> payloadType) {
     try {
-      return (T)
-          this.objectMapper.readerFor(payloadType).readValue(message.getData().toByteArray());
+      return getReader(payloadType).readValue(message.getData().newInput());
     } catch (JacksonException ex) {
       throw new PubSubMessageConversionException(
           "JSON deserialization of an object of type " + payloadType.getName() + " failed.", ex);
     }
   }
+
+  private ObjectWriter getWriter(Object payload) {
+    if (payload == null) {
+      return this.objectMapper.writer();
+    }
+    return this.writers.computeIfAbsent(payload.getClass(), this.objectMapper::writerFor);
+  }
+
+  private ObjectReader getReader(Class<?> payloadType) {
+    return this.readers.computeIfAbsent(payloadType, this.objectMapper::readerFor);
+  }
 }
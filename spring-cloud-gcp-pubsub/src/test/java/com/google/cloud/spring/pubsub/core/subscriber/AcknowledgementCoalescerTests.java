@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.core.subscriber;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.protobuf.Empty;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link AcknowledgementCoalescer}. */
+class AcknowledgementCoalescerTests {
+
+  private final List<List<String>> sentRequests = new CopyOnWriteArrayList<>();
+
+  @Test
+  void testPartitionByCount() {
+    List<String> ackIds =
+        IntStream.range(0, 6000).mapToObj(i -> "ack" + i).collect(Collectors.toList());
+
+    List<List<String>> requests = AcknowledgementCoalescer.partition(ackIds);
+
+    assertThat(requests).extracting(List::size).containsExactly(2500, 2500, 1000);
+  }
+
+  @Test
+  void testPartitionBySize() {
+    String ackId = "a".repeat(1000);
+    List<String> ackIds = Collections.nCopies(1200, ackId);
+
+    List<List<String>> requests = AcknowledgementCoalescer.partition(ackIds);
+
+    assertThat(requests).hasSize(3);
+    assertThat(requests)
+        .allSatisfy(
+            request ->
+                assertThat(request.size() * (ackId.length() + 3))
+                    .isLessThanOrEqualTo(AcknowledgementCoalescer.MAX_ACK_ID_BYTES_PER_REQUEST));
+  }
+
+  @Test
+  void testCoalescesWithinDelay() throws Exception {
+    AcknowledgementCoalescer coalescer =
+        new AcknowledgementCoalescer(this::recordRequest, Duration.ofMillis(50), 2);
+
+    CompletableFuture<Void> first =
+        coalescer.submit("projects/p/subscriptions/s", AcknowledgementCoalescer.ACK, List.of("a"));
+    CompletableFuture<Void> second =
+        coalescer.submit("projects/p/subscriptions/s", AcknowledgementCoalescer.ACK, List.of("b"));
+    CompletableFuture<Void> deadline =
+        coalescer.submit("projects/p/subscriptions/s", 10, List.of("c"));
+
+    CompletableFuture.allOf(first, second, deadline).get(10L, TimeUnit.SECONDS);
+
+    assertThat(this.sentRequests).containsExactlyInAnyOrder(List.of("a", "b"), List.of("c"));
+    assertThat(coalescer.getPendingAckIdCount()).isZero();
+    coalescer.close();
+  }
+
+  @Test
+  void testFlushesFullBatchImmediately() throws Exception {
+    AcknowledgementCoalescer coalescer =
+        new AcknowledgementCoalescer(this::recordRequest, Duration.ofHours(1), 1);
+    List<String> ackIds = new ArrayList<>();
+    for (int i = 0; i < AcknowledgementCoalescer.MAX_ACK_IDS_PER_REQUEST; i++) {
+      ackIds.add("ack" + i);
+    }
+
+    coalescer
+        .submit("projects/p/subscriptions/s", AcknowledgementCoalescer.ACK, ackIds)
+        .get(10L, TimeUnit.SECONDS);
+
+    assertThat(this.sentRequests).hasSize(1);
+    coalescer.close();
+  }
+
+  @Test
+  void testCloseFlushesPending() throws Exception {
+    AcknowledgementCoalescer coalescer =
+        new AcknowledgementCoalescer(this::recordRequest, Duration.ofHours(1), 1);
+
+    CompletableFuture<Void> future =
+        coalescer.submit("projects/p/subscriptions/s", AcknowledgementCoalescer.ACK, List.of("a"));
+    assertThat(coalescer.getPendingAckIdCount()).isEqualTo(1);
+    coalescer.close();
+
+    future.get(10L, TimeUnit.SECONDS);
+    assertThat(this.sentRequests).containsExactly(List.of("a"));
+  }
+
+  @Test
+  void testCloseWaitsForInflightAndFailurePropagates() throws Exception {
+    SettableApiFuture<Empty> response = SettableApiFuture.create();
+    AcknowledgementCoalescer coalescer =
+        new AcknowledgementCoalescer(
+            (subscriptionName, ackDeadlineSeconds, ackIds) -> response, Duration.ofHours(1), 1);
+
+    CompletableFuture<Void> future =
+        coalescer.submit("projects/p/subscriptions/s", AcknowledgementCoalescer.ACK, List.of("a"));
+    CompletableFuture<Void> closing = CompletableFuture.runAsync(coalescer::close);
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (coalescer.getInflightRequestCount() == 0 && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(coalescer.getInflightRequestCount()).isEqualTo(1);
+    assertThat(closing).isNotDone();
+
+    response.setException(new IllegalStateException("ack failed"));
+
+    closing.get(10L, TimeUnit.SECONDS);
+    assertThatThrownBy(() -> future.get(10L, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(IllegalStateException.class);
+    assertThat(coalescer.getInflightRequestCount()).isZero();
+  }
+
+  @Test
+  void testSubmitAfterCloseIsRejected() {
+    AcknowledgementCoalescer coalescer =
+        new AcknowledgementCoalescer(this::recordRequest, Duration.ofHours(1), 1);
+    coalescer.close();
+
+    CompletableFuture<Void> future =
+        coalescer.submit("projects/p/subscriptions/s", AcknowledgementCoalescer.ACK, List.of("a"));
+
+    assertThatThrownBy(() -> future.get(10L, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(IllegalStateException.class);
+    assertThat(coalescer.getPendingAckIdCount()).isZero();
+    assertThat(this.sentRequests).isEmpty();
+  }
+
+  @Test
+  void testShardThreadsAreNumbered() throws Exception {
+    List<String> threadNames = new CopyOnWriteArrayList<>();
+    AcknowledgementCoalescer coalescer =
+        new AcknowledgementCoalescer(
+            (subscriptionName, ackDeadlineSeconds, ackIds) -> {
+              threadNames.add(Thread.currentThread().getName());
+              return ApiFutures.immediateFuture(Empty.getDefaultInstance());
+            },
+            Duration.ofMillis(1),
+            2);
+
+    coalescer
+        .submit("projects/p/subscriptions/s", AcknowledgementCoalescer.ACK, List.of("a"))
+        .get(10L, TimeUnit.SECONDS);
+    coalescer.close();
+
+    assertThat(threadNames).singleElement().asString().matches("gcp-pubsub-ack-coalescer-\\d+");
+  }
+
+  private ApiFuture<Empty> recordRequest(
+      String subscriptionName, int ackDeadlineSeconds, List<String> ackIds) {
+    this.sentRequests.add(new ArrayList<>(ackIds));
+    return ApiFutures.immediateFuture(Empty.getDefaultInstance());
+  }
+}
@@ -49,6 +49,7 @@ import com.google.pubsub.v1.PullRequest;
 import com.google.pubsub.v1.PullResponse;
 import com.google.pubsub.v1.ReceivedMessage;
 import java.math.BigInteger;
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -408,6 +409,31 @@ class PubSubSubscriberTemplateTests {
     verify(this.ackApiFuture, times(2)).addListener(any(), same(mockExecutor));
   }
 
+  @Test
+  void testPull_AndCoalescedAck() throws InterruptedException, ExecutionException, TimeoutException {
+    this.pubSubSubscriberTemplate.enableAckCoalescing(Duration.ofMillis(500), 2);
+
+    List<AcknowledgeablePubsubMessage> result1 =
+        this.pubSubSubscriberTemplate.pull("sub1", 1, true);
+    List<AcknowledgeablePubsubMessage> result2 =
+        this.pubSubSubscriberTemplate.pull("sub1", 1, true);
+
+    CompletableFuture<Void> future1 = this.pubSubSubscriberTemplate.ack(result1);
+    CompletableFuture<Void> future2 = this.pubSubSubscriberTemplate.ack(result2);
+    assertThat(this.pubSubSubscriberTemplate.getPendingAckIdCount()).isEqualTo(2);
+
+    CompletableFuture.allOf(future1, future2).get(10L, TimeUnit.SECONDS);
+
+    ArgumentCaptor<AcknowledgeRequest> requestCaptor =
+        ArgumentCaptor.forClass(AcknowledgeRequest.class);
+    verify(this.ackCallable).futureCall(requestCaptor.capture());
+    assertThat(requestCaptor.getValue().getAckIdsCount()).isEqualTo(2);
+    assertThat(this.pubSubSubscriberTemplate.getPendingAckIdCount()).isZero();
+    assertThat(this.pubSubSubscriberTemplate.getInflightAckRequestCount()).isZero();
+
+    this.pubSubSubscriberTemplate.destroy();
+  }
+
   @Test
   void testPullAsync_AndManualAck()
       throws InterruptedException, ExecutionException, TimeoutException {
@@ -67,6 +67,17 @@ class JacksonPubSubMessageConverterTests {
         .isEqualTo(contact);
   }
 
+  @Test
+  void testLargePojoRoundTrip() {
+    Contact contact = new Contact("Thomas".repeat(50_000), "Edison", 8817);
+
+    PubsubMessage pubsubMessage = this.converter.toPubSubMessage(contact, null);
+
+    assertThat(pubsubMessage.getData().size()).isGreaterThan(300_000);
+    assertThat(this.converter.fromPubSubMessage(pubsubMessage, Contact.class)).isEqualTo(contact);
+    assertThat(this.converter.fromPubSubMessage(pubsubMessage, Contact.class)).isEqualTo(contact);
+  }
+
   @Test
   void testToPubSubMessageWithNullPayload() throws JSONException {
     PubsubMessage pubsubMessage = this.converter.toPubSubMessage(null, null);
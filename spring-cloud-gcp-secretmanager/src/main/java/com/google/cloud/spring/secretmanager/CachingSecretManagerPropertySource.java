@@ -0,0 +1,249 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.secretmanager;
+
+import com.google.cloud.secretmanager.v1.SecretVersionName;
+import com.google.cloud.spring.core.GcpProjectIdProvider;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link SecretManagerPropertySource} that keeps the resolved secrets in a bounded in-process
+ * cache, so that resolving the same property again does not call the Secret Manager API until its
+ * entry expires or is evicted.
+ *
+ * <p>The cache can be filled ahead of time with {@link #prefetch}, and kept up to date by a
+ * background refresh that publishes an {@link EnvironmentChangeEvent} with the names of the
+ * properties whose secrets changed.
+ */
+public class CachingSecretManagerPropertySource extends SecretManagerPropertySource
+    implements AutoCloseable {
+
+  private static final Logger logger =
+      LoggerFactory.getLogger(CachingSecretManagerPropertySource.class);
+
+  private final long ttlNanos;
+
+  private final Map<String, CachedSecret> cache;
+
+  private volatile ApplicationEventPublisher applicationEventPublisher;
+
+  private ScheduledExecutorService refreshExecutor;
+
+  /**
+   * Creates the property source.
+   *
+   * @param propertySourceName the name of the property source
+   * @param secretManagerTemplate the template used to read the secrets
+   * @param projectIdProvider the provider of the default project of the secrets
+   * @param ttl how long a cached secret is used before it is read again, or null or zero to keep
+   *     it until it is evicted
+   * @param maxSize the maximum number of cached secrets; the least recently used are evicted first
+   */
+  public CachingSecretManagerPropertySource(
+      String propertySourceName,
+      SecretManagerTemplate secretManagerTemplate,
+      GcpProjectIdProvider projectIdProvider,
+      Duration ttl,
+      int maxSize) {
+    super(propertySourceName, secretManagerTemplate, projectIdProvider);
+    Assert.isTrue(maxSize > 0, "The maximum cache size must be positive.");
+    this.ttlNanos = (ttl != null && !ttl.isZero()) ? ttl.toNanos() : Long.MAX_VALUE;
+    this.cache =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, CachedSecret> eldest) {
+            return size() > maxSize;
+          }
+        };
+  }
+
+  /**
+   * Sets the publisher of the {@link EnvironmentChangeEvent} of the background refresh. Changes
+   * found before a publisher is set are cached without being published.
+   *
+   * @param applicationEventPublisher the event publisher, usually the application context
+   */
+  public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+    this.applicationEventPublisher = applicationEventPublisher;
+  }
+
+  @Override
+  public Object getProperty(String name) {
+    SecretVersionName secretIdentifier = getSecretVersionName(name);
+    if (secretIdentifier == null) {
+      return null;
+    }
+
+    CachedSecret cached;
+    synchronized (this.cache) {
+      cached = this.cache.get(name);
+    }
+    if (cached != null && System.nanoTime() - cached.loadedAt < this.ttlNanos) {
+      return cached.value;
+    }
+
+    String value = accessSecret(secretIdentifier);
+    synchronized (this.cache) {
+      this.cache.put(name, new CachedSecret(value, System.nanoTime()));
+    }
+    return value;
+  }
+
+  /**
+   * Resolves properties concurrently and caches their secrets. Properties that are not Secret
+   * Manager references are ignored, and secrets that can't be read are logged and left to fail
+   * when the property is resolved.
+   *
+   * @param propertyNames the names of the properties to resolve, such as {@code sm@my-secret}
+   * @param parallelism the maximum number of secrets read concurrently
+   */
+  public void prefetch(Collection<String> propertyNames, int parallelism) {
+    Assert.isTrue(parallelism > 0, "The prefetch parallelism must be positive.");
+    if (propertyNames.isEmpty()) {
+      return;
+    }
+
+    ExecutorService executor =
+        Executors.newFixedThreadPool(Math.min(parallelism, propertyNames.size()));
+    try {
+      Map<String, Future<Object>> futures = new LinkedHashMap<>();
+      for (String name : propertyNames) {
+        futures.put(name, executor.submit(() -> getProperty(name)));
+      }
+      for (Map.Entry<String, Future<Object>> entry : futures.entrySet()) {
+        try {
+          entry.getValue().get();
+        } catch (ExecutionException ex) {
+          logger.warn("Failed to prefetch the secret of property " + entry.getKey(), ex.getCause());
+        }
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Reads every cached secret again and updates the cache. If any secret changed, an {@link
+   * EnvironmentChangeEvent} with the names of the changed properties is published.
+   *
+   * @return the names of the properties whose secrets changed
+   */
+  public Set<String> refresh() {
+    List<String> names;
+    synchronized (this.cache) {
+      names = new ArrayList<>(this.cache.keySet());
+    }
+
+    Set<String> changed = new LinkedHashSet<>();
+    for (String name : names) {
+      String value;
+      try {
+        value = accessSecret(getSecretVersionName(name));
+      } catch (RuntimeException ex) {
+        logger.warn("Failed to refresh the secret of property " + name, ex);
+        continue;
+      }
+      CachedSecret previous;
+      synchronized (this.cache) {
+        previous = this.cache.put(name, new CachedSecret(value, System.nanoTime()));
+      }
+      if (previous == null || !Objects.equals(previous.value, value)) {
+        changed.add(name);
+      }
+    }
+
+    ApplicationEventPublisher publisher = this.applicationEventPublisher;
+    if (!changed.isEmpty() && publisher != null) {
+      publisher.publishEvent(new EnvironmentChangeEvent(changed));
+    }
+    return changed;
+  }
+
+  /**
+   * Starts refreshing the cached secrets periodically on a background thread.
+   *
+   * @param interval the delay between the end of a refresh and the start of the next one
+   */
+  public synchronized void startRefresh(Duration interval) {
+    Assert.isTrue(
+        interval != null && !interval.isNegative() && !interval.isZero(),
+        "The refresh interval must be positive.");
+    Assert.state(this.refreshExecutor == null, "The refresh has already been started.");
+    this.refreshExecutor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "gcp-secretmanager-refresh");
+              thread.setDaemon(true);
+              return thread;
+            });
+    long intervalMillis = interval.toMillis();
+    this.refreshExecutor.scheduleWithFixedDelay(
+        () -> {
+          try {
+            refresh();
+          } catch (RuntimeException ex) {
+            // Keep the schedule running when publishing the change event fails.
+            logger.warn("Failed to refresh the cached secrets.", ex);
+          }
+        },
+        intervalMillis,
+        intervalMillis,
+        TimeUnit.MILLISECONDS);
+  }
+
+  /** Stops the background refresh, if it was started. */
+  @Override
+  public synchronized void close() {
+    if (this.refreshExecutor != null) {
+      this.refreshExecutor.shutdownNow();
+      this.refreshExecutor = null;
+    }
+  }
+
+  private static final class CachedSecret {
+
+    private final String value;
+
+    private final long loadedAt;
+
+    CachedSecret(String value, long loadedAt) {
+      this.value = value;
+      this.loadedAt = loadedAt;
+    }
+  }
+}
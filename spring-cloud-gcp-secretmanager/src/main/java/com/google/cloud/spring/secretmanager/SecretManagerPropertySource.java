@@ -41,18 +41,37 @@ public class SecretManagerPropertySource extends EnumerablePropertySource<Secret
 
   @Override
   public Object getProperty(String name) {
-    SecretVersionName secretIdentifier =
-        SecretManagerPropertyUtils.getSecretVersionName(name, this.projectIdProvider);
+    SecretVersionName secretIdentifier = getSecretVersionName(name);
 
     if (secretIdentifier != null) {
-      // Return standard String so ConfigurationProperties binder handles type conversion natively.
-      ByteString byteString = getSource().getSecretByteString(secretIdentifier);
-      return byteString != null ? byteString.toStringUtf8() : null;
+      return accessSecret(secretIdentifier);
     } else {
       return null;
     }
   }
 
+  /**
+   * Parses a property name into the secret version it refers to.
+   *
+   * @param name the property name
+   * @return the secret version, or null if the name is not a Secret Manager reference
+   */
+  protected SecretVersionName getSecretVersionName(String name) {
+    return SecretManagerPropertyUtils.getSecretVersionName(name, this.projectIdProvider);
+  }
+
+  /**
+   * Reads a secret version from Secret Manager.
+   *
+   * @param secretIdentifier the secret version to read
+   * @return the secret payload, or null if the secret does not exist and default values are allowed
+   */
+  protected String accessSecret(SecretVersionName secretIdentifier) {
+    // Return standard String so ConfigurationProperties binder handles type conversion natively.
+    ByteString byteString = getSource().getSecretByteString(secretIdentifier);
+    return byteString != null ? byteString.toStringUtf8() : null;
+  }
+
   /**
    * The {@link SecretManagerPropertySource} is not enumerable, so this always returns an empty
    * array.
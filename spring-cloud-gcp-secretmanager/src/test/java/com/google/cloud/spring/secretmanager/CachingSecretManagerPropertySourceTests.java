@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.secretmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.secretmanager.v1.SecretVersionName;
+import com.google.cloud.spring.core.GcpProjectIdProvider;
+import com.google.protobuf.ByteString;
+import java.time.Duration;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+class CachingSecretManagerPropertySourceTests {
+
+  private static final GcpProjectIdProvider DEFAULT_PROJECT_ID_PROVIDER = () -> "defaultProject";
+
+  private static final SecretVersionName SECRET =
+      SecretVersionName.of("defaultProject", "the-secret", "latest");
+
+  private static final SecretVersionName OTHER_SECRET =
+      SecretVersionName.of("defaultProject", "other-secret", "latest");
+
+  private SecretManagerTemplate secretManagerTemplate;
+
+  private CachingSecretManagerPropertySource propertySource;
+
+  @BeforeEach
+  void setUp() {
+    this.secretManagerTemplate = mock(SecretManagerTemplate.class);
+    when(this.secretManagerTemplate.getSecretByteString(SECRET))
+        .thenReturn(ByteString.copyFromUtf8("value"));
+    when(this.secretManagerTemplate.getSecretByteString(OTHER_SECRET))
+        .thenReturn(ByteString.copyFromUtf8("other"));
+    this.propertySource =
+        new CachingSecretManagerPropertySource(
+            "test", this.secretManagerTemplate, DEFAULT_PROJECT_ID_PROVIDER, Duration.ZERO, 10);
+  }
+
+  @Test
+  void testCachedSecretIsReadOnce() {
+    assertThat(this.propertySource.getProperty("sm@the-secret")).isEqualTo("value");
+    assertThat(this.propertySource.getProperty("sm@the-secret")).isEqualTo("value");
+    assertThat(this.propertySource.getProperty("spring.application.name")).isNull();
+
+    verify(this.secretManagerTemplate, times(1)).getSecretByteString(SECRET);
+  }
+
+  @Test
+  void testExpiredSecretIsReadAgain() throws InterruptedException {
+    CachingSecretManagerPropertySource expiringPropertySource =
+        new CachingSecretManagerPropertySource(
+            "test",
+            this.secretManagerTemplate,
+            DEFAULT_PROJECT_ID_PROVIDER,
+            Duration.ofMillis(1),
+            10);
+
+    expiringPropertySource.getProperty("sm@the-secret");
+    Thread.sleep(5);
+    expiringPropertySource.getProperty("sm@the-secret");
+
+    verify(this.secretManagerTemplate, times(2)).getSecretByteString(SECRET);
+  }
+
+  @Test
+  void testLeastRecentlyUsedSecretIsEvicted() {
+    CachingSecretManagerPropertySource smallPropertySource =
+        new CachingSecretManagerPropertySource(
+            "test", this.secretManagerTemplate, DEFAULT_PROJECT_ID_PROVIDER, Duration.ZERO, 1);
+
+    smallPropertySource.getProperty("sm@the-secret");
+    smallPropertySource.getProperty("sm@other-secret");
+    smallPropertySource.getProperty("sm@the-secret");
+
+    verify(this.secretManagerTemplate, times(2)).getSecretByteString(SECRET);
+  }
+
+  @Test
+  void testPrefetch() {
+    this.propertySource.prefetch(
+        Arrays.asList("sm@the-secret", "sm@other-secret", "spring.application.name"), 2);
+
+    assertThat(this.propertySource.getProperty("sm@the-secret")).isEqualTo("value");
+    assertThat(this.propertySource.getProperty("sm@other-secret")).isEqualTo("other");
+    verify(this.secretManagerTemplate, times(1)).getSecretByteString(SECRET);
+    verify(this.secretManagerTemplate, times(1)).getSecretByteString(OTHER_SECRET);
+  }
+
+  @Test
+  void testRefreshPublishesChangedProperties() {
+    ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+    this.propertySource.setApplicationEventPublisher(publisher);
+    this.propertySource.getProperty("sm@the-secret");
+    this.propertySource.getProperty("sm@other-secret");
+
+    when(this.secretManagerTemplate.getSecretByteString(SECRET))
+        .thenReturn(ByteString.copyFromUtf8("new-value"));
+
+    assertThat(this.propertySource.refresh()).containsExactly("sm@the-secret");
+    assertThat(this.propertySource.getProperty("sm@the-secret")).isEqualTo("new-value");
+
+    ArgumentCaptor<EnvironmentChangeEvent> event =
+        ArgumentCaptor.forClass(EnvironmentChangeEvent.class);
+    verify(publisher).publishEvent(event.capture());
+    assertThat(event.getValue().getKeys()).containsExactly("sm@the-secret");
+  }
+
+  @Test
+  void testRefreshWithoutChangesPublishesNothing() {
+    ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+    this.propertySource.setApplicationEventPublisher(publisher);
+    this.propertySource.getProperty("sm@the-secret");
+
+    assertThat(this.propertySource.refresh()).isEmpty();
+
+    verifyNoInteractions(publisher);
+  }
+}
@@ -92,6 +92,7 @@ public class GoogleStorageProtocolResolver
     if (!location.startsWith(PROTOCOL)) {
       return null;
     }
-    return new GoogleStorageResource(getStorage(), location, getSettings().isAutoCreateFiles());
+    return new GoogleStorageResource(
+        getStorage(), new GoogleStorageLocation(location), getSettings());
   }
 }
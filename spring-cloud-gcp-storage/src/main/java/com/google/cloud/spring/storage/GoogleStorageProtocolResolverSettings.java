@@ -16,6 +16,8 @@
 
 package com.google.cloud.spring.storage;
 
+import org.springframework.util.Assert;
+
 /** Holds settings for use with the {@link GoogleStorageResource}. These settings are optional. */
 public class GoogleStorageProtocolResolverSettings {
 
@@ -27,6 +29,18 @@ public class GoogleStorageProtocolResolverSettings {
   /** Determines if blobs should be auto-created when the library attempts to write to them. */
   private boolean autoCreateFiles = true;
 
+  /**
+   * Enables parallel ranged downloads and parallel composite uploads for objects larger than the
+   * part size when a resource is transferred to or from a local file.
+   */
+  private boolean parallelTransfersEnabled = false;
+
+  /** Size in bytes of each part of a parallel download or upload. */
+  private int parallelTransferPartSize = 64 * 1024 * 1024;
+
+  /** Maximum number of parts of a parallel download or upload transferred concurrently. */
+  private int parallelTransferThreads = 8;
+
   public boolean isAutoCreateFiles() {
     return this.autoCreateFiles;
   }
@@ -34,4 +48,32 @@ public class GoogleStorageProtocolResolverSettings {
   public void setAutoCreateFiles(boolean autoCreateFiles) {
     this.autoCreateFiles = autoCreateFiles;
   }
+
+  public boolean isParallelTransfersEnabled() {
+    return this.parallelTransfersEnabled;
+  }
+
+  public void setParallelTransfersEnabled(boolean parallelTransfersEnabled) {
+    this.parallelTransfersEnabled = parallelTransfersEnabled;
+  }
+
+  public int getParallelTransferPartSize() {
+    return this.parallelTransferPartSize;
+  }
+
+  public void setParallelTransferPartSize(int parallelTransferPartSize) {
+    Assert.isTrue(
+        parallelTransferPartSize > 0, "The parallel transfer part size must be positive.");
+    this.parallelTransferPartSize = parallelTransferPartSize;
+  }
+
+  public int getParallelTransferThreads() {
+    return this.parallelTransferThreads;
+  }
+
+  public void setParallelTransferThreads(int parallelTransferThreads) {
+    Assert.isTrue(
+        parallelTransferThreads > 0, "The number of parallel transfer threads must be positive.");
+    this.parallelTransferThreads = parallelTransferThreads;
+  }
 }
@@ -31,6 +31,9 @@ import java.io.OutputStream;
 import java.net.URI;
 import java.net.URL;
 import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.concurrent.TimeUnit;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -52,6 +55,8 @@ public class GoogleStorageResource implements WritableResource {
 
   private final boolean autoCreateFiles;
 
+  private final GoogleStorageProtocolResolverSettings settings;
+
   /**
    * Constructs the resource representation of a bucket or a blob (file) in Google Cloud Storage.
    *
@@ -91,10 +96,40 @@ public class GoogleStorageResource implements WritableResource {
    */
   public GoogleStorageResource(
       Storage storage, GoogleStorageLocation googleStorageLocation, boolean autoCreateFiles) {
+    this(
+        storage,
+        googleStorageLocation,
+        autoCreateFiles,
+        GoogleStorageProtocolResolverSettings.DEFAULT_GOOGLE_STORAGE_PROTOCOL_RESOLVER_SETTINGS);
+  }
+
+  /**
+   * Constructs the resource representation of a bucket or a blob (file) in Google Cloud Storage
+   * that uses the auto-creation and parallel transfer options of the given settings.
+   *
+   * @param storage the Google Cloud Storage client
+   * @param googleStorageLocation the {@link GoogleStorageLocation} of the resource.
+   * @param settings the settings of the resource
+   * @throws IllegalArgumentException if the location is an invalid Google Storage location
+   */
+  public GoogleStorageResource(
+      Storage storage,
+      GoogleStorageLocation googleStorageLocation,
+      GoogleStorageProtocolResolverSettings settings) {
+    this(storage, googleStorageLocation, settings.isAutoCreateFiles(), settings);
+  }
+
+  private GoogleStorageResource(
+      Storage storage,
+      GoogleStorageLocation googleStorageLocation,
+      boolean autoCreateFiles,
+      GoogleStorageProtocolResolverSettings settings) {
     Assert.notNull(storage, "Storage object can not be null");
+    Assert.notNull(settings, "Settings can not be null");
     this.storage = storage;
     this.location = googleStorageLocation;
     this.autoCreateFiles = autoCreateFiles;
+    this.settings = settings;
   }
 
   public boolean isAutoCreateFiles() {
@@ -275,7 +310,10 @@ public class GoogleStorageResource implements WritableResource {
   @NonNull
   public GoogleStorageResource createRelative(@NonNull String relativePath) {
     return new GoogleStorageResource(
-        this.storage, getURI().resolve(relativePath).toString(), this.autoCreateFiles);
+        this.storage,
+        new GoogleStorageLocation(getURI().resolve(relativePath).toString()),
+        this.autoCreateFiles,
+        this.settings);
   }
 
   @Override
@@ -329,6 +367,83 @@ public class GoogleStorageResource implements WritableResource {
     return Channels.newOutputStream(this.storage.writer(BlobInfo.newBuilder(getBlobId()).build()));
   }
 
+  /**
+   * Downloads the object to a local file, replacing its contents. When parallel transfers are
+   * enabled in the settings, objects larger than the part size are downloaded as concurrent
+   * ranged reads written directly to their positions in the file.
+   *
+   * @param path the file to write
+   * @throws FileNotFoundException if the object does not exist
+   * @throws IOException if reading the object or writing the file fails
+   * @throws IllegalStateException if the resource reference is to a bucket, and not a blob.
+   */
+  public void downloadTo(Path path) throws IOException {
+    try (FileChannel channel =
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE)) {
+      downloadTo(channel);
+    }
+  }
+
+  /**
+   * Downloads the object to a file channel. Each byte of the object is written at the same
+   * position in the channel. Parts are memory-mapped when the channel is open for reading and
+   * writing, and written with positional writes otherwise.
+   *
+   * @param channel the channel to write to, which is left open
+   * @throws FileNotFoundException if the object does not exist
+   * @throws IOException if reading the object or writing the channel fails
+   * @throws IllegalStateException if the resource reference is to a bucket, and not a blob.
+   */
+  public void downloadTo(FileChannel channel) throws IOException {
+    BlobId blobId = getBlobId();
+    Blob blob = throwExceptionForNullBlob(getBlob());
+    GoogleStorageTransfers.download(
+        this.storage,
+        BlobId.of(blobId.getBucket(), blobId.getName(), blob.getGeneration()),
+        blob.getSize(),
+        channel,
+        getParallelTransferPartSize(),
+        this.settings.getParallelTransferThreads());
+  }
+
+  /**
+   * Uploads a local file to the object, replacing its contents. When parallel transfers are
+   * enabled in the settings, files larger than the part size are uploaded as concurrent
+   * temporary objects that are composed into the object and then deleted.
+   *
+   * @param path the file to upload
+   * @throws FileNotFoundException if the object does not exist and cannot be created
+   * @throws IOException if reading the file or writing the object fails
+   * @throws IllegalStateException if the resource reference is to a bucket, and not a blob.
+   */
+  public void uploadFrom(Path path) throws IOException {
+    BlobId blobId = getBlobId();
+    if (!this.autoCreateFiles && getBlob() == null) {
+      throw new FileNotFoundException("The blob was not found: " + getURI());
+    }
+
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      GoogleStorageTransfers.upload(
+          this.storage,
+          BlobInfo.newBuilder(blobId).build(),
+          channel,
+          channel.size(),
+          getParallelTransferPartSize(),
+          this.settings.getParallelTransferThreads());
+    }
+  }
+
+  private long getParallelTransferPartSize() {
+    return this.settings.isParallelTransfersEnabled()
+        ? this.settings.getParallelTransferPartSize()
+        : Long.MAX_VALUE;
+  }
+
   /**
    * @return the blob name of the Google Storage Resource; null if the resource is a bucket
    */
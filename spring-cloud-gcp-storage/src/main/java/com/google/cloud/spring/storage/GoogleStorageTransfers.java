@@ -0,0 +1,311 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.storage;
+
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.NonReadableChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Transfers objects between Google Cloud Storage and local files in parts. Downloads read byte
+ * ranges of the object concurrently into a {@link FileChannel}; uploads write parts of the file
+ * to temporary objects concurrently and combine them with {@link Storage#compose}.
+ */
+final class GoogleStorageTransfers {
+
+  private static final Log LOGGER = LogFactory.getLog(GoogleStorageTransfers.class);
+
+  /** The maximum number of source objects of a single compose request. */
+  private static final int MAX_COMPOSE_SOURCES = 32;
+
+  private static final int COPY_BUFFER_SIZE = 256 * 1024;
+
+  private GoogleStorageTransfers() {}
+
+  /**
+   * Downloads an object into a file channel, reading parts of the object concurrently.
+   *
+   * @param storage the Google Cloud Storage client
+   * @param blobId the object to read, pinned to a generation so that all parts are consistent
+   * @param size the size of the object
+   * @param target the channel to write to, at the same positions as in the object
+   * @param partSize the size of each part
+   * @param threads the maximum number of parts read concurrently
+   * @throws IOException if reading the object or writing the file fails
+   */
+  static void download(
+      Storage storage, BlobId blobId, long size, FileChannel target, long partSize, int threads)
+      throws IOException {
+    List<IoTask> tasks = new ArrayList<>();
+    for (long start = 0; start < size; start += partSize) {
+      long partStart = start;
+      long partLength = Math.min(partSize, size - start);
+      tasks.add(() -> downloadPart(storage, blobId, target, partStart, partLength));
+    }
+    runAll(tasks, threads);
+  }
+
+  /**
+   * Uploads a file to an object. Files larger than the part size are uploaded as temporary
+   * objects concurrently, composed into the target and then deleted.
+   *
+   * @param storage the Google Cloud Storage client
+   * @param target the object to create or replace
+   * @param source the channel to read the file from
+   * @param size the number of bytes of the file to upload
+   * @param partSize the size of each part
+   * @param threads the maximum number of parts written concurrently
+   * @throws IOException if reading the file or writing the object fails
+   */
+  static void upload(
+      Storage storage, BlobInfo target, FileChannel source, long size, long partSize, int threads)
+      throws IOException {
+    if (size <= partSize) {
+      uploadPart(storage, target, source, 0, size);
+      return;
+    }
+
+    String bucket = target.getBucket();
+    String prefix = target.getName() + ".part-" + UUID.randomUUID() + "-";
+    List<String> partNames = new ArrayList<>();
+    List<IoTask> tasks = new ArrayList<>();
+    for (long start = 0; start < size; start += partSize) {
+      long partStart = start;
+      long partLength = Math.min(partSize, size - start);
+      BlobInfo part = BlobInfo.newBuilder(bucket, prefix + partNames.size()).build();
+      partNames.add(part.getName());
+      tasks.add(() -> uploadPart(storage, part, source, partStart, partLength));
+    }
+
+    List<String> temporaryNames = new ArrayList<>(partNames);
+    try {
+      runAll(tasks, threads);
+      compose(storage, target, partNames, prefix, temporaryNames);
+    } finally {
+      deleteTemporaryObjects(storage, bucket, temporaryNames);
+    }
+  }
+
+  private static void downloadPart(
+      Storage storage, BlobId blobId, FileChannel target, long start, long length)
+      throws IOException {
+    try (ReadChannel reader = storage.reader(blobId)) {
+      reader.seek(start);
+      reader.limit(start + length);
+      MappedByteBuffer mapped = map(target, start, length);
+      if (mapped != null) {
+        while (mapped.hasRemaining()) {
+          readOrFail(reader, mapped);
+        }
+        return;
+      }
+
+      ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(length, COPY_BUFFER_SIZE));
+      long position = start;
+      long end = start + length;
+      while (position < end) {
+        buffer.clear();
+        buffer.limit((int) Math.min(buffer.capacity(), end - position));
+        readOrFail(reader, buffer);
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+          position += target.write(buffer, position);
+        }
+      }
+    }
+  }
+
+  /** Maps a region of the file, or returns null if the channel or file system can't map it. */
+  private static MappedByteBuffer map(FileChannel channel, long position, long length) {
+    if (length > Integer.MAX_VALUE) {
+      return null;
+    }
+    try {
+      return channel.map(FileChannel.MapMode.READ_WRITE, position, length);
+    } catch (NonReadableChannelException
+        | NonWritableChannelException
+        | UnsupportedOperationException
+        | IOException ex) {
+      LOGGER.debug("Memory mapping is not available, falling back to positional writes.", ex);
+      return null;
+    }
+  }
+
+  private static void readOrFail(ReadChannel reader, ByteBuffer buffer) throws IOException {
+    if (reader.read(buffer) < 0) {
+      throw new EOFException("The object ended before the expected number of bytes was read.");
+    }
+  }
+
+  private static void uploadPart(
+      Storage storage, BlobInfo blobInfo, FileChannel source, long start, long length)
+      throws IOException {
+    try (WriteChannel writer = storage.writer(blobInfo)) {
+      long position = start;
+      long end = start + length;
+      while (position < end) {
+        position += source.transferTo(position, end - position, writer);
+      }
+    }
+  }
+
+  /**
+   * Composes the parts into the target. More parts than a compose request accepts are first
+   * composed into intermediate objects, which are added to the temporary objects to delete.
+   */
+  private static void compose(
+      Storage storage,
+      BlobInfo target,
+      List<String> sources,
+      String prefix,
+      List<String> temporaryNames) {
+    int round = 0;
+    while (sources.size() > MAX_COMPOSE_SOURCES) {
+      List<String> composed = new ArrayList<>();
+      for (int i = 0; i < sources.size(); i += MAX_COMPOSE_SOURCES) {
+        String name = prefix + "compose-" + round + "-" + composed.size();
+        storage.compose(
+            Storage.ComposeRequest.newBuilder()
+                .addSource(sources.subList(i, Math.min(i + MAX_COMPOSE_SOURCES, sources.size())))
+                .setTarget(BlobInfo.newBuilder(target.getBucket(), name).build())
+                .build());
+        temporaryNames.add(name);
+        composed.add(name);
+      }
+      sources = composed;
+      round++;
+    }
+    storage.compose(
+        Storage.ComposeRequest.newBuilder().addSource(sources).setTarget(target).build());
+  }
+
+  private static void deleteTemporaryObjects(
+      Storage storage, String bucket, List<String> temporaryNames) {
+    List<BlobId> blobIds = new ArrayList<>();
+    for (String name : temporaryNames) {
+      blobIds.add(BlobId.of(bucket, name));
+    }
+    try {
+      storage.delete(blobIds);
+    } catch (RuntimeException ex) {
+      LOGGER.warn("Failed to delete the temporary objects of a parallel upload: " + blobIds, ex);
+    }
+  }
+
+  private static void runAll(List<IoTask> tasks, int threads) throws IOException {
+    if (tasks.size() <= 1 || threads <= 1) {
+      for (IoTask task : tasks) {
+        task.run();
+      }
+      return;
+    }
+
+    int poolSize = Math.min(threads, tasks.size());
+    CustomizableThreadFactory threadFactory =
+        new CustomizableThreadFactory("gcp-storage-transfer-");
+    threadFactory.setDaemon(true);
+    ExecutorService executor =
+        new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            threadFactory);
+    List<Future<Void>> futures = new ArrayList<>();
+    try {
+      for (IoTask task : tasks) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  task.run();
+                  return null;
+                }));
+      }
+      for (Future<Void> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while transferring parts.");
+    } catch (ExecutionException ex) {
+      Throwable cause = ex.getCause();
+      if (cause instanceof IOException ioException) {
+        throw ioException;
+      }
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IOException("Failed to transfer a part.", cause);
+    } finally {
+      // Parts that already started are not interrupted, which would close the shared file
+      // channel, and blocking I/O doesn't stop on interrupts anyway. Wait for them instead before
+      // the caller deletes the temporary objects or hands the file back.
+      for (Future<Void> future : futures) {
+        future.cancel(false);
+      }
+      executor.shutdown();
+      awaitTermination(executor);
+    }
+  }
+
+  private static void awaitTermination(ExecutorService executor) {
+    boolean interrupted = false;
+    boolean terminated = false;
+    while (!terminated) {
+      try {
+        terminated = executor.awaitTermination(1, TimeUnit.MINUTES);
+        if (!terminated) {
+          LOGGER.warn("Still waiting for the running part transfers to stop.");
+        }
+      } catch (InterruptedException ex) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** A part transfer. */
+  @FunctionalInterface
+  private interface IoTask {
+    void run() throws IOException;
+  }
+}
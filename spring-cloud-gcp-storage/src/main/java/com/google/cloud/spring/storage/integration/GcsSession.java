@@ -16,6 +16,8 @@
 
 package com.google.cloud.spring.storage.integration;
 
+import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
 import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
@@ -36,23 +38,135 @@ import java.util.stream.Stream;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.integration.file.remote.session.Session;
+import org.springframework.integration.metadata.ConcurrentMetadataStore;
 import org.springframework.util.Assert;
-import org.springframework.util.StreamUtils;
 
-/** A session implementation for Google Cloud Storage. */
+/**
+ * A session implementation for Google Cloud Storage.
+ *
+ * <p>Reads and writes stream the object through a {@link ReadChannel} or {@link WriteChannel} with
+ * a fixed-size transfer buffer, so the memory used by a transfer does not depend on the size of
+ * the object.
+ */
 public class GcsSession implements Session<BlobInfo> {
 
+  /** The default size in bytes of the buffer used to copy data to and from channels. */
+  public static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
+
   private Storage gcs;
 
   private static final Log LOGGER = LogFactory.getLog(GcsSession.class);
 
   private static final String SEPARATOR = "/";
 
+  /** Transfer buffers are reused by the transfers made on the same thread. */
+  private static final ThreadLocal<ByteBuffer> TRANSFER_BUFFER = new ThreadLocal<>();
+
+  private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+  private int readChunkSize;
+
+  private int writeChunkSize;
+
+  private String listPrefix;
+
+  private int listPageSize;
+
+  private boolean listCurrentDirectoryOnly;
+
+  private ConcurrentMetadataStore listCursorStore;
+
+  private String listCursorKeyPrefix;
+
   public GcsSession(Storage gcs) {
     Assert.notNull(gcs, "The GCS client can't be null.");
     this.gcs = gcs;
   }
 
+  /**
+   * Set the size of the buffer used to copy data between the channels and the streams.
+   *
+   * @param bufferSize the buffer size in bytes. Defaults to {@link #DEFAULT_BUFFER_SIZE}.
+   */
+  public void setBufferSize(int bufferSize) {
+    Assert.isTrue(bufferSize > 0, "The buffer size must be positive.");
+    this.bufferSize = bufferSize;
+  }
+
+  /**
+   * Set the number of bytes fetched from GCS by each request of a read.
+   *
+   * @param readChunkSize the read chunk size in bytes, or 0 to use the client default.
+   */
+  public void setReadChunkSize(int readChunkSize) {
+    Assert.isTrue(readChunkSize >= 0, "The read chunk size can't be negative.");
+    this.readChunkSize = readChunkSize;
+  }
+
+  /**
+   * Set the number of bytes sent to GCS by each request of a write. GCS rounds it up to a
+   * multiple of 256 KiB.
+   *
+   * @param writeChunkSize the write chunk size in bytes, or 0 to use the client default.
+   */
+  public void setWriteChunkSize(int writeChunkSize) {
+    Assert.isTrue(writeChunkSize >= 0, "The write chunk size can't be negative.");
+    this.writeChunkSize = writeChunkSize;
+  }
+
+  /**
+   * Set the object name prefix of the listings of a bucket. Unlike a prefix in the listed path,
+   * it keeps the remote directory of the inbound adapters a bucket, to which they append the full
+   * object names when they read the listed objects.
+   *
+   * @param listPrefix the prefix of the listed object names, or null to list the whole bucket.
+   */
+  public void setListPrefix(String listPrefix) {
+    this.listPrefix = listPrefix;
+  }
+
+  /**
+   * Set the number of objects requested by each page of a listing.
+   *
+   * @param listPageSize the page size, or 0 to use the service default.
+   */
+  public void setListPageSize(int listPageSize) {
+    Assert.isTrue(listPageSize >= 0, "The list page size can't be negative.");
+    this.listPageSize = listPageSize;
+  }
+
+  /**
+   * Set whether listings only return the objects directly under the listed path, with the
+   * sub-directories returned as directory entries, instead of all objects under it.
+   *
+   * @param listCurrentDirectoryOnly whether to list with the '/' delimiter. Defaults to false.
+   */
+  public void setListCurrentDirectoryOnly(boolean listCurrentDirectoryOnly) {
+    this.listCurrentDirectoryOnly = listCurrentDirectoryOnly;
+  }
+
+  /**
+   * Enable incremental listing. The greatest object or directory name returned by a listing is
+   * stored in the metadata store, and the next listing of the same path starts after it and returns
+   * at most one page. This only sees new objects whose names sort after the previous ones, such as
+   * names starting with a timestamp. When several consumers share the store, only the one that
+   * advances the cursor gets the listed objects.
+   *
+   * <p>The cursor is advanced when the listing returns, before the listed objects are processed.
+   * Objects are therefore delivered at most once: if the application stops or processing fails
+   * after a listing, the objects of that listing are not listed again.
+   *
+   * @param metadataStore the store that keeps the last listed name per path, or null to list all
+   *     objects on every call
+   * @param keyPrefix the prefix of the metadata store keys, followed by the listed path
+   */
+  public void setListCursor(ConcurrentMetadataStore metadataStore, String keyPrefix) {
+    Assert.isTrue(
+        metadataStore == null || keyPrefix != null, "The list cursor key prefix can't be null.");
+    this.listCursorStore = metadataStore;
+    this.listCursorKeyPrefix = keyPrefix;
+  }
+
   @Override
   public boolean remove(String path) throws IOException {
     String[] tokens = getBucketAndObjectFromPath(path);
@@ -66,21 +180,68 @@ public class GcsSession implements Session<BlobInfo> {
   }
 
   /**
-   * Only supports listing buckets, not folders.
+   * Lists the objects of a bucket, or the objects whose names start with a prefix when the path
+   * has the form [bucket]/[prefix] or a list prefix is set. Pages are fetched as the listing is
+   * iterated.
    *
-   * @param bucket The name of the bucket.
-   * @return The BlobInfo of all objects in the bucket.
+   * @param path The name of the bucket, optionally followed by '/' and an object name prefix.
+   * @return The BlobInfo of the listed objects.
    * @throws IOException Thrown if there an issue communicating with GCS.
+   * @see #setListCursor(ConcurrentMetadataStore, String)
    */
   @Override
-  public BlobInfo[] list(String bucket) throws IOException {
-    Collection<BlobInfo> blobs = new ArrayList<>();
+  public BlobInfo[] list(String path) throws IOException {
+    String[] tokens = getBucketAndObjectFromPath(path);
+    String prefix = (tokens.length == 2 && !tokens[1].isEmpty()) ? tokens[1] : this.listPrefix;
+    List<Storage.BlobListOption> options = new ArrayList<>();
+    if (prefix != null) {
+      options.add(Storage.BlobListOption.prefix(prefix));
+    }
+    if (this.listCurrentDirectoryOnly) {
+      options.add(Storage.BlobListOption.currentDirectory());
+    }
+    if (this.listPageSize > 0) {
+      options.add(Storage.BlobListOption.pageSize(this.listPageSize));
+    }
+
+    String cursorKey = null;
+    String startOffset = null;
+    if (this.listCursorStore != null) {
+      cursorKey = this.listCursorKeyPrefix + tokens[0] + SEPARATOR + (prefix != null ? prefix : "");
+      startOffset = this.listCursorStore.get(cursorKey);
+      if (startOffset != null) {
+        options.add(Storage.BlobListOption.startOffset(startOffset));
+      }
+    }
+
+    Page<Blob> page = this.gcs.list(tokens[0], options.toArray(new Storage.BlobListOption[0]));
+    Iterable<Blob> blobs = (cursorKey != null) ? page.getValues() : page.iterateAll();
+
+    Collection<BlobInfo> result = new ArrayList<>();
+    String lastName = startOffset;
+    for (Blob blob : blobs) {
+      if (blob.getName().equals(startOffset)) {
+        continue;
+      }
+      result.add(blob);
+      // directory entries advance the cursor too, or a page of only directories would repeat
+      if (lastName == null || blob.getName().compareTo(lastName) > 0) {
+        lastName = blob.getName();
+      }
+    }
 
-    for (Blob blob : this.gcs.list(bucket).iterateAll()) {
-      blobs.add(blob);
+    if (cursorKey != null && lastName != null && !lastName.equals(startOffset)) {
+      boolean advanced =
+          (startOffset == null)
+              ? this.listCursorStore.putIfAbsent(cursorKey, lastName) == null
+              : this.listCursorStore.replace(cursorKey, startOffset, lastName);
+      if (!advanced) {
+        LOGGER.debug("The list cursor of " + path + " was advanced by another consumer.");
+        return new BlobInfo[0];
+      }
     }
 
-    return blobs.toArray(new BlobInfo[blobs.size()]);
+    return result.toArray(new BlobInfo[0]);
   }
 
   @Override
@@ -88,8 +249,16 @@ public class GcsSession implements Session<BlobInfo> {
     String[] tokens = getBucketAndObjectFromPath(source);
     Assert.state(tokens.length == 2, "Can only read files, not buckets.");
 
-    try (OutputStream os = outputStream) {
-      os.write(this.gcs.readAllBytes(tokens[0], tokens[1]));
+    try (OutputStream os = outputStream;
+        ReadChannel channel = this.gcs.reader(tokens[0], tokens[1])) {
+      if (this.readChunkSize > 0) {
+        channel.setChunkSize(this.readChunkSize);
+      }
+      ByteBuffer buffer = transferBuffer();
+      while (channel.read(buffer) >= 0) {
+        os.write(buffer.array(), buffer.arrayOffset(), buffer.position());
+        buffer.clear();
+      }
     }
   }
 
@@ -100,9 +269,19 @@ public class GcsSession implements Session<BlobInfo> {
 
     BlobInfo gcsBlobInfo = BlobInfo.newBuilder(BlobId.of(tokens[0], tokens[1])).build();
 
-    try (InputStream is = inputStream) {
-      try (WriteChannel channel = this.gcs.writer(gcsBlobInfo)) {
-        channel.write(ByteBuffer.wrap(StreamUtils.copyToByteArray(is)));
+    try (InputStream is = inputStream;
+        WriteChannel channel = this.gcs.writer(gcsBlobInfo)) {
+      if (this.writeChunkSize > 0) {
+        channel.setChunkSize(this.writeChunkSize);
+      }
+      ByteBuffer buffer = transferBuffer();
+      int read;
+      while ((read = is.read(buffer.array(), buffer.arrayOffset(), buffer.capacity())) != -1) {
+        buffer.limit(read);
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+        buffer.clear();
       }
     }
   }
@@ -190,6 +369,16 @@ public class GcsSession implements Session<BlobInfo> {
     return "storage.googleapis.com:443";
   }
 
+  private ByteBuffer transferBuffer() {
+    ByteBuffer buffer = TRANSFER_BUFFER.get();
+    if (buffer == null || buffer.capacity() != this.bufferSize) {
+      buffer = ByteBuffer.allocate(this.bufferSize);
+      TRANSFER_BUFFER.set(buffer);
+    }
+    buffer.clear();
+    return buffer;
+  }
+
   private String[] getBucketAndObjectFromPath(String path) {
     // Assumes paths of the form bucket/folder/blob
     Assert.hasText(path, "Path can't be empty.");
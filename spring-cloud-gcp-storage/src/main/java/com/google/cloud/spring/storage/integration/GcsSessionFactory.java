@@ -21,6 +21,7 @@ import com.google.cloud.storage.Storage;
 import org.springframework.integration.file.remote.session.Session;
 import org.springframework.integration.file.remote.session.SessionFactory;
 import org.springframework.integration.file.remote.session.SharedSessionCapable;
+import org.springframework.integration.metadata.ConcurrentMetadataStore;
 import org.springframework.util.Assert;
 
 /** A session factory implementation for Google Cloud Storage. */
@@ -28,14 +29,117 @@ public class GcsSessionFactory implements SessionFactory<BlobInfo>, SharedSessio
 
   private Storage gcs;
 
+  private int bufferSize = GcsSession.DEFAULT_BUFFER_SIZE;
+
+  private int readChunkSize;
+
+  private int writeChunkSize;
+
+  private String listPrefix;
+
+  private int listPageSize;
+
+  private boolean listCurrentDirectoryOnly;
+
+  private ConcurrentMetadataStore listCursorStore;
+
+  private String listCursorKeyPrefix;
+
   public GcsSessionFactory(Storage gcs) {
     Assert.notNull(gcs, "The GCS client can't be null.");
     this.gcs = gcs;
   }
 
+  /**
+   * Set the size of the buffer the sessions use to copy data between channels and streams.
+   *
+   * @param bufferSize the buffer size in bytes
+   * @see GcsSession#setBufferSize(int)
+   */
+  public void setBufferSize(int bufferSize) {
+    Assert.isTrue(bufferSize > 0, "The buffer size must be positive.");
+    this.bufferSize = bufferSize;
+  }
+
+  /**
+   * Set the number of bytes fetched from GCS by each request of a session read.
+   *
+   * @param readChunkSize the read chunk size in bytes, or 0 to use the client default
+   * @see GcsSession#setReadChunkSize(int)
+   */
+  public void setReadChunkSize(int readChunkSize) {
+    Assert.isTrue(readChunkSize >= 0, "The read chunk size can't be negative.");
+    this.readChunkSize = readChunkSize;
+  }
+
+  /**
+   * Set the number of bytes sent to GCS by each request of a session write.
+   *
+   * @param writeChunkSize the write chunk size in bytes, or 0 to use the client default
+   * @see GcsSession#setWriteChunkSize(int)
+   */
+  public void setWriteChunkSize(int writeChunkSize) {
+    Assert.isTrue(writeChunkSize >= 0, "The write chunk size can't be negative.");
+    this.writeChunkSize = writeChunkSize;
+  }
+
+  /**
+   * Set the object name prefix of the session listings of a bucket.
+   *
+   * @param listPrefix the prefix of the listed object names, or null to list the whole bucket
+   * @see GcsSession#setListPrefix(String)
+   */
+  public void setListPrefix(String listPrefix) {
+    this.listPrefix = listPrefix;
+  }
+
+  /**
+   * Set the number of objects requested by each page of a session listing.
+   *
+   * @param listPageSize the page size, or 0 to use the service default
+   * @see GcsSession#setListPageSize(int)
+   */
+  public void setListPageSize(int listPageSize) {
+    Assert.isTrue(listPageSize >= 0, "The list page size can't be negative.");
+    this.listPageSize = listPageSize;
+  }
+
+  /**
+   * Set whether session listings only return the objects directly under the listed path.
+   *
+   * @param listCurrentDirectoryOnly whether to list with the '/' delimiter
+   * @see GcsSession#setListCurrentDirectoryOnly(boolean)
+   */
+  public void setListCurrentDirectoryOnly(boolean listCurrentDirectoryOnly) {
+    this.listCurrentDirectoryOnly = listCurrentDirectoryOnly;
+  }
+
+  /**
+   * Enable incremental listing for the sessions, which share the cursors kept in the store. The
+   * cursor is advanced when a listing returns, so the listed objects are delivered at most once.
+   *
+   * @param metadataStore the store that keeps the last listed name per path
+   * @param keyPrefix the prefix of the metadata store keys
+   * @see GcsSession#setListCursor(ConcurrentMetadataStore, String)
+   */
+  public void setListCursor(ConcurrentMetadataStore metadataStore, String keyPrefix) {
+    Assert.isTrue(
+        metadataStore == null || keyPrefix != null, "The list cursor key prefix can't be null.");
+    this.listCursorStore = metadataStore;
+    this.listCursorKeyPrefix = keyPrefix;
+  }
+
   @Override
   public Session<BlobInfo> getSession() {
-    return new GcsSession(this.gcs);
+    GcsSession session = new GcsSession(this.gcs);
+    session.setBufferSize(this.bufferSize);
+    session.setReadChunkSize(this.readChunkSize);
+    session.setWriteChunkSize(this.writeChunkSize);
+    session.setListPrefix(this.listPrefix);
+    session.setListPageSize(this.listPageSize);
+    session.setListCurrentDirectoryOnly(this.listCurrentDirectoryOnly);
+    session.setListCursor(this.listCursorStore, this.listCursorKeyPrefix);
+    return session;
   }
 
   @Override
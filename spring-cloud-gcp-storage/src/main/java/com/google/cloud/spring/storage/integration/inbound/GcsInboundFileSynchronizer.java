@@ -30,7 +30,17 @@ import org.springframework.integration.metadata.SimpleMetadataStore;
 public class GcsInboundFileSynchronizer extends AbstractInboundFileSynchronizer<BlobInfo> {
 
   public GcsInboundFileSynchronizer(Storage gcs) {
-    super(new GcsSessionFactory(gcs));
+    this(new GcsSessionFactory(gcs));
+  }
+
+  /**
+   * Create a synchronizer that transfers files with the sessions of the given factory, for
+   * example one configured with custom buffer and chunk sizes.
+   *
+   * @param sessionFactory the GCS session factory
+   */
+  public GcsInboundFileSynchronizer(GcsSessionFactory sessionFactory) {
+    super(sessionFactory);
     doSetFilter(
         new GcsPersistentAcceptOnceFileListFilter(new SimpleMetadataStore(), "gcsMessageSource"));
   }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.storage.integration.inbound;
+
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
+import org.springframework.integration.file.FileHeaders;
+import org.springframework.integration.file.filters.FileListFilter;
+import org.springframework.integration.handler.AbstractReplyProducingMessageHandler;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.util.Assert;
+
+/**
+ * A message handler that turns Cloud Storage Pub/Sub notifications into messages streaming the
+ * content of the notified objects, so that new objects are received without listing the bucket.
+ *
+ * <p>It expects the notification attributes as message headers, as mapped by the Pub/Sub inbound
+ * channel adapter. Only {@code OBJECT_FINALIZE} events produce a message; other events, and
+ * objects that no longer exist in the notified generation, are dropped. Like the messages of
+ * {@link GcsStreamingMessageSource}, the produced message has an {@link InputStream} payload and
+ * the remote directory and file headers.
+ */
+public class GcsNotificationMessageHandler extends AbstractReplyProducingMessageHandler {
+
+  /** The notification attribute with the type of the event. */
+  public static final String EVENT_TYPE_HEADER = "eventType";
+
+  /** The notification attribute with the bucket of the object. */
+  public static final String BUCKET_ID_HEADER = "bucketId";
+
+  /** The notification attribute with the name of the object. */
+  public static final String OBJECT_ID_HEADER = "objectId";
+
+  /** The notification attribute with the generation of the object. */
+  public static final String OBJECT_GENERATION_HEADER = "objectGeneration";
+
+  /** The event type of a notification for a new object or a new generation of an object. */
+  public static final String OBJECT_FINALIZE_EVENT = "OBJECT_FINALIZE";
+
+  private static final Log LOGGER = LogFactory.getLog(GcsNotificationMessageHandler.class);
+
+  private final Storage gcs;
+
+  private FileListFilter<BlobInfo> filter;
+
+  public GcsNotificationMessageHandler(Storage gcs) {
+    Assert.notNull(gcs, "The GCS client can't be null.");
+    this.gcs = gcs;
+  }
+
+  /**
+   * Set a filter for the notified objects, for example a {@link
+   * com.google.cloud.spring.storage.integration.filters.GcsPersistentAcceptOnceFileListFilter} to
+   * drop notifications that Pub/Sub delivers more than once.
+   *
+   * @param filter the filter of the notified objects
+   */
+  public void setFilter(FileListFilter<BlobInfo> filter) {
+    this.filter = filter;
+  }
+
+  @Override
+  public String getComponentType() {
+    return "gcp:gcs-notification-handler";
+  }
+
+  @Override
+  protected Object handleRequestMessage(Message<?> requestMessage) {
+    MessageHeaders headers = requestMessage.getHeaders();
+    String eventType = headers.get(EVENT_TYPE_HEADER, String.class);
+    if (!OBJECT_FINALIZE_EVENT.equals(eventType)) {
+      LOGGER.debug("Ignoring Cloud Storage notification of type " + eventType);
+      return null;
+    }
+
+    String bucket = headers.get(BUCKET_ID_HEADER, String.class);
+    String objectName = headers.get(OBJECT_ID_HEADER, String.class);
+    Assert.state(
+        bucket != null && objectName != null,
+        "Cloud Storage notifications must have the bucketId and objectId attributes.");
+    String generation = headers.get(OBJECT_GENERATION_HEADER, String.class);
+    BlobId blobId =
+        (generation != null)
+            ? BlobId.of(bucket, objectName, Long.parseLong(generation))
+            : BlobId.of(bucket, objectName);
+
+    Blob blob = this.gcs.get(blobId);
+    if (blob == null) {
+      LOGGER.debug("The notified object " + blobId + " no longer exists.");
+      return null;
+    }
+    if (this.filter != null && this.filter.filterFiles(new BlobInfo[] {blob}).isEmpty()) {
+      return null;
+    }
+
+    InputStream inputStream = Channels.newInputStream(blob.reader());
+    return getMessageBuilderFactory()
+        .withPayload(inputStream)
+        .setHeader(FileHeaders.REMOTE_DIRECTORY, bucket)
+        .setHeader(FileHeaders.REMOTE_FILE, objectName)
+        .setHeader(IntegrationMessageHeaderAccessor.CLOSEABLE_RESOURCE, inputStream);
+  }
+}
@@ -19,18 +19,37 @@ package com.google.cloud.spring.storage;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.cloud.ReadChannel;
+import com.google.cloud.RestorableState;
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Bucket;
 import com.google.cloud.storage.Storage;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 
 class GoogleStorageResourceTest {
 
@@ -105,4 +124,188 @@ class GoogleStorageResourceTest {
     GoogleStorageResource gsr = new GoogleStorageResource(mockStorage, "gs://my-bucket/my-object");
     assertThat(gsr.getGoogleStorageLocation().uriString()).isEqualTo("gs://my-bucket/my-object");
   }
+
+  @Test
+  void parallelDownloadToWritesRangesToFile(@TempDir Path tempDir) throws IOException {
+    byte[] content = "0123456789".getBytes();
+    when(mockStorage.get(BlobId.of("my-bucket", "my-object"))).thenReturn(mockBlob);
+    when(mockBlob.getGeneration()).thenReturn(7L);
+    when(mockBlob.getSize()).thenReturn((long) content.length);
+    when(mockStorage.reader(BlobId.of("my-bucket", "my-object", 7L)))
+        .thenAnswer(invocation -> new ByteArrayReadChannel(content));
+
+    Path target = tempDir.resolve("download");
+    parallelResource().downloadTo(target);
+
+    assertThat(Files.readAllBytes(target)).isEqualTo(content);
+    verify(mockStorage, times(3)).reader(BlobId.of("my-bucket", "my-object", 7L));
+  }
+
+  @Test
+  void parallelUploadFromComposesParts(@TempDir Path tempDir) throws IOException {
+    Path source = tempDir.resolve("upload");
+    Files.write(source, "0123456789".getBytes());
+    Map<String, ByteArrayOutputStream> written = new ConcurrentHashMap<>();
+    when(mockStorage.writer(any(BlobInfo.class)))
+        .thenAnswer(
+            invocation -> {
+              ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+              written.put(invocation.<BlobInfo>getArgument(0).getName(), bytes);
+              WriteChannel writeChannel = mock(WriteChannel.class);
+              when(writeChannel.write(any(ByteBuffer.class)))
+                  .thenAnswer(
+                      write -> {
+                        ByteBuffer buffer = write.getArgument(0);
+                        int count = buffer.remaining();
+                        while (buffer.hasRemaining()) {
+                          bytes.write(buffer.get());
+                        }
+                        return count;
+                      });
+              return writeChannel;
+            });
+
+    parallelResource().uploadFrom(source);
+
+    ArgumentCaptor<Storage.ComposeRequest> composeCaptor =
+        ArgumentCaptor.forClass(Storage.ComposeRequest.class);
+    verify(mockStorage).compose(composeCaptor.capture());
+    Storage.ComposeRequest composeRequest = composeCaptor.getValue();
+    assertThat(composeRequest.getTarget().getName()).isEqualTo("my-object");
+    assertThat(composeRequest.getSourceBlobs()).hasSize(3);
+    StringBuilder composed = new StringBuilder();
+    for (Storage.ComposeRequest.SourceBlob sourceBlob : composeRequest.getSourceBlobs()) {
+      composed.append(written.get(sourceBlob.getName()).toString());
+    }
+    assertThat(composed).hasToString("0123456789");
+    verify(mockStorage).delete(ArgumentMatchers.<Iterable<BlobId>>any());
+  }
+
+  @Test
+  void parallelUploadFromDeletesPartsAfterRunningPartsStop(@TempDir Path tempDir)
+      throws IOException {
+    Path source = tempDir.resolve("upload");
+    Files.write(source, "0123456789".getBytes());
+    List<String> events = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch secondPartStarted = new CountDownLatch(1);
+    when(mockStorage.writer(any(BlobInfo.class)))
+        .thenAnswer(
+            invocation -> {
+              String name = invocation.<BlobInfo>getArgument(0).getName();
+              WriteChannel writeChannel = mock(WriteChannel.class);
+              when(writeChannel.write(any(ByteBuffer.class)))
+                  .thenAnswer(
+                      write -> {
+                        if (name.endsWith("-0")) {
+                          secondPartStarted.await(5, TimeUnit.SECONDS);
+                          throw new IOException("Part failed");
+                        }
+                        if (name.endsWith("-1")) {
+                          secondPartStarted.countDown();
+                          // blocking I/O that does not stop when interrupted
+                          sleepUninterruptibly(200);
+                          events.add("part written");
+                        }
+                        ByteBuffer buffer = write.getArgument(0);
+                        int count = buffer.remaining();
+                        buffer.position(buffer.limit());
+                        return count;
+                      });
+              return writeChannel;
+            });
+    doAnswer(
+            invocation -> {
+              events.add("parts deleted");
+              return null;
+            })
+        .when(mockStorage)
+        .delete(ArgumentMatchers.<Iterable<BlobId>>any());
+
+    assertThatExceptionOfType(IOException.class)
+        .isThrownBy(() -> parallelResource().uploadFrom(source))
+        .withMessage("Part failed");
+    assertThat(events).containsExactly("part written", "parts deleted");
+  }
+
+  private static void sleepUninterruptibly(long millis) {
+    long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+    while (System.nanoTime() < end) {
+      try {
+        Thread.sleep(Math.max(1, TimeUnit.NANOSECONDS.toMillis(end - System.nanoTime())));
+      } catch (InterruptedException ex) {
+        // keep going, like a blocking channel
+      }
+    }
+  }
+
+  private GoogleStorageResource parallelResource() {
+    GoogleStorageProtocolResolverSettings settings = new GoogleStorageProtocolResolverSettings();
+    settings.setParallelTransfersEnabled(true);
+    settings.setParallelTransferPartSize(4);
+    settings.setParallelTransferThreads(2);
+    return new GoogleStorageResource(
+        mockStorage, new GoogleStorageLocation("gs://my-bucket/my-object"), settings);
+  }
+
+  /** A read channel over a byte array that honors seek and limit. */
+  private static class ByteArrayReadChannel implements ReadChannel {
+
+    private final byte[] content;
+
+    private long position;
+
+    private long limit = Long.MAX_VALUE;
+
+    ByteArrayReadChannel(byte[] content) {
+      this.content = content;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) {
+      long end = Math.min(this.limit, this.content.length);
+      if (this.position >= end) {
+        return -1;
+      }
+      int count = (int) Math.min(dst.remaining(), end - this.position);
+      dst.put(this.content, (int) this.position, count);
+      this.position += count;
+      return count;
+    }
+
+    @Override
+    public void seek(long position) {
+      this.position = position;
+    }
+
+    @Override
+    public ReadChannel limit(long limit) {
+      this.limit = limit;
+      return this;
+    }
+
+    @Override
+    public long limit() {
+      return this.limit;
+    }
+
+    @Override
+    public void setChunkSize(int chunkSize) {
+      // Not chunked.
+    }
+
+    @Override
+    public RestorableState<ReadChannel> capture() {
+      return null;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return true;
+    }
+
+    @Override
+    public void close() {
+      // Nothing to release.
+    }
+  }
 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.storage.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.PageImpl;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.integration.metadata.ConcurrentMetadataStore;
+import org.springframework.integration.metadata.SimpleMetadataStore;
+
+/** Tests for the streaming transfers and the listings of {@link GcsSession}. */
+class GcsSessionTests {
+
+  private static final int BUFFER_SIZE = 1000;
+
+  private Storage gcs;
+
+  private GcsSession session;
+
+  private byte[] content;
+
+  @BeforeEach
+  void setUp() {
+    this.gcs = mock(Storage.class);
+    GcsSessionFactory sessionFactory = new GcsSessionFactory(this.gcs);
+    sessionFactory.setBufferSize(BUFFER_SIZE);
+    sessionFactory.setReadChunkSize(4096);
+    sessionFactory.setWriteChunkSize(512 * 1024);
+    this.session = (GcsSession) sessionFactory.getSession();
+    this.content = new byte[10 * BUFFER_SIZE + 123];
+    new Random(42).nextBytes(this.content);
+  }
+
+  @Test
+  void readStreamsThroughReadChannel() throws IOException {
+    ReadableByteChannel source = Channels.newChannel(new ByteArrayInputStream(this.content));
+    ReadChannel readChannel = mock(ReadChannel.class);
+    when(this.gcs.reader("bucket", "folder/object")).thenReturn(readChannel);
+    willAnswer(
+            invocation -> {
+              ByteBuffer buffer = invocation.getArgument(0);
+              assertThat(buffer.capacity()).isEqualTo(BUFFER_SIZE);
+              return source.read(buffer);
+            })
+        .given(readChannel)
+        .read(any(ByteBuffer.class));
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    this.session.read("bucket/folder/object", outputStream);
+
+    assertThat(outputStream.toByteArray()).isEqualTo(this.content);
+    verify(readChannel).setChunkSize(4096);
+    verify(readChannel).close();
+  }
+
+  @Test
+  void writeStreamsThroughWriteChannel() throws IOException {
+    WriteChannel writeChannel = mock(WriteChannel.class);
+    when(this.gcs.writer(BlobInfo.newBuilder(BlobId.of("bucket", "folder/object")).build()))
+        .thenReturn(writeChannel);
+    ByteArrayOutputStream written = new ByteArrayOutputStream();
+    willAnswer(
+            invocation -> {
+              ByteBuffer buffer = invocation.getArgument(0);
+              assertThat(buffer.remaining()).isLessThanOrEqualTo(BUFFER_SIZE);
+              int count = buffer.remaining();
+              while (buffer.hasRemaining()) {
+                written.write(buffer.get());
+              }
+              return count;
+            })
+        .given(writeChannel)
+        .write(any(ByteBuffer.class));
+
+    this.session.write(new ByteArrayInputStream(this.content), "bucket/folder/object");
+
+    assertThat(written.toByteArray()).isEqualTo(this.content);
+    verify(writeChannel).setChunkSize(512 * 1024);
+    verify(writeChannel).close();
+  }
+
+  @Test
+  void listUsesPrefixAndPageSize() throws IOException {
+    GcsSessionFactory sessionFactory = new GcsSessionFactory(this.gcs);
+    sessionFactory.setListPageSize(100);
+    Blob blob = blob("videos/a.mp4");
+    when(this.gcs.list(
+            "bucket",
+            Storage.BlobListOption.prefix("videos/"),
+            Storage.BlobListOption.pageSize(100)))
+        .thenReturn(new PageImpl<>(null, null, Collections.singletonList(blob)));
+
+    assertThat(sessionFactory.getSession().list("bucket/videos/")).containsExactly(blob);
+  }
+
+  @Test
+  void incrementalListStartsAfterCursor() throws IOException {
+    ConcurrentMetadataStore metadataStore = new SimpleMetadataStore();
+    GcsSessionFactory sessionFactory = new GcsSessionFactory(this.gcs);
+    sessionFactory.setListCursor(metadataStore, "cursor:");
+    Blob first = blob("2024-01-01.log");
+    Blob second = blob("2024-01-02.log");
+    Blob third = blob("2024-01-03.log");
+    when(this.gcs.list("bucket"))
+        .thenReturn(new PageImpl<>(null, null, Arrays.asList(first, second)));
+    when(this.gcs.list("bucket", Storage.BlobListOption.startOffset("2024-01-02.log")))
+        .thenReturn(new PageImpl<>(null, null, Arrays.asList(second, third)));
+
+    assertThat(sessionFactory.getSession().list("bucket")).containsExactly(first, second);
+    assertThat(metadataStore.get("cursor:bucket/")).isEqualTo("2024-01-02.log");
+
+    assertThat(sessionFactory.getSession().list("bucket")).containsExactly(third);
+    assertThat(metadataStore.get("cursor:bucket/")).isEqualTo("2024-01-03.log");
+  }
+
+  @Test
+  void incrementalListAdvancesPastDirectories() throws IOException {
+    ConcurrentMetadataStore metadataStore = new SimpleMetadataStore();
+    GcsSessionFactory sessionFactory = new GcsSessionFactory(this.gcs);
+    sessionFactory.setListCursor(metadataStore, "cursor:");
+    sessionFactory.setListCurrentDirectoryOnly(true);
+    Blob firstDirectory = directory("2024-01-01/");
+    Blob secondDirectory = directory("2024-01-02/");
+    Blob object = blob("2024-01-03.log");
+    when(this.gcs.list("bucket", Storage.BlobListOption.currentDirectory()))
+        .thenReturn(new PageImpl<>(null, null, Arrays.asList(firstDirectory, secondDirectory)));
+    when(this.gcs.list(
+            "bucket",
+            Storage.BlobListOption.currentDirectory(),
+            Storage.BlobListOption.startOffset("2024-01-02/")))
+        .thenReturn(new PageImpl<>(null, null, Arrays.asList(secondDirectory, object)));
+
+    assertThat(sessionFactory.getSession().list("bucket"))
+        .containsExactly(firstDirectory, secondDirectory);
+    assertThat(metadataStore.get("cursor:bucket/")).isEqualTo("2024-01-02/");
+
+    assertThat(sessionFactory.getSession().list("bucket")).containsExactly(object);
+    assertThat(metadataStore.get("cursor:bucket/")).isEqualTo("2024-01-03.log");
+  }
+
+  @Test
+  void incrementalListReturnsNothingWhenCursorAdvancedConcurrently() throws IOException {
+    ConcurrentMetadataStore metadataStore = mock(ConcurrentMetadataStore.class);
+    when(metadataStore.putIfAbsent("cursor:bucket/", "a")).thenReturn("b");
+    GcsSessionFactory sessionFactory = new GcsSessionFactory(this.gcs);
+    sessionFactory.setListCursor(metadataStore, "cursor:");
+    when(this.gcs.list("bucket"))
+        .thenReturn(new PageImpl<>(null, null, Collections.singletonList(blob("a"))));
+
+    assertThat(sessionFactory.getSession().list("bucket")).isEmpty();
+  }
+
+  private static Blob blob(String name) {
+    Blob blob = mock(Blob.class);
+    when(blob.getName()).thenReturn(name);
+    return blob;
+  }
+
+  private static Blob directory(String name) {
+    Blob blob = blob(name);
+    when(blob.isDirectory()).thenReturn(true);
+    return blob;
+  }
+}
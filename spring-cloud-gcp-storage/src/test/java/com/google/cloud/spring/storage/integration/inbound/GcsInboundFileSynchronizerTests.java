@@ -17,16 +17,22 @@
 package com.google.cloud.spring.storage.integration.inbound;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.google.cloud.PageImpl;
+import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Storage;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -131,12 +137,12 @@ class GcsInboundFileSynchronizerTests {
       willAnswer(invocation -> "legend of heroes").given(blob1).getName();
       willAnswer(invocation -> "trails in the sky").given(blob2).getName();
 
-      willAnswer(invocation -> "estelle".getBytes())
+      willAnswer(invocation -> readChannel("estelle"))
           .given(gcsMock)
-          .readAllBytes(eq("test-bucket"), eq("legend of heroes"));
-      willAnswer(invocation -> "joshua".getBytes())
+          .reader(eq("test-bucket"), eq("legend of heroes"));
+      willAnswer(invocation -> readChannel("joshua"))
           .given(gcsMock)
-          .readAllBytes(eq("test-bucket"), eq("trails in the sky"));
+          .reader(eq("test-bucket"), eq("trails in the sky"));
 
       willAnswer(
               invocation ->
@@ -146,5 +152,15 @@ class GcsInboundFileSynchronizerTests {
 
       return gcsMock;
     }
+
+    private static ReadChannel readChannel(String content) throws IOException {
+      ReadableByteChannel source =
+          Channels.newChannel(new ByteArrayInputStream(content.getBytes()));
+      ReadChannel readChannel = mock(ReadChannel.class);
+      willAnswer(invocation -> source.read(invocation.getArgument(0)))
+          .given(readChannel)
+          .read(any(ByteBuffer.class));
+      return readChannel;
+    }
   }
 }
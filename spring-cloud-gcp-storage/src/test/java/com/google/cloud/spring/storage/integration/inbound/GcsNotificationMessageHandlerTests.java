@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.storage.integration.inbound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.ReadChannel;
+import com.google.cloud.spring.storage.integration.filters.GcsPersistentAcceptOnceFileListFilter;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.Storage;
+import java.io.InputStream;
+import java.time.OffsetDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.integration.file.FileHeaders;
+import org.springframework.integration.metadata.SimpleMetadataStore;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+
+/** Tests for the Cloud Storage notification message handler. */
+class GcsNotificationMessageHandlerTests {
+
+  private Storage gcs;
+
+  private GcsNotificationMessageHandler handler;
+
+  private QueueChannel outputChannel;
+
+  @BeforeEach
+  void setUp() {
+    this.gcs = mock(Storage.class);
+    this.outputChannel = new QueueChannel();
+    this.handler = new GcsNotificationMessageHandler(this.gcs);
+    this.handler.setOutputChannel(this.outputChannel);
+    this.handler.setBeanFactory(mock(BeanFactory.class));
+    this.handler.afterPropertiesSet();
+  }
+
+  @Test
+  void finalizeNotificationStreamsObject() {
+    Blob blob = mock(Blob.class);
+    when(blob.reader()).thenReturn(mock(ReadChannel.class));
+    when(this.gcs.get(BlobId.of("bucket", "videos/a.mp4", 42L))).thenReturn(blob);
+
+    this.handler.handleMessage(notification("OBJECT_FINALIZE"));
+
+    Message<?> message = this.outputChannel.receive(0);
+    assertThat(message).isNotNull();
+    assertThat(message.getPayload()).isInstanceOf(InputStream.class);
+    assertThat(message.getHeaders())
+        .containsEntry(FileHeaders.REMOTE_DIRECTORY, "bucket")
+        .containsEntry(FileHeaders.REMOTE_FILE, "videos/a.mp4");
+  }
+
+  @Test
+  void otherNotificationsAreDropped() {
+    this.handler.handleMessage(notification("OBJECT_DELETE"));
+
+    assertThat(this.outputChannel.receive(0)).isNull();
+  }
+
+  @Test
+  void duplicateNotificationsAreFiltered() {
+    Blob blob = mock(Blob.class);
+    when(blob.getName()).thenReturn("videos/a.mp4");
+    when(blob.getUpdateTimeOffsetDateTime()).thenReturn(OffsetDateTime.now());
+    when(blob.reader()).thenReturn(mock(ReadChannel.class));
+    when(this.gcs.get(BlobId.of("bucket", "videos/a.mp4", 42L))).thenReturn(blob);
+    this.handler.setFilter(
+        new GcsPersistentAcceptOnceFileListFilter(new SimpleMetadataStore(), "notifications:"));
+
+    this.handler.handleMessage(notification("OBJECT_FINALIZE"));
+    this.handler.handleMessage(notification("OBJECT_FINALIZE"));
+
+    assertThat(this.outputChannel.receive(0)).isNotNull();
+    assertThat(this.outputChannel.receive(0)).isNull();
+  }
+
+  private static Message<String> notification(String eventType) {
+    return MessageBuilder.withPayload("{}")
+        .setHeader(GcsNotificationMessageHandler.EVENT_TYPE_HEADER, eventType)
+        .setHeader(GcsNotificationMessageHandler.BUCKET_ID_HEADER, "bucket")
+        .setHeader(GcsNotificationMessageHandler.OBJECT_ID_HEADER, "videos/a.mp4")
+        .setHeader(GcsNotificationMessageHandler.OBJECT_GENERATION_HEADER, "42")
+        .build();
+  }
+}